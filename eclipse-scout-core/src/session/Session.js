@@ -72,6 +72,8 @@ export default class Session {
     this.forceNewClientSession = false;
     this.remoteUrl = 'json';
     this.unloadUrl = 'unload';
+    this.serverPushUrl = 'push';
+    this.serverPush = false; // true if background job results are pushed by the server instead of being polled, initialized on startup
     this.modelAdapterRegistry = {};
     this.ajaxCalls = [];
     this.asyncEvents = [];
@@ -95,6 +97,8 @@ export default class Session {
     this._fatalMessagesOnScreen = {};
     this._retryRequest = null;
     this._queuedRequest = null;
+    this._serverPushEventSource = null;
+    this._serverPushLastEventId = null;
     this.requestSequenceNo = 0;
 
     this.rootAdapter = new ModelAdapter();
@@ -422,6 +426,7 @@ export default class Session {
 
     // Init request timeout for poller
     this.requestTimeoutPoll = (data.startupData.pollingInterval + 15) * 1000;
+    this.serverPush = !!data.startupData.serverPush && !!window.EventSource;
 
     // Register UI session
     this.modelAdapterRegistry[this.uiSessionId] = this; // TODO [7.0] cgu: maybe better separate session object from event processing, create ClientSession.js?. If yes, desktop should not have rootadapter as parent, see 406
@@ -822,7 +827,11 @@ export default class Session {
   _resumeBackgroundJobPolling() {
     if (this.backgroundJobPollingSupport.enabled && this.backgroundJobPollingSupport.status !== BackgroundJobPollingStatus.RUNNING) {
       $.log.isInfoEnabled() && $.log.info('Resume background jobs polling request, status was=' + this.backgroundJobPollingSupport.status);
-      this._pollForBackgroundJobs();
+      if (this.serverPush) {
+        this._openServerPushChannel();
+      } else {
+        this._pollForBackgroundJobs();
+      }
     }
   }
 
@@ -853,43 +862,8 @@ export default class Session {
     // --- Helper methods ---
 
     function onAjaxDone(data) {
-      if (data.error) {
-        // Don't schedule a new polling request, when an error occurs
-        // when the next user-initiated request succeeds, we re-enable polling
-        // otherwise the polling would ping the server to death in case of an error
-        $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
-        this.backgroundJobPollingSupport.setFailed();
-        if (this.areRequestsPending()) {
-          // Add response to queue, handle later by _performUserAjaxRequest()
-          this.responseQueue.add(data);
-        } else {
-          // No user request pending, handle immediately
-          this.responseQueue.process(data);
-        }
-      } else if (data.sessionTerminated) {
-        $.log.info('Session terminated, stopped polling for background jobs');
-        this.backgroundJobPollingSupport.setStopped();
-        // If were are not yet logged out, redirect to the logout URL (the session that initiated the
-        // session invalidation will receive a dedicated logout event, redirect is handled there).
-        if (!this.loggedOut && data.redirectUrl) {
-          this.logout(data.redirectUrl);
-        }
-      } else {
-        try {
-          // No need to change backgroundJobPollingSupport state, it should still be RUNNING
-          if (this.areRequestsPending()) {
-            // Add response to queue, handle later by _performUserAjaxRequest()
-            this.responseQueue.add(data);
-          } else {
-            // No user request pending, handle immediately
-            this.responseQueue.process(data);
-            this.layoutValidator.validate();
-          }
-          setTimeout(this._pollForBackgroundJobs.bind(this));
-        } catch (error) {
-          this.backgroundJobPollingSupport.setFailed();
-          throw error;
-        }
+      if (this._processBackgroundJobResponse(data)) {
+        setTimeout(this._pollForBackgroundJobs.bind(this));
       }
     }
 
@@ -899,6 +873,112 @@ export default class Session {
     }
   }
 
+  /**
+   * Processes a response containing the results of jobs running in the background (received by a polling request or
+   * the server push channel).
+   *
+   * @returns {boolean} true if the session should continue to wait for background jobs, false otherwise
+   */
+  _processBackgroundJobResponse(data) {
+    if (data.error) {
+      // Don't schedule a new polling request, when an error occurs
+      // when the next user-initiated request succeeds, we re-enable polling
+      // otherwise the polling would ping the server to death in case of an error
+      $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
+      this.backgroundJobPollingSupport.setFailed();
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+      }
+      return false;
+    }
+    if (data.sessionTerminated) {
+      $.log.info('Session terminated, stopped polling for background jobs');
+      this.backgroundJobPollingSupport.setStopped();
+      // If were are not yet logged out, redirect to the logout URL (the session that initiated the
+      // session invalidation will receive a dedicated logout event, redirect is handled there).
+      if (!this.loggedOut && data.redirectUrl) {
+        this.logout(data.redirectUrl);
+      }
+      return false;
+    }
+    try {
+      // No need to change backgroundJobPollingSupport state, it should still be RUNNING
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+        this.layoutValidator.validate();
+      }
+    } catch (error) {
+      this.backgroundJobPollingSupport.setFailed();
+      throw error;
+    }
+    return true;
+  }
+
+  /**
+   * Receives the results of jobs running in the background by server-sent events instead of polling for them.
+   * The server closes the connection after the polling interval, it is then reopened immediately. The id of the
+   * last received response is sent along, the server sends all later responses again.
+   * If the connection cannot be opened (e.g. because the server does not support asynchronous requests),
+   * the session falls back to polling.
+   */
+  _openServerPushChannel() {
+    this.backgroundJobPollingSupport.setRunning();
+
+    var url = this.serverPushUrl + '/' + this.uiSessionId;
+    if (this._serverPushLastEventId) {
+      url += '?lastEventId=' + encodeURIComponent(this._serverPushLastEventId);
+    }
+    var opened = false;
+    var eventSource = new EventSource(url);
+    this._serverPushEventSource = eventSource;
+
+    eventSource.onopen = function() {
+      opened = true;
+    };
+    eventSource.onmessage = function(event) {
+      if (event.lastEventId) {
+        this._serverPushLastEventId = event.lastEventId;
+      }
+      var proceed = false;
+      try {
+        proceed = this._processBackgroundJobResponse(JSON.parse(event.data));
+      } finally {
+        if (!proceed) {
+          this._closeServerPushChannel();
+        }
+      }
+    }.bind(this);
+    eventSource.onerror = function() {
+      if (this._serverPushEventSource !== eventSource) {
+        return; // already closed
+      }
+      // Don't let the browser reconnect, it would not fall back to polling when the server is not reachable
+      this._closeServerPushChannel();
+      if (opened) {
+        // Connection closed by the server after the polling interval
+        setTimeout(this._openServerPushChannel.bind(this));
+      } else {
+        $.log.isInfoEnabled() && $.log.info('Server push channel could not be opened, polling for background jobs');
+        this._pollForBackgroundJobs();
+      }
+    }.bind(this);
+  }
+
+  _closeServerPushChannel() {
+    if (this._serverPushEventSource) {
+      this._serverPushEventSource.close();
+      this._serverPushEventSource = null;
+    }
+  }
+
   /**
    * Do NOT call this method directly, always use the response queue:
    *
@@ -1169,6 +1249,7 @@ export default class Session {
 
     // Abort pending ajax requests.
     this.abortAllAjaxCalls();
+    this._closeServerPushChannel();
 
     // In Firefox, the current async polling request is interrupted immediately when the page is unloaded. Therefore,
     // an offline message would appear at once on the desktop. When reloading the page, all elements are cleared anyway,
@@ -1591,6 +1672,7 @@ export default class Session {
   _onWindowUnload() {
     $.log.isInfoEnabled() && $.log.info('Session unloading...');
     this.unloaded = true;
+    this._closeServerPushChannel();
 
     // Close popup windows
     if (this.desktop && this.desktop.formController) {
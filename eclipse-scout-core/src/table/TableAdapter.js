@@ -18,6 +18,17 @@ export default class TableAdapter extends ModelAdapter {
     this._addRemoteProperties(['contextColumn']);
   }
 
+  /**
+   * @override ModelAdapter.js
+   */
+  _initProperties(model) {
+    super._initProperties(model);
+    if (model.compactRows) {
+      model.rows = this._decodeCompactRows(model.compactRows);
+      delete model.compactRows;
+    }
+  }
+
   _postCreateWidget() {
     // if a newly created table has already a userfilter defined, we need to fire the filter event after creation
     // because the original event had been fired before the eventhandler was registered.
@@ -230,6 +241,7 @@ export default class TableAdapter extends ModelAdapter {
   _onWidgetFilter(event) {
     var rowIds = this.widget._rowsToIds(this.widget.filteredRows());
     this._sendFilter(rowIds);
+    this._loadRowsIfNecessary();
   }
 
   _sendFilter(rowIds) {
@@ -369,15 +381,125 @@ export default class TableAdapter extends ModelAdapter {
     }
   }
 
+  /**
+   * Decodes rows sent in the compact format (see JsonCompactTableRows.java) into regular row models.
+   * For partially updated rows, the cells which were not sent are taken from the latest known version of the row (a
+   * buffered update or the existing row). Partial rows which cannot be completed are skipped, the server sends rows
+   * the UI does not know yet completely.
+   */
+  _decodeCompactRows(compactRows) {
+    var strings = compactRows.strings || [],
+      columns = compactRows.columns || [],
+      parentRows = compactRows.parentRows,
+      rowProperties = compactRows.rowProperties,
+      changedColumns = compactRows.changedColumns,
+      rows = [];
+
+    compactRows.ids.forEach(function(id, r) {
+      var changed = changedColumns && changedColumns[r];
+      var oldRow = changed ? this._latestRow(id) : null;
+      if (changed && !oldRow) {
+        $.log.warn('Skipping partial update of unknown row. RowId: ' + id);
+        return;
+      }
+      var row = $.extend({}, rowProperties && rowProperties[r]);
+      this._decodeCompactStrings(row, strings);
+      row.id = id;
+      if (parentRows && parentRows[r]) {
+        row.parentRow = parentRows[r];
+      }
+      row.cells = columns.map(function(column, c) {
+        if (changed && changed.indexOf(c) < 0) {
+          return oldRow.cells[c];
+        }
+        return this._decodeCompactCell(column[r], strings);
+      }, this);
+      rows.push(row);
+    }, this);
+    return rows;
+  }
+
+  /**
+   * @returns the buffered update of the row if there is one, otherwise the row of the table
+   */
+  _latestRow(id) {
+    if (!this.widget) {
+      return null;
+    }
+    return this.widget.updateBuffer.getBufferedRow(id) || this.widget.rowsMap[id];
+  }
+
+  _decodeCompactCell(cell, strings) {
+    if (typeof cell === 'number') {
+      return strings[cell];
+    }
+    if (cell && typeof cell === 'object') {
+      this._decodeCompactStrings(cell, strings);
+    }
+    return cell;
+  }
+
+  _decodeCompactStrings(object, strings) {
+    TableAdapter.COMPACT_DICTIONARY_PROPERTIES.forEach(function(name) {
+      if (typeof object[name] === 'number') {
+        object[name] = strings[object[name]];
+      }
+    });
+  }
+
+  _rowsFromEvent(event) {
+    if (event.compactRows) {
+      return this._decodeCompactRows(event.compactRows);
+    }
+    return event.rows;
+  }
+
   _onRowsInserted(rows) {
-    this.widget.insertRows(rows);
+    this._keepScrollPosition(function() {
+      this.widget.insertRows(rows);
+    });
     this._rebuildingTable = false;
+    this._loadRowsIfNecessary();
+  }
+
+  /**
+   * If the server only sends a window of the rows (see JsonTable.java), the rows around the viewport are requested as
+   * soon as the user scrolls near the start or the end of the loaded rows or if the loaded rows don't fill the viewport.
+   * The server then moves the window to the row at the top of the viewport.
+   */
+  _loadRowsIfNecessary() {
+    var table = this.widget;
+    if (!table.availableRowCount || !table._isDataRendered()) {
+      return;
+    }
+    var data = table.$data[0],
+      rowWindowStart = table.rowWindowStart || 0,
+      rowsBefore = rowWindowStart > 0 && data.scrollTop < TableAdapter.LOAD_ROWS_THRESHOLD,
+      rowsAfter = rowWindowStart + table.rows.length < table.availableRowCount &&
+        data.scrollTop + data.clientHeight >= data.scrollHeight - TableAdapter.LOAD_ROWS_THRESHOLD;
+    if (!rowsBefore && !rowsAfter) {
+      return;
+    }
+    var row = table.visibleRows[Math.max(table._rowIndexAtScrollTop(data.scrollTop), 0)];
+    if (!row) {
+      return;
+    }
+    this._send('loadRows', {
+      rowId: row.id
+    }, {
+      showBusyIndicator: false,
+      coalesce: function(previous) {
+        return this.target === previous.target && this.type === previous.type;
+      }
+    });
   }
 
   _onRowsDeleted(rowIds) {
     var rows = this.widget._rowsByIds(rowIds);
     this.addFilterForWidgetEventType('rowsSelected');
-    this.widget.deleteRows(rows);
+    this._keepScrollPosition(function() {
+      this.widget.deleteRows(rows);
+    });
   }
 
   _onAllRowsDeleted() {
@@ -439,7 +561,41 @@ export default class TableAdapter extends ModelAdapter {
 
   _onRowOrderChanged(rowIds) {
     var rows = this.widget._rowsByIds(rowIds);
-    this.widget.updateRowOrder(rows);
+    this._keepScrollPosition(function() {
+      this.widget.updateRowOrder(rows);
+    });
+  }
+
+  /**
+   * If the server only sends a window of the rows, rows before the viewport are inserted or deleted while the user
+   * scrolls. To prevent the content from jumping, the row at the top of the viewport is kept at its position.
+   */
+  _keepScrollPosition(func) {
+    var table = this.widget;
+    if (!table.availableRowCount || !table._isDataRendered() || !table.$data[0].scrollTop) {
+      func.call(this);
+      return;
+    }
+    var scrollTop = table.$data[0].scrollTop,
+      anchorRow = table.visibleRows[table._rowIndexAtScrollTop(scrollTop)],
+      offset = anchorRow ? scrollTop - this._topOfRow(anchorRow) : 0;
+    func.call(this);
+    if (anchorRow && table.visibleRowsMap[anchorRow.id]) {
+      table.setScrollTop(this._topOfRow(anchorRow) + offset);
+    }
+  }
+
+  _topOfRow(row) {
+    var table = this.widget,
+      top = 0;
+    table.visibleRows.some(function(visibleRow) {
+      if (visibleRow === row) {
+        return true;
+      }
+      top += table._heightForRow(visibleRow);
+      return false;
+    });
+    return top;
   }
 
   _onColumnStructureChanged(columns) {
@@ -543,7 +699,7 @@ export default class TableAdapter extends ModelAdapter {
 
   onModelAction(event) {
     if (event.type === 'rowsInserted') {
-      this._onRowsInserted(event.rows);
+      this._onRowsInserted(this._rowsFromEvent(event));
     } else if (event.type === 'rowsDeleted') {
       this._onRowsDeleted(event.rowIds);
     } else if (event.type === 'allRowsDeleted') {
@@ -553,7 +709,7 @@ export default class TableAdapter extends ModelAdapter {
     } else if (event.type === 'rowOrderChanged') {
       this._onRowOrderChanged(event.rowIds);
     } else if (event.type === 'rowsUpdated') {
-      this._onRowsUpdated(event.rows);
+      this._onRowsUpdated(this._rowsFromEvent(event));
     } else if (event.type === 'filtersChanged') {
       this._onFiltersChanged(event.filters);
     } else if (event.type === 'rowsChecked') {
@@ -620,6 +776,14 @@ export default class TableAdapter extends ModelAdapter {
       }
     }, true);
 
+    // _onScroll
+    objects.replacePrototypeFunction(Table, '_onScroll', function() {
+      this._onScrollOrig();
+      if (this.modelAdapter) {
+        this.modelAdapter._loadRowsIfNecessary();
+      }
+    }, true);
+
     // _sortAfterUpdate
     objects.replacePrototypeFunction(Table, '_sortAfterUpdate', function() {
       if (this.modelAdapter) {
@@ -750,6 +914,17 @@ export default class TableAdapter extends ModelAdapter {
   }
 }
 
+/**
+ * String properties of cells and rows which may be sent as index into the strings of the compact rows format.
+ * Must be kept in sync with JsonCompactTableRows.java.
+ */
+TableAdapter.COMPACT_DICTIONARY_PROPERTIES = ['text', 'iconId', 'tooltipText', 'cssClass', 'foregroundColor', 'backgroundColor', 'font'];
+
+/**
+ * Distance in pixels to the end of the loaded rows at which the next rows are requested if the row window is enabled.
+ */
+TableAdapter.LOAD_ROWS_THRESHOLD = 500;
+
 App.addListener('bootstrap', TableAdapter.modifyTablePrototype);
 App.addListener('bootstrap', TableAdapter.modifyColumnPrototype);
 App.addListener('bootstrap', TableAdapter.modifyBooleanColumnPrototype);
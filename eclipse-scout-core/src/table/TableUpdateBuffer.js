@@ -45,6 +45,13 @@ export default class TableUpdateBuffer {
     return this.promises.length > 0;
   }
 
+  /**
+   * @returns the buffered row with the given id, or undefined if there is none
+   */
+  getBufferedRow(id) {
+    return this._rowMap[id];
+  }
+
   buffer(rows) {
     rows = arrays.ensure(rows);
 
@@ -65,6 +65,58 @@ describe('TableAdapter', function() {
 
   });
 
+  describe('loadRows', function() {
+
+    it('requests more rows if not all available rows are loaded', function() {
+      var model = helper.createModelFixture(2, 5);
+      model.availableRowCount = 10;
+      var adapter = helper.createTableAdapter(model);
+      var table = adapter.createWidget(model, session.desktop);
+      table.render();
+
+      adapter._loadRowsIfNecessary();
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+
+      var event = new RemoteEvent(table.id, 'loadRows', {
+        rowId: table.rows[0].id
+      });
+      expect(mostRecentJsonRequest()).toContainEvents(event);
+    });
+
+    it('requests the rows before the loaded rows if the row window does not start with the first row', function() {
+      var model = helper.createModelFixture(2, 5);
+      model.availableRowCount = 10;
+      model.rowWindowStart = 5;
+      var adapter = helper.createTableAdapter(model);
+      var table = adapter.createWidget(model, session.desktop);
+      table.render();
+
+      adapter._loadRowsIfNecessary();
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+
+      var event = new RemoteEvent(table.id, 'loadRows', {
+        rowId: table.rows[0].id
+      });
+      expect(mostRecentJsonRequest()).toContainEvents(event);
+    });
+
+    it('does not request rows if all rows are loaded', function() {
+      var model = helper.createModelFixture(2, 5);
+      var adapter = helper.createTableAdapter(model);
+      var table = adapter.createWidget(model, session.desktop);
+      table.render();
+
+      adapter._loadRowsIfNecessary();
+      table.availableRowCount = 5;
+      adapter._loadRowsIfNecessary();
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+    });
+
+  });
+
   describe('checkRows', function() {
 
     it('sends rowsChecked event containing rowIds', function() {
@@ -360,6 +412,39 @@ describe('TableAdapter', function() {
       });
     });
 
+    describe('rowsInserted event with compact rows', function() {
+      var model, table, adapter;
+
+      beforeEach(function() {
+        model = helper.createModelFixture(2);
+        adapter = helper.createTableAdapter(model);
+        table = adapter.createWidget(model, session.desktop);
+      });
+
+      it('resolves strings from the dictionary', function() {
+        var event = {
+          target: model.id,
+          compactRows: {
+            strings: ['shared'],
+            ids: ['r0', 'r1'],
+            columns: [[0, 'plain'], [{value: 'v', text: 0, cssClass: 0}, 0]],
+            rowProperties: [{cssClass: 0}, null]
+          },
+          type: 'rowsInserted'
+        };
+        adapter.onModelAction(event);
+        expect(table.rows.length).toBe(2);
+        expect(table.rows[0].id).toBe('r0');
+        expect(table.rows[0].cssClass).toBe('shared');
+        expect(table.rows[0].cells[0].text).toBe('shared');
+        expect(table.rows[0].cells[1].value).toBe('v');
+        expect(table.rows[0].cells[1].text).toBe('shared');
+        expect(table.rows[0].cells[1].cssClass).toBe('shared');
+        expect(table.rows[1].cells[0].text).toBe('plain');
+        expect(table.rows[1].cells[1].text).toBe('shared');
+      });
+    });
+
     describe('rowOrderChanged event', function() {
       var model, table, adapter, row0, row1, row2;
 
@@ -455,6 +540,39 @@ describe('TableAdapter', function() {
         expect(table.updateRows).toHaveBeenCalledWith([row]);
       });
 
+      it('may contain compact rows with changed columns only', function() {
+        var rowId = table.rows[0].id;
+        var event = {
+          target: model.id,
+          compactRows: {
+            ids: [rowId],
+            columns: [[null], ['newCellText1']],
+            changedColumns: [[1]]
+          },
+          type: 'rowsUpdated'
+        };
+        adapter.onModelAction(event);
+        expect(table.rows[0].cells[0].text).toBe('cellText0');
+        expect(table.rows[0].cells[1].text).toBe('newCellText1');
+      });
+
+      it('skips compact rows with changed columns only if the row is unknown', function() {
+        spyOn(table, 'updateRows');
+        var event = {
+          target: model.id,
+          compactRows: {
+            ids: ['unknownRowId'],
+            columns: [[null], ['newCellText1']],
+            changedColumns: [[1]]
+          },
+          type: 'rowsUpdated'
+        };
+        adapter.onModelAction(event);
+        expect(table.updateRows).toHaveBeenCalledWith([]);
+        expect(table.rows[0].cells[0].text).toBe('cellText0');
+        expect(table.rows[0].cells[1].text).toBe('cellText1');
+      });
+
     });
 
     describe('columnStructureChanged event', function() {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +37,7 @@ import org.json.JSONStringer.Scope;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - equals() method changed to be symmetric
+ * - Added write(Writer) to encode large arrays without building the whole string in memory
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -606,6 +610,24 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this array as a compact JSON string (see {@link #toString()}) and writes it to the given writer. The encoded
+   * data is written in chunks, the whole string is never held in memory. The writer is neither flushed nor closed.
+   *
+   * @throws IOException
+   *           if writing to the writer fails
+   */
+  public void write(Writer writer) throws IOException {
+    try {
+      JSONStringer stringer = new JSONStringer(writer);
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -40,6 +43,7 @@ import org.json.JSONStringer.Scope;
  * - Changed getString()/optString() to return null for JSON values "null" instead of the string "null".
  * - Replaced task markers from the original source code with 'TO.DO'.
  * - Suppress sonar warnings where necessary
+ * - Added write(Writer) to encode large objects without building the whole string in memory
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -709,6 +713,24 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this object as a compact JSON string (see {@link #toString()}) and writes it to the given writer. The encoded
+   * data is written in chunks, the whole string is never held in memory. The writer is neither flushed nor closed.
+   *
+   * @throws IOException
+   *           if writing to the writer fails
+   */
+  public void write(Writer writer) throws IOException {
+    try {
+      JSONStringer stringer = new JSONStringer(writer);
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
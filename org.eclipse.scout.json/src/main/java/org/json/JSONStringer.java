@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,7 @@ import java.util.List;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Added support for writing directly to a Writer in chunks (see JSONObject.write(Writer))
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -119,14 +123,39 @@ public class JSONStringer {
    */
   private final String m_indent;
 
+  /**
+   * Optional target the encoded data is written to as soon as {@link #out} exceeds {@link #FLUSH_THRESHOLD}.
+   */
+  private final Writer m_writer;
+
+  /**
+   * Number of buffered characters after which the buffer is written to {@link #m_writer}.
+   */
+  static final int FLUSH_THRESHOLD = 8192;
+
+  private char[] m_chunk;
+  private boolean m_flushed;
+
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer which writes the encoded data to the given writer in chunks instead of accumulating the whole
+   * string in memory. Call {@link #flush()} once the top-level value is complete. I/O errors are thrown as
+   * {@link UncheckedIOException}.
+   */
+  JSONStringer(Writer writer) {
+    m_indent = null;
+    m_writer = writer;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
   }
 
   /**
@@ -169,7 +198,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_flushed)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -192,6 +221,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    flushIfNecessary();
     return this;
   }
 
@@ -251,6 +281,7 @@ public class JSONStringer {
       string(value.toString());
     }
 
+    flushIfNecessary();
     return this;
   }
 
@@ -350,6 +381,35 @@ public class JSONStringer {
     out.append("\"");
   }
 
+  private void flushIfNecessary() {
+    if (m_writer != null && out.length() >= FLUSH_THRESHOLD) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes the buffered data to the writer given in {@link #JSONStringer(Writer)}. Does nothing if this stringer has
+   * no writer.
+   */
+  void flush() {
+    int length = out.length();
+    if (m_writer == null || length == 0) {
+      return;
+    }
+    if (m_chunk == null || m_chunk.length < length) {
+      m_chunk = new char[Math.max(length, FLUSH_THRESHOLD * 2)];
+    }
+    out.getChars(0, length, m_chunk, 0);
+    try {
+      m_writer.write(m_chunk, 0, length);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    out.setLength(0);
+    m_flushed = true;
+  }
+
   private void newline() {
     if (m_indent == null) {
       return;
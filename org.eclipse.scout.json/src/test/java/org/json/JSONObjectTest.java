@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -1133,4 +1136,52 @@ public class JSONObjectTest extends TestCase {
     catch (JSONException expected) {
     }
   }
+
+  public void testWrite() throws Exception {
+    JSONObject object = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 5000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", i);
+      row.put("text", "Row \"" + i + "\"\n");
+      row.put("values", new JSONArray(Arrays.asList(1.5, true, JSONObject.NULL)));
+      rows.put(row);
+    }
+    object.put("rows", rows);
+    object.put("empty", new JSONObject());
+
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertTrue(writer.toString().length() > JSONStringer.FLUSH_THRESHOLD);
+    assertEquals(object.toString(), writer.toString());
+
+    writer = new StringWriter();
+    rows.write(writer);
+    assertEquals(rows.toString(), writer.toString());
+  }
+
+  public void testWriteFailure() {
+    JSONObject object = new JSONObject();
+    object.put("text", new String(new char[JSONStringer.FLUSH_THRESHOLD]).replace('\0', 'x'));
+    try {
+      object.write(new Writer() {
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+          throw new IOException("closed");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+      });
+      fail();
+    }
+    catch (IOException expected) {
+      assertEquals("closed", expected.getMessage());
+    }
+  }
 }
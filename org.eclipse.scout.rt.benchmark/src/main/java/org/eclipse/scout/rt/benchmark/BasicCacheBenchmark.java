@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.BasicCache;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cache hits on {@link BasicCache#get(Object)} and {@link BasicCache#getAll(java.util.Collection)} for an unbounded
+ * and a size bound cache built by {@link ICacheBuilder}. The size bound cache uses either the LRU or the
+ * frequency-aware cache engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicCacheBenchmark {
+
+  private static final int KEY_COUNT = 1000;
+
+  @Param({"false", "true"})
+  public boolean m_sizeBound;
+
+  @Param({"false", "true"})
+  public boolean m_frequencyBasedEviction;
+
+  private ICache<Integer, String> m_cache;
+  private List<Integer> m_bulkKeys;
+  private int m_next;
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> builder = BEANS.get(ICacheBuilder.class);
+    m_cache = builder
+        .withCacheId("benchmark.BasicCacheBenchmark")
+        .withReplaceIfExists(true)
+        .withValueResolver(key -> "value" + key)
+        .withSizeBound(m_sizeBound ? 2 * KEY_COUNT : null)
+        .withFrequencyBasedEviction(m_frequencyBasedEviction)
+        .build();
+
+    m_bulkKeys = new ArrayList<>();
+    for (int i = 0; i < KEY_COUNT; i++) {
+      m_cache.get(i);
+      if (i % 10 == 0) {
+        m_bulkKeys.add(i);
+      }
+    }
+  }
+
+  @Benchmark
+  public String get() {
+    m_next = (m_next + 1) % KEY_COUNT;
+    return m_cache.get(m_next);
+  }
+
+  @Benchmark
+  public Map<Integer, String> getAll() {
+    return m_cache.getAll(m_bulkKeys);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String getConcurrent() {
+    return m_cache.get(ThreadLocalRandom.current().nextInt(KEY_COUNT));
+  }
+}
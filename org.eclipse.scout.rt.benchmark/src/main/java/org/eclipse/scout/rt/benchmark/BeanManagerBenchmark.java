@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.context.RunContextProducer;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean lookups through {@link BEANS#get(Class)} and {@link BEANS#all(Class)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanManagerBenchmark {
+
+  private final ReentrantReadWriteLock m_fairLock = new ReentrantReadWriteLock(true);
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+  }
+
+  @Benchmark
+  public IJobManager getApplicationScoped() {
+    return BEANS.get(IJobManager.class);
+  }
+
+  @Benchmark
+  public RunContextProducer getReplaced() {
+    return BEANS.get(RunContextProducer.class);
+  }
+
+  @Benchmark
+  public List<IPlatformListener> all() {
+    return BEANS.all(IPlatformListener.class);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public IJobManager getApplicationScopedConcurrent() {
+    return BEANS.get(IJobManager.class);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public IJobManager getApplicationScopedContended() {
+    return BEANS.get(IJobManager.class);
+  }
+
+  /**
+   * Same lookup as {@link #getApplicationScopedContended()} but guarded by a fair read lock like bean lookups used to
+   * be. Reference for the lock-free lookup.
+   */
+  @Benchmark
+  @Threads(64)
+  public IJobManager getApplicationScopedContendedFairLock() {
+    m_fairLock.readLock().lock();
+    try {
+      return BEANS.get(IJobManager.class);
+    }
+    finally {
+      m_fairLock.readLock().unlock();
+    }
+  }
+}
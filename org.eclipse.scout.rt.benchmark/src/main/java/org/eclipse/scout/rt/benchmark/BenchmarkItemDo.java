@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+@TypeName("scout.BenchmarkItem")
+public class BenchmarkItemDo extends DoEntity {
+
+  public DoValue<String> id() {
+    return doValue("id");
+  }
+
+  public DoValue<String> name() {
+    return doValue("name");
+  }
+
+  public DoValue<BigDecimal> amount() {
+    return doValue("amount");
+  }
+
+  public DoValue<Date> created() {
+    return doValue("created");
+  }
+
+  public DoList<String> tags() {
+    return doList("tags");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withId(String id) {
+    id().set(id);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getId() {
+    return id().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withName(String name) {
+    name().set(name);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getName() {
+    return name().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withAmount(BigDecimal amount) {
+    amount().set(amount);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BigDecimal getAmount() {
+    return amount().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withCreated(Date created) {
+    created().set(created);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Date getCreated() {
+    return created().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withTags(Collection<? extends String> tags) {
+    tags().updateAll(tags);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withTags(String... tags) {
+    tags().updateAll(tags);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<String> getTags() {
+    return tags().get();
+  }
+}
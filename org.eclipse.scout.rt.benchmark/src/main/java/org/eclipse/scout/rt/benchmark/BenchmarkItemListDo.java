@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+@TypeName("scout.BenchmarkItemList")
+public class BenchmarkItemListDo extends DoEntity {
+
+  public DoList<BenchmarkItemDo> items() {
+    return doList("items");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemListDo withItems(Collection<? extends BenchmarkItemDo> items) {
+    items().updateAll(items);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemListDo withItems(BenchmarkItemDo... items) {
+    items().updateAll(items);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<BenchmarkItemDo> getItems() {
+    return items().get();
+  }
+}
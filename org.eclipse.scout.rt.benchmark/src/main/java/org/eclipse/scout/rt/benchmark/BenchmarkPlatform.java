@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import org.eclipse.scout.rt.platform.Platform;
+
+/**
+ * Starts the Scout platform inside a forked benchmark JVM.
+ *
+ * @since 10.0
+ */
+public final class BenchmarkPlatform {
+
+  private BenchmarkPlatform() {
+  }
+
+  /**
+   * Starts the platform if not running yet and waits until all platform listeners completed.
+   */
+  public static void ensureStarted() {
+    Platform.get().awaitPlatformStarted();
+  }
+}
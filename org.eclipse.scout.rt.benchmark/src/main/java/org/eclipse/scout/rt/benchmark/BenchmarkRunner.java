@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.io.File;
+
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Scout JMH benchmarks and writes the results in JMH's JSON format so that they can be stored as a baseline
+ * and compared against later runs.
+ * <p>
+ * Arguments:
+ * <ol>
+ * <li>result file (optional, default <code>target/jmh-baseline.json</code>)</li>
+ * <li>regular expression selecting the benchmarks to run (optional, default all benchmarks of this module)</li>
+ * </ol>
+ *
+ * @since 10.0
+ */
+public final class BenchmarkRunner {
+
+  public static final String DEFAULT_RESULT_FILE = "target/jmh-baseline.json";
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    String resultFile = args.length > 0 && StringUtility.hasText(args[0]) ? args[0] : DEFAULT_RESULT_FILE;
+    String include = args.length > 1 && StringUtility.hasText(args[1]) ? args[1] : BenchmarkRunner.class.getPackage().getName() + ".*";
+
+    File parent = new File(resultFile).getAbsoluteFile().getParentFile();
+    if (parent != null && !parent.exists() && !parent.mkdirs()) {
+      throw new IllegalStateException("Could not create result directory " + parent);
+    }
+
+    Options options = new OptionsBuilder()
+        .include(include)
+        .resultFormat(ResultFormatType.JSON)
+        .result(resultFile)
+        .shouldFailOnError(true)
+        .build();
+    new Runner(options).run();
+  }
+}
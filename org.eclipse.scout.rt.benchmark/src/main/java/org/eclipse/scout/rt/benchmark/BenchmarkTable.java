@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractBigDecimalColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractBooleanColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractDateColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.platform.Order;
+
+/**
+ * Table used by the JSON UI benchmarks: a typical mix of column types.
+ */
+public class BenchmarkTable extends AbstractTable {
+
+  /**
+   * Replaces the rows of this table with <code>rowCount</code> generated rows.
+   */
+  public void fill(int rowCount) {
+    Object[][] data = new Object[rowCount][];
+    for (int i = 0; i < rowCount; i++) {
+      data[i] = new Object[]{(long) i, "Name " + i, new Date(1_600_000_000_000L + i * 60_000L), BigDecimal.valueOf(i, 2), i % 2 == 0};
+    }
+    replaceRowsByMatrix(data);
+  }
+
+  public IdColumn getIdColumn() {
+    return getColumnSet().getColumnByClass(IdColumn.class);
+  }
+
+  public NameColumn getNameColumn() {
+    return getColumnSet().getColumnByClass(NameColumn.class);
+  }
+
+  public DateColumn getDateColumn() {
+    return getColumnSet().getColumnByClass(DateColumn.class);
+  }
+
+  public AmountColumn getAmountColumn() {
+    return getColumnSet().getColumnByClass(AmountColumn.class);
+  }
+
+  public ActiveColumn getActiveColumn() {
+    return getColumnSet().getColumnByClass(ActiveColumn.class);
+  }
+
+  @Order(10)
+  public class IdColumn extends AbstractLongColumn {
+
+    @Override
+    protected boolean getConfiguredPrimaryKey() {
+      return true;
+    }
+  }
+
+  @Order(20)
+  public class NameColumn extends AbstractStringColumn {
+  }
+
+  @Order(30)
+  public class DateColumn extends AbstractDateColumn {
+  }
+
+  @Order(40)
+  public class AmountColumn extends AbstractBigDecimalColumn {
+  }
+
+  @Order(50)
+  public class ActiveColumn extends AbstractBooleanColumn {
+  }
+}
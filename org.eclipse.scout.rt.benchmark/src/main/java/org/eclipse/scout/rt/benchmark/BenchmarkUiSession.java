@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import org.eclipse.scout.rt.client.IClientSession;
+import org.eclipse.scout.rt.ui.html.UiSession;
+
+/**
+ * {@link UiSession} which is not bound to an HTTP session. Used to create JSON adapters outside of a servlet request.
+ */
+public class BenchmarkUiSession extends UiSession {
+
+  public BenchmarkUiSession(IClientSession clientSession) {
+    setCurrentJsonResponseInternal(createJsonStartupResponse());
+    setClientSessionInternal(clientSession);
+    setUiSessionIdInternal("UI:Session:Benchmark");
+  }
+}
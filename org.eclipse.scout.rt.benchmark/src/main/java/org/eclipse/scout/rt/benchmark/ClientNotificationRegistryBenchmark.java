@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationRegistry;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationService;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Contention benchmark for the {@link ClientNotificationRegistry}: many threads register and unregister sessions and
+ * publish notifications while thousands of client nodes are registered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ClientNotificationRegistryBenchmark {
+
+  @Param({"1000", "5000"})
+  public int m_nodeCount;
+
+  private ClientNotificationService m_service;
+  private ClientNotificationRegistry m_registry;
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+    m_service = BEANS.get(ClientNotificationService.class);
+    m_registry = BEANS.get(ClientNotificationRegistry.class);
+    for (int i = 0; i < m_nodeCount; i++) {
+      m_service.registerSession(nodeId(i), "session-" + i, "user-" + i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    for (int i = 0; i < m_nodeCount; i++) {
+      m_service.unregisterSession(nodeId(i), "session-" + i, "user-" + i);
+    }
+  }
+
+  /**
+   * Registers and unregisters an additional session on a random node.
+   */
+  @Benchmark
+  public void registerAndUnregisterSession() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    String nodeId = nodeId(random.nextInt(m_nodeCount));
+    String sessionId = "temp-session-" + random.nextLong();
+    m_service.registerSession(nodeId, sessionId, "temp-user");
+    m_service.unregisterSession(nodeId, sessionId, "temp-user");
+  }
+
+  /**
+   * Publishes a notification to a session which is not registered on any node. Measures the relevance check across all
+   * node queues without filling them up.
+   */
+  @Benchmark
+  public void publishToUnknownSession() {
+    String sessionId = "unknown-session-" + ThreadLocalRandom.current().nextInt(m_nodeCount);
+    ClientNotificationAddress address = ClientNotificationAddress.createSessionAddress(Collections.singleton(sessionId));
+    m_registry.publishWithoutClusterNotification(Collections.singleton(new ClientNotificationMessage(address, "notification", false, null)));
+  }
+
+  private static String nodeId(int i) {
+    return "node-" + i;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization of a data object holding a {@link org.eclipse.scout.rt.dataobject.DoList} of
+ * entities through {@link JacksonDataObjectMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataObjectMapperBenchmark {
+
+  @Param({"10", "1000", "10000"})
+  public int m_itemCount;
+
+  private JacksonDataObjectMapper m_mapper;
+  private BenchmarkItemListDo m_entity;
+  private String m_json;
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+    m_mapper = BEANS.get(JacksonDataObjectMapper.class);
+
+    m_entity = BEANS.get(BenchmarkItemListDo.class);
+    for (int i = 0; i < m_itemCount; i++) {
+      m_entity.items().add(BEANS.get(BenchmarkItemDo.class)
+          .withId("item-" + i)
+          .withName("Item " + i)
+          .withAmount(BigDecimal.valueOf(i, 2))
+          .withCreated(new Date(1_600_000_000_000L + i))
+          .withTags("a", "b", "c"));
+    }
+    m_json = m_mapper.writeValue(m_entity);
+  }
+
+  @Benchmark
+  public String writeValue() {
+    return m_mapper.writeValue(m_entity);
+  }
+
+  @Benchmark
+  public BenchmarkItemListDo readValue() {
+    return m_mapper.readValue(m_json, BenchmarkItemListDo.class);
+  }
+
+  @Benchmark
+  public IDataObject readValueRaw() {
+    return m_mapper.readValueRaw(m_json);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round-trips through {@link IJobManager#schedule(org.eclipse.scout.rt.platform.util.concurrent.IRunnable,
+ * org.eclipse.scout.rt.platform.job.JobInput)}: schedule a trivial job and wait for its completion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobManagerBenchmark {
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+  }
+
+  @Benchmark
+  public void scheduleRunnable() {
+    Jobs.schedule(() -> {
+      // NOOP
+    }, Jobs.newInput()).awaitDone();
+  }
+
+  @Benchmark
+  public String scheduleCallable() {
+    return Jobs.schedule(() -> "result", Jobs.newInput()
+        .withName("benchmark"))
+        .awaitDoneAndGet();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void scheduleRunnableConcurrent() {
+    Jobs.schedule(() -> {
+      // NOOP
+    }, Jobs.newInput()).awaitDone();
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load test for the job manager running on a pool of platform threads (default): schedules a burst of jobs which block
+ * (like a service tunnel or JDBC call) and waits until all of them completed. See
+ * {@link VirtualThreadJobManagerLoadBenchmark} for the same load on virtual threads.
+ * <p>
+ * Run with <code>-prof gc</code> to compare the allocation rate of both modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobManagerLoadBenchmark {
+
+  @Param({"100", "1000"})
+  public int m_jobCount;
+
+  @Param({"10"})
+  public long m_blockingMillis;
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+  }
+
+  @Benchmark
+  public void scheduleBlockingJobs() {
+    List<IFuture<Void>> futures = new ArrayList<>(m_jobCount);
+    for (int i = 0; i < m_jobCount; i++) {
+      futures.add(Jobs.schedule(() -> Thread.sleep(m_blockingMillis), Jobs.newInput()));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDone();
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.security.auth.Subject;
+
+import org.eclipse.scout.rt.client.IClientSession;
+import org.eclipse.scout.rt.client.context.ClientRunContext;
+import org.eclipse.scout.rt.client.context.ClientRunContexts;
+import org.eclipse.scout.rt.client.job.ModelJobs;
+import org.eclipse.scout.rt.client.session.ClientSessionProvider;
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.security.SimplePrincipal;
+import org.eclipse.scout.rt.shared.ui.UserAgents;
+import org.eclipse.scout.rt.ui.html.json.table.JsonTable;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Serialization of all rows of a {@link JsonTable} (the payload sent when a table is first displayed). Each invocation
+ * runs as model job, as in a real UI request.
+ * <p>
+ * {@link #writeBuffered(Blackhole)} and {@link #writeStreaming(Blackhole)} compare writing the resulting JSON to the servlet output
+ * stream as a whole string and byte array versus streaming it. Run with <code>-prof gc</code> to compare the
+ * allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonTableBenchmark {
+
+  @Param({"100", "5000", "10000"})
+  public int m_rowCount;
+
+  private IBean<?> m_clientSessionBean;
+  private IClientSession m_clientSession;
+  private JsonTable<BenchmarkTable> m_jsonTable;
+  private JSONObject m_json;
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new SimplePrincipal("benchmark"));
+    subject.setReadOnly();
+
+    m_clientSessionBean = BEANS.getBeanManager().registerBean(new BeanMetaData(TestEnvironmentClientSession.class).withOrder(-Long.MAX_VALUE));
+    m_clientSession = BEANS.get(ClientSessionProvider.class).provide(ClientRunContexts.empty()
+        .withSubject(subject)
+        .withUserAgent(UserAgents.createDefault())
+        .withLocale(Locale.US));
+
+    m_jsonTable = ModelJobs.schedule(() -> {
+      BenchmarkTable table = new BenchmarkTable();
+      table.init();
+      table.fill(m_rowCount);
+      BenchmarkUiSession uiSession = new BenchmarkUiSession(m_clientSession);
+      return uiSession.<BenchmarkTable, JsonTable<BenchmarkTable>> createJsonAdapter(table, uiSession.getRootJsonAdapter());
+    }, ModelJobs.newInput(newModelRunContext()))
+        .awaitDoneAndGet();
+    m_json = ModelJobs.schedule(() -> m_jsonTable.toJson(), ModelJobs.newInput(newModelRunContext()))
+        .awaitDoneAndGet();
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (m_clientSession != null) {
+      ModelJobs.schedule(() -> m_clientSession.stop(), ModelJobs.newInput(newModelRunContext()))
+          .awaitDone();
+    }
+    BEANS.getBeanManager().unregisterBean(m_clientSessionBean);
+  }
+
+  protected ClientRunContext newModelRunContext() {
+    return ClientRunContexts.empty().withSession(m_clientSession, true);
+  }
+
+  @Benchmark
+  public String toJson() {
+    return ModelJobs.schedule(() -> m_jsonTable.toJson().toString(), ModelJobs.newInput(newModelRunContext()))
+        .awaitDoneAndGet();
+  }
+
+  @Benchmark
+  public void writeBuffered(Blackhole blackhole) throws IOException {
+    byte[] data = m_json.toString().getBytes(StandardCharsets.UTF_8);
+    new BlackholeOutputStream(blackhole).write(data);
+  }
+
+  @Benchmark
+  public void writeStreaming(Blackhole blackhole) throws IOException {
+    Writer writer = new OutputStreamWriter(new BlackholeOutputStream(blackhole), StandardCharsets.UTF_8);
+    m_json.write(writer);
+    writer.flush();
+  }
+
+  protected static class BlackholeOutputStream extends OutputStream {
+    private final Blackhole m_blackhole;
+
+    public BlackholeOutputStream(Blackhole blackhole) {
+      m_blackhole = blackhole;
+    }
+
+    @Override
+    public void write(int b) {
+      m_blackhole.consume(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      m_blackhole.consume(b);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.holders.DateHolder;
+import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.holders.StringHolder;
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bind parsing and bind resolution of {@link StatementProcessor} (no database involved). The array bind is expanded to
+ * an <code>IN</code> list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementProcessorBenchmark {
+
+  private static final String SELECT = ""
+      + "SELECT P.PERSON_NR, P.NAME, P.BIRTHDAY "
+      + "FROM PERSON P "
+      + "WHERE P.PERSON_NR = :personNr "
+      + "AND P.NAME LIKE '%' || :name || '%' "
+      + "AND P.BIRTHDAY >= :birthdayFrom "
+      + "AND P.COMPANY_NR = :companyNrs "
+      + "INTO :personNrOut, :nameOut, :birthdayOut";
+
+  private static final String INSERT = ""
+      + "INSERT INTO PERSON (PERSON_NR, NAME, BIRTHDAY) "
+      + "VALUES (:personNr, :name, :birthdayFrom)";
+
+  private AbstractSqlService m_sqlService;
+  private Object[] m_binds;
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+
+    m_sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeBeanInstance(m_sqlService);
+
+    m_binds = new Object[]{
+        new NVPair("personNr", 42L),
+        new NVPair("name", "Scout"),
+        new NVPair("birthdayFrom", new Date(0L)),
+        new NVPair("companyNrs", new Long[]{1L, 2L, 3L, 4L, 5L}),
+        new NVPair("personNrOut", new LongHolder()),
+        new NVPair("nameOut", new StringHolder()),
+        new NVPair("birthdayOut", new DateHolder())};
+  }
+
+  @Benchmark
+  public StatementProcessor parseSelectInto() {
+    return new StatementProcessor(m_sqlService, SELECT, m_binds);
+  }
+
+  @Benchmark
+  public StatementProcessor parseInsert() {
+    return new StatementProcessor(m_sqlService, INSERT, m_binds);
+  }
+
+  @Benchmark
+  public String createPlainText() {
+    return new StatementProcessor(m_sqlService, INSERT, m_binds).createPlainText();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversions through {@link TypeCastUtility#castValue(Object, Class)} as used by the JDBC and form data layers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeCastUtilityBenchmark {
+
+  private Object m_long;
+  private Object m_bigDecimal;
+  private Object m_string;
+  private Object m_date;
+
+  @Setup
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+    m_long = 4242L;
+    m_bigDecimal = new BigDecimal("4242");
+    m_string = "4242";
+    m_date = new java.sql.Timestamp(0L);
+  }
+
+  @Benchmark
+  public Long identity() {
+    return TypeCastUtility.castValue(m_long, Long.class);
+  }
+
+  @Benchmark
+  public Long bigDecimalToLong() {
+    return TypeCastUtility.castValue(m_bigDecimal, Long.class);
+  }
+
+  @Benchmark
+  public Integer stringToInteger() {
+    return TypeCastUtility.castValue(m_string, Integer.class);
+  }
+
+  @Benchmark
+  public Date timestampToDate() {
+    return TypeCastUtility.castValue(m_date, Date.class);
+  }
+
+  @Benchmark
+  public long[] longToPrimitiveArray() {
+    return TypeCastUtility.castValue(new Long[]{1L, 2L, 3L}, long[].class);
+  }
+}
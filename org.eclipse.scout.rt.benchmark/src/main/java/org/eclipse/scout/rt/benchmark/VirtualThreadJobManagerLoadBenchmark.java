@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * {@link JobManagerLoadBenchmark} with jobs running on virtual threads (property
+ * <code>scout.jobmanager.virtualThreads</code>). Requires Java 21 or newer, otherwise the job manager falls back to the
+ * thread pool and the results equal the ones of {@link JobManagerLoadBenchmark}.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dscout.jobmanager.virtualThreads=true")
+public class VirtualThreadJobManagerLoadBenchmark extends JobManagerLoadBenchmark {
+}
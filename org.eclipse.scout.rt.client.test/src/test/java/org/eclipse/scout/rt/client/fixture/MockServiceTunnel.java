@@ -24,6 +24,7 @@ import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceUtility;
 
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpResponse;
 
 @IgnoreBean
@@ -77,4 +78,9 @@ public class MockServiceTunnel extends ClientHttpServiceTunnel {
   protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) {
     return null;
   }
+
+  @Override
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content) {
+    return null;
+  }
 }
@@ -961,6 +961,60 @@ public class TableEventBufferTest {
     eventMerger.merge(e1);
   }
 
+  /**
+   * Updated columns of coalesced ROWS_UPDATED events are combined. If they are unknown for a row in one of the events,
+   * they are unknown in the coalesced event as well.
+   */
+  @Test
+  public void testCoalesceUpdatedColumns() {
+    ITable table = mock(ITable.class);
+    ITableRow r0 = mockRow(0);
+    ITableRow r1 = mockRow(1);
+    ITableRow r2 = mockRow(2);
+    IColumn<?> c0 = mockColumn(0);
+    IColumn<?> c1 = mockColumn(1);
+    IColumn<?> c2 = mockColumn(2);
+
+    TableEvent e1 = new TableEvent(table, TableEvent.TYPE_ROWS_UPDATED, Arrays.asList(r0, r1));
+    e1.setUpdatedColumns(r0, CollectionUtility.hashSet(c0));
+    e1.setUpdatedColumns(r1, CollectionUtility.hashSet(c1));
+    TableEvent e2 = new TableEvent(table, TableEvent.TYPE_ROWS_UPDATED, Arrays.asList(r0, r2));
+    e2.setUpdatedColumns(r0, CollectionUtility.hashSet(c2));
+    TableEvent e3 = new TableEvent(table, TableEvent.TYPE_ROWS_UPDATED, Arrays.asList(r1));
+    m_testBuffer.add(e1);
+    m_testBuffer.add(e2);
+    m_testBuffer.add(e3);
+
+    List<TableEvent> events = m_testBuffer.consumeAndCoalesceEvents();
+    assertEquals(1, events.size());
+    TableEvent event = events.get(0);
+    assertEquals(CollectionUtility.hashSet(r0, r1, r2), event.getRowsSet());
+    assertEquals(CollectionUtility.hashSet(c0, c2), event.getUpdatedColumns(r0));
+    assertTrue(event.getUpdatedColumns(r1).isEmpty());
+    assertTrue(event.getUpdatedColumns(r2).isEmpty());
+  }
+
+  /**
+   * Updated columns of identical ROWS_UPDATED events are combined.
+   */
+  @Test
+  public void testRemoveIdenticalUpdatedEventsMergesUpdatedColumns() {
+    ITable table = mock(ITable.class);
+    ITableRow r0 = mockRow(0);
+    IColumn<?> c0 = mockColumn(0);
+    IColumn<?> c1 = mockColumn(1);
+
+    TableEvent e1 = new TableEvent(table, TableEvent.TYPE_ROWS_UPDATED, Arrays.asList(r0));
+    e1.setUpdatedColumns(r0, CollectionUtility.hashSet(c0));
+    TableEvent e2 = new TableEvent(table, TableEvent.TYPE_ROWS_UPDATED, Arrays.asList(r0));
+    e2.setUpdatedColumns(r0, CollectionUtility.hashSet(c1));
+    List<TableEvent> events = new ArrayList<>(Arrays.asList(e1, e2));
+
+    m_testBuffer.removeIdenticalEvents(events);
+    assertEquals(Collections.singletonList(e1), events);
+    assertEquals(CollectionUtility.hashSet(c0, c1), e1.getUpdatedColumns(r0));
+  }
+
   private TableEvent mockEvent(int type) {
     return mockEvent(type, 0);
   }
@@ -669,6 +669,20 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return false;
   }
 
+  /**
+   * Configures the number of rows the UI loads at once. If &gt; 0, only the first rows are sent to the UI and further
+   * rows are requested while the user scrolls down. Use it for tables with a very large number of rows.
+   * <p>
+   * Subclasses can override this method. Default is <code>0</code> (all rows are sent to the UI).
+   *
+   * @see ITable#getRowWindowSize()
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(290)
+  protected int getConfiguredRowWindowSize() {
+    return 0;
+  }
+
   /**
    * <p>
    * Called after a drag operation was executed on one or several table rows.
@@ -1016,6 +1030,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     setTableStatusVisible(getConfiguredTableStatusVisible());
     setTruncatedCellTooltipEnabled(getConfiguredTruncatedCellTooltipEnabled());
     setClientUiPreferencesEnabled(getConfiguredClientUiPreferencesEnabled());
+    setRowWindowSize(getConfiguredRowWindowSize());
     if (getTableCustomizer() == null) {
       setTableCustomizer(createTableCustomizer());
     }
@@ -5296,6 +5311,16 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     propertySupport.setPropertyInt(PROP_MAX_ROW_COUNT, maxRowCount);
   }
 
+  @Override
+  public int getRowWindowSize() {
+    return propertySupport.getPropertyInt(PROP_ROW_WINDOW_SIZE);
+  }
+
+  @Override
+  public void setRowWindowSize(int rowWindowSize) {
+    propertySupport.setPropertyInt(PROP_ROW_WINDOW_SIZE, rowWindowSize);
+  }
+
   @Override
   public TriState isTruncatedCellTooltipEnabled() {
     return (TriState) propertySupport.getProperty(PROP_TRUNCATED_CELL_TOOLTIP_ENABLED);
@@ -261,6 +261,13 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   String PROP_TABLE_TILE_GRID_MEDIATOR = "tableTileGridMediator";
 
+  /**
+   * type int
+   *
+   * @since 10.0
+   */
+  String PROP_ROW_WINDOW_SIZE = "rowWindowSize";
+
   /**
    * type boolean
    *
@@ -1316,6 +1323,24 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   void setTileMode(boolean tileMode);
 
+  /**
+   * Number of rows the UI loads at once. If &gt; 0, the UI only receives a window of the rows (in the order of
+   * {@link #getRows()}) around its viewport, which moves while the user scrolls. Sorting and filtering (including the
+   * user filters of the UI) still take place on all rows of this table. A value &lt;= 0 means that all rows are sent to
+   * the UI (default).
+   * <p>
+   * Hierarchical tables always send all rows.
+   *
+   * @since 10.0
+   */
+  int getRowWindowSize();
+
+  /**
+   * @see #getRowWindowSize()
+   * @since 10.0
+   */
+  void setRowWindowSize(int rowWindowSize);
+
   /**
    * @since 10.0
    */
@@ -329,6 +329,7 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
       if (identicalEventList != null) {
         for (TableEvent predecessorEvent : identicalEventList) {
           if (isIdenticalEvent(event, predecessorEvent)) {
+            mergeUpdatedColumns(predecessorEvent, predecessorEvent.getRowsSet(), event);
             it.remove();
             removed = true;
             break;
@@ -347,6 +348,38 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
     }
   }
 
+  /**
+   * Merges the updated columns of the given source event into the target event, if both are
+   * {@link TableEvent#TYPE_ROWS_UPDATED} events. If a row is contained in both events, the updated columns are combined.
+   * If the updated columns of a row are unknown in one of the events, they are unknown in the result as well (i.e. the
+   * whole row has to be considered as updated).
+   *
+   * @param targetRows
+   *          rows already contained in the target event
+   */
+  protected static void mergeUpdatedColumns(TableEvent target, Set<ITableRow> targetRows, TableEvent source) {
+    if (target.getType() != TableEvent.TYPE_ROWS_UPDATED || source.getType() != TableEvent.TYPE_ROWS_UPDATED) {
+      return;
+    }
+    Map<ITableRow, Set<IColumn<?>>> targetColumns = target.getUpdatedColumns();
+    Map<ITableRow, Set<IColumn<?>>> sourceColumns = source.getUpdatedColumns();
+    for (ITableRow row : source.getRows()) {
+      Set<IColumn<?>> columns = sourceColumns.get(row);
+      if (targetRows.contains(row)) {
+        Set<IColumn<?>> existingColumns = targetColumns.get(row);
+        if (existingColumns == null || columns == null) {
+          columns = null;
+        }
+        else {
+          Set<IColumn<?>> mergedColumns = new HashSet<>(existingColumns);
+          mergedColumns.addAll(columns);
+          columns = mergedColumns;
+        }
+      }
+      target.setUpdatedColumns(row, columns);
+    }
+  }
+
   /**
    * @return the next event's type or <code>-1</code> if {@link ListIterator#hasNext()} returns <code>false</code>. The
    *         iterator is moved back to its initial position (i.e. {@link ListIterator#previous()}).
@@ -567,6 +600,8 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
         throw new IllegalStateException("Invocations of merge is not allowed after complete has been invoked.");
       }
       mergeCollections(event.getColumns(), m_mergedColumns, m_targetColumnSet);
+      // must be called before the rows are merged
+      mergeUpdatedColumns(m_targetEvent, m_targetRowSet, event);
       mergeCollections(event.getRows(), m_mergedRows, m_targetRowSet);
     }
 
@@ -27,6 +27,8 @@ import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.IDoListStreamReader;
+import org.eclipse.scout.rt.dataobject.IDoListStreamWriter;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
@@ -232,5 +234,15 @@ public class DataObjectJsonPropertyReaderTest {
     public String writeValue(Object value) {
       throw new UnsupportedOperationException();
     }
+
+    @Override
+    public <T> IDoListStreamReader<T> readListStream(InputStream inputStream, Class<? extends IDoEntity> entityType, String listAttributeName, Class<T> elementType) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> IDoListStreamWriter<T> writeListStream(OutputStream outputStream, IDoEntity entity, String listAttributeName) {
+      throw new UnsupportedOperationException();
+    }
   }
 }
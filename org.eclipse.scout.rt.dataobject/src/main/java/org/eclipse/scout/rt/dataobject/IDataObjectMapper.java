@@ -56,4 +56,22 @@ public interface IDataObjectMapper {
    * Serializes a data object into its string representation.
    */
   String writeValue(Object value);
+
+  /**
+   * Incrementally deserializes an entity of type {@code entityType} from the input stream. The elements of its list
+   * attribute {@code listAttributeName} are not materialized but returned one by one by the returned reader.
+   * <p>
+   * The caller is responsible for closing the returned reader as well as the input stream.
+   */
+  <T> IDoListStreamReader<T> readListStream(InputStream inputStream, Class<? extends IDoEntity> entityType, String listAttributeName, Class<T> elementType);
+
+  /**
+   * Incrementally serializes {@code entity} into the output stream. The elements of its list attribute
+   * {@code listAttributeName} are appended one by one using the returned writer. A value of the list attribute set on
+   * {@code entity} itself is ignored.
+   * <p>
+   * The caller is responsible for closing the returned writer as well as the output stream. If the elements cannot be
+   * written completely, the caller must {@link IDoListStreamWriter#abort() abort} the writer instead of closing it.
+   */
+  <T> IDoListStreamWriter<T> writeListStream(OutputStream outputStream, IDoEntity entity, String listAttributeName);
 }
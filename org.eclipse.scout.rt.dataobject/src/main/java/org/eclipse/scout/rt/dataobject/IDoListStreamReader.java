@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+
+/**
+ * Cursor reading the elements of a {@link DoList} attribute of a serialized top-level {@link IDoEntity} one by one,
+ * without materializing the whole list.
+ * <p>
+ * All other attributes of the top-level entity are collected and available by {@link #getEntity()} as soon as all
+ * elements have been read. Closing the reader does not close the underlying input stream.
+ *
+ * @see IDataObjectMapper#readListStream(java.io.InputStream, Class, String, Class)
+ */
+public interface IDoListStreamReader<T> extends Iterator<T>, Closeable {
+
+  /**
+   * @return top-level entity with all attributes except the streamed list attribute
+   * @throws AssertionException
+   *           if not all list elements have been read yet
+   */
+  IDoEntity getEntity();
+
+  @Override
+  void close();
+}
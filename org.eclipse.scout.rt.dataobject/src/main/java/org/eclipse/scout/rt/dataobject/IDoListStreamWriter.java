@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.io.Closeable;
+
+/**
+ * Cursor appending the elements of a {@link DoList} attribute of a top-level {@link IDoEntity} one by one to its
+ * serialized representation, without materializing the whole list.
+ * <p>
+ * The other attributes of the top-level entity are written when the writer is created. {@link #close()} completes the
+ * list and the entity, but does not close the underlying output stream. If an element cannot be written, use
+ * {@link #abort()} instead: the output is left incomplete, so the receiver cannot mistake it for the complete list.
+ *
+ * @see IDataObjectMapper#writeListStream(java.io.OutputStream, IDoEntity, String)
+ */
+public interface IDoListStreamWriter<T> extends Closeable {
+
+  /**
+   * Appends an element to the list attribute.
+   */
+  void write(T element);
+
+  /**
+   * Flushes all elements written so far to the underlying output stream.
+   */
+  void flush();
+
+  /**
+   * Completes the list and the entity. Behaves like {@link #abort()} if a previous {@link #write(Object)} failed.
+   */
+  @Override
+  void close();
+
+  /**
+   * Releases the writer without completing the list and the entity. Elements written so far are flushed, the output
+   * remains an incomplete document. Never throws an exception, so it may be called while handling the original error.
+   */
+  void abort();
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.util.Optional;
+
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCollectionsDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+public class DoEntityAttributeTypeRegistryTest {
+
+  @Test
+  public void testGetAttributeType() {
+    DoEntityAttributeTypeRegistry registry = BEANS.get(DoEntityAttributeTypeRegistry.class);
+    Optional<JavaType> type = registry.getAttributeType(TestCollectionsDo.class, "itemDoListAttribute");
+    assertTrue(type.isPresent());
+    assertEquals(DoList.class, type.get().getRawClass());
+    assertEquals(TestItemDo.class, type.get().getBindings().getBoundType(0).getRawClass());
+
+    // resolved only once
+    assertSame(type.get(), registry.getAttributeType(TestCollectionsDo.class, "itemDoListAttribute").get());
+  }
+
+  @Test
+  public void testGetAttributeTypeUnknown() {
+    DoEntityAttributeTypeRegistry registry = BEANS.get(DoEntityAttributeTypeRegistry.class);
+    assertFalse(registry.getAttributeType(TestCollectionsDo.class, "notExisting").isPresent());
+    // attributes declared as Object are handled like undeclared attributes
+    assertFalse(registry.getAttributeType(TestComplexEntityDo.class, "objectAttribute").isPresent());
+    assertEquals(String.class, registry.getAttributeType(TestComplexEntityDo.class, "stringAttribute").get().getRawClass());
+  }
+}
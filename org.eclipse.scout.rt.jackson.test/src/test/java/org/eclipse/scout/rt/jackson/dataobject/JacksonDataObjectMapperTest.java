@@ -18,21 +18,28 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import org.eclipse.scout.rt.dataobject.DataObjectHelper;
 import org.eclipse.scout.rt.dataobject.DoEntity;
 import org.eclipse.scout.rt.dataobject.DoEntityHolder;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoListStreamReader;
+import org.eclipse.scout.rt.dataobject.IDoListStreamWriter;
 import org.eclipse.scout.rt.dataobject.testing.TestingDataObjectHelper;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.ITestBaseEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCustomImplementedEntityDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCollectionsDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithInterface1Do;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
 import org.eclipse.scout.rt.jackson.testing.DataObjectSerializationTestHelper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -42,6 +49,7 @@ import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CloneUtility;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.util.ScoutAssert;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -211,4 +219,92 @@ public class JacksonDataObjectMapperTest {
     assertNull(m_mapper.getObjectMapper().getDeserializationConfig().getDefaultTyper(TypeFactory.defaultInstance().constructType(DoEntity.class)));
     assertNull(m_mapper.getObjectMapper().getDeserializationConfig().getDefaultTyper(TypeFactory.defaultInstance().constructType(Object.class)));
   }
+
+  @Test
+  public void testReadWriteListStream() {
+    TestCollectionsDo entity = BEANS.get(TestCollectionsDo.class)
+        .withItemDoAttribute(BEANS.get(TestItemDo.class).withId("header"));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    IDoListStreamWriter<TestItemDo> writer = m_mapper.writeListStream(out, entity, "itemDoListAttribute");
+    for (int i = 0; i < 100; i++) {
+      writer.write(BEANS.get(TestItemDo.class).withId("item-" + i));
+    }
+    writer.close();
+
+    TestCollectionsDo expected = BEANS.get(TestCollectionsDo.class)
+        .withItemDoAttribute(BEANS.get(TestItemDo.class).withId("header"));
+    List<TestItemDo> items = new ArrayList<>();
+    try (IDoListStreamReader<TestItemDo> reader = m_mapper.readListStream(new ByteArrayInputStream(out.toByteArray()), TestCollectionsDo.class, "itemDoListAttribute", TestItemDo.class)) {
+      while (reader.hasNext()) {
+        TestItemDo item = reader.next();
+        items.add(item);
+        expected.itemDoListAttribute().add(item);
+      }
+      assertEquals(100, items.size());
+      assertEquals("item-0", items.get(0).getId());
+      assertEquals("item-99", items.get(99).getId());
+      assertEqualsWithComparisonFailure(entity, reader.getEntity());
+    }
+
+    // streamed representation is readable as a whole
+    assertEqualsWithComparisonFailure(expected, m_mapper.readValue(new ByteArrayInputStream(out.toByteArray()), TestCollectionsDo.class));
+  }
+
+  @Test
+  public void testWriteListStreamElementFailure() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    IDoListStreamWriter<DoEntity> writer = m_mapper.writeListStream(out, BEANS.get(TestCollectionsDo.class), "itemDoListAttribute");
+    DoEntity element = BEANS.get(DoEntity.class);
+    element.put("id", "item-0");
+    writer.write(element);
+    DoEntity failingElement = BEANS.get(DoEntity.class);
+    failingElement.put("id", "item-1");
+    failingElement.put("value", new FixtureFailingValue());
+    ScoutAssert.assertThrows(PlatformException.class, () -> writer.write(failingElement));
+
+    // the generator is positioned inside the failed element, closing must neither throw nor complete the document
+    writer.close();
+    String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue(json.contains("item-0"));
+    ScoutAssert.assertThrows(PlatformException.class, () -> m_mapper.readValue(new ByteArrayInputStream(out.toByteArray()), TestCollectionsDo.class));
+  }
+
+  @Test
+  public void testReadListStreamAttributesAfterList() {
+    String json = "{\"_type\" : \"TestCollections\", \"itemDoListAttribute\" : [{\"_type\" : \"TestItem\", \"id\" : \"item\"}], \"itemDoAttribute\" : {\"_type\" : \"TestItem\", \"id\" : \"header\"}}";
+    try (IDoListStreamReader<TestItemDo> reader = m_mapper.readListStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), TestCollectionsDo.class, "itemDoListAttribute", TestItemDo.class)) {
+      assertTrue(reader.hasNext());
+      ScoutAssert.assertThrows(AssertionException.class, reader::getEntity);
+      assertEquals("item", reader.next().getId());
+      assertFalse(reader.hasNext());
+      ScoutAssert.assertThrows(NoSuchElementException.class, reader::next);
+
+      TestCollectionsDo entity = (TestCollectionsDo) reader.getEntity();
+      assertEquals("header", entity.getItemDoAttribute().getId());
+      assertFalse(entity.itemDoListAttribute().exists());
+    }
+  }
+
+  @Test
+  public void testReadListStreamNullList() {
+    String json = "{\"_type\" : \"TestCollections\", \"itemDoListAttribute\" : null}";
+    try (IDoListStreamReader<TestItemDo> reader = m_mapper.readListStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), TestCollectionsDo.class, "itemDoListAttribute", TestItemDo.class)) {
+      assertFalse(reader.hasNext());
+      assertTrue(reader.getEntity() instanceof TestCollectionsDo);
+    }
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testReadListStreamInvalidList() {
+    String json = "{\"_type\" : \"TestCollections\", \"itemDoListAttribute\" : \"foo\"}";
+    try (IDoListStreamReader<TestItemDo> reader = m_mapper.readListStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), TestCollectionsDo.class, "itemDoListAttribute", TestItemDo.class)) {
+      reader.hasNext();
+    }
+  }
+
+  public static class FixtureFailingValue {
+    public String getValue() {
+      throw new IllegalStateException("expected");
+    }
+  }
 }
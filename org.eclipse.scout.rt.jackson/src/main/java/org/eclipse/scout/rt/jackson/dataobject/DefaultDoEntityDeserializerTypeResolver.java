@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.JavaType;
 public class DefaultDoEntityDeserializerTypeResolver implements IDoEntityDeserializerTypeResolver {
 
   protected final LazyValue<DataObjectInventory> m_dataObjectInventory = new LazyValue<>(DataObjectInventory.class);
+  protected final LazyValue<DoEntityAttributeTypeRegistry> m_attributeTypeRegistry = new LazyValue<>(DoEntityAttributeTypeRegistry.class);
 
   @Override
   public Class<? extends IDoEntity> resolveTypeName(String entityType) {
@@ -36,8 +37,6 @@ public class DefaultDoEntityDeserializerTypeResolver implements IDoEntityDeseria
 
   @Override
   public Optional<JavaType> resolveAttributeType(Class<? extends IDoEntity> entityClass, String attributeName) {
-    return m_dataObjectInventory.get().getAttributeDescription(entityClass, attributeName)
-        .map(a -> TypeFactoryUtility.toJavaType(a.getType()))
-        .filter(type -> type.getRawClass() != Object.class);
+    return m_attributeTypeRegistry.get().getAttributeType(entityClass, attributeName);
   }
 }
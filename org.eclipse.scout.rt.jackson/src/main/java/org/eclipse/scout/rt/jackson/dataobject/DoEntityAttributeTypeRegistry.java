@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.dataobject.DataObjectAttributeDescriptor;
+import org.eclipse.scout.rt.dataobject.DataObjectInventory;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.util.LazyValue;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * Jackson {@link JavaType}s of the attributes of {@link IDoEntity} classes.
+ * <p>
+ * The types of all attributes of an entity class are resolved once, when the class is serialized or deserialized the
+ * first time. Subsequent lookups neither access the {@link DataObjectInventory} nor the Jackson type factory, nor do
+ * they allocate.
+ *
+ * @since 10.0
+ */
+@ApplicationScoped
+public class DoEntityAttributeTypeRegistry {
+
+  protected final LazyValue<DataObjectInventory> m_dataObjectInventory = new LazyValue<>(DataObjectInventory.class);
+
+  private final Map<Class<? extends IDoEntity>, Map<String, Optional<JavaType>>> m_attributeTypes = new ConcurrentHashMap<>();
+
+  /**
+   * @return Jackson type of the attribute of {@code entityClass} with the given name. Attributes without a declared
+   *         type or declared as {@code Object} are not contained.
+   */
+  public Optional<JavaType> getAttributeType(Class<? extends IDoEntity> entityClass, String attributeName) {
+    Map<String, Optional<JavaType>> attributeTypes = m_attributeTypes.get(entityClass);
+    if (attributeTypes == null) {
+      attributeTypes = m_attributeTypes.computeIfAbsent(entityClass, this::resolveAttributeTypes);
+    }
+    return attributeTypes.getOrDefault(attributeName, Optional.empty());
+  }
+
+  protected Map<String, Optional<JavaType>> resolveAttributeTypes(Class<? extends IDoEntity> entityClass) {
+    Map<String, Optional<JavaType>> attributeTypes = new HashMap<>();
+    for (Entry<String, DataObjectAttributeDescriptor> entry : m_dataObjectInventory.get().getAttributesDescription(entityClass).entrySet()) {
+      JavaType type = TypeFactoryUtility.toJavaType(entry.getValue().getType());
+      if (type.getRawClass() != Object.class) { // completely unknown types are handled like undeclared attributes
+        attributeTypes.put(entry.getKey(), Optional.of(type));
+      }
+    }
+    return Collections.unmodifiableMap(attributeTypes);
+  }
+}
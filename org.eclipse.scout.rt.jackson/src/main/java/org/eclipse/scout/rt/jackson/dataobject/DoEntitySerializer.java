@@ -11,11 +11,11 @@
 package org.eclipse.scout.rt.jackson.dataobject;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.TreeMap;
 
 import org.eclipse.scout.rt.dataobject.DataObjectInventory;
 import org.eclipse.scout.rt.dataobject.DoNode;
@@ -39,6 +39,7 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
   private static final long serialVersionUID = 1L;
 
   protected final LazyValue<DataObjectInventory> m_dataObjectInventory = new LazyValue<>(DataObjectInventory.class);
+  protected final LazyValue<DoEntityAttributeTypeRegistry> m_attributeTypeRegistry = new LazyValue<>(DoEntityAttributeTypeRegistry.class);
 
   protected final ScoutDataObjectModuleContext m_context;
 
@@ -66,10 +67,12 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    */
   protected void serializeAttributes(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
     serializeTypeVersion(gen, entity);
-    TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(entity.allNodes());
-    for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
+    Map<String, DoNode<?>> nodes = entity.allNodes();
+    String[] attributeNames = nodes.keySet().toArray(new String[0]);
+    Arrays.sort(attributeNames);
+    for (String attributeName : attributeNames) {
       gen.setCurrentValue(entity);
-      serializeAttributes(e.getKey(), e.getValue(), gen, provider);
+      serializeAttributes(attributeName, nodes.get(attributeName), gen, provider);
     }
   }
 
@@ -157,8 +160,7 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
   }
 
   protected Optional<JavaType> getJavaType(String attributeName) {
-    return m_dataObjectInventory.get().getAttributeDescription(handledType(), attributeName)
-        .map(a -> TypeFactoryUtility.toJavaType(a.getType()))
-        .filter(t -> t.getRawClass() != Object.class); // filter completely unknown types, forcing to use the default behavior for unknown types
+    // completely unknown types are not contained, forcing to use the default behavior for unknown types
+    return m_attributeTypeRegistry.get().getAttributeType(handledType(), attributeName);
   }
 }
@@ -18,6 +18,8 @@ import java.text.SimpleDateFormat;
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.IDoListStreamReader;
+import org.eclipse.scout.rt.dataobject.IDoListStreamWriter;
 import org.eclipse.scout.rt.dataobject.IValueFormatConstants;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
@@ -112,6 +114,26 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public <T> IDoListStreamReader<T> readListStream(InputStream inputStream, Class<? extends IDoEntity> entityType, String listAttributeName, Class<T> elementType) {
+    try {
+      return new JacksonDoListStreamReader<>(m_objectMapper.get(), inputStream, entityType, listAttributeName, elementType);
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public <T> IDoListStreamWriter<T> writeListStream(OutputStream outputStream, IDoEntity entity, String listAttributeName) {
+    try {
+      return new JacksonDoListStreamWriter<>(m_objectMapper.get(), outputStream, entity, listAttributeName);
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
   /**
    * <b>Note</b> This method is exposed only for internal framework usage. It is recommended to use the
    * {@link IDataObjectMapper} representation of the object mapper and not to use {@link ObjectMapper} instances
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.IDoListStreamReader;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * {@link IDoListStreamReader} implementation based on a Jackson {@link JsonParser}.
+ * <p>
+ * All attributes of the top-level entity except the streamed list attribute are buffered as tokens and deserialized
+ * into the entity once the end of the entity is reached. List elements are deserialized one at a time.
+ */
+public class JacksonDoListStreamReader<T> implements IDoListStreamReader<T> {
+
+  private final ObjectMapper m_objectMapper;
+  private final Class<? extends IDoEntity> m_entityType;
+  private final String m_listAttributeName;
+  private final Class<T> m_elementType;
+  private final JsonParser m_parser;
+  private final TokenBuffer m_entityBuffer;
+
+  private boolean m_inList;
+  private boolean m_nextAvailable;
+  private IDoEntity m_entity;
+
+  public JacksonDoListStreamReader(ObjectMapper objectMapper, InputStream inputStream, Class<? extends IDoEntity> entityType, String listAttributeName, Class<T> elementType) throws IOException {
+    m_objectMapper = Assertions.assertNotNull(objectMapper);
+    m_entityType = Assertions.assertNotNull(entityType);
+    m_listAttributeName = Assertions.assertNotNull(listAttributeName);
+    m_elementType = Assertions.assertNotNull(elementType);
+    m_parser = objectMapper.getFactory().createParser(Assertions.assertNotNull(inputStream, "Input stream must not be null"));
+    m_parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    if (m_parser.nextToken() != JsonToken.START_OBJECT) {
+      throw JsonMappingException.from(m_parser, "Expected start of an object");
+    }
+    m_entityBuffer = new TokenBuffer(objectMapper, false);
+    m_entityBuffer.writeStartObject();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (!m_nextAvailable && m_entity == null) {
+      try {
+        m_nextAvailable = advance();
+      }
+      catch (IOException e) {
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+      }
+    }
+    return m_nextAvailable;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    m_nextAvailable = false;
+    try {
+      return m_objectMapper.readValue(m_parser, m_elementType);
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  /**
+   * Moves the parser to the start of the next list element. Attributes of the entity encountered on the way are
+   * buffered.
+   *
+   * @return {@code true} if the parser is positioned at the next list element, {@code false} if the end of the entity
+   *         was reached
+   */
+  protected boolean advance() throws IOException {
+    JsonToken token;
+    while ((token = m_parser.nextToken()) != null) {
+      if (m_inList) {
+        if (token != JsonToken.END_ARRAY) {
+          return true;
+        }
+        m_inList = false;
+      }
+      else if (token == JsonToken.END_OBJECT) {
+        m_entityBuffer.writeEndObject();
+        m_entity = m_objectMapper.readValue(m_entityBuffer.asParser(), m_entityType);
+        return false;
+      }
+      else if (m_listAttributeName.equals(m_parser.getCurrentName())) {
+        token = m_parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+          m_inList = true;
+        }
+        else if (token != JsonToken.VALUE_NULL) {
+          throw JsonMappingException.from(m_parser, "Expected array for attribute '" + m_listAttributeName + "'");
+        }
+      }
+      else {
+        m_entityBuffer.copyCurrentStructure(m_parser); // copies attribute name and value
+      }
+    }
+    throw JsonMappingException.from(m_parser, "Unexpected end of input");
+  }
+
+  @Override
+  public IDoEntity getEntity() {
+    return Assertions.assertNotNull(m_entity, "Entity is available as soon as all list elements have been read");
+  }
+
+  @Override
+  public void close() {
+    try {
+      m_parser.close();
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+}
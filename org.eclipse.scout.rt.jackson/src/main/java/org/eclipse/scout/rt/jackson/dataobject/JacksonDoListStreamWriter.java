@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.IDoListStreamWriter;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * {@link IDoListStreamWriter} implementation based on a Jackson {@link JsonGenerator}.
+ * <p>
+ * The top-level entity is serialized as usual, the streamed list attribute is written last. Elements are serialized
+ * one at a time and are not flushed individually.
+ */
+public class JacksonDoListStreamWriter<T> implements IDoListStreamWriter<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JacksonDoListStreamWriter.class);
+
+  private final ObjectWriter m_objectWriter;
+  private final JsonGenerator m_generator;
+  private boolean m_failed;
+
+  public JacksonDoListStreamWriter(ObjectMapper objectMapper, OutputStream outputStream, IDoEntity entity, String listAttributeName) throws IOException {
+    Assertions.assertNotNull(entity);
+    Assertions.assertNotNull(listAttributeName);
+    m_objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    m_generator = objectMapper.getFactory().createGenerator(Assertions.assertNotNull(outputStream, "Output stream must not be null"), JsonEncoding.UTF8);
+    m_generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    if (objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+      m_generator.useDefaultPrettyPrinter();
+    }
+    writeEntityStart(entity, listAttributeName);
+  }
+
+  /**
+   * Writes all attributes of {@code entity} except {@code listAttributeName} and opens the list attribute.
+   */
+  protected void writeEntityStart(IDoEntity entity, String listAttributeName) throws IOException {
+    TokenBuffer entityBuffer = new TokenBuffer(m_generator.getCodec(), false);
+    m_objectWriter.writeValue(entityBuffer, entity);
+    try (JsonParser parser = entityBuffer.asParser()) {
+      parser.nextToken(); // start of entity
+      m_generator.writeStartObject();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        if (listAttributeName.equals(parser.getCurrentName())) {
+          parser.nextToken();
+          parser.skipChildren();
+        }
+        else {
+          m_generator.copyCurrentStructure(parser); // copies attribute name and value
+        }
+      }
+    }
+    m_generator.writeArrayFieldStart(listAttributeName);
+  }
+
+  @Override
+  public void write(T element) {
+    try {
+      m_objectWriter.writeValue(m_generator, element);
+    }
+    catch (IOException e) {
+      m_failed = true;
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+    catch (RuntimeException e) {
+      m_failed = true; // the generator may be positioned inside the element
+      throw e;
+    }
+  }
+
+  @Override
+  public void flush() {
+    try {
+      m_generator.flush();
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (m_failed) {
+      abort();
+      return;
+    }
+    try {
+      m_generator.writeEndArray();
+      m_generator.writeEndObject();
+      m_generator.close(); // flushes, but does not close the output stream
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public void abort() {
+    m_failed = true;
+    m_generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT); // do not write the closing tokens
+    try {
+      m_generator.close();
+    }
+    catch (IOException | RuntimeException e) { // NOSONAR
+      LOG.debug("Could not release generator", e);
+    }
+  }
+}
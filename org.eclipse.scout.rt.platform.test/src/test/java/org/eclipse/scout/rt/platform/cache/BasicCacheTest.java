@@ -12,7 +12,12 @@ package org.eclipse.scout.rt.platform.cache;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
@@ -117,6 +122,51 @@ public class BasicCacheTest {
     cache.invalidate(null, true);
   }
 
+  @Test
+  public void testGetAllUnresolvableKeys() {
+    ICache<Integer, String> cache = createCache("BasicCacheTestCacheId_testGetAllUnresolvableKeys");
+
+    Map<Integer, String> resultMap = cache.getAll(CollectionUtility.arrayList(2, 13));
+    assertEquals(1, resultMap.size());
+    assertEquals("2.1", resultMap.get(2));
+  }
+
+  @Test
+  public void testGetAllResolvesMissesInOneBulkCall() {
+    List<Set<Integer>> bulkCalls = new ArrayList<>();
+    ICache<Integer, String> cache = createCache("BasicCacheTestCacheId_testGetAllResolvesMissesInOneBulkCall", new ICacheValueResolver<Integer, String>() {
+      @Override
+      public String resolve(Integer key) {
+        throw new AssertionError("single resolve not expected");
+      }
+
+      @Override
+      public Map<Integer, String> resolveAll(Set<Integer> keys) {
+        bulkCalls.add(new HashSet<>(keys));
+        Map<Integer, String> result = new HashMap<>();
+        keys.forEach(key -> result.put(key, "v" + key));
+        return result;
+      }
+    });
+
+    assertEquals(2, cache.getAll(CollectionUtility.arrayList(1, 2)).size());
+    assertEquals(4, cache.getAll(CollectionUtility.arrayList(1, 2, 3, 4)).size());
+    assertEquals(2, bulkCalls.size());
+    assertEquals(CollectionUtility.hashSet(3, 4), bulkCalls.get(1));
+  }
+
+  @Test
+  public void testGetAsync() {
+    ICache<Integer, String> cache = createCache("BasicCacheTestCacheId_testGetAsync");
+
+    assertEquals("2.1", cache.getAsync(2).awaitDoneAndGet());
+    assertNull(cache.getAsync(null).awaitDoneAndGet());
+    Map<Integer, String> resultMap = cache.getAllAsync(CollectionUtility.arrayList(2, 3)).awaitDoneAndGet();
+    assertEquals(2, resultMap.size());
+    assertEquals("2.1", resultMap.get(2));
+    assertEquals("3.2", resultMap.get(3));
+  }
+
   @Test(expected = ProcessingException.class)
   public void testCacheExceptionDuringCreation() {
     ICache<Integer, String> cache = createCache("BasicCacheTestCacheId_testCacheExceptionDuringCreation");
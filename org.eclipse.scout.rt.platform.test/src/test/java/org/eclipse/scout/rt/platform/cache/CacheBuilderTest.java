@@ -13,7 +13,15 @@ package org.eclipse.scout.rt.platform.cache;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 import org.junit.Test;
 
 /**
@@ -47,6 +55,79 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testFrequencyBasedEvictionWithStatistics() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + ".tinyLfu")
+        .withValueResolver(key -> "value" + key)
+        .withSizeBound(10)
+        .withFrequencyBasedEviction(true)
+        .withStatistics(true)
+        .build();
+
+    assertTrue(((BasicCache<Integer, String>) cache).getCacheMap() instanceof ConcurrentTinyLfuMap);
+    for (int i = 0; i < 20; i++) {
+      cache.get(i);
+    }
+    cache.get(19);
+
+    CacheStatistics statistics = BEANS.get(ICacheRegistryService.class).getStatistics().get(CACHE_ID + ".tinyLfu");
+    assertSame(statistics, cache.getAdapter(CacheStatistics.class));
+    assertEquals(1, statistics.getHitCount());
+    assertEquals(20, statistics.getMissCount());
+    assertEquals(20, statistics.getLoadSuccessCount());
+    assertEquals(10, statistics.getEvictionCount());
+  }
+
+  @Test
+  public void testMaximumWeight() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + ".maximumWeight")
+        .withValueResolver(key -> "0123456789")
+        .withMaximumWeight(100L, (key, value) -> value.length())
+        .build();
+
+    for (int i = 0; i < 100; i++) {
+      cache.get(i);
+    }
+    assertTrue(cache.getUnmodifiableMap().size() <= 10);
+    assertNull(cache.getAdapter(CacheStatistics.class));
+  }
+
+  @Test
+  public void testBoundedResolveGetAllResolvesMissingKeysOnly() {
+    List<Set<Integer>> bulkCalls = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + ".boundedResolve")
+        .withMaxConcurrentResolve(1)
+        .withValueResolver(new ICacheValueResolver<Integer, String>() {
+          @Override
+          public String resolve(Integer key) {
+            return "v" + key;
+          }
+
+          @Override
+          public Map<Integer, String> resolveAll(Set<Integer> keys) {
+            bulkCalls.add(new HashSet<>(keys));
+            return ICacheValueResolver.super.resolveAll(keys);
+          }
+        })
+        .build();
+
+    cache.get(1);
+    Map<Integer, String> values = cache.getAll(Arrays.asList(1, 2, 3, null));
+    assertEquals(3, values.size());
+    assertEquals("v1", values.get(1));
+    assertEquals(1, bulkCalls.size());
+    assertEquals(new HashSet<>(Arrays.asList(2, 3)), bulkCalls.get(0));
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.platform.internal;
 
 import static org.junit.Assert.*;
 
+import java.util.List;
+
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.Replace;
@@ -101,6 +103,25 @@ public class BeanHierarchyTest {
     assertEquals(subA1, h.getExactBean(SubClassA.class).getInstance()); // expect to get instance of registered bean with lowest order
   }
 
+  @Test
+  public void testQueryResultPublishedUntilModified() {
+    BeanHierarchy<AbstractBaseClass> h = new BeanHierarchy<>(AbstractBaseClass.class);
+    h.addBean(new BeanImplementor<>(new BeanMetaData(SubClassA.class)));
+    List<IBean<AbstractBaseClass>> all = h.queryAll();
+    assertSame(all, h.queryAll());
+    assertSame(h.querySingle(), h.querySingle());
+
+    IBean<AbstractBaseClass> beanB = new BeanImplementor<>(new BeanMetaData(SubClassB.class));
+    h.addBean(beanB);
+    assertNotSame(all, h.queryAll());
+    assertEquals(2, h.queryAll().size());
+    assertEquals(1, all.size());
+
+    h.removeBean(beanB);
+    assertEquals(1, h.queryAll().size());
+    assertFalse(h.isEmpty());
+  }
+
   public static abstract class AbstractBaseClass {
   }
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.scout.rt.platform.AnnotationFactory;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanInstanceProducer;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class CreateImmediatelyBeanInitializerTest {
+
+  private final List<String> m_created = Collections.synchronizedList(new ArrayList<>());
+  private final Map<String, Thread> m_threads = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> m_creatingBeans = new ConcurrentHashMap<>();
+
+  @Test
+  public void testSequential() {
+    CreateImmediatelyBeanInitializer initializer = new CreateImmediatelyBeanInitializer(Arrays.asList(
+        createBean(beanData("a", null)),
+        createBean(beanData("b", null)),
+        createBean(beanData("c", null))), false);
+    initializer.start();
+    assertEquals(Arrays.asList("a", "b", "c"), m_created);
+    initializer.awaitDone();
+    assertSame(Thread.currentThread(), m_threads.get("b"));
+  }
+
+  @Test
+  public void testParallel() {
+    // both unordered beans wait for each other, hence they must be created concurrently
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    CreateImmediatelyBeanInitializer initializer = new CreateImmediatelyBeanInitializer(Arrays.asList(
+        createBean(beanData("ordered", null).withOrder(10)),
+        createBean(beanData("a", barrier)),
+        createBean(beanData("b", barrier))), true);
+    initializer.start();
+    assertEquals(Collections.singletonList("ordered"), m_created);
+    assertSame(Thread.currentThread(), m_threads.get("ordered"));
+
+    initializer.awaitDone();
+    assertEquals(3, m_created.size());
+    assertNotSame(Thread.currentThread(), m_threads.get("a"));
+    assertNotSame(Thread.currentThread(), m_threads.get("b"));
+  }
+
+  @Test
+  public void testParallelOptOut() {
+    CreateImmediatelyBeanInitializer initializer = new CreateImmediatelyBeanInitializer(Arrays.asList(
+        createBean(beanData("a", null)),
+        createBean(beanData("b", null).withAnnotation(new P_SequentialCreateImmediately())),
+        createBean(beanData("c", null))), true);
+    initializer.start();
+    assertEquals(Collections.singletonList("b"), m_created);
+    initializer.awaitDone();
+    assertEquals(3, m_created.size());
+    assertSame(Thread.currentThread(), m_threads.get("b"));
+    assertNotSame(Thread.currentThread(), m_threads.get("a"));
+  }
+
+  @Test
+  public void testCreatingBeans() {
+    CreateImmediatelyBeanInitializer initializer = new CreateImmediatelyBeanInitializer(Arrays.asList(
+        createBean(beanData("ordered", null).withOrder(10)),
+        createBean(beanData("a", null)),
+        createBean(beanData("b", null))), true);
+    initializer.start();
+    initializer.awaitDone();
+    assertEquals(Boolean.TRUE, m_creatingBeans.get("ordered"));
+    assertEquals(Boolean.TRUE, m_creatingBeans.get("a"));
+    assertEquals(Boolean.TRUE, m_creatingBeans.get("b"));
+    assertFalse(CreateImmediatelyBeanInitializer.isCreatingBeans());
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testParallelFailure() {
+    CreateImmediatelyBeanInitializer initializer = new CreateImmediatelyBeanInitializer(Arrays.asList(
+        createBean(beanData("a", null)),
+        createBean(beanData("b", null).withProducer((IBeanInstanceProducer<Object>) bean -> {
+          throw new PlatformException("expected");
+        }))), true);
+    initializer.start();
+    initializer.awaitDone();
+  }
+
+  protected BeanMetaData beanData(String name, CyclicBarrier barrier) {
+    return new BeanMetaData(Object.class)
+        .withApplicationScoped(true)
+        .withAnnotation(AnnotationFactory.createCreateImmediately())
+        .withProducer((IBeanInstanceProducer<Object>) bean -> {
+          if (barrier != null) {
+            try {
+              barrier.await(30, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+              throw new PlatformException("Bean '{}' was not created concurrently", name, e);
+            }
+          }
+          m_threads.put(name, Thread.currentThread());
+          m_creatingBeans.put(name, CreateImmediatelyBeanInitializer.isCreatingBeans());
+          m_created.add(name);
+          return new Object();
+        });
+  }
+
+  protected IBean<?> createBean(BeanMetaData beanData) {
+    return new BeanImplementor<>(beanData);
+  }
+
+  private static class P_SequentialCreateImmediately implements CreateImmediately {
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+      return CreateImmediately.class;
+    }
+
+    @Override
+    public boolean parallel() {
+      return false;
+    }
+  }
+}
@@ -15,11 +15,14 @@ import static org.junit.Assert.*;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +35,8 @@ import org.eclipse.scout.rt.platform.util.SleepUtil;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
 import org.junit.Test;
 
 public class JandexInventoryBuilderTest {
@@ -186,6 +191,74 @@ public class JandexInventoryBuilderTest {
     assertTrue(indexFile.exists());
   }
 
+  @Test
+  public void testScanAllModulesFromSnapshot() throws IOException {
+    Path snapshotFile = Files.createTempFile("jandex-snapshot", ".idx");
+    try {
+      new JandexInventorySnapshotWriter().write(snapshotFile);
+
+      JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, snapshotFile);
+      builder.scanAllModules();
+      assertEquals(1, builder.getIndexList().size());
+      IndexView index = builder.finish();
+      assertNotNull(index.getClassByName(DotName.createSimple(FixtureJandexInventoryObject.class.getName())));
+    }
+    finally {
+      Files.delete(snapshotFile);
+    }
+  }
+
+  @Test
+  public void testScanAllModulesWithOutdatedSnapshot() throws IOException {
+    Path snapshotFile = Files.createTempFile("jandex-snapshot", ".idx");
+    try {
+      new JandexInventorySnapshotWriter().write(snapshotFile);
+
+      // simulate a module whose index changed after the snapshot was written
+      JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, snapshotFile) {
+        @Override
+        protected long indexTimestamp(URI indexUri) {
+          return super.indexTimestamp(indexUri) + 1;
+        }
+      };
+      builder.scanAllModules();
+      assertEquals(builder.findIndexUris().size(), builder.getIndexList().size());
+      IndexView index = builder.finish();
+      assertNotNull(index.getClassByName(DotName.createSimple(FixtureJandexInventoryObject.class.getName())));
+    }
+    finally {
+      Files.delete(snapshotFile);
+    }
+  }
+
+  @Test
+  public void testScanAllModulesWithSnapshotWithoutFingerprint() throws IOException, URISyntaxException {
+    Path snapshotFile = Files.createTempFile("jandex-snapshot", ".idx");
+    try {
+      URL scoutXml = getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH);
+      JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, snapshotFile);
+      Index moduleIndex = builder.scanModuleUnsafe(builder.findIndexUri(scoutXml));
+      try (OutputStream out = Files.newOutputStream(snapshotFile)) {
+        new IndexWriter(out).write(moduleIndex);
+      }
+
+      builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, snapshotFile);
+      builder.scanAllModules();
+      assertEquals(builder.findIndexUris().size(), builder.getIndexList().size());
+    }
+    finally {
+      Files.delete(snapshotFile);
+    }
+  }
+
+  @Test
+  public void testScanAllModulesWithMissingSnapshot() {
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, Paths.get("does-not-exist.idx"));
+    builder.scanAllModules();
+    IndexView index = builder.finish();
+    assertNotNull(index.getClassByName(DotName.createSimple(FixtureJandexInventoryObject.class.getName())));
+  }
+
   @Test
   public void testFileLockLastModified() throws URISyntaxException, IOException {
     URL scoutXml = getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH);
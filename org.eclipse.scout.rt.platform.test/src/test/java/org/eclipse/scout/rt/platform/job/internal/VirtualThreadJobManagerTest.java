@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link VirtualThreadFactory} and {@link JobManager#createVirtualThreadExecutor()}. Skipped if the JVM does
+ * not support virtual threads.
+ */
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadJobManagerTest {
+
+  private JobManager m_jobManager;
+
+  @Before
+  public void before() {
+    assumeTrue(VirtualThreadFactory.isSupported());
+    m_jobManager = new JobManager() {
+      @Override
+      protected ExecutorService createExecutor() {
+        return createVirtualThreadExecutor();
+      }
+    };
+  }
+
+  @After
+  public void after() {
+    if (m_jobManager != null) {
+      m_jobManager.shutdown();
+    }
+  }
+
+  @Test
+  public void testRunsOnVirtualThread() {
+    final ThreadInfo[] threadInfo = new ThreadInfo[1];
+    final String[] threadName = new String[1];
+    m_jobManager.schedule(() -> {
+      threadInfo[0] = ThreadInfo.CURRENT.get();
+      threadName[0] = Thread.currentThread().getName();
+    }, Jobs.newInput()
+        .withName("virtual-thread-job"))
+        .awaitDoneAndGet(10, TimeUnit.SECONDS);
+
+    assertNotNull(threadInfo[0]);
+    assertTrue(threadName[0], threadName[0].startsWith("scout-thread"));
+  }
+
+  @Test
+  public void testRunContextPropagation() {
+    final Locale[] locale = new Locale[1];
+    m_jobManager.schedule(() -> {
+      locale[0] = NlsLocale.CURRENT.get();
+    }, Jobs.newInput()
+        .withRunContext(RunContexts.empty().withLocale(Locale.CHINESE)))
+        .awaitDoneAndGet(10, TimeUnit.SECONDS);
+
+    assertEquals(Locale.CHINESE, locale[0]);
+  }
+
+  @Test
+  public void testMutualExclusion() {
+    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    final AtomicInteger concurrent = new AtomicInteger();
+    final AtomicInteger maxConcurrent = new AtomicInteger();
+    final IRunnable runnable = () -> {
+      maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+      Thread.sleep(5);
+      concurrent.decrementAndGet();
+    };
+
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      futures.add(m_jobManager.schedule(runnable, Jobs.newInput()
+          .withExecutionSemaphore(semaphore)));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    }
+    assertEquals(1, maxConcurrent.get());
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    final IFuture<Void> future = m_jobManager.schedule(() -> Thread.sleep(TimeUnit.MINUTES.toMillis(1)), Jobs.newInput());
+    Thread.sleep(50);
+    assertTrue(future.cancel(true));
+    future.awaitDone(10, TimeUnit.SECONDS);
+    assertTrue(future.isCancelled());
+  }
+}
@@ -15,6 +15,7 @@ import static org.junit.Assert.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -540,6 +541,45 @@ public class IOUtilityTest {
     assertArrayEquals(expected, actual);
   }
 
+  @Test
+  public void testWriteFromFile() throws IOException {
+    byte[] content = new byte[100000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    File tempFile = null;
+    try {
+      tempFile = IOUtility.createTempFile(FILENAME, EXTENSION, content);
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      IOUtility.writeFromFile(out, tempFile, 0, content.length);
+      assertArrayEquals(content, out.toByteArray());
+
+      out = new ByteArrayOutputStream();
+      IOUtility.writeFromFile(out, tempFile, 70000, 20000);
+      assertArrayEquals(Arrays.copyOfRange(content, 70000, 90000), out.toByteArray());
+
+      out = new ByteArrayOutputStream();
+      IOUtility.writeFromFile(out, tempFile, 100, 0);
+      assertEquals(0, out.size());
+    }
+    finally {
+      IOUtility.deleteFile(tempFile);
+    }
+  }
+
+  @Test(expected = EOFException.class)
+  public void testWriteFromFileBeyondEnd() throws IOException {
+    File tempFile = null;
+    try {
+      tempFile = IOUtility.createTempFile(FILENAME, EXTENSION, CONTENT);
+      IOUtility.writeFromFile(new ByteArrayOutputStream(), tempFile, 2, CONTENT.length);
+    }
+    finally {
+      IOUtility.deleteFile(tempFile);
+    }
+  }
+
   @Test
   public void testWriteStringToStream() throws Exception {
     String expected = "0123äöü";
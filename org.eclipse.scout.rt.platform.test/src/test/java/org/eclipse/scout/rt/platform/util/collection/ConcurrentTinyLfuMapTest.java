@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConcurrentTinyLfuMap}
+ */
+public class ConcurrentTinyLfuMapTest {
+
+  @Test
+  public void testPutGetRemove() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(10);
+    assertNull(map.put(1, "a"));
+    assertEquals("a", map.put(1, "b"));
+    assertEquals("b", map.get(1));
+    assertEquals("b", map.putIfAbsent(1, "c"));
+    assertFalse(map.remove(1, "c"));
+    assertTrue(map.replace(1, "b", "c"));
+    assertEquals("c", map.remove(1));
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  @Test
+  public void testSizeBound() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100);
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, "v" + i);
+    }
+    assertEquals(100, map.size());
+    assertEquals(100, map.getWeightedSize());
+  }
+
+  @Test
+  public void testFrequentEntriesSurviveScan() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100);
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 50; i++) {
+        getOrPut(map, i);
+      }
+    }
+    // a scan of entries which are requested only once must not flush the frequently used entries
+    for (int i = 1000; i < 1200; i++) {
+      getOrPut(map, i);
+    }
+    for (int i = 0; i < 50; i++) {
+      assertTrue("entry " + i + " evicted", map.containsKey(i));
+    }
+  }
+
+  @Test
+  public void testWeigher() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(new ConcurrentHashMap<>(), 100, (key, value) -> value.length(), -1, false);
+    for (int i = 0; i < 100; i++) {
+      map.put(i, "0123456789");
+    }
+    assertTrue(map.size() <= 10);
+    assertTrue(map.getWeightedSize() <= 100);
+  }
+
+  @Test
+  public void testWeigherWithLargeMaximumWeight() {
+    // e.g. a 100MB cache weighed in bytes
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(new ConcurrentHashMap<>(), 100L * 1024 * 1024, (key, value) -> 1024, -1, false);
+    assertEquals(16, map.getFrequencySketch().tableLength());
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, "v" + i);
+    }
+    assertEquals(1000, map.size());
+    assertEquals(1024, map.getFrequencySketch().tableLength());
+  }
+
+  @Test
+  public void testTimeToLive() throws InterruptedException {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(new ConcurrentHashMap<>(), 10, null, 1, false);
+    map.put(1, "a");
+    Thread.sleep(10);
+    assertNull(map.get(1));
+    assertFalse(map.containsKey(1));
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  @Test
+  public void testEvictionListener() {
+    List<Integer> evicted = new ArrayList<>();
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(10);
+    map.setEvictionListener((key, value) -> evicted.add(key));
+    for (int i = 0; i < 20; i++) {
+      map.put(i, "v" + i);
+    }
+    assertEquals(10, evicted.size());
+    map.remove(19);
+    assertEquals("explicit removal is no eviction", 10, evicted.size());
+  }
+
+  @Test
+  public void testRefresher() {
+    List<Integer> refreshed = new ArrayList<>();
+    AtomicLong time = new AtomicLong(1000);
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<Integer, String>(new ConcurrentHashMap<>(), -1, null, -1, false) {
+      @Override
+      protected long currentTimeMillis() {
+        return time.get();
+      }
+    };
+    map.setRefresher(100, (key, value) -> refreshed.add(key));
+    map.put(1, "a");
+    assertEquals("a", map.get(1));
+    assertTrue(refreshed.isEmpty());
+
+    time.addAndGet(101);
+    assertEquals("stale value is returned", "a", map.get(1));
+    assertEquals("stale value is refreshed once per interval", "a", map.get(1));
+    assertEquals(1, refreshed.size());
+
+    time.addAndGet(101);
+    assertEquals("a", map.get(1));
+    assertEquals("refreshed again in the next interval", 2, refreshed.size());
+
+    map.replace(1, "a", "b");
+    assertEquals("b", map.get(1));
+    assertEquals(2, refreshed.size());
+  }
+
+  @Test
+  public void testEntrySetRemove() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100);
+    for (int i = 0; i < 10; i++) {
+      map.put(i, "v" + i);
+    }
+    map.entrySet().removeIf(entry -> entry.getKey() % 2 == 0);
+    assertEquals(5, map.size());
+    assertEquals(5, map.getWeightedSize());
+    map.clear();
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  private static void getOrPut(ConcurrentTinyLfuMap<Integer, String> map, int key) {
+    if (map.get(key) == null) {
+      map.put(key, "v" + key);
+    }
+  }
+}
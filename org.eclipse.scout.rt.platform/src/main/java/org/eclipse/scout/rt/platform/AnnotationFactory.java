@@ -44,6 +44,11 @@ public final class AnnotationFactory {
       return CreateImmediately.class;
     }
 
+    @Override
+    public boolean parallel() {
+      return true;
+    }
+
     @Override
     public boolean equals(Object obj) {
       if (this == obj) {
@@ -52,12 +57,13 @@ public final class AnnotationFactory {
       if (obj == null) {
         return false;
       }
-      return obj instanceof CreateImmediately;
+      return obj instanceof CreateImmediately && ((CreateImmediately) obj).parallel() == parallel();
     }
 
     @Override
     public int hashCode() {
-      return 0;
+      // as specified by Annotation#hashCode()
+      return (127 * "parallel".hashCode()) ^ Boolean.hashCode(parallel());
     }
   };
 
@@ -19,10 +19,27 @@ import java.lang.annotation.Target;
 /**
  * Indicates that an 'application-scoped' bean should be instantiated immediately upon platform startup. However, the
  * bean must be declared as 'application-scoped', otherwise platform startup fails.
+ * <p>
+ * Beans are created concurrently unless they declare an {@link Order} or opt out with {@link #parallel()}. Beans
+ * declaring an {@link Order} are created one after another according to their order, before the others. In any case
+ * all beans are created before the platform is started and other threads can access beans.
+ * <p>
+ * <b>Migration note:</b> before concurrent creation was introduced, all beans were created one after another in the
+ * thread starting the platform. Since {@link #parallel()} defaults to {@code true}, existing beans without an
+ * {@link Order} are now created concurrently. Beans relying on side effects of other beans (e.g. static state or
+ * registrations not obtained through {@code BEANS}) must declare {@code parallel = false}. Alternatively the config
+ * property {@code scout.createImmediately.parallel=false} restores the previous behavior for all beans.
  */
 @Bean // do not remove to enforce validation on platform startup.
 @Inherited
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface CreateImmediately {
+
+  /**
+   * @return {@code false} if the bean must not be created concurrently with other beans, e.g. because its
+   *         initialization depends on the side effects of other beans. Such beans are created one after another
+   *         according to their {@link Order}, before the others.
+   */
+  boolean parallel() default true;
 }
@@ -30,6 +30,8 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
  * <li>This cache is only thread safe if the provided cacheMap is thread safe.
  * <li>There might be multiple concurrent resolve operations running for the same key unless one is using
  * {@link BoundedResolveCacheWrapper} to limit these operations.
+ * <li>If {@link CacheStatistics} are provided, hits, misses and resolve times are recorded. They are available using
+ * {@link #getAdapter(Class)}.
  * </ul>
  *
  * @since 5.2
@@ -40,12 +42,23 @@ public class BasicCache<K, V> implements ICache<K, V> {
   private final ICacheValueResolver<K, V> m_resolver;
   private final Map<K, V> m_cacheMap;
   private final boolean m_atomicInsertion;
+  private final CacheStatistics m_statistics;
 
   public BasicCache(String cacheId, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, boolean atomicInsertion) {
+    this(cacheId, resolver, cacheMap, atomicInsertion, null);
+  }
+
+  /**
+   * @param statistics
+   *          may be <code>null</code> if no statistics are recorded
+   * @since 10.0
+   */
+  public BasicCache(String cacheId, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, boolean atomicInsertion, CacheStatistics statistics) {
     m_cacheId = Assertions.assertNotNullOrEmpty(cacheId);
     m_resolver = Assertions.assertNotNull(resolver);
     m_cacheMap = Assertions.assertNotNull(cacheMap);
     m_atomicInsertion = atomicInsertion;
+    m_statistics = statistics;
     if (m_atomicInsertion && !(cacheMap instanceof ConcurrentMap)) {
       throw new IllegalArgumentException("To use atomic insertions cacheMap must implement ConcurrentMap interface");
     }
@@ -59,6 +72,13 @@ public class BasicCache<K, V> implements ICache<K, V> {
     return m_cacheMap;
   }
 
+  /**
+   * @return statistics of this cache or <code>null</code> if statistics are not recorded
+   */
+  protected CacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
   @Override
   public String getCacheId() {
     return m_cacheId;
@@ -75,16 +95,23 @@ public class BasicCache<K, V> implements ICache<K, V> {
       return null;
     }
     V value = m_cacheMap.get(key);
-    if (value == null) {
-      value = m_resolver.resolve(key);
-      if (value != null) {
-        if (m_atomicInsertion) {
-          V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
-          value = alreadySetValue != null ? alreadySetValue : value;
-        }
-        else {
-          m_cacheMap.put(key, value);
-        }
+    if (value != null) {
+      if (m_statistics != null) {
+        m_statistics.recordHits(1);
+      }
+      return value;
+    }
+    if (m_statistics != null) {
+      m_statistics.recordMisses(1);
+    }
+    value = resolve(key);
+    if (value != null) {
+      if (m_atomicInsertion) {
+        V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
+        value = alreadySetValue != null ? alreadySetValue : value;
+      }
+      else {
+        m_cacheMap.put(key, value);
       }
     }
     return value;
@@ -105,11 +132,15 @@ public class BasicCache<K, V> implements ICache<K, V> {
         iterator.remove();
       }
     }
+    if (m_statistics != null) {
+      m_statistics.recordHits(result.size());
+      m_statistics.recordMisses(keys.size());
+    }
     if (keys.isEmpty()) {
       // all keys could be resolved with cache
       return result;
     }
-    Map<K, V> resolvedValues = m_resolver.resolveAll(keys);
+    Map<K, V> resolvedValues = resolveAll(keys);
     for (Iterator<Entry<K, V>> iterator = resolvedValues.entrySet().iterator(); iterator.hasNext();) {
       Entry<K, V> entry = iterator.next();
       // remove any null values from the resolved values map
@@ -130,6 +161,38 @@ public class BasicCache<K, V> implements ICache<K, V> {
     return result;
   }
 
+  protected V resolve(K key) {
+    if (m_statistics == null) {
+      return m_resolver.resolve(key);
+    }
+    long start = System.nanoTime();
+    try {
+      V value = m_resolver.resolve(key);
+      m_statistics.recordLoadSuccess(System.nanoTime() - start);
+      return value;
+    }
+    catch (RuntimeException e) {
+      m_statistics.recordLoadFailure(System.nanoTime() - start);
+      throw e;
+    }
+  }
+
+  protected Map<K, V> resolveAll(Set<K> keys) {
+    if (m_statistics == null) {
+      return m_resolver.resolveAll(keys);
+    }
+    long start = System.nanoTime();
+    try {
+      Map<K, V> values = m_resolver.resolveAll(keys);
+      m_statistics.recordLoadSuccess(System.nanoTime() - start);
+      return values;
+    }
+    catch (RuntimeException e) {
+      m_statistics.recordLoadFailure(System.nanoTime() - start);
+      throw e;
+    }
+  }
+
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
     if (filter instanceof AllCacheEntryFilter) {
@@ -148,6 +211,9 @@ public class BasicCache<K, V> implements ICache<K, V> {
 
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    if (m_statistics != null && clazz == CacheStatistics.class) {
+      return clazz.cast(m_statistics);
+    }
     return null;
   }
 }
@@ -12,9 +12,12 @@ package org.eclipse.scout.rt.platform.cache;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Semaphore;
 
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 
 /**
@@ -35,6 +38,9 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
 
   @Override
   public V get(K key) {
+    if (key == null) {
+      return null;
+    }
     V value = getUnmodifiableMap().get(key);
     if (value != null) {
       return value;
@@ -55,19 +61,24 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
     }
   }
 
+  /**
+   * Cache misses are resolved in one bulk operation ({@link ICacheValueResolver#resolveAll(java.util.Set)}) which
+   * occupies a single resolve permit.
+   */
   @Override
   public Map<K, V> getAll(Collection<? extends K> keys) {
+    Set<K> missingKeys = CollectionUtility.hashSetWithoutNullElements(keys);
     Map<K, V> cacheMap = getUnmodifiableMap();
     Map<K, V> result = new HashMap<>();
-    for (K key : keys) {
+    for (Iterator<K> iterator = missingKeys.iterator(); iterator.hasNext();) {
+      K key = iterator.next();
       V value = cacheMap.get(key);
-      if (value == null) {
-        // not all keys can be looked up without resolve. call super anyway
-        break;
+      if (value != null) {
+        result.put(key, value);
+        iterator.remove();
       }
-      result.put(key, cacheMap.get(key));
     }
-    if (result.size() == keys.size()) {
+    if (missingKeys.isEmpty()) {
       return result;
     }
     try {
@@ -76,10 +87,12 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
     catch (InterruptedException e) {
       // interrupted, mark thread again as interrupted and resolve without a semaphore anyway
       Thread.currentThread().interrupt();
-      return super.getAll(keys);
+      result.putAll(super.getAll(missingKeys));
+      return result;
     }
     try {
-      return super.getAll(keys);
+      result.putAll(super.getAll(missingKeys));
+      return result;
     }
     finally {
       m_semaphore.release();
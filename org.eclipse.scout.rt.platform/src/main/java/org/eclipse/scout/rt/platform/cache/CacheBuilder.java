@@ -18,12 +18,17 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntBiFunction;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
 
@@ -49,6 +54,11 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
   private Integer m_maxConcurrentResolve;
+  private boolean m_frequencyBasedEviction;
+  private Long m_maximumWeight;
+  private ICacheWeigher<K, V> m_weigher;
+  private Long m_refreshAfterWrite;
+  private boolean m_statistics;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
 
@@ -67,6 +77,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     }
     Map<K, V> cacheMap = createCacheMap();
     ICache<K, V> cache = createBasicCache(cacheMap);
+    initCacheMap(cacheMap, cache);
     cache = addBeforeCustomWrappers(cache);
     cache = addCustomWrappers(cache);
     cache = addAfterCustomWrappers(cache);
@@ -94,6 +105,9 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected Map<K, V> createCacheMap() {
+    if (isCreateTinyLfuMap()) {
+      return createTinyLfuMap();
+    }
     if (!isCreateExpiringMap() && isTransactional() && !isAtomicInsertion() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
@@ -122,8 +136,65 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return getTimeToLive() != null || getSizeBound() != null;
   }
 
+  /**
+   * @return <code>true</code> if one of the options requiring the {@link ConcurrentTinyLfuMap} is set
+   */
+  protected boolean isCreateTinyLfuMap() {
+    return (isFrequencyBasedEviction() && getSizeBound() != null) || getMaximumWeight() != null || getRefreshAfterWrite() != null;
+  }
+
+  protected Map<K, V> createTinyLfuMap() {
+    long maximumWeight = getMaximumWeight() != null ? getMaximumWeight() : NumberUtility.nvl(getSizeBound(), -1);
+    ICacheWeigher<K, V> weigher = getWeigher();
+    ToIntBiFunction<K, V> weigherFunction = weigher != null ? weigher::weigh : null;
+    long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
+    return new ConcurrentTinyLfuMap<>(this.createConcurrentMap(), maximumWeight, weigherFunction, timeToLive, isTouchOnGet());
+  }
+
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getValueResolver(), cacheMap, isAtomicInsertion());
+    return new BasicCache<>(getCacheId(), getValueResolver(), cacheMap, isAtomicInsertion(), createStatistics());
+  }
+
+  /**
+   * @return new statistics if enabled for this cache, else <code>null</code>
+   */
+  protected CacheStatistics createStatistics() {
+    return isStatistics() ? new CacheStatistics(getCacheId()) : null;
+  }
+
+  /**
+   * Connects the cache map with the basic cache: evictions are recorded in the statistics and stale entries are
+   * refreshed ahead using the value resolver of the basic cache.
+   */
+  protected void initCacheMap(Map<K, V> cacheMap, ICache<K, V> basicCache) {
+    if (!(cacheMap instanceof ConcurrentTinyLfuMap)) {
+      return;
+    }
+    ConcurrentTinyLfuMap<K, V> map = (ConcurrentTinyLfuMap<K, V>) cacheMap;
+    CacheStatistics statistics = basicCache.getAdapter(CacheStatistics.class);
+    if (statistics != null) {
+      map.setEvictionListener((key, value) -> statistics.recordEviction());
+    }
+    if (getRefreshAfterWrite() != null && basicCache instanceof BasicCache) {
+      ICacheValueResolver<K, V> resolver = ((BasicCache<K, V>) basicCache).getResolver();
+      map.setRefresher(getRefreshAfterWrite(), (key, oldValue) -> scheduleRefresh(map, resolver, key, oldValue));
+    }
+  }
+
+  /**
+   * Resolves the value of a stale entry asynchronously. The new value is only stored if the entry was not changed or
+   * invalidated in the meantime.
+   */
+  protected void scheduleRefresh(ConcurrentTinyLfuMap<K, V> map, ICacheValueResolver<K, V> resolver, K key, V oldValue) {
+    Jobs.schedule(() -> {
+      V newValue = resolver.resolve(key);
+      if (newValue != null) {
+        map.replace(key, oldValue, newValue);
+      }
+    }, Jobs.newInput()
+        .withName("Refreshing cache entry [cacheId={}]", getCacheId())
+        .withRunContext(RunContexts.copyCurrent(true)
+            .withTransactionScope(TransactionScope.REQUIRES_NEW)));
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
@@ -326,6 +397,65 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_maxConcurrentResolve;
   }
 
+  @Override
+  public CacheBuilder<K, V> withFrequencyBasedEviction(boolean frequencyBasedEviction) {
+    m_frequencyBasedEviction = frequencyBasedEviction;
+    return this;
+  }
+
+  public boolean isFrequencyBasedEviction() {
+    return m_frequencyBasedEviction;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ICacheWeigher<K, V> weigher) {
+    if (maximumWeight != null && maximumWeight < 0L) {
+      throw new IllegalArgumentException("maximumWeight cannot be negative");
+    }
+    m_maximumWeight = maximumWeight;
+    m_weigher = maximumWeight != null ? weigher : null;
+    return this;
+  }
+
+  public Long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  public ICacheWeigher<K, V> getWeigher() {
+    return m_weigher;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withRefreshAfterWrite(Long refreshDuration, TimeUnit refreshUnit) {
+    if (refreshDuration == null || refreshUnit == null) {
+      m_refreshAfterWrite = null;
+    }
+    else {
+      if (refreshDuration < 0L) {
+        throw new IllegalArgumentException("refreshDuration cannot be negative");
+      }
+      m_refreshAfterWrite = refreshUnit.toMillis(refreshDuration);
+    }
+    return this;
+  }
+
+  /**
+   * @return refresh interval in milliseconds
+   */
+  public Long getRefreshAfterWrite() {
+    return m_refreshAfterWrite;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withStatistics(boolean statistics) {
+    m_statistics = statistics;
+    return this;
+  }
+
+  public boolean isStatistics() {
+    return m_statistics;
+  }
+
   @Override
   public CacheBuilder<K, V> withAdditionalCustomWrapper(Class<? extends ICache> cacheClass, Object... arguments) {
     if (cacheClass != null) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a single cache: hits, misses, evictions and value resolve times.
+ * <p>
+ * Use {@link ICacheBuilder#withStatistics(boolean)} to enable statistics for a cache. The statistics of a cache are
+ * available using <code>cache.getAdapter(CacheStatistics.class)</code> and for all caches using
+ * {@link ICacheRegistryService#getStatistics()}.
+ *
+ * @since 10.0
+ */
+public class CacheStatistics {
+
+  private final String m_cacheId;
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final LongAdder m_loadSuccessCount = new LongAdder();
+  private final LongAdder m_loadFailureCount = new LongAdder();
+  private final LongAdder m_totalLoadTime = new LongAdder();
+
+  public CacheStatistics(String cacheId) {
+    m_cacheId = cacheId;
+  }
+
+  public String getCacheId() {
+    return m_cacheId;
+  }
+
+  public void recordHits(int count) {
+    m_hitCount.add(count);
+  }
+
+  public void recordMisses(int count) {
+    m_missCount.add(count);
+  }
+
+  public void recordEviction() {
+    m_evictionCount.increment();
+  }
+
+  /**
+   * @param loadTime
+   *          time in nanoseconds used to resolve the values
+   */
+  public void recordLoadSuccess(long loadTime) {
+    m_loadSuccessCount.increment();
+    m_totalLoadTime.add(loadTime);
+  }
+
+  /**
+   * @param loadTime
+   *          time in nanoseconds until the resolve failed
+   */
+  public void recordLoadFailure(long loadTime) {
+    m_loadFailureCount.increment();
+    m_totalLoadTime.add(loadTime);
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return ratio of hits to all requests, <code>1</code> if there were no requests yet
+   */
+  public double getHitRatio() {
+    long hits = getHitCount();
+    long requests = hits + getMissCount();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  public long getLoadSuccessCount() {
+    return m_loadSuccessCount.sum();
+  }
+
+  public long getLoadFailureCount() {
+    return m_loadFailureCount.sum();
+  }
+
+  /**
+   * @return total time spent resolving values in milliseconds
+   */
+  public long getTotalLoadTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_totalLoadTime.sum());
+  }
+
+  /**
+   * @return average time spent resolving values in milliseconds, <code>0</code> if nothing was resolved yet
+   */
+  public double getAverageLoadPenaltyMillis() {
+    long loads = getLoadSuccessCount() + getLoadFailureCount();
+    return loads == 0 ? 0.0 : m_totalLoadTime.sum() / (loads * 1e6);
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics [cacheId=" + m_cacheId + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount()
+        + ", loadSuccesses=" + getLoadSuccessCount() + ", loadFailures=" + getLoadFailureCount() + ", totalLoadTimeMillis=" + getTotalLoadTimeMillis() + "]";
+  }
+}
@@ -10,11 +10,19 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.IAdaptable;
 
 /**
@@ -65,6 +73,38 @@ public interface ICache<K, V> extends IAdaptable {
    */
   Map<K, V> getAll(Collection<? extends K> keys);
 
+  /**
+   * Like {@link #get(Object)} but resolves the value asynchronously in a job. The job runs on behalf of a copy of the
+   * current {@link RunContext} in a new transaction.
+   *
+   * @param key
+   *          if null, the future's result is null.
+   * @return future to wait for the value
+   * @since 10.0
+   */
+  default IFuture<V> getAsync(K key) {
+    RunContext runContext = RunContext.CURRENT.get() != null ? RunContext.CURRENT.get().copy() : RunContexts.empty();
+    return Jobs.schedule(() -> get(key), Jobs.newInput()
+        .withName("Resolving cache value [cacheId={}]", getCacheId())
+        .withRunContext(runContext.withTransactionScope(TransactionScope.REQUIRES_NEW)));
+  }
+
+  /**
+   * Like {@link #getAll(Collection)} but resolves the values asynchronously in a job. All cache misses are resolved
+   * with one call to {@link ICacheValueResolver#resolveAll(Set)}. The job runs on behalf of a copy of the current
+   * {@link RunContext} in a new transaction.
+   *
+   * @return future to wait for the values, the future's result is never null
+   * @since 10.0
+   */
+  default IFuture<Map<K, V>> getAllAsync(Collection<? extends K> keys) {
+    List<K> keyList = keys == null ? Collections.emptyList() : new ArrayList<>(keys);
+    RunContext runContext = RunContext.CURRENT.get() != null ? RunContext.CURRENT.get().copy() : RunContexts.empty();
+    return Jobs.schedule(() -> getAll(keyList), Jobs.newInput()
+        .withName("Resolving cache values [cacheId={}]", getCacheId())
+        .withRunContext(runContext.withTransactionScope(TransactionScope.REQUIRES_NEW)));
+  }
+
   /**
    * Invalidate cache entries corresponding to the given {@link ICacheEntryFilter}.
    *
@@ -14,8 +14,10 @@ import java.io.Serializable;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 
 /**
  * All caches should be build through this builder. After building a cache, <b>do not</b> surround it with another
@@ -195,6 +197,62 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve);
 
+  /**
+   * Selects the frequency-aware cache engine ({@link ConcurrentTinyLfuMap}) for a cache bounded by
+   * {@link #withSizeBound(Integer)}: new entries are only admitted into the cache if they are requested more often than
+   * the entry that would be evicted for them (W-TinyLFU). Reads do not take any lock. This protects frequently used
+   * entries against scans which flush the LRU policy.
+   * <p>
+   * Has no effect if no size bound is set.
+   *
+   * @param frequencyBasedEviction
+   *          (Default false)
+   * @return this builder
+   * @since 10.0
+   */
+  ICacheBuilder<K, V> withFrequencyBasedEviction(boolean frequencyBasedEviction);
+
+  /**
+   * If set to a non null value, the total weight of all cached values is bounded, for example to bound the memory used
+   * by a cache. The weight limit is <em>not</em> enforced exactly and is just a guidance value. Entries are evicted
+   * using the frequency-aware cache engine, see {@link #withFrequencyBasedEviction(boolean)}. If set, the option
+   * {@link #withSizeBound(Integer)} is ignored.
+   *
+   * @param maximumWeight
+   *          maximum total weight of all entries
+   * @param weigher
+   *          computes the weight of an entry, if <code>null</code> each entry has a weight of 1
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maximumWeight is negative
+   * @since 10.0
+   */
+  ICacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ICacheWeigher<K, V> weigher);
+
+  /**
+   * If both arguments are not null, a cache value which was resolved longer than the given duration ago is resolved
+   * again asynchronously when it is accessed (refresh-ahead). The access itself returns the current value and does not
+   * wait. The value is resolved in a job using a copy of the calling {@link RunContext}. Invalidated values are not
+   * refreshed.
+   * <p>
+   * Refresh-ahead uses the frequency-aware cache engine, see {@link #withFrequencyBasedEviction(boolean)}.
+   *
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if refreshDuration is negative
+   * @since 10.0
+   */
+  ICacheBuilder<K, V> withRefreshAfterWrite(Long refreshDuration, TimeUnit refreshUnit);
+
+  /**
+   * @param statistics
+   *          if true hits, misses, evictions and value resolve times of the cache are recorded. They are available
+   *          using {@link ICacheRegistryService#getStatistics()}. (Default false)
+   * @return this builder
+   * @since 10.0
+   */
+  ICacheBuilder<K, V> withStatistics(boolean statistics);
+
   /**
    * Adds an additional cache wrapper to the constructed cache instance. In the cache instance these additional wrappers
    * are ordered in the same sequence as they were added. The cache wrapper is created always through a constructor that
@@ -10,6 +10,9 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 
@@ -60,4 +63,13 @@ public interface ICacheRegistryService {
    */
   <K, V> ICache<K, V> opt(String cacheId);
 
+  /**
+   * @return statistics of all registered caches which record statistics (see
+   *         {@link ICacheBuilder#withStatistics(boolean)}), keyed by cache id. Never null.
+   * @since 10.0
+   */
+  default Map<String, CacheStatistics> getStatistics() {
+    return Collections.emptyMap();
+  }
+
 }
@@ -10,9 +10,9 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * In case of a cache miss, a value resolver is called to fetch or recompute the value corresponding to the given key.
@@ -29,11 +29,24 @@ public interface ICacheValueResolver<K, V> {
   V resolve(K key);
 
   /**
+   * Resolves all given keys at once. Called by {@link ICache#getAll(java.util.Collection)} for all cache misses.
+   * Resolvers backed by a database or a remote service should override this method and resolve all keys with a single
+   * query or call.
+   * <p>
+   * The default implementation calls {@link #resolve(Object)} for each key.
+   *
    * @param keys
    *          never null, empty or contains null elements
-   * @return non null modifiable map
+   * @return non null modifiable map, keys which could not be resolved are missing
    */
   default Map<K, V> resolveAll(Set<K> keys) {
-    return keys.stream().collect(Collectors.toMap(key -> key, this::resolve));
+    Map<K, V> result = new HashMap<>(keys.size());
+    for (K key : keys) {
+      V value = resolve(key);
+      if (value != null) {
+        result.put(key, value);
+      }
+    }
+    return result;
   }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Computes the weight of a cache entry, used by caches bounded by {@link ICacheBuilder#withMaximumWeight(Long, ICacheWeigher)}.
+ * For example the approximate memory footprint of the value in bytes.
+ *
+ * @since 10.0
+ */
+@FunctionalInterface
+public interface ICacheWeigher<K, V> {
+
+  /**
+   * @param key
+   *          never null
+   * @param value
+   *          never null
+   * @return weight of the entry, must not be negative
+   */
+  int weigh(K key, V value);
+}
@@ -146,6 +146,42 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JandexInventorySnapshotProperty extends AbstractPathConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jandex.inventorySnapshot";
+    }
+
+    @Override
+    public String description() {
+      return "Path to a merged Jandex index of all modules, written at build time by JandexInventorySnapshotWriter. "
+          + "If the file exists, it is memory-mapped at startup instead of reading the index of each module. "
+          + "If the modules on the classpath or the timestamps of their indexes changed since the snapshot was written, "
+          + "a warning is logged and the modules are scanned. By default no snapshot is used.";
+    }
+  }
+
+  public static class CreateImmediatelyParallelProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.createImmediately.parallel";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if beans annotated with @CreateImmediately are created concurrently on platform startup. "
+          + "Beans declaring an @Order or @CreateImmediately(parallel = false) are always created one after another. "
+          + "Set to false if existing beans rely on being created one after another as in previous releases. The default value is true.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.TRUE;
+    }
+  }
+
   public static class JobManagerCorePoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -241,6 +277,30 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies whether jobs should run on virtual threads instead of a pool of platform threads. Requires Java 21 or newer, otherwise the thread pool is used.\n"
+          + "If enabled, the properties '%s', '%s', '%s' and '%s' are ignored. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerKeepAliveTimeProperty.class).getKey(),
+          BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
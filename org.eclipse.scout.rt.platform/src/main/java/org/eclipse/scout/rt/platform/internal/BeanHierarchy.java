@@ -20,8 +20,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.Order;
@@ -30,21 +28,22 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * All beans implementing a type.
+ * <p>
+ * Modifications are synchronized on this instance. The result of {@link #querySingle()} and {@link #queryAll()} is
+ * computed once after each modification and published as an immutable {@link QueryResult}, so that queries do neither
+ * lock nor allocate.
  */
 public class BeanHierarchy<T> {
 
   private final Class<T> m_clazz;
   private final Set<IBean<T>> m_beans;
-  private final ReadWriteLock m_queryCacheLock;
 
-  private List<IBean<T>> m_single;
-  private List<IBean<T>> m_all;
+  private volatile QueryResult<T> m_queryResult;
 
   public BeanHierarchy(Class<T> clazz) {
     m_clazz = clazz;
     m_beans = new HashSet<>();
-    m_queryCacheLock = new ReentrantReadWriteLock();
   }
 
   public Class<T> getClazz() {
@@ -52,10 +51,17 @@ public class BeanHierarchy<T> {
   }
 
   /**
-   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace}
+   * @return a copy of all beans in this hierarchy regardless of {@link Order} and {@link Replace}
    */
-  public Set<IBean<T>> getBeans() {
-    return m_beans;
+  public synchronized Set<IBean<T>> getBeans() {
+    return new HashSet<>(m_beans);
+  }
+
+  /**
+   * @return {@code true} if this hierarchy contains no beans
+   */
+  public synchronized boolean isEmpty() {
+    return m_beans.isEmpty();
   }
 
   /**
@@ -65,19 +71,22 @@ public class BeanHierarchy<T> {
    *          {@code beanClazz}.
    */
   public IBean<T> getExactBean(Class<?> beanClazz) {
-    List<IBean<T>> beans = CollectionUtility.arrayList(m_beans);
+    List<IBean<T>> beans;
+    synchronized (this) {
+      beans = CollectionUtility.arrayList(m_beans);
+    }
     beans.sort(ORDER_COMPARATOR);
     return getExactBean(beans, beanClazz);
   }
 
-  public void addBean(IBean<T> bean) {
-    invalidate();
+  public synchronized void addBean(IBean<T> bean) {
     m_beans.add(bean);
+    invalidate();
   }
 
-  public void removeBean(IBean<T> bean) {
-    invalidate();
+  public synchronized void removeBean(IBean<T> bean) {
     m_beans.remove(bean);
+    invalidate();
   }
 
   /**
@@ -86,7 +95,7 @@ public class BeanHierarchy<T> {
    *         part of the result. Also if C extends A without {@link Replace} then C is not part of the result.
    */
   public List<IBean<T>> querySingle() {
-    return query(true);
+    return query().getSingle();
   }
 
   /**
@@ -95,133 +104,116 @@ public class BeanHierarchy<T> {
    *         result. But if C extends A without {@link Replace} then C is part of the result.
    */
   public List<IBean<T>> queryAll() {
-    return query(false);
+    return query().getAll();
   }
 
-  protected void invalidate() {
-    m_queryCacheLock.writeLock().lock();
-    try {
-      m_single = null;
-      m_all = null;
+  protected synchronized void invalidate() {
+    m_queryResult = null;
+  }
+
+  /**
+   * @return the current {@link QueryResult}. It is only computed if the beans of this hierarchy changed since the last
+   *         query.
+   */
+  protected QueryResult<T> query() {
+    QueryResult<T> result = m_queryResult;
+    if (result != null) {
+      return result;
     }
-    finally {
-      m_queryCacheLock.writeLock().unlock();
+    synchronized (this) {
+      result = m_queryResult;
+      if (result == null) {
+        result = computeQueryResult();
+        m_queryResult = result;
+      }
+      return result;
     }
   }
 
   @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
-  protected List<IBean<T>> query(boolean querySingle) {
-    boolean isInitialized = false;
-    m_queryCacheLock.readLock().lock();
-    try {
-      isInitialized = m_single != null && m_all != null;
-    }
-    finally {
-      m_queryCacheLock.readLock().unlock();
+  protected QueryResult<T> computeQueryResult() {
+    List<IBean<T>> list = new ArrayList<>(m_beans);
+    //sort by Order ascending
+    list.sort(ORDER_COMPARATOR);
+
+    //remove duplicate registered classes, keep only bean with lowest order
+    Set<Class<?>> seenBeans = new HashSet<>();
+    for (Iterator<IBean<T>> it = list.iterator(); it.hasNext();) {
+      IBean<T> bean = it.next();
+      if (seenBeans.contains(bean.getBeanClazz())) {
+        it.remove();
+      }
+      else {
+        seenBeans.add(bean.getBeanClazz());
+      }
     }
 
-    if (!isInitialized) {
-      m_queryCacheLock.writeLock().lock();
-      try {
-        isInitialized = m_single != null && m_all != null;
-        if (!isInitialized) {
-          List<IBean<T>> list = new ArrayList<>(m_beans);
-          //sort by Order ascending
-          list.sort(ORDER_COMPARATOR);
-
-          //remove duplicate registered classes, keep only bean with lowest order
-          Set<Class<?>> seenBeans = new HashSet<>();
-          for (Iterator<IBean<T>> it = list.iterator(); it.hasNext();) {
-            IBean<T> bean = it.next();
-            if (seenBeans.contains(bean.getBeanClazz())) {
-              it.remove();
-            }
-            else {
-              seenBeans.add(bean.getBeanClazz());
-            }
-          }
-
-          //manage replaced beans
-          final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
-          for (IBean<T> bean : list) {
-            if (bean.hasAnnotation(Replace.class)) {
-              Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
-              Class<?> superClazz = bean.getBeanClazz().getSuperclass();
-              Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
-
-              IBean<?> existingBean = extendsMap.get(superClazz);
-              if (existingBean == null) {
-                //only add if first to override, respects @Order annotation
-                extendsMap.put(superClazz, bean);
-              }
-              else {
-                // there is no calculation performed on bean orders (typically these are literals).
-                // therefore we accept direct equality check without epsilon.
-                Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
-                    "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
-                    existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
-              }
-            }
-          }
-
-          //find most specific version of @Replaced class
-          Class<T> refClazz = m_clazz;
-          while (extendsMap.containsKey(refClazz)) {
-            refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
-          }
-
-          //remove replaced beans
-          list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
-
-          if (list.isEmpty()) {
-            m_all = Collections.emptyList();
-            m_single = Collections.emptyList();
-          }
-          else {
-            m_all = Collections.unmodifiableList(new ArrayList<>(list));
-
-            IBean<T> exactBean = getExactBean(list, refClazz);
-            if (exactBean != null) {
-              // we have an exact match: use it
-              m_single = Collections.singletonList(exactBean);
-            }
-            else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
-              // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-              m_single = Collections.emptyList();
-            }
-            else if (list.size() == 1) {
-              m_single = Collections.singletonList(list.get(0));
-            }
-            else {
-              //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
-              List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
-              Iterator<IBean<T>> iterator = list.iterator();
-
-              // first bean
-              IBean<T> curBean = iterator.next();
-              double lowestOrder = orderOf(curBean);
-              lowestOrderBeans.add(curBean);
-
-              // all others having the same order
-              while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
-                lowestOrderBeans.add(curBean);
-              }
-              m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
-            }
-          }
+    //manage replaced beans
+    final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
+    for (IBean<T> bean : list) {
+      if (bean.hasAnnotation(Replace.class)) {
+        Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
+        Class<?> superClazz = bean.getBeanClazz().getSuperclass();
+        Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
+
+        IBean<?> existingBean = extendsMap.get(superClazz);
+        if (existingBean == null) {
+          //only add if first to override, respects @Order annotation
+          extendsMap.put(superClazz, bean);
+        }
+        else {
+          // there is no calculation performed on bean orders (typically these are literals).
+          // therefore we accept direct equality check without epsilon.
+          Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
+              "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
+              existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
         }
-      }
-      finally {
-        m_queryCacheLock.writeLock().unlock();
       }
     }
 
-    if (querySingle) {
-      return m_single;
+    //find most specific version of @Replaced class
+    Class<T> refClazz = m_clazz;
+    while (extendsMap.containsKey(refClazz)) {
+      refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
     }
-    return m_all;
+
+    //remove replaced beans
+    list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
+
+    if (list.isEmpty()) {
+      return new QueryResult<>(Collections.emptyList(), Collections.emptyList());
+    }
+
+    List<IBean<T>> all = Collections.unmodifiableList(new ArrayList<>(list));
+    IBean<T> exactBean = getExactBean(list, refClazz);
+    if (exactBean != null) {
+      // we have an exact match: use it
+      return new QueryResult<>(Collections.singletonList(exactBean), all);
+    }
+    if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
+      // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
+      return new QueryResult<>(Collections.emptyList(), all);
+    }
+    if (list.size() == 1) {
+      return new QueryResult<>(Collections.singletonList(list.get(0)), all);
+    }
+
+    //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
+    List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
+    Iterator<IBean<T>> iterator = list.iterator();
+
+    // first bean
+    IBean<T> curBean = iterator.next();
+    double lowestOrder = orderOf(curBean);
+    lowestOrderBeans.add(curBean);
+
+    // all others having the same order
+    while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
+      lowestOrderBeans.add(curBean);
+    }
+    return new QueryResult<>(Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans)), all);
   }
 
   /**
@@ -256,4 +248,25 @@ public class BeanHierarchy<T> {
     }
     return IBean.DEFAULT_BEAN_ORDER;
   }
+
+  /**
+   * Immutable result of {@link BeanHierarchy#querySingle()} and {@link BeanHierarchy#queryAll()}.
+   */
+  protected static final class QueryResult<T> {
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    QueryResult(List<IBean<T>> single, List<IBean<T>> all) {
+      m_single = single;
+      m_all = all;
+    }
+
+    public List<IBean<T>> getSingle() {
+      return m_single;
+    }
+
+    public List<IBean<T>> getAll() {
+      return m_all;
+    }
+  }
 }
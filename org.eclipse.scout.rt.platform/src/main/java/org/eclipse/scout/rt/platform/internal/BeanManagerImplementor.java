@@ -14,12 +14,12 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -28,6 +28,7 @@ import org.eclipse.scout.rt.platform.CreateImmediately;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.exception.InitializationException;
 import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
 import org.eclipse.scout.rt.platform.interceptor.internal.BeanProxyImplementor;
@@ -37,6 +38,11 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Registrations are serialized by the write lock of {@link #getReadWriteLock()}. Lookups do not lock: the bean
+ * hierarchies are kept in a concurrent map and each {@link BeanHierarchy} publishes its precomputed query result as an
+ * immutable snapshot.
+ */
 public class BeanManagerImplementor implements IBeanManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(BeanManagerImplementor.class);
@@ -51,7 +57,7 @@ public class BeanManagerImplementor implements IBeanManager {
 
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
-    m_beanHierarchies = new HashMap<>();
+    m_beanHierarchies = new ConcurrentHashMap<>();
     m_beanDecorationFactory = f;
   }
 
@@ -64,39 +70,27 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
-    finally {
-      m_lock.readLock().unlock();
+    else {
+      List<IBean<T>> singleBean = h.querySingle();
+      return getDecoratedBeans(singleBean, beanClazz);
     }
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
-    }
-    finally {
-      m_lock.readLock().unlock();
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> allBeans = h.queryAll();
+    return getDecoratedBeans(allBeans, beanClazz);
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -193,33 +187,21 @@ public class BeanManagerImplementor implements IBeanManager {
   @Override
   @SuppressWarnings("unchecked")
   public <T> List<IBean<T>> getRegisteredBeans(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return CollectionUtility.emptyArrayList();
-      }
-      return new ArrayList<>(h.getBeans());
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return CollectionUtility.emptyArrayList();
     }
+    return new ArrayList<>(h.getBeans());
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> IBean<T> getRegisteredBean(Class<?> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(beanClazz);
-      if (h != null) {
-        return h.getExactBean(beanClazz);
-      }
-      return null;
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy h = m_beanHierarchies.get(beanClazz);
+    if (h != null) {
+      return h.getExactBean(beanClazz);
     }
+    return null;
   }
 
   @Override
@@ -269,14 +251,8 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(clazz);
-      return h != null && !h.getBeans().isEmpty();
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    BeanHierarchy h = m_beanHierarchies.get(clazz);
+    return h != null && !h.isEmpty();
   }
 
   protected void callPreDestroyOnBeans() {
@@ -332,10 +308,22 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   public void startCreateImmediatelyBeans() {
-    for (IBean bean : getBeans(Object.class)) {
+    for (IBean<?> bean : getCreateImmediatelyBeans()) {
+      bean.getInstance();
+    }
+  }
+
+  /**
+   * @return all beans marked with {@link CreateImmediately} ordered by {@link Order}
+   * @throws InitializationException
+   *           if such a bean is not application scoped
+   */
+  public List<IBean<?>> getCreateImmediatelyBeans() {
+    List<IBean<?>> beans = new ArrayList<>();
+    for (IBean<?> bean : getBeans(Object.class)) {
       if (isCreateImmediately(bean)) {
         if (isApplicationScoped(bean)) {
-          bean.getInstance();
+          beans.add(bean);
         }
         else {
           throw new InitializationException(String.format(
@@ -346,6 +334,7 @@ public class BeanManagerImplementor implements IBeanManager {
         }
       }
     }
+    return beans;
   }
 
   public static boolean isCreateImmediately(IBean<?> bean) {
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the {@link CreateImmediately} beans on platform startup.
+ * <p>
+ * Beans declaring an {@link Order} or {@link CreateImmediately#parallel()} {@code = false} are created first, one after
+ * another in the calling thread. All other beans are created concurrently by dedicated threads. Dependencies among
+ * them are resolved by the bean instance producer: a bean requesting another bean which is currently created by another
+ * thread waits until it is available.
+ * <p>
+ * {@link #start()} is called while the platform lock is held. Because the threads need the bean manager, they can only
+ * make progress after the lock is released. Hence {@link #awaitDone()} must be called after the lock is released.
+ * Until then, the platform blocks access to the bean manager for all threads except the ones involved in creating the
+ * beans, see {@link #isCreatingBeans()}. The dedicated threads are used instead of jobs because the job manager itself
+ * accesses beans before a job runs.
+ */
+public class CreateImmediatelyBeanInitializer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CreateImmediatelyBeanInitializer.class);
+  private static final ThreadLocal<Boolean> CREATING_BEANS = new ThreadLocal<>();
+
+  private final List<IBean<?>> m_beans;
+  private final boolean m_parallel;
+  private final Map<IBean<?>, Long> m_durations = new ConcurrentHashMap<>();
+  private final List<Future<?>> m_futures = new ArrayList<>();
+  private long m_startNanos;
+
+  /**
+   * @param beans
+   *          the {@link CreateImmediately} beans ordered by {@link Order}
+   * @param parallel
+   *          {@code false} to create all beans one after another in the calling thread
+   */
+  public CreateImmediatelyBeanInitializer(List<IBean<?>> beans, boolean parallel) {
+    m_beans = beans;
+    m_parallel = parallel;
+  }
+
+  /**
+   * @return {@code true} if the current thread is creating {@link CreateImmediately} beans on behalf of an initializer
+   */
+  public static boolean isCreatingBeans() {
+    return CREATING_BEANS.get() != null;
+  }
+
+  /**
+   * Creates the sequential beans and starts the creation of the others.
+   */
+  public void start() {
+    m_startNanos = System.nanoTime();
+    List<IBean<?>> parallelBeans = new ArrayList<>();
+    runCreatingBeans(() -> {
+      for (IBean<?> bean : m_beans) {
+        if (m_parallel && isParallel(bean)) {
+          parallelBeans.add(bean);
+        }
+        else {
+          create(bean);
+        }
+      }
+      if (parallelBeans.size() == 1) {
+        create(parallelBeans.remove(0));
+      }
+    });
+    if (parallelBeans.isEmpty()) {
+      return;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(getThreadCount(parallelBeans.size()), new NamedThreadFactory("scout-create-immediately"));
+    try {
+      for (IBean<?> bean : parallelBeans) {
+        m_futures.add(executor.submit(() -> runCreatingBeans(() -> create(bean))));
+      }
+    }
+    finally {
+      executor.shutdown(); // already submitted beans are still created
+    }
+  }
+
+  /**
+   * Waits until all beans are created.
+   *
+   * @throws RuntimeException
+   *           the first exception thrown by the creation of a bean
+   */
+  public void awaitDone() {
+    RuntimeException error = null;
+    for (Future<?> future : m_futures) {
+      try {
+        awaitFuture(future);
+      }
+      catch (RuntimeException e) {
+        if (error == null) {
+          error = e;
+        }
+        else {
+          error.addSuppressed(e);
+        }
+      }
+    }
+    if (error != null) {
+      throw error;
+    }
+    logDurations(System.nanoTime() - m_startNanos);
+  }
+
+  protected int getThreadCount(int beanCount) {
+    // at least two threads, otherwise nothing would be created concurrently
+    return Math.min(beanCount, Math.max(2, Runtime.getRuntime().availableProcessors()));
+  }
+
+  protected void awaitFuture(Future<?> future) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          future.get();
+          return;
+        }
+        catch (InterruptedException e) { // NOSONAR
+          interrupted = true; // the platform cannot be started partially, hence wait for the beans to be created
+        }
+        catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          }
+          if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw new PlatformException("Failed to create bean", cause);
+        }
+      }
+    }
+    finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  protected void runCreatingBeans(Runnable runnable) {
+    Boolean previous = CREATING_BEANS.get();
+    CREATING_BEANS.set(Boolean.TRUE);
+    try {
+      runnable.run();
+    }
+    finally {
+      if (previous == null) {
+        CREATING_BEANS.remove();
+      }
+    }
+  }
+
+  protected boolean isParallel(IBean<?> bean) {
+    CreateImmediately createImmediately = bean.getBeanAnnotation(CreateImmediately.class);
+    return createImmediately != null && createImmediately.parallel() && !bean.hasAnnotation(Order.class);
+  }
+
+  protected void create(IBean<?> bean) {
+    long t0 = System.nanoTime();
+    bean.getInstance();
+    long nanos = System.nanoTime() - t0;
+    m_durations.put(bean, nanos);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Created bean {} in {} ms", bean, StringUtility.formatNanos(nanos));
+    }
+  }
+
+  protected void logDurations(long totalNanos) {
+    if (!LOG.isInfoEnabled() || m_durations.isEmpty()) {
+      return;
+    }
+    String slowest = m_durations.entrySet().stream()
+        .sorted(Entry.<IBean<?>, Long> comparingByValue().reversed())
+        .limit(5)
+        .map(e -> e.getKey().getBeanClazz().getName() + " (" + StringUtility.formatNanos(e.getValue()) + " ms)")
+        .collect(Collectors.joining(", "));
+    LOG.info("Created {} beans annotated with @{} in {} ms ({} concurrently). Slowest: {}", m_durations.size(), CreateImmediately.class.getSimpleName(),
+        StringUtility.formatNanos(totalNanos), m_futures.size(), slowest);
+  }
+}
@@ -13,12 +13,15 @@ package org.eclipse.scout.rt.platform.internal;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IBean;
@@ -31,6 +34,7 @@ import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.IConfigurationValidator;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CreateImmediatelyParallelProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.inventory.ClassInventory;
@@ -56,8 +60,10 @@ public class PlatformImplementor implements IPlatform {
   private final ReentrantReadWriteLock m_platformLock = new ReentrantReadWriteLock(true);
   private volatile CountDownLatch m_platformStarted = new CountDownLatch(1);
   private volatile CountDownLatch m_platformStarting = new CountDownLatch(1);
+  private volatile CountDownLatch m_createImmediatelyBeansCreated = new CountDownLatch(0);
   private final AtomicReference<State> m_state; // may be read at any time by any thread
   private BeanManagerImplementor m_beanManager;
+  private CreateImmediatelyBeanInitializer m_createImmediatelyBeanInitializer;
 
   public PlatformImplementor() {
     m_state = new AtomicReference<>(State.PlatformStopped);
@@ -71,14 +77,24 @@ public class PlatformImplementor implements IPlatform {
   @Override
   public IBeanManager getBeanManager() {
     // use lock to ensure the caller waits until the platform has been started completely
+    IBeanManager beanManager;
+    CountDownLatch createImmediatelyBeansCreated;
     m_platformLock.readLock().lock();
     try {
       throwOnPlatformInvalid();
-      return m_beanManager;
+      beanManager = m_beanManager;
+      createImmediatelyBeansCreated = m_createImmediatelyBeansCreated;
     }
     finally {
       m_platformLock.readLock().unlock();
     }
+
+    // the @CreateImmediately beans are created after the lock is released, wait for them outside of the lock
+    if (createImmediatelyBeansCreated.getCount() > 0 && !CreateImmediatelyBeanInitializer.isCreatingBeans()) {
+      awaitLatchSafe(createImmediatelyBeansCreated);
+      throwOnPlatformInvalid();
+    }
+    return beanManager;
   }
 
   @Override
@@ -120,6 +136,10 @@ public class PlatformImplementor implements IPlatform {
     m_platformStarting.countDown();
   }
 
+  protected void notifyCreateImmediatelyBeansCreated() {
+    m_createImmediatelyBeansCreated.countDown();
+  }
+
   @Override
   @SuppressWarnings("squid:S1181")
   public void start() {
@@ -154,9 +174,19 @@ public class PlatformImplementor implements IPlatform {
         //lock has to be released after the State.BeanManagerValid change to make sure everything is initialized correctly, before beans can be accessed.
         m_platformLock.writeLock().unlock();
       }
+      try {
+        awaitCreateImmediatelyBeans();
+      }
+      catch (RuntimeException | Error e) {
+        LOG.error("Error during platform startup", e);
+        changeState(State.PlatformInvalid, true);
+        throw e;
+      }
+      notifyCreateImmediatelyBeansCreated();
       changeState(State.PlatformStarted, true);
     }
     finally {
+      notifyCreateImmediatelyBeansCreated(); // the state is PlatformInvalid if not already notified
       notifyPlatformStarted();
     }
   }
@@ -242,7 +272,27 @@ public class PlatformImplementor implements IPlatform {
   }
 
   protected void startCreateImmediatelyBeans() {
-    m_beanManager.startCreateImmediatelyBeans();
+    List<IBean<?>> beans = m_beanManager.getCreateImmediatelyBeans();
+    if (beans.isEmpty()) {
+      return;
+    }
+    m_createImmediatelyBeanInitializer = new CreateImmediatelyBeanInitializer(beans, CONFIG.getPropertyValue(CreateImmediatelyParallelProperty.class));
+    m_createImmediatelyBeansCreated = new CountDownLatch(1);
+    m_createImmediatelyBeanInitializer.start();
+  }
+
+  /**
+   * Waits until the beans scheduled by {@link #startCreateImmediatelyBeans()} are created. Must be called after the
+   * platform lock has been released because creating the beans requires access to the bean manager. Until
+   * {@link #notifyCreateImmediatelyBeansCreated()} is called, {@link #getBeanManager()} blocks all threads not involved
+   * in creating the beans.
+   */
+  protected void awaitCreateImmediatelyBeans() {
+    CreateImmediatelyBeanInitializer initializer = m_createImmediatelyBeanInitializer;
+    m_createImmediatelyBeanInitializer = null;
+    if (initializer != null) {
+      initializer.awaitDone();
+    }
   }
 
   @Override
@@ -317,12 +367,16 @@ public class PlatformImplementor implements IPlatform {
       return; // can happen if there is an error creating the bean manager. cannot move to status invalid. just do nothing.
     }
     PlatformEvent event = new PlatformEvent(this, newState);
-    for (IBean<IPlatformListener> bean : m_beanManager.getBeans(IPlatformListener.class)) {
+    List<IBean<IPlatformListener>> listeners = m_beanManager.getBeans(IPlatformListener.class);
+    Map<IBean<IPlatformListener>, Long> durations = new HashMap<>(listeners.size());
+    long start = System.nanoTime();
+    for (IBean<IPlatformListener> bean : listeners) {
       try {
-        IPlatformListener listener = bean.getInstance();
         long t0 = System.nanoTime();
+        IPlatformListener listener = bean.getInstance();
         listener.stateChanged(event);
         long t1 = System.nanoTime();
+        durations.put(bean, t1 - t0);
         if (LOG.isDebugEnabled()) {
           LOG.debug("StateEvent {} took {} ms for '{}' ", newState, StringUtility.formatNanos(t1 - t0), bean);
         }
@@ -340,6 +394,23 @@ public class PlatformImplementor implements IPlatform {
         }
       }
     }
+    logStateEventDurations(newState, System.nanoTime() - start, durations);
+  }
+
+  /**
+   * Logs how long the {@link IPlatformListener}s took to handle a state change. The slowest listeners are listed to
+   * make expensive startup steps visible.
+   */
+  protected void logStateEventDurations(State state, long totalNanos, Map<IBean<IPlatformListener>, Long> durations) {
+    if (!LOG.isInfoEnabled() || durations.isEmpty()) {
+      return;
+    }
+    String slowest = durations.entrySet().stream()
+        .sorted(Entry.<IBean<IPlatformListener>, Long> comparingByValue().reversed())
+        .limit(5)
+        .map(e -> e.getKey().getBeanClazz().getName() + " (" + StringUtility.formatNanos(e.getValue()) + " ms)")
+        .collect(Collectors.joining(", "));
+    LOG.info("StateEvent {} took {} ms for {} platform listeners. Slowest: {}", state, StringUtility.formatNanos(totalNanos), durations.size(), slowest);
   }
 
   @Override
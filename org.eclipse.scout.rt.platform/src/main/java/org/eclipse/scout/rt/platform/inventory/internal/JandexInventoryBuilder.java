@@ -11,24 +11,38 @@
 package org.eclipse.scout.rt.platform.inventory.internal;
 
 import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexInventorySnapshotProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexRebuildProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.HexUtility;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
@@ -45,6 +59,10 @@ public class JandexInventoryBuilder {
 
   public static final String SCOUT_XML_PATH = "META-INF/scout.xml";
   public static final String JANDEX_INDEX_PATH = "META-INF/jandex.idx";
+  /**
+   * Marks a snapshot which starts with a fingerprint of the modules it was written for.
+   */
+  protected static final int SNAPSHOT_MAGIC = 0x53435458;
 
   public enum RebuildStrategy {
     IF_MISSING, IF_MODIFIED, ALWAYS
@@ -69,16 +87,28 @@ public class JandexInventoryBuilder {
   }
 
   private final RebuildStrategy m_rebuildStrategy;
+  private final Path m_snapshotFile;
 
   private final List<IndexView> m_indexList;
 
   public JandexInventoryBuilder() {
     // do not use the CONFIG class here because the platform is not ready yet
-    this(new JandexRebuildProperty().getValue());
+    this(new JandexRebuildProperty().getValue(), new JandexInventorySnapshotProperty().getValue());
   }
 
   public JandexInventoryBuilder(RebuildStrategy rebuildStrategy) {
+    this(rebuildStrategy, null);
+  }
+
+  /**
+   * @param snapshotFile
+   *          merged index of all modules written by {@link JandexInventorySnapshotWriter}. If the file exists and was
+   *          written for the modules on the classpath, it is used instead of scanning the modules. May be
+   *          {@code null}.
+   */
+  public JandexInventoryBuilder(RebuildStrategy rebuildStrategy, Path snapshotFile) {
     m_rebuildStrategy = rebuildStrategy;
+    m_snapshotFile = snapshotFile;
     m_indexList = new ArrayList<>();
   }
 
@@ -86,18 +116,137 @@ public class JandexInventoryBuilder {
     return m_rebuildStrategy;
   }
 
+  public Path getSnapshotFile() {
+    return m_snapshotFile;
+  }
+
   public void scanAllModules() {
+    List<URI> indexUris = findIndexUris();
+    if (m_snapshotFile != null) {
+      Index index = null;
+      if (Files.isRegularFile(m_snapshotFile)) {
+        index = readSnapshot(m_snapshotFile, fingerprint(indexUris));
+      }
+      else {
+        LOG.warn("Jandex inventory snapshot '{}' does not exist. Scanning all modules.", m_snapshotFile);
+      }
+      if (index != null) {
+        synchronized (m_indexList) {
+          m_indexList.add(index);
+        }
+        return;
+      }
+    }
+
+    // Reading the indexes is mostly I/O bound. Use a dedicated pool because the common pool has only (cores - 1) threads and may be busy with other tasks during startup.
+    ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(indexUris.size(), Runtime.getRuntime().availableProcessors() * 2)));
     try {
-      Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
-          .parallelStream()
+      pool.submit(() -> indexUris.parallelStream().forEach(this::scanModule)).join();
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * @return URIs of the indexes of all modules on the classpath (modules are identified by their {@link #SCOUT_XML_PATH})
+   */
+  protected List<URI> findIndexUris() {
+    try {
+      return Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
+          .stream()
           .map(this::findIndexUri)
-          .forEach(this::scanModule);
+          .collect(Collectors.toList());
     }
     catch (IOException ex) {
       throw new PlatformException("Error while reading resources '{}'", SCOUT_XML_PATH, ex);
     }
   }
 
+  /**
+   * Fingerprint of the modules stored in a snapshot. It changes if a module is added or removed or if the timestamp of
+   * the index of a module changes.
+   */
+  protected String fingerprint(List<URI> indexUris) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException ex) {
+      throw new PlatformException("Cannot compute fingerprint of jandex indexes", ex);
+    }
+    indexUris.stream()
+        .map(indexUri -> indexUri + "@" + indexTimestamp(indexUri) + "\n")
+        .sorted()
+        .forEach(s -> digest.update(s.getBytes(StandardCharsets.UTF_8)));
+    return HexUtility.encode(digest.digest());
+  }
+
+  /**
+   * @return last modified timestamp of the index file (folder) or of the jar containing the index, {@code 0} if unknown
+   */
+  protected long indexTimestamp(URI indexUri) {
+    try {
+      if ("file".equals(indexUri.getScheme())) {
+        return new File(indexUri).lastModified();
+      }
+      if ("jar".equals(indexUri.getScheme())) {
+        String s = indexUri.getRawSchemeSpecificPart();
+        return new File(new URI(s.substring(0, s.lastIndexOf('!')))).lastModified();
+      }
+    }
+    catch (URISyntaxException | IllegalArgumentException ex) {
+      LOG.debug("Cannot determine timestamp of index '{}'", indexUri, ex);
+    }
+    return 0L;
+  }
+
+  /**
+   * Reads a merged index of all modules which was written by {@link JandexInventorySnapshotWriter}. The file is
+   * memory-mapped.
+   *
+   * @param expectedFingerprint
+   *          {@link #fingerprint(List)} of the modules on the classpath
+   * @return the index or {@code null} if the snapshot was written for other modules
+   */
+  protected Index readSnapshot(Path snapshotFile, String expectedFingerprint) {
+    LOG.info("Reading jandex inventory snapshot '{}'", snapshotFile);
+    try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      InputStream in = new ByteBufferInputStream(buffer);
+      String fingerprint = readSnapshotHeader(in);
+      if (!expectedFingerprint.equals(fingerprint)) {
+        LOG.warn("Jandex inventory snapshot '{}' is outdated, it does not match the modules on the classpath. Scanning all modules.", snapshotFile);
+        return null;
+      }
+      return readIndex(snapshotFile.toUri(), in);
+    }
+    catch (IOException ex) {
+      throw new PlatformException("Error reading jandex inventory snapshot '{}'", snapshotFile, ex);
+    }
+  }
+
+  /**
+   * @return fingerprint stored in the snapshot or {@code null} if the snapshot has an unknown format
+   */
+  protected String readSnapshotHeader(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    if (in.available() < 4 || data.readInt() != SNAPSHOT_MAGIC) {
+      return null;
+    }
+    return data.readUTF();
+  }
+
+  /**
+   * Writes the header of a snapshot. It is followed by the index.
+   */
+  protected void writeSnapshotHeader(OutputStream out, String fingerprint) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(SNAPSHOT_MAGIC);
+    data.writeUTF(fingerprint);
+    data.flush();
+  }
+
   public Index scanModule(URI indexUri) {
     try {
       Index index = scanModuleUnsafe(indexUri);
@@ -312,4 +461,35 @@ public class JandexInventoryBuilder {
   protected List<IndexView> getIndexList() {
     return m_indexList;
   }
+
+  protected static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer m_buffer;
+
+    protected ByteBufferInputStream(ByteBuffer buffer) {
+      m_buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return m_buffer.hasRemaining() ? m_buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!m_buffer.hasRemaining()) {
+        return -1;
+      }
+      int n = Math.min(len, m_buffer.remaining());
+      m_buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    public int available() {
+      return m_buffer.remaining();
+    }
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexInventorySnapshotProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexRebuildProperty;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the merged Jandex index of all modules on the classpath into a single file. Intended to be run at build time
+ * with the classpath of the application. The file is used at startup instead of the indexes of the individual modules
+ * if {@link JandexInventorySnapshotProperty} points to it.
+ * <p>
+ * The snapshot starts with a fingerprint of the module URLs and the timestamps of their indexes. If it does not match
+ * the modules on the classpath at startup, the snapshot is ignored and all modules are scanned.
+ * <p>
+ * The beans and the data object type names are derived from the class inventory, hence they are covered by the
+ * snapshot as well.
+ */
+public class JandexInventorySnapshotWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JandexInventorySnapshotWriter.class);
+
+  public static void main(String[] args) {
+    if (args.length != 1 || !StringUtility.hasText(args[0])) {
+      throw new IllegalArgumentException("Usage: " + JandexInventorySnapshotWriter.class.getName() + " <snapshot file>");
+    }
+    new JandexInventorySnapshotWriter().write(Paths.get(args[0]).normalize());
+  }
+
+  public void write(Path snapshotFile) {
+    long t0 = System.nanoTime();
+    // never read an existing snapshot, always start from the indexes of the modules
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(new JandexRebuildProperty().getValue(), null);
+    builder.scanAllModules();
+    Index index = merge(builder.finish());
+    // computed after the scan because the scan may write the indexes of the modules
+    String fingerprint = builder.fingerprint(builder.findIndexUris());
+    try {
+      Path parent = snapshotFile.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      Path tmp = Files.createTempFile(parent, "jandex", ".tmp");
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        builder.writeSnapshotHeader(out, fingerprint);
+        new IndexWriter(out).write(index);
+      }
+      Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (IOException e) {
+      throw new PlatformException("Cannot write jandex inventory snapshot '{}'", snapshotFile, e);
+    }
+    LOG.info("Wrote jandex inventory snapshot '{}' with {} classes in {} ms", snapshotFile, index.getKnownClasses().size(), StringUtility.formatNanos(System.nanoTime() - t0));
+  }
+
+  /**
+   * A composite index cannot be written, therefore all known classes are indexed again into a single index.
+   */
+  protected Index merge(IndexView composite) {
+    ClassLoader classLoader = getClass().getClassLoader();
+    Indexer indexer = new Indexer();
+    for (ClassInfo classInfo : composite.getKnownClasses()) {
+      String resourceName = classInfo.name().toString().replace('.', '/') + ".class";
+      try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+        if (in == null) {
+          LOG.warn("Class file '{}' not found on classpath. Skipping it.", resourceName);
+          continue;
+        }
+        indexer.index(in);
+      }
+      catch (IOException e) {
+        throw new PlatformException("Cannot index class file '{}'", resourceName, e);
+      }
+    }
+    return indexer.complete();
+  }
+}
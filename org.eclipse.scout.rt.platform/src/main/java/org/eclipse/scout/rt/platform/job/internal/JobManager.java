@@ -34,6 +34,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -252,14 +253,48 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    final boolean virtualThreads = CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class);
+    if (virtualThreads) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads are not supported by this JVM, using a thread pool instead [property={}, java.version={}]",
+          BEANS.get(JobManagerVirtualThreadsProperty.class).getKey(), System.getProperty("java.version"));
+    }
+
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
     final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
-    // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), createRejectedExecutionHandler());
+    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
+    if (prestartCoreThreads) {
+      executor.prestartAllCoreThreads();
+    }
+
+    return executor;
+  }
+
+  /**
+   * Creates the executor to run jobs on virtual threads (JDK 21+). A new virtual thread is started for every job which
+   * cannot be handed over to an idle one, so the number of concurrently running jobs is not limited by a pool size.
+   * <p>
+   * Blocking operations (I/O, {@link IBlockingCondition}, waiting for the model job permit of
+   * {@link ExecutionSemaphore}) release the carrier thread. Note that blocking while holding a monitor
+   * (<code>synchronized</code>) pins the carrier thread on JDK 21.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    LOG.info("Jobs run on virtual threads");
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), new VirtualThreadFactory("scout-thread"), createRejectedExecutionHandler());
+  }
+
+  /**
+   * Creates the handler for jobs which cannot be executed.
+   */
+  protected RejectedExecutionHandler createRejectedExecutionHandler() {
+    return (runnable, executor) -> {
       if (isShutdown()) {
         LOG.debug("Job rejected because the job manager is shutdown.");
       }
@@ -272,14 +307,6 @@ public class JobManager implements IJobManager {
         ((IRejectableRunnable) runnable).reject();
       }
     };
-
-    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
-    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
-    if (prestartCoreThreads) {
-      executor.prestartAllCoreThreads();
-    }
-
-    return executor;
   }
 
   /**
@@ -76,6 +76,14 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
     return thread;
   }
 
+  protected String getThreadName() {
+    return m_threadName;
+  }
+
+  protected long nextSequence() {
+    return m_sequence.incrementAndGet();
+  }
+
   // === UncaughtExceptionHandler ===
 
   @Override
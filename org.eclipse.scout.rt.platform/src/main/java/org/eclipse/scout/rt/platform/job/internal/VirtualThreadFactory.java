@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.MDC;
+
+/**
+ * Thread factory which creates virtual threads (JDK 21+), but otherwise behaves like {@link NamedThreadFactory}:
+ * threads are named, a {@link ThreadInfo} is associated with the thread, and uncaught exceptions are handled.
+ * <p>
+ * The platform is compiled against Java 8, which is why virtual threads are created via reflection. Use
+ * {@link #isSupported()} to check whether the running JVM supports virtual threads.
+ *
+ * @since 10.0
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private final ThreadFactory m_delegate;
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    m_delegate = Assertions.assertNotNull(createVirtualThreadFactory(this), "Virtual threads are not supported by this JVM [java.version={}]", System.getProperty("java.version"));
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = m_delegate.newThread(() -> {
+      // Same as NamedThreadFactory, even if virtual threads are never reused
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, getThreadName(), nextSequence()));
+    return thread;
+  }
+
+  /**
+   * @return <code>true</code> if the running JVM supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return createVirtualThreadFactory((thread, t) -> {
+      // NOOP
+    }) != null;
+  }
+
+  /**
+   * Invokes <code>Thread.ofVirtual().uncaughtExceptionHandler(handler).factory()</code>.
+   *
+   * @return the factory or <code>null</code> if virtual threads are not supported
+   */
+  protected static ThreadFactory createVirtualThreadFactory(final UncaughtExceptionHandler handler) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      final Method uncaughtExceptionHandler = builderClass.getMethod("uncaughtExceptionHandler", UncaughtExceptionHandler.class);
+      final Method factory = builderClass.getMethod("factory");
+
+      Object builder = ofVirtual.invoke(null);
+      builder = uncaughtExceptionHandler.invoke(builder, handler);
+      return (ThreadFactory) factory.invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      // JVM older than 21 (or preview features disabled)
+      LOG.debug("Virtual threads not supported", e);
+      return null;
+    }
+  }
+}
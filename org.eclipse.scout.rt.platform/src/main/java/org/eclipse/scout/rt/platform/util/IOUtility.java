@@ -17,6 +17,7 @@ import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
@@ -38,9 +39,13 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -404,6 +409,36 @@ public final class IOUtility {
     return count;
   }
 
+  /**
+   * Writes the given range of the file into the stream using {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+   * The file is not loaded into the heap.
+   * <p>
+   * Stream is <em>not</em> closed. Use resource-try on streams created by caller.
+   *
+   * @param offset
+   *          position of the first byte to write
+   * @param length
+   *          number of bytes to write
+   * @throws EOFException
+   *           if the file ends before the requested range was written
+   * @since 10.0
+   */
+  public static void writeFromFile(OutputStream out, File file, long offset, long length) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(out); // not closed, it would close the stream
+      long position = offset;
+      long remaining = length;
+      while (remaining > 0) {
+        long count = channel.transferTo(position, remaining, target);
+        if (count <= 0) {
+          throw new EOFException("Unexpected end of file " + file + " at position " + position);
+        }
+        position += count;
+        remaining -= count;
+      }
+    }
+  }
+
   /**
    * Write string in UTF8 encoding.
    * <p>
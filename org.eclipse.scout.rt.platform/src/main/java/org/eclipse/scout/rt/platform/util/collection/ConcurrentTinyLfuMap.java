@@ -0,0 +1,745 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A thread-safe concurrent map with a frequency-aware eviction policy (W-TinyLFU), an optional time to live and an
+ * optional refresh-ahead. This class is just a decorator for any concurrent map.
+ * <p>
+ * Reads do not take any lock: a read records the access in a compact frequency sketch (4-bit count-min sketch with
+ * periodic aging) and marks the entry as recently used. Writes take a short lock to maintain the eviction policy.
+ * <p>
+ * New entries are placed into a small admission window (about 1% of the maximum weight). Entries leaving the window
+ * compete with the eviction victim of the main region and are only admitted if they have been requested more often.
+ * The victim of the main region is selected in insertion order, giving recently used entries a second chance (CLOCK).
+ * This protects the cache against one-hit wonders and scans, which flush a plain LRU cache.
+ * <p>
+ * The maximum is expressed as a weight. Without a weigher every entry has a weight of 1 and the maximum weight is the
+ * maximum number of entries. A maximum weight of <code>-1</code> disables eviction. The weight limit is <em>not</em>
+ * enforced exactly, it is just a guidance value.
+ * <p>
+ * If a refresher is set (see {@link #setRefresher(long, BiConsumer)}), reading an entry that was written longer ago
+ * than the refresh interval triggers the refresher once per interval. The current value is still returned. The
+ * refresher is expected to reload the value asynchronously and store it with {@link #replace(Object, Object, Object)}.
+ * <p>
+ * This class does <em>not</em> allow <tt>null</tt> keys or values.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 10.0
+ */
+@SuppressWarnings("squid:S2160")
+public class ConcurrentTinyLfuMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  private static final int MAX_SECOND_CHANCES = 16;
+
+  private final ConcurrentMap<K, Node<K, V>> m_elementMap;
+  private final long m_maximumWeight;
+  private final long m_maximumWindowWeight;
+  private final ToIntBiFunction<? super K, ? super V> m_weigher;
+  private final long m_timeToLive;
+  private final boolean m_touchOnGet;
+  private final FrequencySketch m_sketch;
+
+  private final ReentrantLock m_evictionLock = new ReentrantLock();
+  private final ArrayDeque<Node<K, V>> m_window = new ArrayDeque<>(); // guarded by m_evictionLock
+  private final ArrayDeque<Node<K, V>> m_main = new ArrayDeque<>(); // guarded by m_evictionLock
+  private long m_windowWeight; // guarded by m_evictionLock
+  private long m_mainWeight; // guarded by m_evictionLock
+  private int m_retiredCount; // guarded by m_evictionLock
+
+  private volatile long m_refreshAfterWrite = -1;
+  private volatile BiConsumer<K, V> m_refresher;
+  private volatile BiConsumer<K, V> m_evictionListener;
+
+  /**
+   * Creates a new map bounded by number of entries, without time to live.
+   */
+  public ConcurrentTinyLfuMap(long maximumSize) {
+    this(new ConcurrentHashMap<>(), maximumSize, null, -1, false);
+  }
+
+  /**
+   * @param elementMap
+   *          the backing map, must be empty
+   * @param maximumWeight
+   *          maximum total weight of all entries, <code>-1</code> for no bound
+   * @param weigher
+   *          computes the weight of an entry, <code>null</code> if every entry has a weight of 1
+   * @param timeToLive
+   *          time to live in milliseconds, <code>-1</code> if entries never expire
+   * @param touchOnGet
+   *          if <code>true</code>, a read resets the time to live of an entry
+   */
+  public ConcurrentTinyLfuMap(ConcurrentMap<K, Node<K, V>> elementMap, long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher, long timeToLive, boolean touchOnGet) {
+    if (maximumWeight < -1) {
+      throw new IllegalArgumentException("maximumWeight must be -1 or positive");
+    }
+    m_elementMap = elementMap;
+    m_maximumWeight = maximumWeight;
+    m_maximumWindowWeight = Math.max(1, maximumWeight / 100);
+    m_weigher = weigher;
+    m_timeToLive = timeToLive;
+    m_touchOnGet = touchOnGet;
+    m_sketch = isBounded() ? new FrequencySketch() : null;
+    if (isBounded() && weigher == null) {
+      m_sketch.ensureCapacity(maximumWeight); // maximum weight is the maximum number of entries
+    }
+  }
+
+  /**
+   * @return frequency sketch of a bounded map, <code>null</code> otherwise (visible for testing)
+   */
+  FrequencySketch getFrequencySketch() {
+    return m_sketch;
+  }
+
+  /**
+   * Sets a refresher which is called when an entry is read that was written longer than
+   * <code>refreshAfterWrite</code> milliseconds ago. The refresher is called at most once per interval and entry.
+   *
+   * @param refreshAfterWrite
+   *          refresh interval in milliseconds, <code>-1</code> to disable refresh-ahead
+   * @param refresher
+   *          is called with the key and the current value, must not block
+   */
+  public void setRefresher(long refreshAfterWrite, BiConsumer<K, V> refresher) {
+    m_refresher = refresher;
+    m_refreshAfterWrite = refresher != null ? refreshAfterWrite : -1;
+  }
+
+  /**
+   * @param evictionListener
+   *          is called whenever an entry is evicted due to the size bound or the time to live, may be <code>null</code>
+   */
+  public void setEvictionListener(BiConsumer<K, V> evictionListener) {
+    m_evictionListener = evictionListener;
+  }
+
+  public long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  /**
+   * @return the current total weight of all entries, or <code>-1</code> if this map is not bounded
+   */
+  public long getWeightedSize() {
+    if (!isBounded()) {
+      return -1;
+    }
+    m_evictionLock.lock();
+    try {
+      return m_windowWeight + m_mainWeight;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  protected boolean isBounded() {
+    return m_maximumWeight >= 0;
+  }
+
+  @Override
+  public int size() {
+    return m_elementMap.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return m_elementMap.isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Node<K, V> node = m_elementMap.get(key);
+    return node != null && !isExpired(node, currentTimeMillis());
+  }
+
+  @Override
+  public V get(Object key) {
+    Node<K, V> node = m_elementMap.get(key);
+    if (isBounded()) {
+      m_sketch.increment(key);
+    }
+    if (node == null) {
+      return null;
+    }
+    long now = currentTimeMillis();
+    if (isExpired(node, now)) {
+      expire(node);
+      return null;
+    }
+    afterRead(node, now);
+    return node.m_value;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    Node<K, V> node = newNode(key, value);
+    Node<K, V> oldNode = m_elementMap.put(key, node);
+    afterWrite(node, oldNode);
+    return valueOf(oldNode);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    Node<K, V> node = newNode(key, value);
+    while (true) {
+      Node<K, V> existing = m_elementMap.putIfAbsent(key, node);
+      if (existing == null) {
+        afterWrite(node, null);
+        return null;
+      }
+      long now = currentTimeMillis();
+      if (!isExpired(existing, now)) {
+        afterRead(existing, now);
+        return existing.m_value;
+      }
+      if (m_elementMap.replace(key, existing, node)) {
+        afterWrite(node, existing);
+        return null;
+      }
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    Node<K, V> node = m_elementMap.remove(key);
+    if (node == null) {
+      return null;
+    }
+    afterRemove(node);
+    return valueOf(node);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    Node<K, V> node = m_elementMap.get(key);
+    if (node == null || isExpired(node, currentTimeMillis()) || !Objects.equals(node.m_value, value)) {
+      return false;
+    }
+    if (m_elementMap.remove(key, node)) {
+      afterRemove(node);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Node<K, V> node = m_elementMap.get(key);
+    if (node == null || isExpired(node, currentTimeMillis()) || !Objects.equals(node.m_value, oldValue)) {
+      return false;
+    }
+    Node<K, V> newNode = newNode(key, newValue);
+    if (m_elementMap.replace(key, node, newNode)) {
+      afterWrite(newNode, node);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Node<K, V> newNode = newNode(key, value);
+    while (true) {
+      Node<K, V> node = m_elementMap.get(key);
+      if (node == null || isExpired(node, currentTimeMillis())) {
+        return null;
+      }
+      if (m_elementMap.replace(key, node, newNode)) {
+        afterWrite(newNode, node);
+        return node.m_value;
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    m_evictionLock.lock();
+    try {
+      m_elementMap.clear();
+      for (Node<K, V> node : m_window) {
+        node.m_retired = true;
+      }
+      for (Node<K, V> node : m_main) {
+        node.m_retired = true;
+      }
+      m_window.clear();
+      m_main.clear();
+      m_windowWeight = 0;
+      m_mainWeight = 0;
+      m_retiredCount = 0;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new P_EntrySet();
+  }
+
+  protected Node<K, V> newNode(K key, V value) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    int weight = m_weigher == null ? 1 : m_weigher.applyAsInt(key, value);
+    if (weight < 0) {
+      throw new IllegalArgumentException("weight must not be negative");
+    }
+    return new Node<>(key, value, weight, currentTimeMillis());
+  }
+
+  /**
+   * @return the current time in milliseconds used for expiration and refresh-ahead
+   */
+  protected long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  protected boolean isExpired(Node<K, V> node, long now) {
+    if (m_timeToLive < 0) {
+      return false;
+    }
+    long lastTouch = m_touchOnGet ? node.m_accessTime : node.m_writeTime;
+    return now - lastTouch > m_timeToLive;
+  }
+
+  protected void afterRead(Node<K, V> node, long now) {
+    if (!node.m_accessed) {
+      node.m_accessed = true;
+    }
+    if (m_touchOnGet) {
+      node.m_accessTime = now;
+    }
+    long refreshAfterWrite = m_refreshAfterWrite;
+    if (refreshAfterWrite >= 0 && now - node.m_writeTime > refreshAfterWrite) {
+      long lastRefresh = node.m_refreshTime;
+      if (now - lastRefresh > refreshAfterWrite && Node.REFRESH_TIME_UPDATER.compareAndSet(node, lastRefresh, now)) {
+        BiConsumer<K, V> refresher = m_refresher;
+        if (refresher != null) {
+          refresher.accept(node.m_key, node.m_value);
+        }
+      }
+    }
+  }
+
+  protected void afterWrite(Node<K, V> node, Node<K, V> oldNode) {
+    if (!isBounded()) {
+      return;
+    }
+    m_evictionLock.lock();
+    try {
+      if (oldNode != null) {
+        retire(oldNode);
+      }
+      if (node.m_retired || m_elementMap.get(node.m_key) != node) {
+        // removed concurrently before the policy could be updated
+        node.m_retired = true;
+        return;
+      }
+      node.m_region = Node.WINDOW;
+      m_window.addLast(node);
+      if (m_weigher != null) {
+        m_sketch.ensureCapacity(m_elementMap.size()); // the number of entries is not known in advance
+      }
+      m_windowWeight += node.m_weight;
+      evict();
+      compactIfNecessary();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  protected void afterRemove(Node<K, V> node) {
+    if (!isBounded()) {
+      return;
+    }
+    m_evictionLock.lock();
+    try {
+      retire(node);
+      compactIfNecessary();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  protected void expire(Node<K, V> node) {
+    if (m_elementMap.remove(node.m_key, node)) {
+      afterRemove(node);
+      notifyEvicted(node);
+    }
+  }
+
+  /**
+   * Moves entries exceeding the window into the main region and evicts entries while the maximum weight is exceeded.
+   * Must be called while holding the eviction lock.
+   */
+  protected void evict() {
+    while (m_windowWeight > m_maximumWindowWeight) {
+      Node<K, V> candidate = pollLive(m_window);
+      if (candidate == null) {
+        break;
+      }
+      m_windowWeight -= candidate.m_weight;
+      candidate.m_region = Node.MAIN;
+      m_main.addLast(candidate);
+      m_mainWeight += candidate.m_weight;
+      admit(candidate);
+    }
+    while (m_windowWeight + m_mainWeight > m_maximumWeight) {
+      Node<K, V> victim = selectVictim(null);
+      if (victim == null) {
+        victim = pollLive(m_window);
+        if (victim == null) {
+          break;
+        }
+        m_window.addFirst(victim);
+      }
+      evictNode(victim);
+    }
+  }
+
+  /**
+   * TinyLFU admission: the candidate is only kept if it is requested more often than the victim of the main region.
+   */
+  protected void admit(Node<K, V> candidate) {
+    while (!candidate.m_retired && m_windowWeight + m_mainWeight > m_maximumWeight) {
+      Node<K, V> victim = selectVictim(candidate);
+      if (victim == null || victim == candidate) {
+        evictNode(candidate);
+        return;
+      }
+      if (m_sketch.frequency(candidate.m_key) > m_sketch.frequency(victim.m_key)) {
+        evictNode(victim);
+      }
+      else {
+        evictNode(candidate);
+      }
+    }
+  }
+
+  /**
+   * Selects the victim from the head of the main region, recently used entries are moved to the tail (second
+   * chance).
+   */
+  protected Node<K, V> selectVictim(Node<K, V> candidate) {
+    for (int i = 0; i < MAX_SECOND_CHANCES; i++) {
+      Node<K, V> node = pollLive(m_main);
+      if (node == null) {
+        return null;
+      }
+      m_main.addFirst(node);
+      if (node == candidate || !node.m_accessed) {
+        return node;
+      }
+      node.m_accessed = false;
+      m_main.pollFirst();
+      m_main.addLast(node);
+    }
+    return m_main.peekFirst();
+  }
+
+  protected void evictNode(Node<K, V> node) {
+    boolean removed = m_elementMap.remove(node.m_key, node);
+    retire(node);
+    if (removed) {
+      notifyEvicted(node);
+    }
+  }
+
+  protected void notifyEvicted(Node<K, V> node) {
+    BiConsumer<K, V> listener = m_evictionListener;
+    if (listener != null) {
+      listener.accept(node.m_key, node.m_value);
+    }
+  }
+
+  /**
+   * Removes the weight of the node from its region. The node itself is removed lazily from the region queues.
+   */
+  private void retire(Node<K, V> node) {
+    if (node.m_retired) {
+      return;
+    }
+    node.m_retired = true;
+    if (node.m_region == Node.WINDOW) {
+      m_windowWeight -= node.m_weight;
+      m_retiredCount++;
+    }
+    else if (node.m_region == Node.MAIN) {
+      m_mainWeight -= node.m_weight;
+      m_retiredCount++;
+    }
+  }
+
+  private Node<K, V> pollLive(ArrayDeque<Node<K, V>> queue) {
+    Node<K, V> node;
+    while ((node = queue.pollFirst()) != null) {
+      if (!node.m_retired) {
+        return node;
+      }
+      m_retiredCount--;
+    }
+    return null;
+  }
+
+  private void compactIfNecessary() {
+    if (m_retiredCount > 64 && m_retiredCount > (m_window.size() + m_main.size()) / 2) {
+      m_window.removeIf(node -> node.m_retired);
+      m_main.removeIf(node -> node.m_retired);
+      m_retiredCount = 0;
+    }
+  }
+
+  private V valueOf(Node<K, V> node) {
+    if (node == null || isExpired(node, currentTimeMillis())) {
+      return null;
+    }
+    return node.m_value;
+  }
+
+  private class P_EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new P_EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return ConcurrentTinyLfuMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      ConcurrentTinyLfuMap.this.clear();
+    }
+  }
+
+  private class P_EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<Node<K, V>> m_delegate = m_elementMap.values().iterator();
+    private Node<K, V> m_next;
+    private Node<K, V> m_current;
+
+    @Override
+    public boolean hasNext() {
+      long now = currentTimeMillis();
+      while (m_next == null && m_delegate.hasNext()) {
+        Node<K, V> node = m_delegate.next();
+        if (!isExpired(node, now)) {
+          m_next = node;
+        }
+      }
+      return m_next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      m_current = m_next;
+      m_next = null;
+      return new P_Entry(m_current.m_key, m_current.m_value);
+    }
+
+    @Override
+    public void remove() {
+      if (m_current == null) {
+        throw new IllegalStateException();
+      }
+      if (m_elementMap.remove(m_current.m_key, m_current)) {
+        afterRemove(m_current);
+      }
+      m_current = null;
+    }
+  }
+
+  private class P_Entry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    P_Entry(K key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+
+  /**
+   * An entry of the map, stored in the backing map.
+   */
+  public static final class Node<K, V> {
+    static final AtomicLongFieldUpdater<Node> REFRESH_TIME_UPDATER = AtomicLongFieldUpdater.newUpdater(Node.class, "m_refreshTime");
+    static final int NONE = 0;
+    static final int WINDOW = 1;
+    static final int MAIN = 2;
+
+    final K m_key;
+    final V m_value;
+    final int m_weight;
+    final long m_writeTime;
+    volatile long m_accessTime;
+    volatile long m_refreshTime;
+    volatile boolean m_accessed;
+    boolean m_retired; // guarded by eviction lock
+    int m_region = NONE; // guarded by eviction lock
+
+    Node(K key, V value, int weight, long writeTime) {
+      m_key = key;
+      m_value = value;
+      m_weight = weight;
+      m_writeTime = writeTime;
+      m_accessTime = writeTime;
+      m_refreshTime = writeTime;
+    }
+
+    public K getKey() {
+      return m_key;
+    }
+
+    public V getValue() {
+      return m_value;
+    }
+
+    @Override
+    public String toString() {
+      return "Node [m_key=" + m_key + ", m_value=" + m_value + "]";
+    }
+  }
+
+  /**
+   * Approximates the access frequency of keys within a time window using a count-min sketch of 4-bit counters. Once
+   * the number of recorded accesses reaches the sample size, all counters are halved so that the history ages.
+   * <p>
+   * The table is sized by the number of entries. For weighted maps it grows as entries are added (see
+   * {@link #ensureCapacity(long)}) instead of being sized by the maximum weight. Updates are not synchronized: lost updates only make the approximation slightly
+   * less accurate.
+   */
+  static final class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 24;
+
+    private volatile long[] m_table;
+    private int m_sampleSize;
+    private int m_size;
+
+    FrequencySketch() {
+      m_table = new long[MIN_CAPACITY];
+      m_sampleSize = 10 * MIN_CAPACITY;
+    }
+
+    /**
+     * Grows the table to hold the given number of entries. Previously recorded frequencies are discarded when the table
+     * grows. Must not be called concurrently.
+     */
+    void ensureCapacity(long size) {
+      int capacity = (int) Math.min(size, MAX_CAPACITY);
+      if (m_table.length >= capacity) {
+        return;
+      }
+      int length = Integer.highestOneBit(capacity - 1) << 1;
+      m_sampleSize = 10 * length;
+      m_size = 0;
+      m_table = new long[length];
+    }
+
+    int tableLength() {
+      return m_table.length;
+    }
+
+    int frequency(Object key) {
+      long[] table = m_table;
+      int hash = spread(key.hashCode());
+      int start = (hash & 3) << 2;
+      int frequency = Integer.MAX_VALUE;
+      for (int i = 0; i < 4; i++) {
+        int index = indexOf(table, hash, i);
+        int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+        frequency = Math.min(frequency, count);
+      }
+      return frequency;
+    }
+
+    void increment(Object key) {
+      long[] table = m_table;
+      int hash = spread(key.hashCode());
+      int start = (hash & 3) << 2;
+      boolean added = false;
+      for (int i = 0; i < 4; i++) {
+        added |= incrementAt(table, indexOf(table, hash, i), start + i);
+      }
+      if (added && ++m_size >= m_sampleSize) {
+        reset(table);
+      }
+    }
+
+    private static boolean incrementAt(long[] table, int index, int counter) {
+      int offset = counter << 2;
+      long mask = 0xfL << offset;
+      long value = table[index];
+      if ((value & mask) != mask) {
+        table[index] = value + (1L << offset);
+        return true;
+      }
+      return false;
+    }
+
+    private void reset(long[] table) {
+      int oddCount = 0;
+      for (int i = 0; i < table.length; i++) {
+        oddCount += Long.bitCount(table[i] & ONE_MASK);
+        table[i] = (table[i] >>> 1) & RESET_MASK;
+      }
+      m_size = Math.max(0, (m_size >>> 1) - (oddCount >>> 2));
+    }
+
+    private static int indexOf(long[] table, int hash, int i) {
+      long h = (hash + SEEDS[i]) * SEEDS[i];
+      h += h >>> 32;
+      return ((int) h) & (table.length - 1);
+    }
+
+    private static int spread(int x) {
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      return (x >>> 16) ^ x;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoListStreamReader;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.rest.RestApplicationContributors.MessageBodyReaderContributor;
+import org.eclipse.scout.rt.rest.jackson.fixture.TestStreamImportDo;
+import org.eclipse.scout.rt.rest.jackson.fixture.TestStreamItemDo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link DoListStreamMessageBodyReader}
+ */
+@RunWith(PlatformTestRunner.class)
+public class DoListStreamMessageBodyReaderTest {
+
+  private DoListStreamMessageBodyReader m_reader;
+  private Type m_genericType;
+  private Annotation[] m_annotations;
+
+  @Before
+  public void before() throws Exception {
+    m_reader = BEANS.get(DoListStreamMessageBodyReader.class);
+    Method method = DoListStreamMessageBodyReaderTest.class.getDeclaredMethod("importItems", IDoListStreamReader.class);
+    m_genericType = method.getGenericParameterTypes()[0];
+    m_annotations = method.getParameterAnnotations()[0];
+  }
+
+  /**
+   * Fixture resource method, provides the generic parameter type and the annotations.
+   */
+  @SuppressWarnings("unused")
+  protected void importItems(@DoListStream(entityType = TestStreamImportDo.class, listAttribute = "items") IDoListStreamReader<TestStreamItemDo> reader) {
+  }
+
+  @Test
+  public void testIsReadable() {
+    assertTrue(m_reader.isReadable(IDoListStreamReader.class, m_genericType, m_annotations, MediaType.APPLICATION_JSON_TYPE));
+    assertFalse(m_reader.isReadable(IDoListStreamReader.class, m_genericType, new Annotation[0], MediaType.APPLICATION_JSON_TYPE));
+    assertFalse(m_reader.isReadable(TestStreamImportDo.class, TestStreamImportDo.class, m_annotations, MediaType.APPLICATION_JSON_TYPE));
+  }
+
+  @Test
+  public void testGetElementType() {
+    assertEquals(TestStreamItemDo.class, m_reader.getElementType(m_genericType));
+    assertEquals(Object.class, m_reader.getElementType(IDoListStreamReader.class));
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void testReadFrom() {
+    TestStreamImportDo entity = BEANS.get(TestStreamImportDo.class)
+        .withTitle("import")
+        .withItems(BEANS.get(TestStreamItemDo.class).withId("item-0"), BEANS.get(TestStreamItemDo.class).withId("item-1"));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BEANS.get(IDataObjectMapper.class).writeValue(out, entity);
+
+    List<String> ids = new ArrayList<>();
+    try (IDoListStreamReader<TestStreamItemDo> reader = (IDoListStreamReader<TestStreamItemDo>) m_reader.readFrom((Class) IDoListStreamReader.class, m_genericType, m_annotations,
+        MediaType.APPLICATION_JSON_TYPE, null, new ByteArrayInputStream(out.toByteArray()))) {
+      while (reader.hasNext()) {
+        ids.add(reader.next().getId()); // elements are deserialized using the element type of the parameter
+      }
+      assertEquals("import", ((TestStreamImportDo) reader.getEntity()).getTitle());
+    }
+    assertEquals(2, ids.size());
+    assertEquals("item-0", ids.get(0));
+    assertEquals("item-1", ids.get(1));
+  }
+
+  @Test
+  public void testContributed() {
+    assertTrue(new MessageBodyReaderContributor().contribute().contains(DoListStreamMessageBodyReader.class));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.rest.RestApplicationContributors.MessageBodyWriterContributor;
+import org.eclipse.scout.rt.rest.jackson.fixture.TestStreamImportDo;
+import org.eclipse.scout.rt.rest.jackson.fixture.TestStreamItemDo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.ScoutAssert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link DoListStreamMessageBodyWriter}
+ */
+@RunWith(PlatformTestRunner.class)
+public class DoListStreamMessageBodyWriterTest {
+
+  private DoListStreamMessageBodyWriter m_writer;
+
+  @Before
+  public void before() {
+    m_writer = BEANS.get(DoListStreamMessageBodyWriter.class);
+  }
+
+  @Test
+  public void testIsWriteable() {
+    assertTrue(m_writer.isWriteable(DoListStreamOutput.class, DoListStreamOutput.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE));
+    assertFalse(m_writer.isWriteable(TestStreamImportDo.class, TestStreamImportDo.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE));
+  }
+
+  @Test
+  public void testWriteTo() {
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<TestStreamItemDo> elements = IntStream.range(0, 100)
+        .mapToObj(i -> BEANS.get(TestStreamItemDo.class).withId("item-" + i))
+        .onClose(() -> closed.set(true));
+    TestStreamImportDo entity = BEANS.get(TestStreamImportDo.class)
+        .withTitle("export")
+        .withItems(BEANS.get(TestStreamItemDo.class).withId("ignored")); // replaced by the streamed elements
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    m_writer.writeTo(new DoListStreamOutput<>(entity, "items", elements), DoListStreamOutput.class, DoListStreamOutput.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE, null, out);
+    assertTrue(closed.get());
+
+    TestStreamImportDo result = BEANS.get(IDataObjectMapper.class).readValue(new ByteArrayInputStream(out.toByteArray()), TestStreamImportDo.class);
+    assertEquals("export", result.getTitle());
+    assertEquals(100, result.getItems().size());
+    assertEquals("item-0", result.getItems().get(0).getId());
+    assertEquals("item-99", result.getItems().get(99).getId());
+  }
+
+  @Test
+  public void testWriteToFailure() {
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<TestStreamItemDo> elements = Stream.of("item-0", "fail")
+        .map(id -> {
+          if ("fail".equals(id)) {
+            throw new PlatformException("expected");
+          }
+          return BEANS.get(TestStreamItemDo.class).withId(id);
+        })
+        .onClose(() -> closed.set(true));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DoListStreamOutput<TestStreamItemDo> output = new DoListStreamOutput<>(BEANS.get(TestStreamImportDo.class).withTitle("export"), "items", elements);
+    PlatformException exception = ScoutAssert.assertThrows(PlatformException.class,
+        () -> m_writer.writeTo(output, DoListStreamOutput.class, DoListStreamOutput.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE, null, out));
+    assertEquals("expected", exception.getDisplayMessage());
+    assertTrue(closed.get());
+
+    // elements written so far are flushed, but the list and the entity are not completed
+    String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue(json.contains("item-0"));
+    assertFalse(json.trim().endsWith("}"));
+    ScoutAssert.assertThrows(PlatformException.class,
+        () -> BEANS.get(IDataObjectMapper.class).readValue(new ByteArrayInputStream(out.toByteArray()), TestStreamImportDo.class));
+  }
+
+  @Test
+  public void testContributed() {
+    assertTrue(new MessageBodyWriterContributor().contribute().contains(DoListStreamMessageBodyWriter.class));
+  }
+}
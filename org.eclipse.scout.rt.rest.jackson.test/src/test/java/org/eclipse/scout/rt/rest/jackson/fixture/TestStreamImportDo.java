@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.rest.jackson.fixture;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+@TypeName("scout.TestStreamImport")
+public class TestStreamImportDo extends DoEntity {
+
+  public DoValue<String> title() {
+    return doValue("title");
+  }
+
+  public DoList<TestStreamItemDo> items() {
+    return doList("items");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public TestStreamImportDo withTitle(String title) {
+    title().set(title);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getTitle() {
+    return title().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public TestStreamImportDo withItems(Collection<? extends TestStreamItemDo> items) {
+    items().updateAll(items);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public TestStreamImportDo withItems(TestStreamItemDo... items) {
+    items().updateAll(items);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<TestStreamItemDo> getItems() {
+    return items().get();
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.IDoListStreamReader;
+
+/**
+ * Marks a REST resource method parameter of type {@link IDoListStreamReader} to be read incrementally from the request
+ * body.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * &#64;POST
+ * public void importItems(&#64;DoListStream(entityType = ItemImportDo.class, listAttribute = "items") IDoListStreamReader&lt;ItemDo&gt; reader) {
+ *   while (reader.hasNext()) {
+ *     ItemDo item = reader.next();
+ *     ...
+ *   }
+ * }
+ * </pre>
+ *
+ * @see DoListStreamMessageBodyReader
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface DoListStream {
+
+  /**
+   * Type of the top-level entity of the request body.
+   */
+  Class<? extends IDoEntity> entityType();
+
+  /**
+   * Name of the list attribute of the top-level entity whose elements are streamed.
+   */
+  String listAttribute();
+}
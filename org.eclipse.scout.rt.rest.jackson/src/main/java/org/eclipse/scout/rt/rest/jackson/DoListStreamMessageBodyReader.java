@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoListStreamReader;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.rest.RestApplication;
+
+/**
+ * Provides an {@link IDoListStreamReader} for resource method parameters annotated with {@link DoListStream}. The
+ * request body is read while the resource iterates the list elements.
+ * <p>
+ * This class is intended to be registered in a REST application class.
+ *
+ * @see RestApplication
+ */
+@Bean
+@Consumes(MediaType.APPLICATION_JSON)
+public class DoListStreamMessageBodyReader implements MessageBodyReader<IDoListStreamReader<?>> {
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return type == IDoListStreamReader.class && findDoListStream(annotations) != null;
+  }
+
+  @Override
+  public IDoListStreamReader<?> readFrom(Class<IDoListStreamReader<?>> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+    DoListStream doListStream = findDoListStream(annotations);
+    return BEANS.get(IDataObjectMapper.class).readListStream(entityStream, doListStream.entityType(), doListStream.listAttribute(), getElementType(genericType));
+  }
+
+  protected DoListStream findDoListStream(Annotation[] annotations) {
+    for (Annotation annotation : annotations) {
+      if (annotation instanceof DoListStream) {
+        return (DoListStream) annotation;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return element class declared by {@code IDoListStreamReader<T>}, {@code Object} if not declared
+   */
+  protected Class<?> getElementType(Type genericType) {
+    if (genericType instanceof ParameterizedType) {
+      Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+      if (elementType instanceof Class) {
+        return (Class<?>) elementType;
+      }
+      if (elementType instanceof ParameterizedType) {
+        return (Class<?>) ((ParameterizedType) elementType).getRawType();
+      }
+    }
+    return Object.class;
+  }
+}
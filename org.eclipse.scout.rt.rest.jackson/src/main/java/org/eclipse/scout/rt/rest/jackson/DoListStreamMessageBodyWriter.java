@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.stream.Stream;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoListStreamWriter;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.rest.RestApplication;
+
+/**
+ * Writes a {@link DoListStreamOutput} to the response body element by element.
+ * <p>
+ * If an element cannot be written or the stream of elements fails, the writer is aborted: the list and the entity are
+ * not completed and the original exception is propagated. The response is usually already committed at that time, the
+ * incomplete document tells the client that the response is not complete.
+ * <p>
+ * This class is intended to be registered in a REST application class.
+ *
+ * @see RestApplication
+ */
+@Bean
+@Produces(MediaType.APPLICATION_JSON)
+public class DoListStreamMessageBodyWriter implements MessageBodyWriter<DoListStreamOutput<?>> {
+
+  @Override
+  public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return DoListStreamOutput.class.isAssignableFrom(type);
+  }
+
+  @Override
+  public void writeTo(DoListStreamOutput<?> output, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) {
+    IDoListStreamWriter<Object> writer = BEANS.get(IDataObjectMapper.class).writeListStream(entityStream, output.getEntity(), output.getListAttributeName());
+    try {
+      try (Stream<?> elements = output.getElements()) {
+        elements.forEachOrdered(writer::write);
+      }
+      writer.close();
+    }
+    catch (RuntimeException | Error e) {
+      writer.abort();
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Response entity whose list attribute {@link #getListAttributeName()} is written incrementally from a stream of
+ * elements.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * &#64;GET
+ * public DoListStreamOutput&lt;ItemDo&gt; exportItems() {
+ *   return new DoListStreamOutput&lt;&gt;(BEANS.get(ItemExportDo.class), "items", itemService.streamItems());
+ * }
+ * </pre>
+ *
+ * The stream of elements is closed as soon as the response was written.
+ *
+ * @see DoListStreamMessageBodyWriter
+ */
+public class DoListStreamOutput<T> {
+
+  private final IDoEntity m_entity;
+  private final String m_listAttributeName;
+  private final Stream<? extends T> m_elements;
+
+  public DoListStreamOutput(IDoEntity entity, String listAttributeName, Stream<? extends T> elements) {
+    m_entity = Assertions.assertNotNull(entity);
+    m_listAttributeName = Assertions.assertNotNull(listAttributeName);
+    m_elements = Assertions.assertNotNull(elements);
+  }
+
+  /**
+   * @return top-level entity containing all attributes except the streamed list attribute
+   */
+  public IDoEntity getEntity() {
+    return m_entity;
+  }
+
+  public String getListAttributeName() {
+    return m_listAttributeName;
+  }
+
+  public Stream<? extends T> getElements() {
+    return m_elements;
+  }
+}
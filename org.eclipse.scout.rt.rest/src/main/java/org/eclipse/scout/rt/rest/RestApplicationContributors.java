@@ -15,6 +15,8 @@ import java.util.stream.Collectors;
 
 import javax.ws.rs.ext.ContextResolver;
 import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.ParamConverterProvider;
 
 import org.eclipse.scout.rt.platform.BEANS;
@@ -45,6 +47,20 @@ public final class RestApplicationContributors {
     }
   }
 
+  public static class MessageBodyReaderContributor implements IRestApplicationClassesContributor {
+    @Override
+    public Set<Class<?>> contribute() {
+      return lookupBeanClasses(MessageBodyReader.class);
+    }
+  }
+
+  public static class MessageBodyWriterContributor implements IRestApplicationClassesContributor {
+    @Override
+    public Set<Class<?>> contribute() {
+      return lookupBeanClasses(MessageBodyWriter.class);
+    }
+  }
+
   public static class ParamConverterProviderContributor implements IRestApplicationClassesContributor {
     @Override
     public Set<Class<?>> contribute() {
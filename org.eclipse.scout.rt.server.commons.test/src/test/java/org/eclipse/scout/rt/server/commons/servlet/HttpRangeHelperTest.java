@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.server.commons.servlet.HttpRangeHelper.ByteRange;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test for {@link HttpRangeHelper}
+ */
+public class HttpRangeHelperTest {
+
+  private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+  private static final String ETAG = "\"10-abc\"";
+  private static final long LAST_MODIFIED = 1_600_000_000_000L;
+
+  private HttpRangeHelper m_helper;
+  private HttpServletRequest m_req;
+  private HttpServletResponse m_resp;
+  private ByteArrayOutputStream m_out;
+
+  @Before
+  public void before() throws IOException {
+    m_helper = new HttpRangeHelper();
+    m_req = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(m_req.getMethod()).thenReturn("GET");
+    m_resp = Mockito.mock(HttpServletResponse.class);
+    m_out = new ByteArrayOutputStream();
+    Mockito.when(m_resp.getOutputStream()).thenReturn(new ServletOutputStream() {
+      @Override
+      public void write(int b) {
+        m_out.write(b);
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+        // nop
+      }
+    });
+  }
+
+  @Test
+  public void testParseRange() {
+    assertRange(0, 9, m_helper.parseRange("bytes=0-", 10));
+    assertRange(2, 5, m_helper.parseRange("bytes=2-5", 10));
+    assertRange(2, 9, m_helper.parseRange("bytes=2-100", 10));
+    assertRange(7, 9, m_helper.parseRange("bytes=-3", 10));
+    assertRange(0, 9, m_helper.parseRange("bytes=-30", 10));
+    assertRange(3, 3, m_helper.parseRange(" bytes=3-3 ", 10));
+  }
+
+  @Test
+  public void testParseRangeIgnored() {
+    assertNull(m_helper.parseRange(null, 10));
+    assertNull(m_helper.parseRange("", 10));
+    assertNull(m_helper.parseRange("items=0-5", 10));
+    assertNull(m_helper.parseRange("bytes=5-2", 10));
+    assertNull(m_helper.parseRange("bytes=0-1,4-5", 10));
+    assertNull(m_helper.parseRange("bytes=a-b", 10));
+    assertNull(m_helper.parseRange("bytes=5", 10));
+  }
+
+  @Test
+  public void testParseRangeUnsatisfiable() {
+    assertFalse(m_helper.parseRange("bytes=10-", 10).isSatisfiable());
+    assertFalse(m_helper.parseRange("bytes=-0", 10).isSatisfiable());
+    assertFalse(m_helper.parseRange("bytes=0-", 0).isSatisfiable());
+  }
+
+  @Test
+  public void testWriteFullContent() throws IOException {
+    m_helper.write(m_req, m_resp, CONTENT, ETAG, LAST_MODIFIED);
+
+    Mockito.verify(m_resp).setHeader(HttpRangeHelper.ACCEPT_RANGES, HttpRangeHelper.BYTES);
+    Mockito.verify(m_resp, Mockito.never()).setStatus(Mockito.anyInt());
+    Mockito.verify(m_resp).setContentLengthLong(10);
+    assertEquals("0123456789", m_out.toString("US-ASCII"));
+  }
+
+  @Test
+  public void testWriteRange() throws IOException {
+    Mockito.when(m_req.getHeader(HttpRangeHelper.RANGE)).thenReturn("bytes=4-");
+    m_helper.write(m_req, m_resp, CONTENT, ETAG, LAST_MODIFIED);
+
+    Mockito.verify(m_resp).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    Mockito.verify(m_resp).setHeader(HttpRangeHelper.CONTENT_RANGE, "bytes 4-9/10");
+    Mockito.verify(m_resp).setContentLengthLong(6);
+    assertEquals("456789", m_out.toString("US-ASCII"));
+  }
+
+  @Test
+  public void testWriteRangeNotSatisfiable() throws IOException {
+    Mockito.when(m_req.getHeader(HttpRangeHelper.RANGE)).thenReturn("bytes=20-30");
+    m_helper.write(m_req, m_resp, CONTENT, ETAG, LAST_MODIFIED);
+
+    Mockito.verify(m_resp).setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+    Mockito.verify(m_resp).setHeader(HttpRangeHelper.CONTENT_RANGE, "bytes */10");
+    assertEquals(0, m_out.size());
+  }
+
+  @Test
+  public void testWriteRangeHead() throws IOException {
+    Mockito.when(m_req.getMethod()).thenReturn("HEAD");
+    Mockito.when(m_req.getHeader(HttpRangeHelper.RANGE)).thenReturn("bytes=0-1");
+    m_helper.write(m_req, m_resp, CONTENT, ETAG, LAST_MODIFIED);
+
+    Mockito.verify(m_resp).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    Mockito.verify(m_resp).setContentLengthLong(2);
+    assertEquals(0, m_out.size());
+  }
+
+  @Test
+  public void testIfRange() throws IOException {
+    Mockito.when(m_req.getHeader(HttpRangeHelper.RANGE)).thenReturn("bytes=0-1");
+
+    // matching ETag
+    Mockito.when(m_req.getHeader(HttpRangeHelper.IF_RANGE)).thenReturn(ETAG);
+    assertTrue(m_helper.isIfRangeSatisfied(m_req, ETAG, LAST_MODIFIED));
+
+    // modified content or weak ETag
+    assertFalse(m_helper.isIfRangeSatisfied(m_req, "\"10-def\"", LAST_MODIFIED));
+    assertFalse(m_helper.isIfRangeSatisfied(m_req, null, LAST_MODIFIED));
+    Mockito.when(m_req.getHeader(HttpRangeHelper.IF_RANGE)).thenReturn("W/" + ETAG);
+    assertFalse(m_helper.isIfRangeSatisfied(m_req, "W/" + ETAG, LAST_MODIFIED));
+
+    // date
+    Mockito.when(m_req.getHeader(HttpRangeHelper.IF_RANGE)).thenReturn("Sun, 13 Sep 2020 12:26:40 GMT");
+    Mockito.when(m_req.getDateHeader(HttpRangeHelper.IF_RANGE)).thenReturn(LAST_MODIFIED);
+    assertTrue(m_helper.isIfRangeSatisfied(m_req, ETAG, LAST_MODIFIED + 999));
+    assertFalse(m_helper.isIfRangeSatisfied(m_req, ETAG, LAST_MODIFIED + 1000));
+
+    // full content is sent if If-Range does not match
+    m_helper.write(m_req, m_resp, CONTENT, ETAG, LAST_MODIFIED + 5000);
+    Mockito.verify(m_resp, Mockito.never()).setStatus(Mockito.anyInt());
+    assertEquals("0123456789", m_out.toString("US-ASCII"));
+  }
+
+  protected void assertRange(long expectedStart, long expectedEnd, ByteRange range) {
+    assertNotNull(range);
+    assertTrue(range.isSatisfiable());
+    assertEquals(expectedStart, range.getStart());
+    assertEquals(expectedEnd, range.getEnd());
+    assertEquals(expectedEnd - expectedStart + 1, range.getLength());
+  }
+}
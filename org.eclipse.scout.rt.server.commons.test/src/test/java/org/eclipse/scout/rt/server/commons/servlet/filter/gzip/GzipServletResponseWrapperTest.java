@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link GzipServletResponseWrapper}
+ */
+public class GzipServletResponseWrapperTest {
+
+  private HttpServletResponse m_resp;
+  private ByteArrayOutputStream m_out;
+
+  @Before
+  public void before() throws IOException {
+    m_resp = mock(HttpServletResponse.class);
+    m_out = new ByteArrayOutputStream();
+    when(m_resp.getOutputStream()).thenReturn(new ServletOutputStream() {
+      @Override
+      public void write(int b) {
+        m_out.write(b);
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+        // nop
+      }
+    });
+  }
+
+  @Test
+  public void testSmallResponseIsBuffered() throws IOException {
+    byte[] content = createContent(1000);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_resp, 256, r -> true);
+    wrapper.getOutputStream().write(content);
+    assertEquals(0, m_out.size());
+
+    assertTrue(wrapper.finish(256));
+    verify(m_resp).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_resp).setContentLength(m_out.size());
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.toByteArray()));
+    assertEquals(content.length, wrapper.getUncompressedLength());
+  }
+
+  @Test
+  public void testLargeResponseIsStreamedCompressed() throws IOException {
+    byte[] content = createContent(4 * GzipServletResponseWrapper.STREAMING_THRESHOLD);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_resp, 256, r -> true);
+    ServletOutputStream out = wrapper.getOutputStream();
+    out.write(content, 0, GzipServletResponseWrapper.STREAMING_THRESHOLD);
+    out.flush();
+    verify(m_resp).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    out.write(content, GzipServletResponseWrapper.STREAMING_THRESHOLD, content.length - GzipServletResponseWrapper.STREAMING_THRESHOLD);
+    assertTrue(m_out.size() > 0); // streamed before the response is finished
+
+    assertTrue(wrapper.finish(256));
+    verify(m_resp, never()).setContentLength(anyInt());
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.toByteArray()));
+    assertEquals(content.length, wrapper.getUncompressedLength());
+    assertEquals(m_out.size(), wrapper.getCompressedLength());
+  }
+
+  @Test
+  public void testLargeResponseIsStreamedUncompressed() throws IOException {
+    byte[] content = createContent(2 * GzipServletResponseWrapper.STREAMING_THRESHOLD);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_resp, 256, r -> false);
+    wrapper.getOutputStream().write(content);
+
+    assertFalse(wrapper.finish(-1));
+    verify(m_resp, never()).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    assertArrayEquals(content, m_out.toByteArray());
+  }
+
+  protected static byte[] createContent(int length) {
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; sb.length() < length; i++) {
+      sb.append("{\"row\":").append(i).append("},");
+    }
+    return sb.substring(0, length).getBytes(StandardCharsets.UTF_8);
+  }
+}
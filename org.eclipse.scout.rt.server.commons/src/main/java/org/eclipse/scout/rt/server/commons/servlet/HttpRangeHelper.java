@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+
+/**
+ * Writes the content of a response with support for HTTP range requests (<code>Range</code> and <code>If-Range</code>
+ * headers, see RFC 7233).
+ * <p>
+ * Only a single byte range is supported. Requests for multiple ranges and invalid <code>Range</code> headers are
+ * answered with the full content, which is permitted by the specification.
+ *
+ * @since 10.0
+ */
+@ApplicationScoped
+public class HttpRangeHelper {
+
+  public static final String ACCEPT_RANGES = "Accept-Ranges";
+  public static final String RANGE = "Range";
+  public static final String IF_RANGE = "If-Range";
+  public static final String CONTENT_RANGE = "Content-Range";
+  public static final String BYTES = "bytes";
+
+  /**
+   * Writes the requested range of the content (status 206), the full content (status 200) or no content if the range
+   * is not satisfiable (status 416). The body is omitted for <code>HEAD</code> requests.
+   * <p>
+   * The <code>Content-Type</code> and the caching headers must be set by the caller.
+   *
+   * @param contentLength
+   *          length of the full content
+   * @param etag
+   *          the current ETag of the content, <code>null</code> if there is none
+   * @param lastModified
+   *          last modified time of the content in milliseconds, 0 if unknown
+   * @param writer
+   *          writes the requested part of the content into the response
+   */
+  public void write(HttpServletRequest req, HttpServletResponse resp, long contentLength, String etag, long lastModified, IContentWriter writer) throws IOException {
+    resp.setHeader(ACCEPT_RANGES, BYTES);
+
+    ByteRange range = null;
+    if (isIfRangeSatisfied(req, etag, lastModified)) {
+      range = parseRange(req.getHeader(RANGE), contentLength);
+    }
+
+    long offset = 0;
+    long length = contentLength;
+    if (range != null) {
+      if (!range.isSatisfiable()) {
+        resp.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        resp.setHeader(CONTENT_RANGE, BYTES + " */" + contentLength);
+        resp.setContentLength(0);
+        return;
+      }
+      offset = range.getStart();
+      length = range.getLength();
+      resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      resp.setHeader(CONTENT_RANGE, BYTES + " " + range.getStart() + "-" + range.getEnd() + "/" + contentLength);
+    }
+    resp.setContentLengthLong(length);
+
+    if (!"HEAD".equals(req.getMethod())) {
+      writer.write(resp.getOutputStream(), offset, length);
+    }
+  }
+
+  /**
+   * Writes the requested range of the given content, see
+   * {@link #write(HttpServletRequest, HttpServletResponse, long, String, long, IContentWriter)}.
+   */
+  public void write(HttpServletRequest req, HttpServletResponse resp, byte[] content, String etag, long lastModified) throws IOException {
+    write(req, resp, content.length, etag, lastModified, (out, offset, length) -> out.write(content, (int) offset, (int) length));
+  }
+
+  /**
+   * A <code>Range</code> header is only applied if the <code>If-Range</code> header is missing or still matches the
+   * content. If-Range contains either a strong ETag or a date.
+   */
+  protected boolean isIfRangeSatisfied(HttpServletRequest req, String etag, long lastModified) {
+    String ifRange = req.getHeader(IF_RANGE);
+    if (ifRange == null) {
+      return true;
+    }
+    ifRange = ifRange.trim();
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      // weak ETags never match
+      return etag != null && !etag.startsWith("W/") && etag.equals(ifRange);
+    }
+    try {
+      long date = req.getDateHeader(IF_RANGE);
+      // dates in headers have a precision of one second
+      return lastModified > 0 && date >= 0 && lastModified / 1000 == date / 1000;
+    }
+    catch (IllegalArgumentException e) { // NOSONAR
+      return false;
+    }
+  }
+
+  /**
+   * @param range
+   *          value of the <code>Range</code> header
+   * @param contentLength
+   *          length of the full content
+   * @return the requested byte range or <code>null</code> if the full content is to be sent (no header, an invalid
+   *         header or multiple ranges)
+   */
+  public ByteRange parseRange(String range, long contentLength) {
+    if (!StringUtility.hasText(range)) {
+      return null;
+    }
+    range = range.trim();
+    if (!range.startsWith(BYTES + "=")) {
+      return null;
+    }
+    String spec = range.substring(BYTES.length() + 1).trim();
+    int dash = spec.indexOf('-');
+    if (dash < 0 || spec.indexOf(',') >= 0) {
+      return null;
+    }
+
+    long start;
+    long end;
+    try {
+      String first = spec.substring(0, dash).trim();
+      String last = spec.substring(dash + 1).trim();
+      if (first.isEmpty()) {
+        // suffix range: the last n bytes
+        long suffixLength = Long.parseLong(last);
+        if (suffixLength < 0) {
+          return null;
+        }
+        if (suffixLength == 0 || contentLength == 0) {
+          return ByteRange.UNSATISFIABLE;
+        }
+        start = Math.max(0, contentLength - suffixLength);
+        end = contentLength - 1;
+      }
+      else {
+        start = Long.parseLong(first);
+        end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+        if (start < 0 || end < start) {
+          return null;
+        }
+        if (start >= contentLength) {
+          return ByteRange.UNSATISFIABLE;
+        }
+        end = Math.min(end, contentLength - 1);
+      }
+    }
+    catch (NumberFormatException e) { // NOSONAR
+      return null;
+    }
+    return new ByteRange(start, end);
+  }
+
+  /**
+   * Writes a part of a content.
+   */
+  @FunctionalInterface
+  public interface IContentWriter {
+
+    /**
+     * Writes <code>length</code> bytes of the content starting at <code>offset</code> into the given stream. The stream
+     * must not be closed.
+     */
+    void write(OutputStream out, long offset, long length) throws IOException;
+  }
+
+  /**
+   * A range of bytes, start and end are inclusive.
+   */
+  public static final class ByteRange {
+
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private final long m_start;
+    private final long m_end;
+
+    public ByteRange(long start, long end) {
+      m_start = start;
+      m_end = end;
+    }
+
+    public long getStart() {
+      return m_start;
+    }
+
+    public long getEnd() {
+      return m_end;
+    }
+
+    public long getLength() {
+      return m_end - m_start + 1;
+    }
+
+    public boolean isSatisfiable() {
+      return m_start >= 0;
+    }
+
+    @Override
+    public String toString() {
+      return isSatisfiable() ? m_start + "-" + m_end : "unsatisfiable";
+    }
+  }
+}
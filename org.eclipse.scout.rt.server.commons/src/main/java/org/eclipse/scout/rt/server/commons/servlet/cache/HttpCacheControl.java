@@ -10,6 +10,8 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
+import java.util.function.Supplier;
+
 import javax.servlet.RequestDispatcher;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -41,6 +43,7 @@ public class HttpCacheControl {
   public static final String IF_NONE_MATCH = "If-None-Match"; //$NON-NLS-1$
   public static final String ETAG = "ETag"; //$NON-NLS-1$
   public static final String CACHE_CONTROL = "Cache-Control"; //$NON-NLS-1$
+  public static final String VARY = "Vary"; //$NON-NLS-1$
   /**
    * default value (in seconds) used for js and css
    */
@@ -76,6 +79,25 @@ public class HttpCacheControl {
    *         appropriate. If no caching is desired then the disable headers were set.
    */
   public boolean checkAndSetCacheHeaders(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject obj) {
+    return checkAndSetCacheHeadersWithETag(req, resp, obj, () -> obj.createETag());
+  }
+
+  /**
+   * Same as {@link #checkAndSetCacheHeaders(HttpServletRequest, HttpServletResponse, HttpCacheObject)} for an object
+   * which is sent with the given content encoding (see {@link HttpContentEncodingHelper}). A strong ETag specific to
+   * the content encoding is used and the <code>Vary</code> header is set if the object has encoded variants.
+   *
+   * @param contentEncoding
+   *          the content encoding of the response, <code>null</code> if the unencoded resource is sent
+   */
+  public boolean checkAndSetCacheHeaders(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject obj, String contentEncoding) {
+    if (obj != null && obj.hasEncodedResources()) {
+      resp.setHeader(VARY, HttpContentEncodingHelper.ACCEPT_ENCODING);
+    }
+    return checkAndSetCacheHeadersWithETag(req, resp, obj, () -> obj.createStrongETag(contentEncoding));
+  }
+
+  protected boolean checkAndSetCacheHeadersWithETag(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject obj, Supplier<String> etagSupplier) {
     if (!UrlHints.isCacheHint(req)) {
       disableCaching(req, resp);
       return false;
@@ -108,7 +130,7 @@ public class HttpCacheControl {
       resp.setHeader(CACHE_CONTROL, "private, max-age=0, must-revalidate");
     }
 
-    String etag = obj.createETag();
+    String etag = etagSupplier.get();
     String ifNoneMatch = req.getHeader(IF_NONE_MATCH);
     boolean clientSentEtag = (ifNoneMatch != null);
 
@@ -10,15 +10,23 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
+import java.io.File;
 import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.HexUtility;
 
 /**
  * Used in {@link HttpCacheControl} in order to decide caching strategy and set caching headers
@@ -28,7 +36,13 @@ public class HttpCacheObject implements Serializable {
 
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
+  private final File m_file;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  /**
+   * key = content encoding (e.g. gzip), value = the encoded content of {@link #m_resource}
+   */
+  private final Map<String, BinaryResource> m_encodedResources = new ConcurrentHashMap<>();
+  private volatile String m_contentHash;
 
   /**
    * @param cacheKey
@@ -41,6 +55,26 @@ public class HttpCacheObject implements Serializable {
     Assertions.assertNotNull(resource);
     m_cacheKey = cacheKey;
     m_resource = resource;
+    m_file = null;
+  }
+
+  /**
+   * Creates a file-backed object. The content is not held in memory but streamed from the file when it is requested.
+   *
+   * @param cacheKey
+   *          not null
+   * @param resource
+   *          not null, the meta data (content type, last modified etc.) of the file, without content
+   * @param file
+   *          not null
+   */
+  public HttpCacheObject(HttpCacheKey cacheKey, BinaryResource resource, File file) {
+    Assertions.assertNotNull(cacheKey);
+    Assertions.assertNotNull(resource);
+    Assertions.assertNotNull(file);
+    m_cacheKey = cacheKey;
+    m_resource = resource;
+    m_file = file;
   }
 
   public HttpCacheKey getCacheKey() {
@@ -60,15 +94,103 @@ public class HttpCacheObject implements Serializable {
   }
 
   /**
-   * @return an ETAG if the resource's {@link #getContentLength()} and {@link #getFingerprint()} are both not -1
+   * @return the file containing the content of the resource or <code>null</code> if the content is held by
+   *         {@link #getResource()}
+   */
+  public File getFile() {
+    return m_file;
+  }
+
+  /**
+   * @return length of the content, either of {@link #getFile()} or of {@link #getResource()}
+   */
+  public long getContentLength() {
+    if (m_file != null) {
+      return m_file.length();
+    }
+    return m_resource.getContentLength();
+  }
+
+  /**
+   * @return an ETAG if the resource's {@link #getContentLength()} and {@link #getFingerprint()} are both not -1. For a
+   *         file-backed object, the ETag is based on the length and the last modified time of the file.
    */
   public String createETag() {
+    if (m_file != null) {
+      return "W/\"" + createFileHash() + "\"";
+    }
     if (m_resource.getFingerprint() != -1L && m_resource.getContentLength() != -1L) {
       return "W/\"" + m_resource.getContentLength() + "-" + m_resource.getFingerprint() + "\"";
     }
     return null;
   }
 
+  /**
+   * @param contentEncoding
+   *          the content encoding, <code>null</code> for the unencoded resource
+   * @return a strong ETag for the representation of the resource with the given content encoding, based on a hash of
+   *         the content, or <code>null</code> if the resource has no content
+   */
+  public String createStrongETag(String contentEncoding) {
+    if (m_file != null) {
+      return "\"" + createFileHash() + (contentEncoding == null ? "" : "-" + contentEncoding) + "\"";
+    }
+    if (m_resource.getContent() == null) {
+      return null;
+    }
+    String contentHash = m_contentHash;
+    if (contentHash == null) {
+      try {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(m_resource.getContent());
+        contentHash = HexUtility.encode(Arrays.copyOf(digest, 16));
+      }
+      catch (NoSuchAlgorithmException e) {
+        throw new PlatformException("SHA-256 not supported", e);
+      }
+      m_contentHash = contentHash;
+    }
+    return "\"" + m_resource.getContentLength() + "-" + contentHash + (contentEncoding == null ? "" : "-" + contentEncoding) + "\"";
+  }
+
+  protected String createFileHash() {
+    return m_file.length() + "-" + Long.toHexString(m_file.lastModified());
+  }
+
+  /**
+   * Adds a variant of the resource, encoded with the given content encoding (e.g. gzip or br).
+   */
+  public void putEncodedResource(String contentEncoding, BinaryResource encodedResource) {
+    Assertions.assertNotNull(contentEncoding);
+    Assertions.assertNotNull(encodedResource);
+    m_encodedResources.put(contentEncoding, encodedResource);
+  }
+
+  /**
+   * @return the variant of the resource encoded with the given content encoding or <code>null</code> if there is none
+   */
+  public BinaryResource getEncodedResource(String contentEncoding) {
+    if (contentEncoding == null) {
+      return null;
+    }
+    return m_encodedResources.get(contentEncoding);
+  }
+
+  public boolean hasEncodedResources() {
+    return !m_encodedResources.isEmpty();
+  }
+
+  /**
+   * @return number of content bytes held by this object, including the encoded variants (the content of a
+   *         file-backed object is not held in memory)
+   */
+  public long getSize() {
+    long size = Math.max(0, m_resource.getContentLength());
+    for (BinaryResource encodedResource : m_encodedResources.values()) {
+      size += Math.max(0, encodedResource.getContentLength());
+    }
+    return size;
+  }
+
   public void addHttpResponseInterceptor(IHttpResponseInterceptor interceptor) {
     m_httpResponseInterceptors.add(interceptor);
   }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+
+/**
+ * Support for precompressed variants of cached resources (see {@link HttpCacheObject#getEncodedResource(String)}).
+ * <p>
+ * The variants are computed once when a resource is added to a cache, instead of compressing the resource on every
+ * request. The <code>Content-Encoding</code> of the response is negotiated using the <code>Accept-Encoding</code>
+ * header of the request.
+ *
+ * @since 10.0
+ */
+@ApplicationScoped
+public class HttpContentEncodingHelper {
+
+  public static final String ACCEPT_ENCODING = "Accept-Encoding";
+  public static final String CONTENT_ENCODING = "Content-Encoding";
+  public static final String GZIP = "gzip";
+  public static final String BROTLI = "br";
+
+  /**
+   * Minimum size in bytes of a resource to be compressed.
+   */
+  public static final int MIN_SIZE_TO_COMPRESS = 256;
+
+  private final List<String> m_contentEncodings = Collections.unmodifiableList(Arrays.asList(BROTLI, GZIP));
+  private final Set<String> m_compressibleContentTypes = CollectionUtility.hashSet(StringUtility.split(GzipServletFilter.CONTENT_TYPES, ","));
+
+  /**
+   * @return the supported content encodings, ordered by preference
+   */
+  public List<String> getContentEncodings() {
+    return m_contentEncodings;
+  }
+
+  /**
+   * Adds a gzip variant to the given object, unless it already has one (e.g. provided by the build) or the resource is
+   * not worth compressing.
+   */
+  public void precompress(HttpCacheObject obj) {
+    BinaryResource resource = obj.getResource();
+    if (!obj.isCachingAllowed() || obj.getEncodedResource(GZIP) != null || !isCompressible(resource)) {
+      return;
+    }
+    byte[] gzipped;
+    try {
+      gzipped = IOUtility.compressGzip(resource.getContent());
+    }
+    catch (IOException e) {
+      throw new PlatformException("Unable to compress resource '{}'", resource.getFilename(), e);
+    }
+    if (gzipped.length < resource.getContentLength()) {
+      obj.putEncodedResource(GZIP, createEncodedResource(resource, gzipped));
+    }
+  }
+
+  protected boolean isCompressible(BinaryResource resource) {
+    if (resource.getContent() == null || resource.getContentLength() < MIN_SIZE_TO_COMPRESS || resource.getContentType() == null) {
+      return false;
+    }
+    // Content type may contain the charset parameter separated by ; -> remove it
+    return m_compressibleContentTypes.contains(resource.getContentType().split(";")[0]);
+  }
+
+  /**
+   * @return a {@link BinaryResource} with the same metadata as the given resource but the given encoded content
+   */
+  public BinaryResource createEncodedResource(BinaryResource resource, byte[] encodedContent) {
+    return BinaryResources.create()
+        .withFilename(resource.getFilename())
+        .withContentType(resource.getContentType())
+        .withCharset(resource.getCharset())
+        .withContent(encodedContent)
+        .withLastModified(resource.getLastModified())
+        .withCachingAllowed(resource.isCachingAllowed())
+        .withCacheMaxAge(resource.getCacheMaxAge())
+        .build();
+  }
+
+  /**
+   * @return the content encoding to use for the response or <code>null</code> if the unencoded resource is to be sent
+   */
+  public String negotiateContentEncoding(HttpServletRequest req, HttpCacheObject obj) {
+    if (obj == null || !obj.hasEncodedResources() || !UrlHints.isCompressHint(req)) {
+      return null;
+    }
+    String acceptEncoding = req.getHeader(ACCEPT_ENCODING);
+    if (acceptEncoding == null) {
+      return null;
+    }
+    for (String contentEncoding : getContentEncodings()) {
+      if (obj.getEncodedResource(contentEncoding) != null && isAccepted(acceptEncoding, contentEncoding)) {
+        return contentEncoding;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return <code>true</code> if the <code>Accept-Encoding</code> header value accepts the given content encoding with
+   *         a quality greater than 0
+   */
+  protected boolean isAccepted(String acceptEncoding, String contentEncoding) {
+    Boolean wildcard = null;
+    for (String token : acceptEncoding.split(",")) {
+      String[] parts = token.split(";");
+      String coding = parts[0].trim();
+      boolean accepted = parseQuality(parts) > 0;
+      if (coding.equalsIgnoreCase(contentEncoding)) {
+        return accepted;
+      }
+      if ("*".equals(coding)) {
+        wildcard = accepted;
+      }
+    }
+    return Boolean.TRUE.equals(wildcard);
+  }
+
+  protected double parseQuality(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      String param = parts[i].trim();
+      if (param.startsWith("q=")) {
+        try {
+          return Double.parseDouble(param.substring(2).trim());
+        }
+        catch (NumberFormatException e) { // NOSONAR
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+}
@@ -10,51 +10,138 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheMaxSizeProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A server side cache use to store web resources like HTML, CSS and JS.
+ * Resource cache bounded by the number of cached bytes (see {@link HttpResourceCacheMaxSizeProperty}). If the limit is
+ * exceeded, the least recently used objects are evicted.
+ * <p>
+ * Lookups and modifications do not lock. Eviction is done by one thread at a time while the others continue.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  private final ConcurrentMap<HttpCacheKey, CacheEntry> m_cache = new ConcurrentHashMap<>();
+  private final AtomicLong m_size = new AtomicLong();
+  private final AtomicBoolean m_evicting = new AtomicBoolean();
+  private final long m_maxSize;
+
+  public HttpResourceCache() {
+    m_maxSize = CONFIG.getPropertyValue(HttpResourceCacheMaxSizeProperty.class);
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
-    m_cache.put(obj.getCacheKey(), obj);
+    CacheEntry entry = new CacheEntry(obj);
+    long maxSize = getMaxSize();
+    if (maxSize > 0 && entry.m_size > maxSize) {
+      LOG.debug("Object too large for cache: {} size={}", obj.getCacheKey(), entry.m_size);
+      return false;
+    }
+    CacheEntry oldEntry = m_cache.put(obj.getCacheKey(), entry);
+    m_size.addAndGet(entry.m_size - (oldEntry == null ? 0 : oldEntry.m_size));
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
+    evictIfNecessary();
     return true;
   }
 
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.get(cacheKey);
-    LOG.debug("Lookup object in cache: {} found={}", cacheKey, obj != null);
-    return obj;
+    CacheEntry entry = m_cache.get(cacheKey);
+    LOG.debug("Lookup object in cache: {} found={}", cacheKey, entry != null);
+    if (entry == null) {
+      return null;
+    }
+    entry.m_lastAccess = System.nanoTime();
+    return entry.m_obj;
   }
 
   @Override
   public HttpCacheObject remove(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.remove(cacheKey);
-    LOG.debug("Remove object in cache: {} removed={}", cacheKey, obj != null);
-    return obj;
+    CacheEntry entry = m_cache.remove(cacheKey);
+    LOG.debug("Remove object in cache: {} removed={}", cacheKey, entry != null);
+    if (entry == null) {
+      return null;
+    }
+    m_size.addAndGet(-entry.m_size);
+    return entry.m_obj;
   }
 
   @Override
   public void clear() {
     LOG.debug("Clear resource cache");
-    m_cache.clear();
+    m_cache.forEach(this::removeEntry);
+  }
+
+  /**
+   * @return number of bytes currently held by this cache
+   */
+  public long getSize() {
+    return m_size.get();
+  }
+
+  /**
+   * @return maximum number of bytes this cache may hold, 0 means no limit
+   */
+  protected long getMaxSize() {
+    return m_maxSize;
+  }
+
+  protected void evictIfNecessary() {
+    long maxSize = getMaxSize();
+    if (maxSize <= 0 || m_size.get() <= maxSize || !m_evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      List<CacheEntry> entries = new ArrayList<>(m_cache.values());
+      // sort by a snapshot of the last access, concurrent lookups must not change the order while sorting
+      entries.forEach(e -> e.m_lastAccessSnapshot = e.m_lastAccess);
+      entries.sort(Comparator.comparingLong(e -> e.m_lastAccessSnapshot));
+      for (CacheEntry entry : entries) {
+        if (m_size.get() <= maxSize) {
+          break;
+        }
+        LOG.debug("Evict object from cache: {}", entry.m_obj.getCacheKey());
+        removeEntry(entry.m_obj.getCacheKey(), entry);
+      }
+    }
+    finally {
+      m_evicting.set(false);
+    }
+  }
+
+  protected void removeEntry(HttpCacheKey cacheKey, CacheEntry entry) {
+    if (m_cache.remove(cacheKey, entry)) {
+      m_size.addAndGet(-entry.m_size);
+    }
+  }
+
+  protected static class CacheEntry {
+    private final HttpCacheObject m_obj;
+    private final long m_size;
+    private volatile long m_lastAccess = System.nanoTime();
+    private long m_lastAccessSnapshot; // only used by the evicting thread
+
+    protected CacheEntry(HttpCacheObject obj) {
+      m_obj = obj;
+      m_size = obj.getSize();
+    }
   }
 }
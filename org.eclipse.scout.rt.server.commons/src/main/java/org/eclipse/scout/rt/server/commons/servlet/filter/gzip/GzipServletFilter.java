@@ -78,7 +78,9 @@ public class GzipServletFilter implements Filter {
       }
     }
     if (requestAcceptsGzipEncoding(req)) {
-      resp = new GzipServletResponseWrapper(resp);
+      // large responses are streamed, whether they are compressed is decided as soon as the streaming threshold is reached
+      final HttpServletRequest gzipReq = req;
+      resp = new GzipServletResponseWrapper(resp, minimumLengthToCompress(req), r -> responseNeedsGzipEncoding(gzipReq, r));
     }
 
     chain.doFilter(req, resp);
@@ -115,6 +117,10 @@ public class GzipServletFilter implements Filter {
     if (!UrlHints.isCompressHint(req)) {
       return false;
     }
+    if (resp.containsHeader(CONTENT_ENCODING)) {
+      // already encoded, e.g. a precompressed resource
+      return false;
+    }
     String contentType = resp.getContentType();
     if (contentType == null) {
       return false;
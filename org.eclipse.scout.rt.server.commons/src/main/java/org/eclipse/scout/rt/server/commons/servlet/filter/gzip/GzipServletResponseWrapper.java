@@ -10,9 +10,13 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
@@ -20,23 +24,53 @@ import javax.servlet.http.HttpServletResponseWrapper;
 
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.HttpRangeHelper;
 
 public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
+  public static final String TEXT_EVENT_STREAM = "text/event-stream";
+
+  /**
+   * Responses larger than this number of bytes are streamed to the client instead of being buffered completely (see
+   * {@link StreamingGzipOutputStream}).
+   */
+  public static final int STREAMING_THRESHOLD = 64 * 1024;
+
   private BufferedServletOutputStream m_buf;
   private int m_compressedLength = -1;
   private int m_uncompressedLength = -1;
   // one of these two is used
   private ServletOutputStream m_servletOut;
   private PrintWriter m_writer;
+  private int m_contentLength = -1;
+  private final int m_minimumLengthToCompress;
+  private final Predicate<HttpServletResponse> m_compressible;
 
+  /**
+   * Creates a wrapper buffering the whole response. Whether it is compressed is decided by {@link #finish(int)}.
+   */
   public GzipServletResponseWrapper(HttpServletResponse resp) {
+    this(resp, -1, null);
+  }
+
+  /**
+   * Creates a wrapper which streams responses larger than {@link #STREAMING_THRESHOLD} (or
+   * {@code minimumLengthToCompress} if larger) instead of buffering them.
+   *
+   * @param minimumLengthToCompress
+   *          is the minimum uncompressed size that is compressed, -1 disables compression
+   * @param compressible
+   *          decides whether a response is compressed, evaluated as soon as the threshold is reached
+   */
+  public GzipServletResponseWrapper(HttpServletResponse resp, int minimumLengthToCompress, Predicate<HttpServletResponse> compressible) {
     super(resp);
+    m_minimumLengthToCompress = minimumLengthToCompress;
+    m_compressible = compressible;
   }
 
   protected BufferedServletOutputStream ensureBufferedStream() {
     if (m_buf == null) {
-      m_buf = new BufferedServletOutputStream();
+      m_buf = m_compressible != null ? new StreamingGzipOutputStream() : new BufferedServletOutputStream();
     }
     return m_buf;
   }
@@ -61,11 +95,31 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       throw new IllegalStateException("getWriter was previsouly called, getOutputStream is not available");
     }
     if (m_servletOut == null) {
-      m_servletOut = ensureBufferedStream();
+      if (isPassThrough()) {
+        // not buffered, the content length is known
+        if (m_contentLength >= 0) {
+          getResponse().setContentLength(m_contentLength);
+        }
+        m_servletOut = getResponse().getOutputStream();
+      }
+      else {
+        m_servletOut = ensureBufferedStream();
+      }
     }
     return m_servletOut;
   }
 
+  /**
+   * Responses which are already encoded (e.g. precompressed resources) and responses supporting range requests (which
+   * refer to the unencoded bytes) are never compressed. They are written directly to the response instead of being
+   * buffered, which allows to stream large contents. The same applies to event streams, whose events must reach the
+   * client as soon as they are flushed.
+   */
+  protected boolean isPassThrough() {
+    return containsHeader(GzipServletFilter.CONTENT_ENCODING) || containsHeader(HttpRangeHelper.ACCEPT_RANGES)
+        || (getContentType() != null && getContentType().startsWith(TEXT_EVENT_STREAM));
+  }
+
   @Override
   public PrintWriter getWriter() throws IOException {
     if (m_servletOut != null) {
@@ -79,7 +133,8 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void setContentLength(int len) {
-    // ignored
+    // ignored unless the response is not buffered (see getOutputStream)
+    m_contentLength = len;
   }
 
   @Override
@@ -104,7 +159,15 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       m_writer = null;
     }
     boolean compressed = false;
-    if (m_buf != null) {
+    if (m_buf instanceof StreamingGzipOutputStream && ((StreamingGzipOutputStream) m_buf).isStreaming()) {
+      StreamingGzipOutputStream streamingBuf = (StreamingGzipOutputStream) m_buf;
+      m_buf = null;
+      compressed = streamingBuf.finishStreaming();
+      m_uncompressedLength = (int) Math.min(streamingBuf.getUncompressedLength(), Integer.MAX_VALUE);
+      m_compressedLength = (int) Math.min(streamingBuf.getCompressedLength(), Integer.MAX_VALUE);
+      super.flushBuffer();
+    }
+    else if (m_buf != null) {
       m_buf.close();
       byte[] raw = m_buf.getContent();
       m_uncompressedLength = raw.length;
@@ -128,4 +191,130 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     }
     return compressed;
   }
+
+  /**
+   * Buffers the content until the streaming threshold is reached. Then it decides whether the response is compressed
+   * and streams the buffered as well as all further content to the response, through a {@link GZIPOutputStream} if
+   * compressed. No content length is set for streamed responses.
+   */
+  protected class StreamingGzipOutputStream extends BufferedServletOutputStream {
+
+    private final int m_threshold = Math.max(STREAMING_THRESHOLD, m_minimumLengthToCompress);
+    private int m_bufferedLength;
+    private long m_uncompressedLength;
+    private CountingOutputStream m_counter;
+    private GZIPOutputStream m_gzip;
+    private OutputStream m_out; // not null as soon as the content is streamed
+
+    public boolean isStreaming() {
+      return m_out != null;
+    }
+
+    public long getUncompressedLength() {
+      return m_uncompressedLength;
+    }
+
+    public long getCompressedLength() {
+      return m_counter != null ? m_counter.getCount() : 0;
+    }
+
+    @Override
+    public void write(byte[] b) throws IOException {
+      write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (m_out != null) {
+        m_out.write(b, off, len);
+        m_uncompressedLength += len;
+        return;
+      }
+      super.write(b, off, len);
+      m_bufferedLength += len;
+      startStreamingIfNecessary();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (m_out != null) {
+        m_out.write(b);
+        m_uncompressedLength++;
+        return;
+      }
+      super.write(b);
+      m_bufferedLength++;
+      startStreamingIfNecessary();
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (m_out != null) {
+        m_out.flush();
+      }
+    }
+
+    protected void startStreamingIfNecessary() throws IOException {
+      if (m_bufferedLength < m_threshold) {
+        return;
+      }
+      HttpServletResponse res = (HttpServletResponse) getResponse();
+      m_counter = new CountingOutputStream(res.getOutputStream());
+      if (m_minimumLengthToCompress >= 0 && m_compressible.test(GzipServletResponseWrapper.this)) {
+        res.addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+        m_gzip = new GZIPOutputStream(m_counter, 8192);
+        m_out = m_gzip;
+      }
+      else {
+        m_out = m_counter;
+      }
+      byte[] buffered = getContent();
+      m_out.write(buffered);
+      m_uncompressedLength = buffered.length;
+    }
+
+    /**
+     * @return true if the content was compressed
+     */
+    public boolean finishStreaming() throws IOException {
+      if (m_gzip != null) {
+        m_gzip.finish();
+      }
+      m_counter.flush();
+      return m_gzip != null;
+    }
+  }
+
+  /**
+   * Counts the bytes written to the response. Closing it does not close the response.
+   */
+  protected static class CountingOutputStream extends FilterOutputStream {
+
+    private long m_count;
+
+    public CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    public long getCount() {
+      return m_count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      m_count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      m_count += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.platform.util.ScoutAssert;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectStream(String, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SelectStreamTest {
+
+  private static final Object[][] DATA = new Object[][]{
+      new Object[]{true, 1, "abc"},
+      new Object[]{null, 2, "def"},
+      new Object[]{false, 3, null},
+  };
+
+  @Test
+  public void testSelectStream() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+
+    List<Object[]> rows;
+    try (Stream<Object[]> stream = sql.selectStream("SELECT A,B,C FROM T")) {
+      rows = stream.collect(Collectors.toList());
+    }
+    assertEquals(3, rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      assertArrayEquals(DATA[i], rows.get(i));
+    }
+  }
+
+  @Test
+  public void testSelectStreamIsLazy() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+
+    try (Stream<Object[]> stream = sql.selectStream("SELECT A,B,C FROM T")) {
+      assertFalse("statement must not be executed before the first row is requested", sql.getProtocol().toString().contains("executeQuery"));
+      assertEquals(2, stream.limit(2).count());
+      assertTrue(sql.getProtocol().toString().contains("executeQuery"));
+    }
+  }
+
+  @Test
+  public void testSelectStreamWithFetchSize() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+
+    try (Stream<Object[]> stream = sql.selectStreamWithFetchSize("SELECT A,B,C FROM T", 2)) {
+      assertEquals(3, stream.count());
+    }
+    assertTrue(sql.getProtocol().toString().contains("setFetchSize"));
+  }
+
+  @Test
+  public void testSelectStreamClosedByTransaction() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+    AbstractSqlTransactionMember member = new AbstractSqlTransactionMember(sql.getTransactionMemberId()) {
+      @Override
+      public void release() {
+        closeOpenCursors();
+      }
+    };
+    ITransaction.CURRENT.get().registerMember(member);
+    try (Stream<Object[]> stream = sql.selectStream("SELECT A,B,C FROM T")) {
+      Iterator<Object[]> it = stream.iterator();
+      assertArrayEquals(DATA[0], it.next());
+
+      // the transaction ends while the stream is still open, the remaining rows must not silently disappear
+      member.release();
+      ScoutAssert.assertThrows(ProcessingException.class, it::hasNext);
+    }
+    finally {
+      ITransaction.CURRENT.get().unregisterMember(member);
+    }
+  }
+}
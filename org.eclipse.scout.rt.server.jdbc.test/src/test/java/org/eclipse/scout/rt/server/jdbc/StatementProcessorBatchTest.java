@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link StatementProcessor#processModificationBatch(Connection, IStatementCache, IStatementProcessorMonitor, int)}
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class StatementProcessorBatchTest {
+
+  private Connection m_connection;
+  private PreparedStatement m_statement;
+
+  @Before
+  public void before() throws SQLException {
+    m_statement = mock(PreparedStatement.class);
+    when(m_statement.executeBatch()).thenReturn(new int[]{1, 1}, new int[]{1});
+    m_connection = mock(Connection.class);
+    when(m_connection.prepareStatement(anyString())).thenReturn(m_statement);
+  }
+
+  @Test
+  public void testBatchSize() throws SQLException {
+    int[] updateCounts = createStatementProcessor().processModificationBatch(m_connection, new PreparedStatementCache(1), null, 2);
+
+    assertArrayEquals(new int[]{1, 1, 1}, updateCounts);
+    verify(m_connection, times(1)).prepareStatement(anyString());
+    verify(m_statement, times(3)).addBatch();
+    verify(m_statement, times(2)).executeBatch();
+    verify(m_statement, never()).executeUpdate();
+  }
+
+  @Test
+  public void testUnlimitedBatchSize() throws SQLException {
+    when(m_statement.executeBatch()).thenReturn(new int[]{1, 1, 1});
+    int[] updateCounts = createStatementProcessor().processModificationBatch(m_connection, new PreparedStatementCache(1), null, 0);
+
+    assertArrayEquals(new int[]{1, 1, 1}, updateCounts);
+    verify(m_statement, times(1)).executeBatch();
+  }
+
+  protected StatementProcessor createStatementProcessor() {
+    BatchRow[] rows = new BatchRow[]{new BatchRow(1L, "a"), new BatchRow(2L, "b"), new BatchRow(3L, "c")};
+    return new StatementProcessor(new SqlServiceMock(), "INSERT INTO T (ID, NAME) VALUES (:{rows.id}, :{rows.name})", new Object[]{new NVPair("rows", rows)});
+  }
+
+  public static class BatchRow {
+    private final Long m_id;
+    private final String m_name;
+
+    public BatchRow(Long id, String name) {
+      m_id = id;
+      m_name = name;
+    }
+
+    public Long getId() {
+      return m_id;
+    }
+
+    public String getName() {
+      return m_name;
+    }
+  }
+}
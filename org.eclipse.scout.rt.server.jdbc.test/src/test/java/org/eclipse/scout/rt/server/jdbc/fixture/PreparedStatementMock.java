@@ -82,4 +82,12 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   public int executeUpdate() {
     return 0;
   }
+
+  public int getFetchSize() {
+    return 10;
+  }
+
+  public void setFetchSize(int rows) {
+    //ok
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PooledStatementCache}
+ */
+public class PooledStatementCacheTest {
+
+  private Connection m_connection;
+  private PooledStatementCache.Statistics m_statistics;
+  private PooledStatementCache m_cache;
+
+  @Before
+  public void before() throws SQLException {
+    m_connection = mock(Connection.class);
+    when(m_connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+    m_statistics = new PooledStatementCache.Statistics();
+    m_cache = new PooledStatementCache(m_connection, 2, m_statistics);
+  }
+
+  @Test
+  public void testReuseAfterRelease() throws SQLException {
+    PreparedStatement ps1 = m_cache.getPreparedStatement(m_connection, "SELECT 1");
+    m_cache.releasePreparedStatement(ps1);
+    PreparedStatement ps2 = m_cache.getPreparedStatement(m_connection, "SELECT 1");
+    m_cache.releasePreparedStatement(ps2);
+
+    assertSame(ps1, ps2);
+    verify(ps1, never()).close();
+    verify(m_connection, times(1)).prepareStatement("SELECT 1");
+    assertEquals(1, m_statistics.getHitCount());
+    assertEquals(1, m_statistics.getMissCount());
+  }
+
+  @Test
+  public void testStatementInUseIsNotSharedTwice() throws SQLException {
+    PreparedStatement outer = m_cache.getPreparedStatement(m_connection, "SELECT 1");
+    PreparedStatement inner = m_cache.getPreparedStatement(m_connection, "SELECT 1");
+    assertNotSame(outer, inner);
+
+    m_cache.releasePreparedStatement(inner);
+    verify(inner).close();
+    m_cache.releasePreparedStatement(outer);
+    verify(outer, never()).close();
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() throws SQLException {
+    PreparedStatement ps1 = m_cache.getPreparedStatement(m_connection, "SELECT 1");
+    m_cache.releasePreparedStatement(ps1);
+    PreparedStatement ps2 = m_cache.getPreparedStatement(m_connection, "SELECT 2");
+    m_cache.releasePreparedStatement(ps2);
+    // touch ps1, ps2 becomes least recently used
+    m_cache.releasePreparedStatement(m_cache.getPreparedStatement(m_connection, "SELECT 1"));
+
+    PreparedStatement ps3 = m_cache.getPreparedStatement(m_connection, "SELECT 3");
+    m_cache.releasePreparedStatement(ps3);
+
+    assertEquals(2, m_cache.size());
+    verify(ps2).close();
+    verify(ps1, never()).close();
+    assertEquals(1, m_statistics.getEvictionCount());
+  }
+
+  @Test
+  public void testInvalidate() throws SQLException {
+    PreparedStatement ps1 = m_cache.getPreparedStatement(m_connection, "SELECT 1");
+    m_cache.releasePreparedStatement(ps1);
+
+    m_cache.invalidate();
+    verify(ps1).close();
+    assertEquals(0, m_cache.size());
+    assertEquals(1, m_statistics.getInvalidationCount());
+
+    // not cached anymore
+    PreparedStatement ps2 = m_cache.getPreparedStatement(m_connection, "SELECT 1");
+    m_cache.releasePreparedStatement(ps2);
+    verify(ps2).close();
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link SqlConnectionPool}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private P_SqlConnectionPool m_pool;
+  private AbstractSqlService m_service;
+
+  @Before
+  public void before() {
+    m_service = new AbstractSqlService() {
+      @Override
+      protected void execTestConnection(Connection conn) {
+        // NOOP
+      }
+    };
+    m_pool = new P_SqlConnectionPool();
+    m_pool.initialize("SqlConnectionPoolTest", 2, 60000L, 60000L, 100L);
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testLeaseAndRelease() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    Connection c2 = m_pool.leaseConnection(m_service);
+    assertNotSame(c1, c2);
+    assertEquals(2, m_pool.getActiveCount());
+    assertEquals(0, m_pool.getIdleCount());
+
+    m_pool.releaseConnection(c1);
+    m_pool.releaseConnection(c2);
+    assertEquals(0, m_pool.getActiveCount());
+    assertEquals(2, m_pool.getIdleCount());
+    assertEquals(2, m_pool.getLeaseCount());
+    assertEquals(2, m_pool.getCreatedCount());
+  }
+
+  @Test
+  public void testThreadAffinity() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+
+    // another thread leases c2 and releases it after this thread released c1, hence c2 is on top of the idle deque
+    AtomicReference<Connection> c2 = new AtomicReference<>();
+    Thread other = new Thread(() -> {
+      try {
+        c2.set(m_pool.leaseConnection(m_service));
+      }
+      catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    other.start();
+    other.join();
+    assertNotNull(c2.get());
+    assertNotSame(c1, c2.get());
+
+    m_pool.releaseConnection(c1);
+    m_pool.releaseConnection(c2.get());
+
+    // plain LIFO reuse would return c2, but this thread leased c1 last
+    assertSame(c1, m_pool.leaseConnection(m_service));
+  }
+
+  @Test
+  public void testLeaseWithoutTimeoutWaits() throws Exception {
+    m_pool.destroy();
+    m_pool = new P_SqlConnectionPool();
+    m_pool.initialize("SqlConnectionPoolTest", 1, 60000L, 60000L, 0L);
+
+    final Connection c1 = m_pool.leaseConnection(m_service);
+    Thread releaser = new Thread(() -> {
+      try {
+        Thread.sleep(300L);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      m_pool.releaseConnection(c1);
+    });
+    releaser.start();
+    assertSame(c1, m_pool.leaseConnection(m_service));
+    releaser.join();
+    assertEquals(0, m_pool.getLeaseTimeoutCount());
+  }
+
+  @Test
+  public void testLeaseTimeout() throws Exception {
+    m_pool.leaseConnection(m_service);
+    m_pool.leaseConnection(m_service);
+    try {
+      m_pool.leaseConnection(m_service);
+      fail("pool exhausted, lease must time out");
+    }
+    catch (ProcessingException expected) {
+      assertEquals(1, m_pool.getLeaseTimeoutCount());
+    }
+  }
+
+  @Test
+  public void testReleaseWakesUpWaitingLease() throws Exception {
+    m_pool.destroy();
+    m_pool = new P_SqlConnectionPool();
+    m_pool.initialize("SqlConnectionPoolTest", 1, 60000L, 60000L, 10000L);
+
+    final Connection c1 = m_pool.leaseConnection(m_service);
+    Thread releaser = new Thread(() -> {
+      try {
+        Thread.sleep(100L);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      m_pool.releaseConnection(c1);
+    });
+    releaser.start();
+    assertSame(c1, m_pool.leaseConnection(m_service));
+    releaser.join();
+    assertEquals(1, m_pool.getCreatedCount());
+  }
+
+  @Test
+  public void testDirtyConnectionIsClosed() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    when(c1.isClosed()).thenReturn(true);
+    m_pool.releaseConnection(c1);
+    assertEquals(0, m_pool.getIdleCount());
+    assertEquals(1, m_pool.getClosedCount());
+
+    Connection c2 = m_pool.leaseConnection(m_service);
+    assertNotSame(c1, c2);
+  }
+
+  @Test
+  public void testStatementCacheSurvivesRelease() throws Exception {
+    m_pool.destroy();
+    m_pool = new P_SqlConnectionPool();
+    m_pool.setStatementCacheSize(10);
+    m_pool.initialize("SqlConnectionPoolTest", 1, 60000L, 60000L, 100L);
+
+    Connection c1 = m_pool.leaseConnection(m_service);
+    PooledStatementCache cache = m_pool.getStatementCache(c1);
+    assertNotNull(cache);
+    m_pool.releaseConnection(c1);
+    assertNull(m_pool.getStatementCache(c1));
+
+    assertSame(c1, m_pool.leaseConnection(m_service));
+    assertSame(cache, m_pool.getStatementCache(c1));
+  }
+
+  @Test
+  public void testStatementCacheInvalidatedWithDirtyConnection() throws Exception {
+    m_pool.destroy();
+    m_pool = new P_SqlConnectionPool();
+    m_pool.setStatementCacheSize(10);
+    m_pool.initialize("SqlConnectionPoolTest", 1, 60000L, 60000L, 100L);
+
+    Connection c1 = m_pool.leaseConnection(m_service);
+    when(c1.isClosed()).thenReturn(true);
+    m_pool.releaseConnection(c1);
+    assertEquals(1, m_pool.getStatementCacheInvalidationCount());
+  }
+
+  @Test
+  public void testConnectionsWithEqualsOverridden() throws Exception {
+    m_pool.destroy();
+    m_pool = new P_SqlConnectionPool() {
+      @Override
+      protected Connection createConnection(AbstractSqlService service) throws SQLException {
+        return createAlwaysEqualConnection();
+      }
+    };
+    m_pool.initialize("SqlConnectionPoolTest", 2, 60000L, 60000L, 100L);
+
+    Connection c1 = m_pool.leaseConnection(m_service);
+    Connection c2 = m_pool.leaseConnection(m_service);
+    assertEquals(c1, c2);
+    assertNotSame(c1, c2);
+    assertEquals(2, m_pool.getActiveCount());
+
+    m_pool.releaseConnection(c1);
+    m_pool.releaseConnection(c2);
+    assertEquals(0, m_pool.getActiveCount());
+    assertEquals(2, m_pool.getIdleCount());
+  }
+
+  /**
+   * @return connection proxy equal to all other connections created by this method, like some driver proxies are
+   */
+  private static Connection createAlwaysEqualConnection() {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "equals":
+          return args[0] instanceof Connection;
+        case "hashCode":
+          return 1;
+        case "toString":
+          return "AlwaysEqualConnection";
+        case "isClosed":
+        case "getAutoCommit":
+          return false;
+        default:
+          return null;
+      }
+    });
+  }
+
+  private static class P_SqlConnectionPool extends SqlConnectionPool {
+
+    @Override
+    protected Connection createConnection(AbstractSqlService service) throws SQLException {
+      return mock(Connection.class);
+    }
+  }
+}
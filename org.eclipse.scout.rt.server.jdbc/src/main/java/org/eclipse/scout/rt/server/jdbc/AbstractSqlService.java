@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 
@@ -46,11 +47,15 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolLeaseTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolStatementCacheProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolWarmUpProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiInitialContextFactoryProperty;
@@ -88,6 +93,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final long m_jdbcPoolLeaseTimeout;
+  private final boolean m_jdbcPoolWarmUp;
+  private final boolean m_jdbcPoolStatementCache;
+  private final int m_jdbcBatchSize;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
@@ -117,9 +126,13 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolLeaseTimeout = getPropertyValue(SqlJdbcPoolLeaseTimeoutProperty.class, getConfiguredJdbcPoolLeaseTimeout());
+    m_jdbcPoolWarmUp = getPropertyValue(SqlJdbcPoolWarmUpProperty.class, getConfiguredJdbcPoolWarmUp());
+    m_jdbcPoolStatementCache = getPropertyValue(SqlJdbcPoolStatementCacheProperty.class, getConfiguredJdbcPoolStatementCache());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -248,12 +261,54 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return maximum time in milliseconds to wait for a pooled connection to become available, <code>0</code> to wait
+   *         forever (default)
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(152)
+  protected long getConfiguredJdbcPoolLeaseTimeout() {
+    return SqlConnectionPool.DEFAULT_LEASE_TIMEOUT;
+  }
+
+  /**
+   * @return <code>true</code> to open {@link #getConfiguredJdbcPoolSize()} connections in the background as soon as the
+   *         connection pool is created
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(155)
+  protected boolean getConfiguredJdbcPoolWarmUp() {
+    return false;
+  }
+
+  /**
+   * @return <code>true</code> to keep prepared statements of pooled connections across transactions (see
+   *         {@link #getConfiguredJdbcStatementCacheSize()}). Only applies to direct JDBC connections. Cached statements
+   *         keep their server cursors open while the connection is idle, so make sure the database limits (e.g.
+   *         OPEN_CURSORS) allow for {@code poolSize * statementCacheSize} open cursors.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(157)
+  protected boolean getConfiguredJdbcPoolStatementCache() {
+    return false;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  /**
+   * @return maximum number of rows sent to the database in one round-trip by {@link #insertBatch(String, Object...)},
+   *         {@link #updateBatch(String, Object...)} and {@link #deleteBatch(String, Object...)}
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(165)
+  protected int getConfiguredJdbcBatchSize() {
+    return 500;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -437,6 +492,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -485,6 +544,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public long getJdbcPoolLeaseTimeout() {
+    return m_jdbcPoolLeaseTimeout;
+  }
+
+  public boolean isJdbcPoolWarmUp() {
+    return m_jdbcPoolWarmUp;
+  }
+
+  public boolean isJdbcPoolStatementCache() {
+    return m_jdbcPoolStatementCache;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
@@ -552,12 +623,24 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   protected synchronized SqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
-      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+      m_pool = createSqlConnectionPool();
+      m_pool.setStatementCacheSize(isJdbcPoolStatementCache() ? getJdbcStatementCacheSize() : 0);
+      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout(), getJdbcPoolLeaseTimeout());
+      if (isJdbcPoolWarmUp()) {
+        m_pool.warmUp(this);
+      }
     }
     return m_pool;
   }
 
+  /**
+   * Creates the (not yet initialized) pool used for direct JDBC connections. By default the {@link SqlConnectionPool}
+   * bean is used, which may be replaced.
+   */
+  protected SqlConnectionPool createSqlConnectionPool() {
+    return BEANS.get(SqlConnectionPool.class);
+  }
+
   /**
    * Destroys the current connection pool (created lazy upon releasing conneciton)
    */
@@ -589,10 +672,20 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   }
 
   /**
-   * @return the statement cache used for this {@link ITransaction} transaction
+   * @return the statement cache of the pooled connection used by the current transaction if available (see
+   *         {@link #isJdbcPoolStatementCache()}), otherwise the statement cache used for this {@link ITransaction}
+   *         transaction
    */
   protected final IStatementCache getStatementCache() {
     ITransaction tx = Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required");
+    final SqlConnectionPool pool = m_pool;
+    if (pool != null) {
+      SqlTransactionMember member = (SqlTransactionMember) tx.getMember(getTransactionMemberId());
+      IStatementCache pooledCache = pool.getStatementCache(member != null ? member.getConnection() : null);
+      if (pooledCache != null) {
+        return pooledCache;
+      }
+    }
     IStatementCache res = (IStatementCache) tx.getMember(PreparedStatementCache.TRANSACTION_MEMBER_ID);
     if (res == null) {
       res = new PreparedStatementCache(getJdbcStatementCacheSize());
@@ -635,21 +728,46 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public Stream<Object[]> selectStream(String s, Object... bindBases) {
+    return selectStreamWithFetchSize(s, 0, bindBases);
+  }
+
+  @Override
+  public Stream<Object[]> selectStreamWithFetchSize(String s, int fetchSize, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectStream(getTransaction(), getStatementCache(), fetchSize);
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
   @Override
   public int update(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
   @Override
   public int delete(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] deleteBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
@@ -810,6 +928,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     public void commitPhase2() {
       try {
         // this is the end of the transaction
+        closeOpenCursors();
         try {
           setFinishingTransaction(true);
           execEndTransaction(false);
@@ -828,6 +947,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     public void rollback() {
       try {
         // this is the end of the transaction
+        closeOpenCursors();
         try {
           setFinishingTransaction(true);
           execEndTransaction(false);
@@ -846,6 +966,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
     @Override
     public void release() {
+      closeOpenCursors();
       releaseConnection(m_conn);
     }
   } // end private class
@@ -12,7 +12,9 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.slf4j.Logger;
@@ -23,6 +25,7 @@ public abstract class AbstractSqlTransactionMember extends AbstractTransactionMe
 
   private final Object m_activeStatementsLock = new Object();
   private final HashSet<Statement> m_activeStatements = new HashSet<>();
+  private final HashSet<AutoCloseable> m_openCursors = new HashSet<>();
   private boolean m_cancelled;
 
   /** true during completion phase (commit/rollback) */
@@ -70,6 +73,54 @@ public abstract class AbstractSqlTransactionMember extends AbstractTransactionMe
     }
   }
 
+  /**
+   * Registers an open cursor (e.g. the stream returned by {@link ISqlService#selectStream(String, Object...)}) in order
+   * to be closed by {@link #closeOpenCursors()} at the latest when the transaction ends.
+   *
+   * @since 10.0
+   */
+  public void registerOpenCursor(AutoCloseable cursor) {
+    synchronized (m_activeStatementsLock) {
+      m_openCursors.add(cursor);
+    }
+  }
+
+  /**
+   * Removes a cursor which was closed by its owner
+   *
+   * @since 10.0
+   */
+  public void unregisterOpenCursor(AutoCloseable cursor) {
+    synchronized (m_activeStatementsLock) {
+      m_openCursors.remove(cursor);
+    }
+  }
+
+  /**
+   * Closes all cursors which are still open. Must be called before the connection is committed, rolled back or
+   * released.
+   *
+   * @since 10.0
+   */
+  protected void closeOpenCursors() {
+    List<AutoCloseable> cursors;
+    synchronized (m_activeStatementsLock) {
+      if (m_openCursors.isEmpty()) {
+        return;
+      }
+      cursors = new ArrayList<>(m_openCursors);
+      m_openCursors.clear();
+    }
+    for (AutoCloseable cursor : cursors) {
+      try {
+        cursor.close();
+      }
+      catch (Exception e) {
+        LOG.warn("failed to close open cursor", e);
+      }
+    }
+  }
+
   @Override
   public void cancel() {
     Iterable<Statement> set;
@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
@@ -238,6 +239,37 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * select data and return it row by row as a lazy {@link Stream}
+   * <p>
+   * In contrast to {@link #select(String, Object...)} the rows are not materialized: the statement is executed when the
+   * first row is requested and rows are fetched from the database while the stream is consumed, using the default fetch
+   * size of the {@link ISqlStyle}. The cursor is closed as soon as the stream is exhausted or closed, at the latest when
+   * the transaction ends. Use try-with-resources if the stream may not be consumed completely:
+   *
+   * <pre>
+   * try (Stream&lt;Object[]&gt; rows = service.selectStream(&quot;SELECT PERSON_NR, NAME FROM PERSON&quot;)) {
+   *   rows.forEach(row -&gt; writer.write(row));
+   * }
+   * </pre>
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @since 10.0
+   */
+  Stream<Object[]> selectStream(String s, Object... bindBases);
+
+  /**
+   * Like {@link #selectStream(String, Object...)} with an explicit JDBC fetch size
+   *
+   * @param fetchSize
+   *          number of rows fetched per round-trip, <code>0</code> to use the default of the {@link ISqlStyle}
+   * @since 10.0
+   */
+  Stream<Object[]> selectStreamWithFetchSize(String s, int fetchSize, Object... bindBases);
+
   /**
    * insert rows
    * <p>
@@ -248,6 +280,20 @@ public interface ISqlService extends IService {
    */
   int insert(String s, Object... bindBases);
 
+  /**
+   * insert rows in JDBC batches
+   * <p>
+   * The statement is executed once per row of the batch binds (<code>:{holder.prop}</code>, see the interface comment
+   * of {@link ISqlService}), but the rows are sent to the database in chunks of the configured JDBC batch size instead
+   * of one round-trip per row.
+   * </p>
+   *
+   * @return number of inserted rows per input row. Drivers may report {@link java.sql.Statement#SUCCESS_NO_INFO} instead
+   *         of the actual count.
+   * @since 10.0
+   */
+  int[] insertBatch(String s, Object... bindBases);
+
   /**
    * update rows
    * <p>
@@ -258,6 +304,20 @@ public interface ISqlService extends IService {
    */
   int update(String s, Object... bindBases);
 
+  /**
+   * update rows in JDBC batches
+   * <p>
+   * The statement is executed once per row of the batch binds (<code>:{holder.prop}</code>, see the interface comment
+   * of {@link ISqlService}), but the rows are sent to the database in chunks of the configured JDBC batch size instead
+   * of one round-trip per row.
+   * </p>
+   *
+   * @return number of updated rows per input row. Drivers may report {@link java.sql.Statement#SUCCESS_NO_INFO} instead
+   *         of the actual count.
+   * @since 10.0
+   */
+  int[] updateBatch(String s, Object... bindBases);
+
   /**
    * delete rows
    * <p>
@@ -268,6 +328,20 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * delete rows in JDBC batches
+   * <p>
+   * The statement is executed once per row of the batch binds (<code>:{holder.prop}</code>, see the interface comment
+   * of {@link ISqlService}), but the rows are sent to the database in chunks of the configured JDBC batch size instead
+   * of one round-trip per row.
+   * </p>
+   *
+   * @return number of deleted rows per input row. Drivers may report {@link java.sql.Statement#SUCCESS_NO_INFO} instead
+   *         of the actual count.
+   * @since 10.0
+   */
+  int[] deleteBatch(String s, Object... bindBases);
+
   /**
    * call a stored procedure
    * <p>
@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.stream.Stream;
 
 public interface IStatementProcessor {
 
@@ -20,8 +21,31 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * Returns the rows of the select as a lazy stream. The statement is executed when the first row is requested. The
+   * cursor is closed when the stream is exhausted, when it is closed or at the latest when the transaction ends.
+   *
+   * @param fetchSize
+   *          JDBC fetch size, <code>0</code> to use {@link org.eclipse.scout.rt.server.jdbc.style.ISqlStyle#getDefaultFetchSize()}
+   * @since 10.0
+   */
+  Stream<Object[]> processSelectStream(Connection conn, IStatementCache cache, int fetchSize);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Executes the modification once per input batch (e.g. <code>:{holder.prop}</code> binds) using
+   * {@link java.sql.PreparedStatement#addBatch()} and sends the rows in chunks of <code>batchSize</code> to the
+   * database.
+   *
+   * @param batchSize
+   *          maximum number of rows sent to the database in one round-trip, <code>0</code> for no limit
+   * @return the update count of every row, in the order of the input batches. Drivers may report
+   *         {@link java.sql.Statement#SUCCESS_NO_INFO} instead of the actual count.
+   * @since 10.0
+   */
+  int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
@@ -120,6 +121,22 @@ public final class SQL {
     service.selectIntoLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#selectStream(String, Object...)
+   */
+  public static Stream<Object[]> selectStream(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectStream(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectStreamWithFetchSize(String, int, Object...)
+   */
+  public static Stream<Object[]> selectStreamWithFetchSize(String s, int fetchSize, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectStreamWithFetchSize(s, fetchSize, bindBases);
+  }
+
   /**
    * @see ISqlService#insert(String, Object...)
    */
@@ -128,6 +145,14 @@ public final class SQL {
     return service.insert(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#insertBatch(String, Object...)
+   */
+  public static int[] insertBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.insertBatch(s, bindBases);
+  }
+
   /**
    * @see ISqlService#update(String, Object...)
    */
@@ -136,6 +161,14 @@ public final class SQL {
     return service.update(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#updateBatch(String, Object...)
+   */
+  public static int[] updateBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.updateBatch(s, bindBases);
+  }
+
   /**
    * @see ISqlService#delete(String, Object...)
    */
@@ -144,6 +177,14 @@ public final class SQL {
     return service.delete(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#deleteBatch(String, Object...)
+   */
+  public static int[] deleteBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.deleteBatch(s, bindBases);
+  }
+
   /**
    * @see ISqlService#callStoredProcedure(String, Object...)
    */
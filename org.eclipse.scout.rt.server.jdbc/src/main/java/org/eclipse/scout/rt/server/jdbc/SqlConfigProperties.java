@@ -205,6 +205,19 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one round-trip by the batch operations of the SQL service. The default value is 500.";
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -217,4 +230,45 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcPoolLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.leaseTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum time in milliseconds to wait for a pooled connection to become available. "
+          + "If no connection becomes available in time, the lease fails with an exception. 0 waits forever. The default value is 0.";
+    }
+  }
+
+  public static class SqlJdbcPoolStatementCacheProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.statementCache";
+    }
+
+    @Override
+    public String description() {
+      return "If true every pooled connection keeps up to 'scout.sql.jdbc.statementCacheSize' prepared statements across transactions (least recently used statements are closed first). "
+          + "If false statements are only cached within a transaction. Only applies if 'scout.sql.directJdbcConnection' is true. The default value is false.";
+    }
+  }
+
+  public static class SqlJdbcPoolWarmUpProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.warmUp";
+    }
+
+    @Override
+    public String description() {
+      return "If true the connection pool opens 'scout.sql.jdbc.pool.size' connections in the background as soon as it is created. The default value is false.";
+    }
+  }
 }
@@ -25,8 +25,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
@@ -418,6 +424,13 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public Stream<Object[]> processSelectStream(Connection conn, IStatementCache cache, int fetchSize) {
+    P_SelectSpliterator spliterator = new P_SelectSpliterator(conn, cache, fetchSize > 0 ? fetchSize : m_callerService.getSqlStyle().getDefaultFetchSize());
+    registerOpenCursor(spliterator);
+    return StreamSupport.stream(spliterator, false).onClose(spliterator::release);
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -457,6 +470,64 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Override
+  public int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize) {
+    PreparedStatement ps = null;
+    String psStm = null;
+    int pendingCount = 0;
+    IntStream.Builder updateCounts = IntStream.builder();
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !m_currentInputStm.equals(psStm)) {
+          // statement text changed (e.g. an IN-list of different length), flush pending rows first
+          executeBatch(ps, updateCounts);
+          cache.releasePreparedStatement(ps);
+          ps = null;
+          pendingCount = 0;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          ps.clearBatch();
+          psStm = m_currentInputStm;
+        }
+        writeBinds(ps);
+        ps.addBatch();
+        pendingCount++;
+        if (batchSize > 0 && pendingCount >= batchSize) {
+          executeBatch(ps, updateCounts);
+          pendingCount = 0;
+        }
+      }
+      if (pendingCount > 0) {
+        executeBatch(ps, updateCounts);
+      }
+      return updateCounts.build().toArray();
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  protected void executeBatch(PreparedStatement ps, IntStream.Builder updateCounts) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      for (int updateCount : ps.executeBatch()) {
+        updateCounts.add(updateCount);
+      }
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -1476,6 +1547,28 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  protected void registerOpenCursor(AutoCloseable cursor) {
+    ITransaction tx = ITransaction.CURRENT.get();
+    if (tx == null) {
+      return;
+    }
+    ITransactionMember member = tx.getMember(getCallerService().getTransactionMemberId());
+    if (member instanceof AbstractSqlTransactionMember) {
+      ((AbstractSqlTransactionMember) member).registerOpenCursor(cursor);
+    }
+  }
+
+  protected void unregisterOpenCursor(AutoCloseable cursor) {
+    ITransaction tx = ITransaction.CURRENT.get();
+    if (tx == null) {
+      return;
+    }
+    ITransactionMember member = tx.getMember(getCallerService().getTransactionMemberId());
+    if (member instanceof AbstractSqlTransactionMember) {
+      ((AbstractSqlTransactionMember) member).unregisterOpenCursor(cursor);
+    }
+  }
+
   private void releasePreparedStatementAndResultSet(PreparedStatement ps, IStatementCache cache, ResultSet rs) {
     if (rs != null) {
       try {
@@ -1487,4 +1580,126 @@ public class StatementProcessor implements IStatementProcessor {
     }
     cache.releasePreparedStatement(ps);
   }
+
+  /**
+   * Pulls the rows of all input batches one by one, the statement of the next input batch is executed once the result
+   * set of the current one is exhausted.
+   * <p>
+   * {@link #close()} is called by the transaction if the stream is still open when the transaction ends. Pulling further
+   * rows then fails instead of silently ending the stream. The stream itself releases the cursor by {@link #release()}.
+   */
+  private class P_SelectSpliterator extends Spliterators.AbstractSpliterator<Object[]> implements AutoCloseable {
+    private final Connection m_conn;
+    private final IStatementCache m_cache;
+    private final int m_fetchSize;
+    private PreparedStatement m_ps;
+    private ResultSet m_rs;
+    private int m_rowCount;
+    private boolean m_closed;
+    private boolean m_closedByTransaction;
+
+    P_SelectSpliterator(Connection conn, IStatementCache cache, int fetchSize) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      m_conn = conn;
+      m_cache = cache;
+      m_fetchSize = fetchSize;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object[]> action) {
+      Object[] row = nextRow();
+      if (row == null) {
+        release();
+        return false;
+      }
+      action.accept(row);
+      return true;
+    }
+
+    private synchronized Object[] nextRow() {
+      if (m_closedByTransaction) {
+        throw new ProcessingException("Cursor was closed because its transaction ended")
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+      try {
+        while (!m_closed) {
+          if (m_maxRowCount > 0 && m_rowCount >= m_maxRowCount) {
+            return null;
+          }
+          if (m_rs == null && !executeNextInputBatch()) {
+            return null;
+          }
+          if (m_rs.next()) {
+            m_rowCount++;
+            return processResultRow(m_rs);
+          }
+          releaseCurrent();
+        }
+        return null;
+      }
+      catch (SQLException | RuntimeException e) {
+        release();
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+    }
+
+    @SuppressWarnings("resource")
+    private boolean executeNextInputBatch() throws SQLException {
+      if (!hasNextInputBatch()) {
+        return false;
+      }
+      nextInputBatch();
+      prepareInputStatementAndBinds();
+      dump();
+      m_ps = m_cache.getPreparedStatement(m_conn, m_currentInputStm);
+      bindBatch(m_ps);
+      registerActiveStatement(m_ps);
+      if (m_fetchSize > 0) {
+        // the statement may be cached, only apply the fetch size to this execution
+        int previousFetchSize = m_ps.getFetchSize();
+        m_ps.setFetchSize(m_fetchSize);
+        m_rs = m_ps.executeQuery();
+        m_ps.setFetchSize(previousFetchSize);
+      }
+      else {
+        m_rs = m_ps.executeQuery();
+      }
+      return true;
+    }
+
+    private void releaseCurrent() {
+      if (m_ps != null) {
+        unregisterActiveStatement(m_ps);
+        releasePreparedStatementAndResultSet(m_ps, m_cache, m_rs);
+      }
+      m_ps = null;
+      m_rs = null;
+    }
+
+    /**
+     * Releases the cursor on behalf of the stream (exhausted, failed or closed by the caller).
+     */
+    void release() {
+      close(false);
+    }
+
+    /**
+     * Closes the cursor on behalf of the transaction.
+     */
+    @Override
+    public void close() {
+      close(true);
+    }
+
+    private synchronized void close(boolean closedByTransaction) {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      m_closedByTransaction = closedByTransaction;
+      releaseCurrent();
+      unregisterOpenCursor(this);
+    }
+  }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import javax.management.MXBean;
+
+/**
+ * Metrics of a {@link SqlConnectionPool}.
+ *
+ * @since 10.0
+ */
+@MXBean
+public interface ISqlConnectionPoolMBean {
+
+  String getName();
+
+  int getPoolSize();
+
+  /**
+   * @return number of connections currently leased
+   */
+  int getActiveCount();
+
+  /**
+   * @return number of open connections currently not leased
+   */
+  int getIdleCount();
+
+  /**
+   * @return total number of successful leases
+   */
+  long getLeaseCount();
+
+  /**
+   * @return total number of leases which failed because no connection became available within the lease timeout
+   */
+  long getLeaseTimeoutCount();
+
+  /**
+   * @return total time in milliseconds callers waited for a connection to become available
+   */
+  long getLeaseWaitTimeTotal();
+
+  /**
+   * @return longest time in milliseconds a caller waited for a connection to become available
+   */
+  long getLeaseWaitTimeMax();
+
+  /**
+   * @return total number of connections created by this pool
+   */
+  long getCreatedCount();
+
+  /**
+   * @return total number of connections closed by this pool (expired, timed out or dirty)
+   */
+  long getClosedCount();
+
+  /**
+   * @return total number of statements served from the connection scoped statement caches
+   */
+  long getStatementCacheHitCount();
+
+  /**
+   * @return total number of statements which had to be prepared because they were not cached
+   */
+  long getStatementCacheMissCount();
+
+  /**
+   * @return hits / (hits + misses) of the connection scoped statement caches
+   */
+  double getStatementCacheHitRatio();
+
+  /**
+   * @return total number of statements closed because the statement cache of their connection was full
+   */
+  long getStatementCacheEvictionCount();
+
+  /**
+   * @return total number of statement caches discarded because their connection was retired
+   */
+  long getStatementCacheInvalidationCount();
+}
@@ -18,4 +18,5 @@ class PoolEntry {
   public long createTime;
   public long leaseBegin;
   public int leaseCount;
+  public PooledStatementCache statementCache;
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Statement cache bound to one pooled {@link Connection}. In contrast to the transaction scoped
+ * {@link org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache}, cached statements survive the end of
+ * the transaction and are reused by every transaction leasing the same connection. The least recently used statement
+ * is closed as soon as more than <code>maxSize</code> statements are cached. The cache is invalidated when the pool
+ * retires the connection.
+ * <p>
+ * A statement which is still in use (e.g. by a nested select of a streaming handler) is never handed out twice, a
+ * second, uncached statement is prepared instead.
+ * <p>
+ * A pooled connection is used by one thread at a time, nevertheless all methods are synchronized since the pool may
+ * invalidate the cache concurrently.
+ *
+ * @since 10.0
+ */
+@SuppressWarnings("squid:S1166")
+public class PooledStatementCache implements IStatementCache {
+  private static final Logger LOG = LoggerFactory.getLogger(PooledStatementCache.class);
+
+  private static final String PREPARED_KEY_PREFIX = "P:";
+  private static final String CALLABLE_KEY_PREFIX = "C:";
+
+  private final Connection m_connection;
+  private final int m_maxSize;
+  private final Statistics m_statistics;
+  private final LinkedHashMap<String, P_CachedStatement> m_statements;
+  private boolean m_invalidated;
+
+  public PooledStatementCache(Connection connection, int maxSize, Statistics statistics) {
+    m_connection = connection;
+    m_maxSize = maxSize;
+    m_statistics = statistics;
+    m_statements = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  @Override
+  public PreparedStatement getPreparedStatement(Connection conn, String s) throws SQLException {
+    PreparedStatement ps = (PreparedStatement) lookup(conn, PREPARED_KEY_PREFIX + s);
+    if (ps != null) {
+      ps.clearParameters();
+      ps.clearWarnings();
+      return ps;
+    }
+    ps = conn.prepareStatement(s);
+    store(conn, PREPARED_KEY_PREFIX + s, ps);
+    return ps;
+  }
+
+  @Override
+  public void releasePreparedStatement(PreparedStatement ps) {
+    release(ps);
+  }
+
+  @Override
+  public CallableStatement getCallableStatement(Connection conn, String s) throws SQLException {
+    CallableStatement cs = (CallableStatement) lookup(conn, CALLABLE_KEY_PREFIX + s);
+    if (cs != null) {
+      cs.clearParameters();
+      cs.clearWarnings();
+      return cs;
+    }
+    cs = conn.prepareCall(s);
+    store(conn, CALLABLE_KEY_PREFIX + s, cs);
+    return cs;
+  }
+
+  @Override
+  public void releaseCallableStatement(CallableStatement cs) {
+    release(cs);
+  }
+
+  /**
+   * @return the cached statement marked as in use or <code>null</code>
+   */
+  protected synchronized PreparedStatement lookup(Connection conn, String key) {
+    if (m_invalidated || conn != m_connection) {
+      m_statistics.m_missCount.increment();
+      return null;
+    }
+    P_CachedStatement cached = m_statements.get(key);
+    if (cached == null || cached.m_inUse) {
+      m_statistics.m_missCount.increment();
+      return null;
+    }
+    cached.m_inUse = true;
+    m_statistics.m_hitCount.increment();
+    return cached.m_statement;
+  }
+
+  protected void store(Connection conn, String key, PreparedStatement ps) {
+    List<PreparedStatement> evicted = new ArrayList<>();
+    synchronized (this) {
+      if (m_invalidated || conn != m_connection || m_maxSize <= 0 || m_statements.containsKey(key)) {
+        // not cacheable, closed upon release
+        return;
+      }
+      P_CachedStatement cached = new P_CachedStatement(ps);
+      cached.m_inUse = true;
+      m_statements.put(key, cached);
+
+      // evict least recently used statements which are not in use
+      for (Iterator<P_CachedStatement> it = m_statements.values().iterator(); it.hasNext() && m_statements.size() > m_maxSize;) {
+        P_CachedStatement candidate = it.next();
+        if (!candidate.m_inUse) {
+          it.remove();
+          evicted.add(candidate.m_statement);
+          m_statistics.m_evictionCount.increment();
+        }
+      }
+    }
+    evicted.forEach(PooledStatementCache::closeQuietly);
+  }
+
+  protected void release(PreparedStatement ps) {
+    if (ps == null) {
+      return;
+    }
+    synchronized (this) {
+      for (P_CachedStatement cached : m_statements.values()) {
+        if (cached.m_statement == ps) {
+          cached.m_inUse = false;
+          return;
+        }
+      }
+    }
+    // not cached
+    closeQuietly(ps);
+  }
+
+  /**
+   * Closes all cached statements. Statements handed out afterwards are not cached anymore.
+   */
+  public void invalidate() {
+    List<PreparedStatement> statements = new ArrayList<>();
+    synchronized (this) {
+      if (m_invalidated) {
+        return;
+      }
+      m_invalidated = true;
+      for (Entry<String, P_CachedStatement> entry : m_statements.entrySet()) {
+        statements.add(entry.getValue().m_statement);
+      }
+      m_statements.clear();
+    }
+    m_statistics.m_invalidationCount.increment();
+    statements.forEach(PooledStatementCache::closeQuietly);
+  }
+
+  public synchronized int size() {
+    return m_statements.size();
+  }
+
+  public Connection getConnection() {
+    return m_connection;
+  }
+
+  protected static void closeQuietly(PreparedStatement ps) {
+    try {
+      ps.close();
+    }
+    catch (SQLException | RuntimeException e) {
+      LOG.warn("Exception while closing {}", ps.getClass().getSimpleName(), e);
+    }
+  }
+
+  private static final class P_CachedStatement {
+    private final PreparedStatement m_statement;
+    private boolean m_inUse;
+
+    private P_CachedStatement(PreparedStatement statement) {
+      m_statement = statement;
+    }
+  }
+
+  /**
+   * Hit, miss and eviction counters shared by the statement caches of all connections of a pool.
+   */
+  public static class Statistics {
+    private final LongAdder m_hitCount = new LongAdder();
+    private final LongAdder m_missCount = new LongAdder();
+    private final LongAdder m_evictionCount = new LongAdder();
+    private final LongAdder m_invalidationCount = new LongAdder();
+
+    public long getHitCount() {
+      return m_hitCount.sum();
+    }
+
+    public long getMissCount() {
+      return m_missCount.sum();
+    }
+
+    public long getEvictionCount() {
+      return m_evictionCount.sum();
+    }
+
+    public long getInvalidationCount() {
+      return m_invalidationCount.sum();
+    }
+  }
+}
@@ -10,18 +10,30 @@
  */
 package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
+import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.ObjectName;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
 import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -32,38 +44,112 @@ import org.slf4j.LoggerFactory;
 
 /**
  * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
- * possible, every scout Session is provided with always the same connection it had in the last request this class is
+ * possible, every thread is provided with always the same connection it had in the last request this class is
  * thread-safe
+ * <p>
+ * Leasing and releasing does not take a global lock: the number of leased connections is bounded by a
+ * {@link Semaphore} with {@link #getPoolSize()} permits, idle connections are kept in a lock-free deque (most recently
+ * released first) and leased connections in a concurrent map. A caller waits at most the lease timeout for a connection
+ * to become available, or forever if the lease timeout is <code>0</code>.
+ * <p>
+ * Every pooled connection may carry a {@link PooledStatementCache} whose statements survive the end of a transaction,
+ * see {@link #setStatementCacheSize(int)}. The cache is invalidated as soon as the pool retires the connection.
+ * <p>
+ * The pool registers itself as {@link ISqlConnectionPoolMBean} to expose its metrics.
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPoolMBean {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
+  /**
+   * Default time in milliseconds a lease waits for a connection to become available: <code>0</code> waits forever.
+   */
+  public static final long DEFAULT_LEASE_TIMEOUT = 0L;
+
   private volatile boolean m_destroyed;
   private final String m_identity = UUID.randomUUID().toString();
 
   /*
    * Instance
    */
-  private final Object m_poolLock = new Object();
-  private final Set<PoolEntry> m_idleEntries = new HashSet<>();
-  private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final ConcurrentLinkedDeque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final Map<ConnectionKey, PoolEntry> m_busyEntries = new ConcurrentHashMap<>(); // by identity, drivers may override equals
+  private final ThreadLocal<WeakReference<PoolEntry>> m_lastLeasedEntry = new ThreadLocal<>(); // weak to not keep retired entries alive on long-lived threads
+  private final AtomicInteger m_connectionCount = new AtomicInteger();
+  private volatile Semaphore m_leasePermits;
   private volatile String m_name;
   private volatile int m_poolSize;
   private volatile long m_connectionLifetime;
   private volatile long m_connectionBusyTimeout;
+  private volatile long m_leaseTimeout;
+  private volatile int m_statementCacheSize;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
 
+  /*
+   * Metrics
+   */
+  private final LongAdder m_leaseCount = new LongAdder();
+  private final LongAdder m_leaseTimeoutCount = new LongAdder();
+  private final LongAdder m_leaseWaitNanosTotal = new LongAdder();
+  private final AtomicLong m_leaseWaitNanosMax = new AtomicLong();
+  private final LongAdder m_createdCount = new LongAdder();
+  private final LongAdder m_closedCount = new LongAdder();
+  private final PooledStatementCache.Statistics m_statementCacheStatistics = new PooledStatementCache.Statistics();
+
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    initialize(name, poolSize, connectionLifetime, connectionBusyTimeout, DEFAULT_LEASE_TIMEOUT);
+  }
+
+  /**
+   * @param leaseTimeout
+   *          maximum time in milliseconds {@link #leaseConnection(AbstractSqlService)} waits for a connection to become
+   *          available, <code>0</code> to wait forever.
+   * @since 10.0
+   */
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout, long leaseTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
     m_poolSize = poolSize;
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leaseTimeout = leaseTimeout;
+    m_leasePermits = new Semaphore(poolSize);
+    MBeanUtility.register(jmxObjectName(), this);
     startManagePool();
   }
 
+  /**
+   * @param statementCacheSize
+   *          maximum number of statements cached per pooled connection, <code>0</code> to disable the connection scoped
+   *          statement cache. Applies to connections created afterwards.
+   * @since 10.0
+   */
+  public void setStatementCacheSize(int statementCacheSize) {
+    m_statementCacheSize = statementCacheSize;
+  }
+
+  public int getStatementCacheSize() {
+    return m_statementCacheSize;
+  }
+
+  /**
+   * @return the statement cache of the given leased connection or <code>null</code> if the connection is not leased from
+   *         this pool or the connection scoped statement cache is disabled
+   * @since 10.0
+   */
+  public PooledStatementCache getStatementCache(Connection conn) {
+    if (conn == null) {
+      return null;
+    }
+    PoolEntry entry = m_busyEntries.get(new ConnectionKey(conn));
+    return entry != null ? entry.statementCache : null;
+  }
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.server.jdbc", PlatformIdentifier.get(), getClass().getSimpleName() + "." + m_name);
+  }
+
   /**
    * Start managing pool
    */
@@ -76,151 +162,241 @@ public class SqlConnectionPool {
             .withSchedule(FixedDelayScheduleBuilder.repeatForever(1, TimeUnit.MINUTES))));
   }
 
+  /**
+   * Asynchronously opens connections until the pool holds {@link #getPoolSize()} connections.
+   *
+   * @since 10.0
+   */
+  public void warmUp(final AbstractSqlService service) {
+    Jobs.schedule(() -> {
+      int created = 0;
+      while (!isDestroyed() && m_connectionCount.get() < m_poolSize && m_leasePermits.tryAcquire()) {
+        try {
+          if (m_connectionCount.get() >= m_poolSize) {
+            break;
+          }
+          m_idleEntries.offerLast(createEntry(service));
+          created++;
+        }
+        catch (ClassNotFoundException | SQLException | RuntimeException e) {
+          LOG.warn("Could not warm up SQL connection pool {}", m_name, e);
+          break;
+        }
+        finally {
+          m_leasePermits.release();
+        }
+      }
+      LOG.info("Warmed up SQL connection pool {} with {} connections", m_name, created);
+    }, Jobs.newInput()
+        .withName("Warming up SQL connection pool for {}", m_name)
+        .withExecutionHint(m_identity));
+  }
+
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
-    managePool();
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    assertNotDestroyed();
+    acquireLeasePermit();
 
+    boolean leased = false;
+    try {
+      assertNotDestroyed();
       PoolEntry candidate = null;
       while (candidate == null) {
-        // get next available conn
-        for (PoolEntry m_idleEntry : m_idleEntries) {
-          candidate = m_idleEntry;
-          break;
-        }
-        if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
+        // get next available conn, preferring the one this thread leased last
+        candidate = pollIdleEntry();
+        if (candidate == null) {
           // create new connection
-          PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-          LOG.info("created jdbc connection {}", test.conn);
-          service.callbackAfterConnectionCreated(test.conn);
-          test.createTime = System.currentTimeMillis();
-          m_idleEntries.add(test);
-          candidate = test;
+          candidate = createEntry(service);
         }
-        if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
-          }
-          catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedError("Interrupted while leasing database connection");
-          }
+        else if (isExpired(candidate)) {
+          closeEntry(candidate, "expired idle connection");
+          candidate = null;
+          continue;
         }
         // test candidate connection
-        if (candidate != null) {
+        try {
+          service.callbackTestConnection(candidate.conn);
+        }
+        catch (Exception e) {
+          LOG.warn("closing dirty connection: {}", candidate.conn, e);
+          m_connectionCount.decrementAndGet();
+          m_closedCount.increment();
+          invalidateStatementCache(candidate);
           try {
-            service.callbackTestConnection(candidate.conn);
+            candidate.conn.close();
           }
-          catch (Exception e) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn, e);
-            try {
-              candidate.conn.close();
-            }
-            catch (Exception fatal) {
-              LOG.warn("could not close candidate connection", fatal);
-            }
-            candidate = null;
+          catch (Exception fatal) {
+            LOG.warn("could not close candidate connection", fatal);
           }
+          candidate = null;
         }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
+      }
+      // move to busy pool
       candidate.leaseBegin = System.currentTimeMillis();
       candidate.leaseCount++;
-      m_busyEntries.add(candidate);
+      m_busyEntries.put(new ConnectionKey(candidate.conn), candidate);
+      m_lastLeasedEntry.set(new WeakReference<>(candidate));
+      m_leaseCount.increment();
+      leased = true;
       LOG.debug("lease   {}", candidate.conn);
       return candidate.conn;
     }
+    finally {
+      if (!leased) {
+        m_leasePermits.release();
+      }
+    }
+  }
+
+  protected void acquireLeasePermit() {
+    long waitBegin = System.nanoTime();
+    boolean acquired;
+    try {
+      if (m_leaseTimeout > 0) {
+        acquired = m_leasePermits.tryAcquire(m_leaseTimeout, TimeUnit.MILLISECONDS);
+      }
+      else {
+        m_leasePermits.acquire();
+        acquired = true;
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    long waitNanos = System.nanoTime() - waitBegin;
+    m_leaseWaitNanosTotal.add(waitNanos);
+    m_leaseWaitNanosMax.accumulateAndGet(waitNanos, Math::max);
+    if (!acquired) {
+      m_leaseTimeoutCount.increment();
+      throw new ProcessingException("Timeout while leasing database connection from pool {} [poolSize={}, timeout={}ms]", m_name, m_poolSize, m_leaseTimeout);
+    }
+  }
+
+  /**
+   * @return an idle entry which is exclusively owned by the caller or <code>null</code> if there is none
+   */
+  protected PoolEntry pollIdleEntry() {
+    WeakReference<PoolEntry> hintRef = m_lastLeasedEntry.get();
+    PoolEntry hint = hintRef != null ? hintRef.get() : null;
+    if (hint != null && hint.conn == null) {
+      // retired by the pool in the meantime
+      m_lastLeasedEntry.remove();
+      hint = null;
+    }
+    if (hint != null && m_idleEntries.removeFirstOccurrence(hint)) {
+      return hint;
+    }
+    return m_idleEntries.pollFirst();
+  }
+
+  protected PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    PoolEntry entry = new PoolEntry();
+    entry.conn = createConnection(service);
+    LOG.info("created jdbc connection {}", entry.conn);
+    m_connectionCount.incrementAndGet();
+    m_createdCount.increment();
+    service.callbackAfterConnectionCreated(entry.conn);
+    entry.createTime = System.currentTimeMillis();
+    if (m_statementCacheSize > 0) {
+      entry.statementCache = new PooledStatementCache(entry.conn, m_statementCacheSize, m_statementCacheStatistics);
+    }
+    return entry;
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  protected boolean isExpired(PoolEntry entry) {
+    return System.currentTimeMillis() - entry.createTime > m_connectionLifetime;
   }
 
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    assertNotDestroyed();
 
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
-        if (e.conn == conn) {
-          candidate = e;
-          it.remove();
-          break;
-        }
-      }
-      // check close status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
-      }
-      // check error status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
+    PoolEntry candidate = m_busyEntries.remove(new ConnectionKey(conn));
+    if (candidate == null) {
+      // already removed by managePool (busy timeout), its permit was released there
+      LOG.warn("closing dirty connection: {}", conn);
+      closeQuietly(conn);
+      return;
+    }
+
+    boolean dirty = false;
+    // check close status of connection
+    try {
+      dirty = conn.isClosed();
+    }
+    catch (Exception e) {
+      // ignore
+      dirty = true;
+    }
+    // check error status of connection
+    if (!dirty) {
+      try {
+        if (conn.getWarnings() != null) {
+          /*
+           * connection is normally valid again after clearing the warnings.
+           * Since oracle is not supporting warnings, the subsequent call has no effect!
+           */
+          conn.clearWarnings();
         }
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
-        candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
-      }
-      else {
-        LOG.warn("closing dirty connection: {}", conn);
-        try {
-          conn.close();
-        }
-        catch (SQLException e) {
-          // ignored
-        }
+      catch (Exception e) {
+        // ignore
+        dirty = true;
       }
-      m_poolLock.notifyAll();
     }
-    managePool();
+    // all checks passed, candidate is either clean or a dirty connection
+    if (dirty) {
+      LOG.warn("closing dirty connection: {}", conn);
+      m_connectionCount.decrementAndGet();
+      m_closedCount.increment();
+      invalidateStatementCache(candidate);
+      closeQuietly(conn);
+    }
+    else {
+      // back to idle pool (before releasing the permit, so the next lease finds it)
+      candidate.leaseBegin = 0;
+      m_idleEntries.offerFirst(candidate);
+    }
+    m_leasePermits.release();
+  }
+
+  protected void closeQuietly(Connection conn) {
+    try {
+      conn.close();
+    }
+    catch (SQLException e) {
+      // ignored
+    }
   }
 
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
-    synchronized (m_poolLock) {
-      buf.append("Total connections: ").append(m_busyEntries.size() + m_idleEntries.size());
-      buf.append("\n");
-      buf.append("Busy: ").append(m_busyEntries.size());
+    List<PoolEntry> busyEntries = new ArrayList<>(m_busyEntries.values());
+    List<PoolEntry> idleEntries = new ArrayList<>(m_idleEntries);
+    buf.append("Total connections: ").append(busyEntries.size() + idleEntries.size());
+    buf.append("\n");
+    buf.append("Busy: ").append(busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : busyEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
       buf.append("\n");
-      for (PoolEntry e : m_busyEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
-            .append(fmt.format(new Date(e.leaseBegin)));
-        buf.append("\n");
-      }
-      buf.append("Idle: ").append(m_idleEntries.size());
+    }
+    buf.append("Idle: ").append(idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : idleEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
       buf.append("\n");
-      for (PoolEntry e : m_idleEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
-        buf.append("\n");
-      }
     }
+    buf.append("Leases: ").append(getLeaseCount()).append(", timeouts: ").append(getLeaseTimeoutCount()).append(", max wait: ").append(getLeaseWaitTimeMax()).append("ms");
+    buf.append("\n");
+    buf.append("Statement cache: hits=").append(getStatementCacheHitCount()).append(", misses=").append(getStatementCacheMissCount()).append(", evictions=").append(getStatementCacheEvictionCount());
+    buf.append("\n");
     return buf.toString();
   }
 
@@ -229,28 +405,22 @@ public class SqlConnectionPool {
    */
   private void managePool() {
     try {
-      synchronized (m_poolLock) {
-        if (isDestroyed()) {
-          return;
-        }
+      if (isDestroyed()) {
+        return;
+      }
 
-        // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
-            closeConnectionAsync(e.conn, "expired idle connection");
-            e.conn = null;
-            it.remove();
-          }
+      // close old idle connections
+      for (PoolEntry e : m_idleEntries) {
+        if (isExpired(e) && m_idleEntries.removeFirstOccurrence(e)) {
+          closeEntry(e, "expired idle connection");
         }
-        // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
-            closeConnectionAsync(e.conn, "timed out busy connection");
-            e.conn = null;
-            it.remove();
-          }
+      }
+      // close timed out busy connections
+      for (PoolEntry e : m_busyEntries.values()) {
+        Connection conn = e.conn;
+        if (conn != null && System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(new ConnectionKey(conn), e)) {
+          closeEntry(e, "timed out busy connection");
+          m_leasePermits.release();
         }
       }
     }
@@ -259,6 +429,29 @@ public class SqlConnectionPool {
     }
   }
 
+  /**
+   * Closes the connection of an entry which is no longer referenced by the pool.
+   */
+  protected void closeEntry(PoolEntry entry, String reason) {
+    m_connectionCount.decrementAndGet();
+    m_closedCount.increment();
+    invalidateStatementCache(entry);
+    closeConnectionAsync(entry.conn, reason);
+    entry.conn = null;
+  }
+
+  protected void invalidateStatementCache(PoolEntry entry) {
+    PooledStatementCache cache = entry.statementCache;
+    if (cache != null) {
+      entry.statementCache = null;
+      cache.invalidate();
+    }
+  }
+
+  protected void assertNotDestroyed() {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+  }
+
   /**
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
@@ -269,31 +462,34 @@ public class SqlConnectionPool {
   /**
    * Destroys this connection pool. Upon return, this pool cannot be used anymore.
    */
-  public void destroy() {
+  public synchronized void destroy() {
     if (isDestroyed()) {
       return;
     }
+    m_destroyed = true;
 
-    synchronized (m_poolLock) {
-      if (isDestroyed()) {
-        return; // double-checked locking
-      }
-      m_destroyed = true;
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
 
-      // Cancel jobs.
-      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
-          .andMatchExecutionHint(m_identity)
-          .toFilter(), true);
+    PoolEntry idleEntry;
+    while ((idleEntry = m_idleEntries.pollFirst()) != null) {
+      invalidateStatementCache(idleEntry);
+      closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+    }
 
-      for (final PoolEntry idleEntry : m_idleEntries) {
-        closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
-      }
-      m_idleEntries.clear();
+    for (final PoolEntry busyEntry : m_busyEntries.values()) {
+      invalidateStatementCache(busyEntry);
+      closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
+    }
+    m_busyEntries.clear();
+    m_connectionCount.set(0);
 
-      for (final PoolEntry busyEntry : m_busyEntries) {
-        closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
-      }
-      m_busyEntries.clear();
+    if (m_initialized.get()) {
+      // wake up waiting leases, they fail because the pool is destroyed
+      m_leasePermits.release(m_poolSize);
+      MBeanUtility.unregister(jmxObjectName());
     }
   }
 
@@ -310,4 +506,110 @@ public class SqlConnectionPool {
         .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
         .withExecutionHint(m_identity));
   }
+
+  /*
+   * ISqlConnectionPoolMBean
+   */
+
+  @Override
+  public String getName() {
+    return m_name;
+  }
+
+  @Override
+  public int getPoolSize() {
+    return m_poolSize;
+  }
+
+  public long getLeaseTimeout() {
+    return m_leaseTimeout;
+  }
+
+  @Override
+  public int getActiveCount() {
+    return m_busyEntries.size();
+  }
+
+  @Override
+  public int getIdleCount() {
+    return m_idleEntries.size();
+  }
+
+  @Override
+  public long getLeaseCount() {
+    return m_leaseCount.sum();
+  }
+
+  @Override
+  public long getLeaseTimeoutCount() {
+    return m_leaseTimeoutCount.sum();
+  }
+
+  @Override
+  public long getLeaseWaitTimeTotal() {
+    return TimeUnit.NANOSECONDS.toMillis(m_leaseWaitNanosTotal.sum());
+  }
+
+  @Override
+  public long getLeaseWaitTimeMax() {
+    return TimeUnit.NANOSECONDS.toMillis(m_leaseWaitNanosMax.get());
+  }
+
+  @Override
+  public long getCreatedCount() {
+    return m_createdCount.sum();
+  }
+
+  @Override
+  public long getClosedCount() {
+    return m_closedCount.sum();
+  }
+
+  @Override
+  public long getStatementCacheHitCount() {
+    return m_statementCacheStatistics.getHitCount();
+  }
+
+  @Override
+  public long getStatementCacheMissCount() {
+    return m_statementCacheStatistics.getMissCount();
+  }
+
+  @Override
+  public double getStatementCacheHitRatio() {
+    long hits = getStatementCacheHitCount();
+    long total = hits + getStatementCacheMissCount();
+    return total == 0 ? 0d : (double) hits / total;
+  }
+
+  @Override
+  public long getStatementCacheEvictionCount() {
+    return m_statementCacheStatistics.getEvictionCount();
+  }
+
+  @Override
+  public long getStatementCacheInvalidationCount() {
+    return m_statementCacheStatistics.getInvalidationCount();
+  }
+
+  /**
+   * Key of {@link #m_busyEntries} comparing connections by identity.
+   */
+  private static final class ConnectionKey {
+    private final Connection m_conn;
+
+    private ConnectionKey(Connection conn) {
+      m_conn = conn;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(m_conn);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ConnectionKey && ((ConnectionKey) obj).m_conn == m_conn;
+    }
+  }
 }
@@ -56,6 +56,14 @@ public class OracleSqlStyle extends AbstractSqlStyle {
     return true;
   }
 
+  /**
+   * The Oracle driver fetches 10 rows per round-trip by default.
+   */
+  @Override
+  public int getDefaultFetchSize() {
+    return 500;
+  }
+
   @Override
   public void testConnection(Connection conn) throws SQLException {
     try (Statement testStatement = conn.createStatement()) {
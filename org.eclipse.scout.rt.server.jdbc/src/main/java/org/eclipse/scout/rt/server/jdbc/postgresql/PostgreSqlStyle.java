@@ -81,6 +81,14 @@ public class PostgreSqlStyle extends AbstractSqlStyle {
     return (s.length() > MAX_SQL_STRING_LENGTH);
   }
 
+  /**
+   * The PostgreSQL driver reads the whole result into memory unless a fetch size is set (and auto-commit is off).
+   */
+  @Override
+  public int getDefaultFetchSize() {
+    return 1000;
+  }
+
   @Override
   protected int getMaxListSize() {
     return MAX_LIST_SIZE;
@@ -178,6 +178,15 @@ public interface ISqlStyle extends Serializable {
    */
   boolean isLargeString(String s);
 
+  /**
+   * @return the JDBC fetch size used by streaming selects (see {@link org.eclipse.scout.rt.server.jdbc.ISqlService#selectStream(String, Object...)})
+   *         unless a fetch size is passed explicitly, <code>0</code> to keep the driver default
+   * @since 10.0
+   */
+  default int getDefaultFetchSize() {
+    return 0;
+  }
+
   /*
    * Attribute filters Aggregate SQL code transforming the template code to
    * specific database sql the following methods display an example of an
@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -74,6 +76,35 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testConcurrentPut() {
+    int producerCount = 4;
+    int messagesPerProducer = 2;
+    List<IFuture<Void>> producers = new ArrayList<>();
+    for (int p = 0; p < producerCount; p++) {
+      producers.add(Jobs.schedule(() -> putTestNotifications(messagesPerProducer), Jobs.newInput()
+          .withRunContext(RunContexts.copyCurrent())));
+    }
+    for (IFuture<Void> producer : producers) {
+      producer.awaitDone();
+    }
+    List<ClientNotificationMessage> notifications = m_queue.getNotifications(100, 10, TimeUnit.MILLISECONDS);
+    assertEquals(producerCount * messagesPerProducer, notifications.size());
+  }
+
+  @Test
+  public void testUnregisterSession() {
+    ClientNotificationAddress sessionAddress = ClientNotificationAddress.createSessionAddress(Collections.singleton("testSession"));
+    ClientNotificationAddress userAddress = ClientNotificationAddress.createUserAddress(Collections.singleton("testUser"));
+    assertTrue(m_queue.isRelevant(sessionAddress));
+    assertTrue(m_queue.isRelevant(userAddress));
+
+    m_queue.unregisterSession("testSession", "testUser");
+    assertFalse(m_queue.isRelevant(sessionAddress));
+    assertFalse(m_queue.isRelevant(userAddress));
+    assertTrue(m_queue.hasNoSessions());
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
@@ -22,7 +22,10 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
 import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.HttpRangeHelper;
 import org.eclipse.scout.rt.server.commons.servlet.HttpServletControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
@@ -150,16 +153,24 @@ public class RemoteFileServlet extends HttpServlet {
   private boolean writeResource(final HttpServletRequest req, final HttpServletResponse resp, final String resourcePath) throws IOException {
     IRemoteFileService rfs = BEANS.get(getConfiguredRemoteFileServiceClass());
     RemoteFile spec = new RemoteFile((resourcePath == null) ? null : StringUtility.join("", m_folder, resourcePath), -1);
-    RemoteFile remoteFile = rfs.getRemoteFile(spec);
+    // the content is not loaded into memory but streamed below
+    RemoteFile remoteFile = rfs.getRemoteFileHeader(spec);
     if (!remoteFile.exists()) {
       return false;
     }
 
-    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey(resourcePath), remoteFile.toBinaryResource());
+    BinaryResource resource = BinaryResources.create()
+        .withFilename(remoteFile.getName())
+        .withContentType(remoteFile.getContentType())
+        .withLastModified(remoteFile.getLastModified())
+        .build();
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey(resourcePath), resource);
     if (BEANS.get(HttpCacheControl.class).checkAndSetCacheHeaders(req, resp, obj)) {
       return true;
     }
-    rfs.streamRemoteFile(remoteFile, resp.getOutputStream());
+    resp.setContentType(resource.getContentType());
+    BEANS.get(HttpRangeHelper.class).write(req, resp, remoteFile.getContentLength(), null, remoteFile.getLastModified(),
+        (out, offset, length) -> rfs.streamRemoteFile(remoteFile, out, offset, length));
     return true;
   }
 
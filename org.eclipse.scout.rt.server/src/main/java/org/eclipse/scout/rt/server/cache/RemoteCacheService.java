@@ -17,6 +17,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.cache.ICache;
 import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+import org.eclipse.scout.rt.platform.cache.ICacheValueResolver;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.shared.cache.IRemoteCacheService;
 
@@ -34,6 +35,11 @@ public class RemoteCacheService implements IRemoteCacheService {
     return null;
   }
 
+  /**
+   * All keys which are not cached on the server are resolved in one bulk operation (see
+   * {@link ICacheValueResolver#resolveAll(java.util.Set)}). Client caches use this method in
+   * <code>RemoteCacheValueResolver</code> so that a bulk request of a client results in one backend call.
+   */
   @Override
   public <K, V> Map<K, V> getAll(String cacheId, Collection<? extends K> keys) {
     ICache<K, V> cache = getCache(cacheId);
@@ -51,7 +57,10 @@ public class RemoteCacheService implements IRemoteCacheService {
     }
   }
 
+  /**
+   * @return the registered cache or <code>null</code> if there is no cache with this id
+   */
   protected <K, V> ICache<K, V> getCache(String cacheId) {
-    return BEANS.get(ICacheRegistryService.class).get(cacheId);
+    return BEANS.get(ICacheRegistryService.class).opt(cacheId);
   }
 }
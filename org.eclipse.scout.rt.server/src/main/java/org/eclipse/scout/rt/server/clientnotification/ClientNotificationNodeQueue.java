@@ -12,25 +12,25 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.FinalValue;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxNotificationBatchLatency;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NodeQueueCapacity;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
@@ -39,6 +39,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A queue for a client node, that keeps track of notifications for that node.
+ * <p>
+ * Notifications are published by many threads and consumed by the single long polling request of the node. Publishing
+ * does not take a lock: notifications are kept in a lock-free queue and the sessions and users of the node in
+ * concurrent sets. A lock is only taken to wake up a consumer which is blocked waiting for notifications.
  */
 @Bean
 public class ClientNotificationNodeQueue {
@@ -47,20 +51,33 @@ public class ClientNotificationNodeQueue {
   private final FinalValue<String> m_nodeId = new FinalValue<>();
 
   private final int m_capacity;
-  private final BlockingDeque<ClientNotificationMessage> m_notifications;
+  private final long m_maxBatchLatency;
+  private final Queue<ClientNotificationMessage> m_notifications = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_size = new AtomicInteger();
 
-  private final ReentrantReadWriteLock m_sessionUserCacheLock = new ReentrantReadWriteLock();
-  private final Set<String /*sessionId*/> m_sessions = new HashSet<>();
-  private final Map<String /*userId*/, Set<String /*sessionId*/>> m_userToSessions = new HashMap<>();
+  private final ReentrantLock m_consumerLock = new ReentrantLock();
+  private final Condition m_notEmpty = m_consumerLock.newCondition();
+  private final AtomicInteger m_waitingConsumers = new AtomicInteger();
+
+  private final Set<String /*sessionId*/> m_sessions = ConcurrentHashMap.newKeySet();
+  private final Map<String /*userId*/, Set<String /*sessionId*/>> m_userToSessions = new ConcurrentHashMap<>();
   private final AtomicLong m_lastConsumeAccess;
 
   public ClientNotificationNodeQueue() {
-    this(CONFIG.getPropertyValue(NodeQueueCapacity.class));
+    this(CONFIG.getPropertyValue(NodeQueueCapacity.class), CONFIG.getPropertyValue(MaxNotificationBatchLatency.class));
   }
 
   public ClientNotificationNodeQueue(int capacity) {
+    this(capacity, CONFIG.getPropertyValue(MaxNotificationBatchLatency.class));
+  }
+
+  /**
+   * @param maxBatchLatency
+   *          maximum time in milliseconds a consumer waits for further notifications once it received the first one
+   */
+  public ClientNotificationNodeQueue(int capacity, long maxBatchLatency) {
     m_capacity = capacity;
-    m_notifications = new LinkedBlockingDeque<>(capacity);
+    m_maxBatchLatency = maxBatchLatency;
     m_lastConsumeAccess = new AtomicLong(System.currentTimeMillis());
   }
 
@@ -82,38 +99,22 @@ public class ClientNotificationNodeQueue {
   public void registerSession(String sessionId, String userId) {
     Assertions.assertNotNull(sessionId);
     Assertions.assertNotNull(userId);
-    m_sessionUserCacheLock.writeLock().lock();
-    try {
-      m_sessions.add(sessionId);
-      Set<String> userSessions = m_userToSessions.computeIfAbsent(userId, k -> new HashSet<>());
+    m_sessions.add(sessionId);
+    m_userToSessions.compute(userId, (k, sessions) -> {
+      Set<String> userSessions = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
       userSessions.add(sessionId);
-    }
-    finally {
-      m_sessionUserCacheLock.writeLock().unlock();
-    }
+      return userSessions;
+    });
   }
 
   public void unregisterSession(String sessionId, String userId) {
     Assertions.assertNotNull(sessionId);
     Assertions.assertNotNull(userId);
-    m_sessionUserCacheLock.writeLock().lock();
-    try {
-      m_sessions.remove(sessionId);
-      Iterator<Entry<String, Set<String>>> iterator = m_userToSessions.entrySet().iterator();
-      while (iterator.hasNext()) {
-        Entry<String, Set<String>> entry = iterator.next();
-        Set<String> sessions = entry.getValue();
-        if (sessions.contains(sessionId)) {
-          sessions.remove(sessionId);
-        }
-        if (sessions.isEmpty()) {
-          iterator.remove();
-        }
-      }
-    }
-    finally {
-      m_sessionUserCacheLock.writeLock().unlock();
-    }
+    m_sessions.remove(sessionId);
+    m_userToSessions.computeIfPresent(userId, (k, sessions) -> {
+      sessions.remove(sessionId);
+      return sessions.isEmpty() ? null : sessions;
+    });
   }
 
   public void put(ClientNotificationMessage notification) {
@@ -122,7 +123,11 @@ public class ClientNotificationNodeQueue {
 
   public void put(Collection<? extends ClientNotificationMessage> notificationInput) {
     List<ClientNotificationMessage> notifications = getRelevantNotifications(notificationInput);
+    if (notifications.isEmpty()) {
+      return;
+    }
     putDroppingOld(notifications);
+    signalConsumers();
   }
 
   /**
@@ -131,13 +136,10 @@ public class ClientNotificationNodeQueue {
   private void putDroppingOld(Collection<? extends ClientNotificationMessage> notifications) {
     int dropCount = 0;
     for (ClientNotificationMessage message : notifications) {
-      boolean inserted = m_notifications.offer(message);
-      while (!inserted) {
-        ClientNotificationMessage removed = m_notifications.poll();
-        if (removed != null) {
-          dropCount++;
-        }
-        inserted = m_notifications.offer(message);
+      m_notifications.offer(message);
+      if (m_size.incrementAndGet() > m_capacity && m_notifications.poll() != null) {
+        m_size.decrementAndGet();
+        dropCount++;
       }
     }
     if (dropCount > 0) {
@@ -145,6 +147,27 @@ public class ClientNotificationNodeQueue {
     }
   }
 
+  private ClientNotificationMessage poll() {
+    ClientNotificationMessage next = m_notifications.poll();
+    if (next != null) {
+      m_size.decrementAndGet();
+    }
+    return next;
+  }
+
+  private void signalConsumers() {
+    // only take the lock if a consumer is blocked
+    if (m_waitingConsumers.get() > 0) {
+      m_consumerLock.lock();
+      try {
+        m_notEmpty.signalAll();
+      }
+      finally {
+        m_consumerLock.unlock();
+      }
+    }
+  }
+
   /**
    * @return time since messages have last been consumed
    */
@@ -160,31 +183,61 @@ public class ClientNotificationNodeQueue {
     return result;
   }
 
+  /**
+   * Blocks until the first notification is available (at most <code>maxWaitTime</code>). Then further notifications are
+   * collected until <code>maxAmount</code> is reached or the max batch latency elapsed since the first one, in order not
+   * to go back with one notification when some are about to pop up.
+   */
   protected List<ClientNotificationMessage> getNotifications(int maxAmount, long maxWaitTime, TimeUnit unit) {
-    List<ClientNotificationMessage> collected = new LinkedList<>();
+    List<ClientNotificationMessage> collected = new ArrayList<>();
     try {
       //blocking wait to get first message
-      ClientNotificationMessage next = m_notifications.poll(maxWaitTime, unit);
-      if (next != null) {
-        collected.add(next);
+      ClientNotificationMessage next = poll(unit.toNanos(maxWaitTime));
+      if (next == null) {
+        return collected;
       }
+      collected.add(next);
 
-      //add more available notifications
-      //with short wait timeout to not go back with one notification when some are about to pop up.
-      int timeout = 234; // 0 for no reschedule
-      while (next != null && collected.size() < maxAmount) {
-        next = m_notifications.poll(timeout, TimeUnit.MILLISECONDS);
-        if (next != null) {
-          collected.add(next);
+      //add more available notifications until the batch latency elapsed
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_maxBatchLatency);
+      while (collected.size() < maxAmount) {
+        next = poll(deadline - System.nanoTime());
+        if (next == null) {
+          break;
         }
+        collected.add(next);
       }
     }
     catch (InterruptedException e) {
       LOG.info("Interrupted while waiting for client notification messages", e);
+      Thread.currentThread().interrupt();
     }
     return collected;
   }
 
+  /**
+   * @return the next notification, waiting at most the given time, or <code>null</code>
+   */
+  private ClientNotificationMessage poll(long timeoutNanos) throws InterruptedException {
+    ClientNotificationMessage next = poll();
+    if (next != null || timeoutNanos <= 0) {
+      return next;
+    }
+    m_consumerLock.lock();
+    m_waitingConsumers.incrementAndGet();
+    try {
+      long nanos = timeoutNanos;
+      while ((next = poll()) == null && nanos > 0) {
+        nanos = m_notEmpty.awaitNanos(nanos);
+      }
+      return next;
+    }
+    finally {
+      m_waitingConsumers.decrementAndGet();
+      m_consumerLock.unlock();
+    }
+  }
+
   private List<ClientNotificationMessage> getRelevantNotifications(Collection<? extends ClientNotificationMessage> notificationInput) {
     List<ClientNotificationMessage> notifications = new ArrayList<>(notificationInput);
     notifications.removeIf(clientNotificationMessage -> !isRelevant(clientNotificationMessage.getAddress()));
@@ -194,29 +247,34 @@ public class ClientNotificationNodeQueue {
   public boolean isRelevant(IClientNotificationAddress address) {
     return address.isNotifyAllSessions()
         || address.isNotifyAllNodes()
-        || CollectionUtility.containsAny(getAllSessionIds(), address.getSessionIds())
-        || CollectionUtility.containsAny(getAllUserIds(), address.getUserIds());
+        || containsAny(m_sessions, address.getSessionIds())
+        || containsAny(m_userToSessions.keySet(), address.getUserIds());
   }
 
-  public Set<String /*sessionId*/> getAllSessionIds() {
-    m_sessionUserCacheLock.readLock().lock();
-    try {
-      return new HashSet<>(m_sessions);
+  private static boolean containsAny(Set<String> registered, Collection<String> candidates) {
+    if (candidates == null) {
+      return false;
     }
-    finally {
-      m_sessionUserCacheLock.readLock().unlock();
+    for (String candidate : candidates) {
+      if (candidate != null && registered.contains(candidate)) {
+        return true;
+      }
     }
+    return false;
   }
 
-  public Set<String> getAllUserIds() {
-    m_sessionUserCacheLock.readLock().lock();
-    try {
-      return new HashSet<>(m_userToSessions.keySet());
-    }
-    finally {
-      m_sessionUserCacheLock.readLock().unlock();
-    }
+  public Set<String /*sessionId*/> getAllSessionIds() {
+    return new HashSet<>(m_sessions);
+  }
 
+  /**
+   * @return <code>true</code> if no session is registered for this node
+   */
+  public boolean hasNoSessions() {
+    return m_sessions.isEmpty();
   }
 
+  public Set<String> getAllUserIds() {
+    return new HashSet<>(m_userToSessions.keySet());
+  }
 }
@@ -74,6 +74,24 @@ public final class ClientNotificationProperties {
     }
   }
 
+  public static class MaxNotificationBatchLatency extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 250;
+    }
+
+    @Override
+    public String description() {
+      return "The maximum amount of time in milliseconds a consumer waits for further notifications once it received the first one, in order to deliver them in one batch. The default is 250 milliseconds.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.maxBatchLatency";
+    }
+  }
+
   public static class NotificationQueueExpireTime extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -13,13 +13,12 @@ package org.eclipse.scout.rt.server.clientnotification;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -42,11 +41,14 @@ import org.slf4j.LoggerFactory;
  * a given timeout for notifications. If no notifications are scheduled within this timeout the lock will be released
  * and returns without any notifications. In case a notification gets scheduled during this timeout the request will be
  * released immediately.
+ * <p>
+ * The registry does not take a global lock: registration and removal of node queues are atomic per node, and
+ * publishing iterates the queues without blocking consumers or other publishers.
  */
 @ApplicationScoped
 public class ClientNotificationRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationRegistry.class);
-  private final Map<String /*notificationNodeId*/, ClientNotificationNodeQueue> m_notificationQueues = new HashMap<>();
+  private final Map<String /*notificationNodeId*/, ClientNotificationNodeQueue> m_notificationQueues = new ConcurrentHashMap<>();
 
   /**
    * If no message is consumed for a certain amount of time [ms], queues are removed to avoid overflows. This may
@@ -66,9 +68,12 @@ public class ClientNotificationRegistry {
    * Register a session with corresponding user for a given node
    */
   protected void registerSession(String nodeId, String sessionId, String userId) {
-    synchronized (m_notificationQueues) {
-      getQueue(nodeId).registerSession(sessionId, userId);
-    }
+    Assertions.assertNotNull(nodeId);
+    m_notificationQueues.compute(nodeId, (k, queue) -> {
+      ClientNotificationNodeQueue nodeQueue = queue != null ? queue : createQueue(nodeId);
+      nodeQueue.registerSession(sessionId, userId);
+      return nodeQueue;
+    });
   }
 
   /**
@@ -76,13 +81,11 @@ public class ClientNotificationRegistry {
    * this session.
    */
   void unregisterSession(String nodeId, String sessionId, String userId) {
-    synchronized (m_notificationQueues) {
-      ClientNotificationNodeQueue queue = getQueue(nodeId);
+    Assertions.assertNotNull(nodeId);
+    m_notificationQueues.computeIfPresent(nodeId, (k, queue) -> {
       queue.unregisterSession(sessionId, userId);
-      if (queue.getAllSessionIds().isEmpty()) {
-        m_notificationQueues.remove(nodeId);
-      }
-    }
+      return queue.hasNoSessions() ? null : queue;
+    });
   }
 
   /**
@@ -91,9 +94,7 @@ public class ClientNotificationRegistry {
    * @param nodeId
    */
   void unregisterNode(String nodeId) {
-    synchronized (m_notificationQueues) {
-      m_notificationQueues.remove(nodeId);
-    }
+    m_notificationQueues.remove(nodeId);
   }
 
   /**
@@ -115,16 +116,13 @@ public class ClientNotificationRegistry {
 
   private ClientNotificationNodeQueue getQueue(String nodeId) {
     Assertions.assertNotNull(nodeId);
-    synchronized (m_notificationQueues) {
-      ClientNotificationNodeQueue queue = m_notificationQueues.get(nodeId);
-      if (queue == null) {
-        // create new
-        queue = BEANS.get(ClientNotificationNodeQueue.class);
-        queue.setNodeId(nodeId);
-        m_notificationQueues.put(nodeId, queue);
-      }
-      return queue;
-    }
+    return m_notificationQueues.computeIfAbsent(nodeId, this::createQueue);
+  }
+
+  private ClientNotificationNodeQueue createQueue(String nodeId) {
+    ClientNotificationNodeQueue queue = BEANS.get(ClientNotificationNodeQueue.class);
+    queue.setNodeId(nodeId);
+    return queue;
   }
 
   /**
@@ -134,11 +132,8 @@ public class ClientNotificationRegistry {
    */
   public Set<String> getRegisteredSessionIds() {
     Set<String> allSessionIds = new HashSet<>();
-    synchronized (m_notificationQueues) {
-      for (ClientNotificationNodeQueue queue : m_notificationQueues.values()) {
-
-        allSessionIds.addAll(queue.getAllSessionIds());
-      }
+    for (ClientNotificationNodeQueue queue : m_notificationQueues.values()) {
+      allSessionIds.addAll(queue.getAllSessionIds());
     }
     return allSessionIds;
   }
@@ -147,9 +142,7 @@ public class ClientNotificationRegistry {
    * Nodes that have been registered with {@link #registerSession(String, String, String)}
    */
   public Set<String> getRegisteredNodeIds() {
-    synchronized (m_notificationQueues) {
-      return new HashSet<>(m_notificationQueues.keySet());
-    }
+    return new HashSet<>(m_notificationQueues.keySet());
   }
 
   // put methods
@@ -267,16 +260,11 @@ public class ClientNotificationRegistry {
    *          may be <code>null</code>
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, String excludedUiNodeId) {
-    synchronized (m_notificationQueues) {
-      final Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
-      while (iter.hasNext()) {
-        final ClientNotificationNodeQueue queue = iter.next();
-        if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
-          if (isQueueExpired(queue)) {
-            LOG.debug("Removing expired queue {}", queue.getNodeId());
-            iter.remove();
-          }
+    for (ClientNotificationNodeQueue queue : m_notificationQueues.values()) {
+      if (!queue.getNodeId().equals(excludedUiNodeId)) {
+        queue.put(messages);
+        if (isQueueExpired(queue) && m_notificationQueues.remove(queue.getNodeId(), queue)) {
+          LOG.debug("Removing expired queue {}", queue.getNodeId());
         }
       }
     }
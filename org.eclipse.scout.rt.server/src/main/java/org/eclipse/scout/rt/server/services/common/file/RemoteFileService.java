@@ -10,7 +10,6 @@
  */
 package org.eclipse.scout.rt.server.services.common.file;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -27,6 +26,7 @@ import java.util.regex.Pattern;
 
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.ServerConfigProperties.RemoteFilesRootDirProperty;
@@ -298,20 +298,17 @@ public class RemoteFileService implements IRemoteFileService {
 
   @Override
   public void streamRemoteFile(RemoteFile spec, OutputStream out) {
+    streamRemoteFile(spec, out, 0, getFileInternal(spec).length());
+  }
+
+  @Override
+  public void streamRemoteFile(RemoteFile spec, OutputStream out, long offset, long length) {
     File file = getFileInternal(spec);
     if (!file.exists()) {
       throw new ProcessingException("remote file does not exist: " + spec.getPath());
     }
-    int len = (int) file.length();
-    byte[] buf = new byte[Math.min(102400, len)];
-    int written = 0;
-    int delta = 0;
-    try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(file))) {
-      while (written < len) {
-        delta = in.read(buf);
-        out.write(buf, 0, delta);
-        written += delta;
-      }
+    try {
+      IOUtility.writeFromFile(out, file, offset, length);
     }
     catch (IOException e) {
       throw new ProcessingException("error streaming file: " + file.getAbsolutePath(), e);
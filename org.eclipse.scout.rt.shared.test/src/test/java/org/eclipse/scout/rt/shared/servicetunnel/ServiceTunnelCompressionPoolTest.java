@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.testing.platform.util.ScoutAssert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ServiceTunnelCompressionPool}
+ */
+public class ServiceTunnelCompressionPoolTest {
+
+  private static final byte[] DATA = "Lorem ipsum dolor sit amet, consetetur sadipscing elitr".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    ServiceTunnelCompressionPool pool = new ServiceTunnelCompressionPool();
+    for (int i = 0; i < 3; i++) {
+      assertArrayEquals(DATA, roundTrip(pool));
+    }
+  }
+
+  @Test
+  public void testFailedCloseDoesNotPoolDeflater() throws IOException {
+    ServiceTunnelCompressionPool pool = new ServiceTunnelCompressionPool();
+    OutputStream out = pool.deflate(new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("expected");
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        throw new IOException("expected");
+      }
+    }, Deflater.BEST_SPEED);
+    ScoutAssert.assertThrows(IOException.class, out::close); // finishing writes the compressed data
+    out.close(); // already released, must not finish the deflater again
+
+    // a deflater which failed must not be handed out again
+    assertArrayEquals(DATA, roundTrip(pool));
+  }
+
+  protected byte[] roundTrip(ServiceTunnelCompressionPool pool) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = pool.deflate(bytes, Deflater.BEST_SPEED)) {
+      out.write(DATA);
+    }
+    try (InputStream in = pool.inflate(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return IOUtility.readBytes(in);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.eclipse.scout.rt.shared.servicetunnel.http.ServiceTunnelRequestContent;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link StreamingServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class StreamingServiceTunnelContentHandlerTest {
+
+  @Test
+  public void testRequest() throws Exception {
+    StreamingServiceTunnelContentHandler handler = createHandler();
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(writeRequest(handler, new ServiceTunnelRequest("test", null, null, null))));
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+  }
+
+  @Test
+  public void testResponse() throws Exception {
+    StreamingServiceTunnelContentHandler handler = createHandler();
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(writeResponse(handler, new ServiceTunnelResponse("test", null))));
+    assertEquals("test", readResponse.getData());
+  }
+
+  @Test
+  public void testLargeResponse() throws Exception {
+    // larger than the pooled buffers, written and read multiple times to reuse pooled deflaters and inflaters
+    byte[] data = new byte[ServiceTunnelCompressionPool.BUFFER_SIZE * 5 + 17];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte) (i % 31);
+    }
+    StreamingServiceTunnelContentHandler handler = createHandler();
+    for (int i = 0; i < 10; i++) {
+      byte[] message = writeResponse(handler, new ServiceTunnelResponse(data, null));
+      assertTrue(message.length < data.length);
+      ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(message));
+      assertArrayEquals(data, (byte[]) readResponse.getData());
+    }
+  }
+
+  @Test
+  public void testCompatibleWithBinaryContentHandler() throws Exception {
+    StreamingServiceTunnelContentHandler streamingHandler = createHandler();
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+
+    ServiceTunnelRequest readRequest = binaryHandler.readRequest(new ByteArrayInputStream(writeRequest(streamingHandler, new ServiceTunnelRequest("streaming", null, null, null))));
+    assertEquals("streaming", readRequest.getServiceInterfaceClassName());
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    binaryHandler.writeResponse(bos, new ServiceTunnelResponse("binary", null));
+    ServiceTunnelResponse readResponse = streamingHandler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("binary", readResponse.getData());
+  }
+
+  @Test
+  public void testUncompressed() throws Exception {
+    StreamingServiceTunnelContentHandler handler = new StreamingServiceTunnelContentHandler() {
+      @Override
+      protected boolean isUseCompression() {
+        return false;
+      }
+    };
+    handler.initialize();
+    byte[] message = writeResponse(handler, new ServiceTunnelResponse("test", null));
+    assertEquals(0, message[0]);
+    assertEquals("test", handler.readResponse(new ByteArrayInputStream(message)).getData());
+  }
+
+  @Test
+  public void testRequestContent() throws Exception {
+    StreamingServiceTunnelContentHandler handler = createHandler();
+    ServiceTunnelRequest request = new ServiceTunnelRequest("test", null, null, null);
+    ServiceTunnelRequestContent content = new ServiceTunnelRequestContent(handler, request);
+    assertEquals(-1, content.getLength());
+    assertFalse(content.retrySupported());
+
+    P_CloseTrackingOutputStream out = new P_CloseTrackingOutputStream();
+    content.writeTo(out);
+    assertFalse("content must not close the connection stream", out.m_closed);
+    assertEquals(out.size(), content.getBytesWritten());
+    assertTrue(Arrays.equals(writeRequest(handler, request), out.toByteArray()));
+  }
+
+  protected StreamingServiceTunnelContentHandler createHandler() {
+    StreamingServiceTunnelContentHandler handler = new StreamingServiceTunnelContentHandler();
+    handler.initialize();
+    return handler;
+  }
+
+  protected byte[] writeRequest(IServiceTunnelContentHandler handler, ServiceTunnelRequest request) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+    return bos.toByteArray();
+  }
+
+  protected byte[] writeResponse(IServiceTunnelContentHandler handler, ServiceTunnelResponse response) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, response);
+    return bos.toByteArray();
+  }
+
+  private static class P_CloseTrackingOutputStream extends ByteArrayOutputStream {
+    private boolean m_closed;
+
+    @Override
+    public void close() throws IOException {
+      m_closed = true;
+      super.close();
+    }
+  }
+}
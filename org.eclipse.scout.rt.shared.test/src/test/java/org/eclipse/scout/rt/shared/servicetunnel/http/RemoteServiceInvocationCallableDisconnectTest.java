@@ -28,6 +28,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpResponse;
 
 /**
@@ -47,6 +48,7 @@ public class RemoteServiceInvocationCallableDisconnectTest {
     HttpServiceTunnel mockTunnel = mock(HttpServiceTunnel.class);
     when(mockTunnel.getContentHandler()).thenReturn(mock(IServiceTunnelContentHandler.class));
     when(mockTunnel.executeRequest(Mockito.eq(mockRequest), Mockito.any(byte[].class))).thenReturn(m_mockResponse);
+    when(mockTunnel.executeRequest(Mockito.eq(mockRequest), Mockito.any(HttpContent.class))).thenReturn(m_mockResponse);
 
     m_callable = new RemoteServiceInvocationCallable(mockTunnel, mockRequest);
   }
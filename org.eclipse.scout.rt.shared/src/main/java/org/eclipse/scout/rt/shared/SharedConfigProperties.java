@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.shared;
 
 import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
 
 import javax.security.auth.Subject;
 
@@ -18,10 +19,12 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBinaryConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractSubjectConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.security.SecurityUtility;
 import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.util.StringUtility;
@@ -205,6 +208,34 @@ public final class SharedConfigProperties {
     }
   }
 
+  public static class ServiceTunnelCompressionLevelProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return Deflater.BEST_SPEED;
+    }
+
+    @Override
+    protected Integer parse(String value) {
+      Integer level = super.parse(value);
+      if (level != null && (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+        throw new PlatformException("Invalid compression level '{}' for property '{}'. Valid values are -1 (default) and 0 (no compression) to 9 (best compression).", value, getKey());
+      }
+      return level;
+    }
+
+    @Override
+    public String description() {
+      return "Deflate compression level used by the service tunnel if compression is enabled (see 'scout.servicetunnel.compress'). "
+          + "Valid values are -1 (default level of the deflate algorithm) and 0 (no compression) to 9 (best compression). The default value is 1 (best speed).";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.compressionLevel";
+    }
+  }
+
   public static class CreateTunnelToServerBeansProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -11,6 +11,8 @@
 package org.eclipse.scout.rt.shared.services.common.file;
 
 import java.io.FilenameFilter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 
 import org.eclipse.scout.rt.platform.service.IService;
@@ -64,4 +66,40 @@ public interface IRemoteFileService extends IService {
    */
   void streamRemoteFile(RemoteFile spec, OutputStream out);
 
+  /**
+   * Same as {@link #streamRemoteFile(RemoteFile, OutputStream)} but only the given range of the file is streamed.
+   * <p>
+   * The default implementation streams the whole file and skips the bytes outside of the range. Implementations should
+   * override it and read the range only.
+   *
+   * @param offset
+   *          position of the first byte to stream
+   * @param length
+   *          number of bytes to stream
+   * @since 10.0
+   */
+  default void streamRemoteFile(RemoteFile spec, OutputStream out, long offset, long length) {
+    streamRemoteFile(spec, new FilterOutputStream(out) {
+      private long m_position;
+
+      @Override
+      public void write(int b) throws IOException {
+        if (m_position >= offset && m_position < offset + length) {
+          out.write(b);
+        }
+        m_position++;
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        long start = Math.max(m_position, offset);
+        long end = Math.min(m_position + len, offset + length);
+        if (start < end) {
+          out.write(b, off + (int) (start - m_position), (int) (end - start));
+        }
+        m_position += len;
+      }
+    });
+  }
+
 }
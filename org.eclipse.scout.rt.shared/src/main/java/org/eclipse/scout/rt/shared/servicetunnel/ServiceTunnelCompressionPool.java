@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+/**
+ * Pool of {@link Deflater}, {@link Inflater} and byte buffers used to compress service tunnel messages.
+ * <p>
+ * Creating a {@link Deflater} or {@link Inflater} allocates native memory which is only released by
+ * {@link Deflater#end()} or finalization. Reusing them (and the stream buffers) avoids this allocation for each service
+ * tunnel call. Idle instances are bounded by {@link #getMaxIdle()}, surplus instances are released immediately.
+ * Instances of a stream which failed to close are released instead of being returned to the pool.
+ *
+ * @since 10.0
+ */
+@ApplicationScoped
+public class ServiceTunnelCompressionPool {
+
+  public static final int BUFFER_SIZE = 16 * 1024;
+
+  private final Deque<Deflater> m_deflaters = new ConcurrentLinkedDeque<>();
+  private final Deque<Inflater> m_inflaters = new ConcurrentLinkedDeque<>();
+  private final Deque<byte[]> m_buffers = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger m_idleDeflaterCount = new AtomicInteger();
+  private final AtomicInteger m_idleInflaterCount = new AtomicInteger();
+  private final AtomicInteger m_idleBufferCount = new AtomicInteger();
+
+  /**
+   * @return maximum number of idle instances kept per type
+   */
+  protected int getMaxIdle() {
+    return Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @return an output stream compressing into the given stream. Closing it returns the deflater and buffer to the pool
+   *         and closes the given stream.
+   */
+  public OutputStream deflate(OutputStream out, int level) {
+    Deflater deflater = m_deflaters.pollFirst();
+    if (deflater == null) {
+      deflater = new Deflater(level);
+    }
+    else {
+      m_idleDeflaterCount.decrementAndGet();
+      deflater.setLevel(level);
+    }
+    return new P_PooledDeflaterOutputStream(out, deflater, acquireBuffer());
+  }
+
+  /**
+   * @return an input stream decompressing the given stream. Closing it returns the inflater and buffer to the pool and
+   *         closes the given stream.
+   */
+  public InputStream inflate(InputStream in) {
+    Inflater inflater = m_inflaters.pollFirst();
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+    else {
+      m_idleInflaterCount.decrementAndGet();
+    }
+    return new P_PooledInflaterInputStream(in, inflater, acquireBuffer());
+  }
+
+  protected byte[] acquireBuffer() {
+    byte[] buffer = m_buffers.pollFirst();
+    if (buffer == null) {
+      return new byte[BUFFER_SIZE];
+    }
+    m_idleBufferCount.decrementAndGet();
+    return buffer;
+  }
+
+  protected void releaseBuffer(byte[] buffer) {
+    if (m_idleBufferCount.incrementAndGet() <= getMaxIdle()) {
+      m_buffers.offerFirst(buffer);
+    }
+    else {
+      m_idleBufferCount.decrementAndGet();
+    }
+  }
+
+  protected void releaseDeflater(Deflater deflater) {
+    if (m_idleDeflaterCount.incrementAndGet() <= getMaxIdle()) {
+      deflater.reset();
+      m_deflaters.offerFirst(deflater);
+    }
+    else {
+      m_idleDeflaterCount.decrementAndGet();
+      deflater.end();
+    }
+  }
+
+  protected void releaseInflater(Inflater inflater) {
+    if (m_idleInflaterCount.incrementAndGet() <= getMaxIdle()) {
+      inflater.reset();
+      m_inflaters.offerFirst(inflater);
+    }
+    else {
+      m_idleInflaterCount.decrementAndGet();
+      inflater.end();
+    }
+  }
+
+  private final class P_PooledDeflaterOutputStream extends DeflaterOutputStream {
+    private boolean m_released;
+
+    private P_PooledDeflaterOutputStream(OutputStream out, Deflater deflater, byte[] buffer) {
+      super(out, deflater, 1);
+      buf = buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (m_released) {
+        return;
+      }
+      m_released = true;
+      boolean closed = false;
+      try {
+        super.close();
+        closed = true;
+      }
+      finally {
+        if (closed) {
+          releaseDeflater(def);
+          releaseBuffer(buf);
+        }
+        else {
+          // the deflater may be in an inconsistent state and the stream is not marked closed, do not pool anything
+          def.end();
+        }
+      }
+    }
+  }
+
+  private final class P_PooledInflaterInputStream extends InflaterInputStream {
+    private boolean m_released;
+
+    private P_PooledInflaterInputStream(InputStream in, Inflater inflater, byte[] buffer) {
+      super(in, inflater, 1);
+      buf = buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (m_released) {
+        return;
+      }
+      m_released = true;
+      boolean closed = false;
+      try {
+        super.close();
+        closed = true;
+      }
+      finally {
+        if (closed) {
+          releaseInflater(inf);
+          releaseBuffer(buf);
+        }
+        else {
+          // the inflater may be in an inconsistent state and the stream is not marked closed, do not pool anything
+          inf.end();
+        }
+      }
+    }
+  }
+}
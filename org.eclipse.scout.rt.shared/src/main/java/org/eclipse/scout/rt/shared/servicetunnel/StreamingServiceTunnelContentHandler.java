@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionLevelProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary content handler which streams messages with pooled compression resources.
+ * <p>
+ * The wire format is the same as the one of {@link BinaryServiceTunnelContentHandler}: a flag byte followed by the
+ * (optionally deflate compressed) serialized message. Therefore both handlers can be mixed between nodes. In contrast to
+ * {@link BinaryServiceTunnelContentHandler}, the {@link java.util.zip.Deflater Deflater}, {@link java.util.zip.Inflater
+ * Inflater} and stream buffers are taken from the {@link ServiceTunnelCompressionPool} instead of being allocated for
+ * each message, and the compression level is configurable (see {@link ServiceTunnelCompressionLevelProperty}).
+ * <p>
+ * Messages are written to and read from the given streams directly, no intermediate copy of the message is created.
+ *
+ * @since 10.0
+ */
+@Order(5005)
+public class StreamingServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StreamingServiceTunnelContentHandler.class);
+  private static final String CONTENT_TYPE = "application/octet-stream";
+
+  private int m_compressionLevel;
+  private volatile Boolean m_receivedCompressed;
+
+  @Override
+  public void initialize() {
+    super.initialize();
+    m_compressionLevel = CONFIG.getPropertyValue(ServiceTunnelCompressionLevelProperty.class);
+  }
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void writeRequest(OutputStream out, ServiceTunnelRequest msg) throws IOException {
+    writeData(out, msg);
+  }
+
+  @Override
+  public ServiceTunnelRequest readRequest(InputStream in) throws IOException, ClassNotFoundException {
+    return readData(in, ServiceTunnelRequest.class);
+  }
+
+  @Override
+  public void writeResponse(OutputStream out, ServiceTunnelResponse msg) throws IOException {
+    writeData(out, msg);
+  }
+
+  @Override
+  public ServiceTunnelResponse readResponse(InputStream in) throws IOException, ClassNotFoundException {
+    return readData(in, ServiceTunnelResponse.class);
+  }
+
+  protected void writeData(OutputStream out, Object msg) throws IOException {
+    boolean compressed = isUseCompression();
+    // signal compression
+    out.write(compressed ? 1 : 0);
+    OutputStream target = compressed ? getCompressionPool().deflate(out, getCompressionLevel()) : out;
+    try {
+      // the serializer closes the stream, which returns the deflater to the pool
+      getObjectSerializer().serialize(target, msg);
+    }
+    catch (NotSerializableException e) {
+      LOG.error("Error serializing data '{}'", msg);
+      throw e;
+    }
+    finally {
+      if (target != out) {
+        target.close();
+      }
+    }
+  }
+
+  protected <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
+    // read compressed flag
+    boolean compressed = in.read() == 1;
+    m_receivedCompressed = compressed;
+    InputStream source = compressed ? getCompressionPool().inflate(in) : in;
+    try {
+      return getObjectSerializer().deserialize(source, clazz);
+    }
+    finally {
+      if (source != in) {
+        source.close();
+      }
+    }
+  }
+
+  protected boolean isUseCompression() {
+    if (isSendCompressed() != null) {
+      return isSendCompressed();
+    }
+    if (m_receivedCompressed != null) {
+      return m_receivedCompressed;
+    }
+    return true;
+  }
+
+  protected int getCompressionLevel() {
+    return m_compressionLevel;
+  }
+
+  protected ServiceTunnelCompressionPool getCompressionPool() {
+    return BEANS.get(ServiceTunnelCompressionPool.class);
+  }
+}
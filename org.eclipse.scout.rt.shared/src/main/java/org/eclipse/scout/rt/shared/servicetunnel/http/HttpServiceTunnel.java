@@ -36,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
@@ -101,6 +102,23 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    *           {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}
    */
   protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    return executeRequest(call, new ByteArrayContentEx(null, callData, false), callData);
+  }
+
+  /**
+   * Execute a {@link ServiceTunnelRequest} whose data is written directly to the connection by the given
+   * {@link HttpContent} (e.g. {@link ServiceTunnelRequestContent}).
+   * <p>
+   * {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])} is called with <code>null</code> call data in
+   * this case because the request data is not available before the request is sent.
+   *
+   * @since 10.0
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content) throws IOException {
+    return executeRequest(call, content, null);
+  }
+
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content, byte[] callData) throws IOException {
     // fast check of wrong URL's for this tunnel
     if (!"http".equalsIgnoreCase(getServerUrl().getProtocol()) && !"https".equalsIgnoreCase(getServerUrl().getProtocol())) {
       throw new IOException("URL '" + getServerUrl().toString() + "' is not supported by this tunnel ('" + getClass().getName() + "').");
@@ -111,7 +129,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
 
     HttpRequestFactory requestFactory = getHttpTransportManager().getHttpRequestFactory();
-    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), new ByteArrayContentEx(null, callData, false));
+    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), content);
     HttpHeaders headers = request.getHeaders();
     headers.setCacheControl("no-cache");
     headers.setContentType(getContentHandler().getContentType());
@@ -135,7 +153,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * @param call
    *          request information
    * @param callData
-   *          data as byte array
+   *          data as byte array, <code>null</code> if the request is streamed
    * @throws IOException
    * @since 6.0
    */
@@ -11,6 +11,7 @@
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsTotalProperty;
@@ -70,4 +71,25 @@ public final class HttpServiceTunnelConfigurationProperties {
           BEANS.get(ApacheHttpTransportMaxConnectionsTotalProperty.class).getKey());
     }
   }
+
+  public static class HttpServiceTunnelStreamingRequestProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.TRUE;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.streamRequests";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return "Specifies if service tunnel requests are written directly to the HTTP connection (chunked transfer encoding) instead of being serialized into a byte array first.\n"
+          + "Disable if a proxy between the UI and the backend server does not support chunked request bodies or if a custom tunnel requires the request data in 'addCustomHeaders'.\n"
+          + "The default value is true.";
+    }
+  }
 }
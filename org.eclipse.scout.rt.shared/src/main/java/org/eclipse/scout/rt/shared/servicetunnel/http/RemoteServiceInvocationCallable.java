@@ -17,6 +17,7 @@ import java.lang.reflect.Method;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
@@ -25,6 +26,7 @@ import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelStreamingRequestProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,15 +65,25 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
 
     final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
     try {
-      // Create the request.
-      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
-      requestMessage.close();
-      final byte[] requestData = requestMessage.toByteArray();
-      nBytes = requestData.length;
-
-      // Send the request to the server.
-      HttpResponse resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      // Create the request and send it to the server.
+      final HttpResponse resp;
+      if (isStreamRequest()) {
+        final ServiceTunnelRequestContent requestContent = new ServiceTunnelRequestContent(m_tunnel.getContentHandler(), m_serviceRequest);
+        try {
+          resp = m_tunnel.executeRequest(m_serviceRequest, requestContent);
+        }
+        finally {
+          nBytes = requestContent.getBytesWritten();
+        }
+      }
+      else {
+        final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
+        m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
+        requestMessage.close();
+        final byte[] requestData = requestMessage.toByteArray();
+        nBytes = requestData.length;
+        resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      }
       try {
         // Receive the response.
         m_tunnel.interceptHttpResponse(resp, m_serviceRequest);
@@ -119,6 +131,14 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
     }
   }
 
+  /**
+   * @return <code>true</code> if the request is written directly to the HTTP connection without buffering it in memory
+   *         first (see {@link HttpServiceTunnelStreamingRequestProperty}).
+   */
+  protected boolean isStreamRequest() {
+    return CONFIG.getPropertyValue(HttpServiceTunnelStreamingRequestProperty.class);
+  }
+
   /**
    * Cancels the remote service operation on server side.
    */
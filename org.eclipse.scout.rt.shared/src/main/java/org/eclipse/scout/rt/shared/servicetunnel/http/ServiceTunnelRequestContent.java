@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+
+import com.google.api.client.http.AbstractHttpContent;
+
+/**
+ * HTTP content which writes a {@link ServiceTunnelRequest} directly to the connection using an
+ * {@link IServiceTunnelContentHandler}. The length is not known in advance, therefore the request is sent using chunked
+ * transfer encoding and the message is never held in memory as a whole.
+ * <p>
+ * The content cannot be written twice, therefore retries are not supported.
+ *
+ * @since 10.0
+ */
+public class ServiceTunnelRequestContent extends AbstractHttpContent {
+  private final IServiceTunnelContentHandler m_contentHandler;
+  private final ServiceTunnelRequest m_serviceRequest;
+  private long m_bytesWritten;
+
+  public ServiceTunnelRequestContent(IServiceTunnelContentHandler contentHandler, ServiceTunnelRequest serviceRequest) {
+    super(contentHandler.getContentType());
+    m_contentHandler = contentHandler;
+    m_serviceRequest = serviceRequest;
+  }
+
+  @Override
+  public long getLength() {
+    return -1;
+  }
+
+  @Override
+  public boolean retrySupported() {
+    return false;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    // the content handler closes the stream, closing the connection's stream is up to the transport
+    m_contentHandler.writeRequest(new P_CountingNonClosingOutputStream(out), m_serviceRequest);
+  }
+
+  /**
+   * @return number of bytes written by {@link #writeTo(OutputStream)}
+   */
+  public long getBytesWritten() {
+    return m_bytesWritten;
+  }
+
+  private final class P_CountingNonClosingOutputStream extends FilterOutputStream {
+
+    private P_CountingNonClosingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      m_bytesWritten++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      m_bytesWritten += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+}
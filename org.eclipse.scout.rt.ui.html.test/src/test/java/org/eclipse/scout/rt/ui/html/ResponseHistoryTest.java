@@ -12,15 +12,23 @@ package org.eclipse.scout.rt.ui.html;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
-import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.Test;
+import org.junit.runner.RunWith;
 
+@RunWith(PlatformTestRunner.class)
 public class ResponseHistoryTest {
 
   @Test
@@ -41,16 +49,16 @@ public class ResponseHistoryTest {
     assertNull(history.getResponseForRequest(null));
 
     // Insert two requests
-    JSONObject resp1 = new JSONObject();
-    JSONObject resp2 = new JSONObject();
+    JSONObject resp1 = new JSONObject().put("id", 1);
+    JSONObject resp2 = new JSONObject().put("id", 2);
     history.registerResponse(7L, resp1, 1L);
     history.registerResponse(8L, resp2, 2L);
 
-    // Test getters
-    assertSame(resp1, history.getResponse(7L));
-    assertSame(resp2, history.getResponse(8L));
-    assertSame(resp1, history.getResponseForRequest(1L));
-    assertSame(resp2, history.getResponseForRequest(2L));
+    // Test getters (responses are retained serialized, therefore compare content)
+    assertEquals(resp1.toString(), history.getResponse(7L).toString());
+    assertEquals(resp2.toString(), history.getResponse(8L).toString());
+    assertEquals(resp1.toString(), history.getResponseForRequest(1L).toString());
+    assertEquals(resp2.toString(), history.getResponseForRequest(2L).toString());
     assertEquals(Long.valueOf(1), history.getRequestSequenceNo(7L));
     assertEquals(Long.valueOf(2), history.getRequestSequenceNo(8L));
     assertEquals(Long.valueOf(7), history.getResponseSequenceNo(1L));
@@ -91,7 +99,7 @@ public class ResponseHistoryTest {
     List<JSONObject> all = new ArrayList<>();
     // Insert many requests
     for (int i = 0; i < 20; i++) {
-      JSONObject resp = new JSONObject();
+      JSONObject resp = new JSONObject().put("id", i);
       all.add(resp);
       history.registerResponse(Long.valueOf(i), resp, Long.valueOf(i));
       assertEquals(Math.min(i + 1, 10), history.size());
@@ -101,11 +109,113 @@ public class ResponseHistoryTest {
     assertNull(history.getResponse(1L));
     assertNull(history.getResponse(2L));
     assertNull(history.getResponse(9L));
-    assertSame(all.get(10), history.getResponse(10L));
-    assertSame(all.get(11), history.getResponse(11L));
-    assertSame(all.get(12), history.getResponse(12L));
-    assertSame(all.get(19), history.getResponse(19L));
+    assertEquals(all.get(10).toString(), history.getResponse(10L).toString());
+    assertEquals(all.get(11).toString(), history.getResponse(11L).toString());
+    assertEquals(all.get(12).toString(), history.getResponse(12L).toString());
+    assertEquals(all.get(19).toString(), history.getResponse(19L).toString());
     assertNull(history.getResponse(20L));
+
+    // The mappings of dropped responses are removed as well
+    assertNull(history.getResponseSequenceNo(0L));
+    assertNull(history.getRequestSequenceNo(9L));
+    assertEquals(Long.valueOf(10), history.getResponseSequenceNo(10L));
+  }
+
+  @Test
+  public void testMostRecentResponseExceedingTotalBudget() {
+    ResponseHistoryBudget budget = new ResponseHistoryBudget() {
+      @Override
+      public long getMaxTotalBytes() {
+        return 1;
+      }
+    };
+    IBean<?> bean = BeanTestingHelper.get().registerBean(new BeanMetaData(ResponseHistoryBudget.class, budget));
+    try {
+      ResponseHistory history = new ResponseHistory();
+      history.registerResponse(1L, new JSONObject().put("id", 1), 1L);
+      assertEquals(1, history.size());
+
+      // The older response is dropped, the most recent one is retained although it exceeds the budget
+      history.registerResponse(2L, new JSONObject().put("id", 2), 2L);
+      assertEquals(1, history.size());
+      assertNull(history.getResponse(1L));
+      assertNull(history.getResponseSequenceNo(1L));
+      assertNull(history.getRequestSequenceNo(1L));
+      assertEquals(Long.valueOf(2), history.getResponseSequenceNo(2L));
+      assertEquals(1, budget.getDroppedResponses());
+
+      history.dispose();
+      assertEquals(0, budget.getRetainedBytes());
+      assertEquals(0, budget.getRetainedResponses());
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
+  @Test
+  public void testRetainedResponseRoundTrip() {
+    ResponseHistory history = new ResponseHistory();
+
+    JSONArray events = new JSONArray();
+    for (int i = 0; i < 100; i++) {
+      events.put(new JSONObject().put("target", "adapter" + i).put("type", "property").put("text", "\u00e4\u00f6\u00fc \u20ac " + i));
+    }
+    JSONObject resp = new JSONObject().put("events", events);
+    history.registerResponse(1L, resp, 1L);
+
+    assertEquals(resp.toString(), history.getResponse(1L).toString());
+    assertEquals(events.toString(), history.toSyncResponse().getJSONArray("events").toString());
+    assertTrue(history.getRetainedBytes() > 0);
+  }
+
+  @Test
+  public void testRetainedBytes() {
+    ResponseHistoryBudget budget = BEANS.get(ResponseHistoryBudget.class);
+    long budgetRetainedBytes = budget.getRetainedBytes();
+
+    ResponseHistory history = new ResponseHistory();
+    history.registerResponse(1L, new JSONObject().put("id", 1), 1L);
+    history.registerResponse(2L, new JSONObject().put("id", 2), 2L);
+    long retainedBytes = history.getRetainedBytes();
+    assertTrue(retainedBytes > 0);
+    assertEquals(budgetRetainedBytes + retainedBytes, budget.getRetainedBytes());
+
+    history.confirmResponseProcessed(1L);
+    assertTrue(history.getRetainedBytes() < retainedBytes);
+
+    history.dispose();
+    assertEquals(0, history.size());
+    assertEquals(0, history.getRetainedBytes());
+    assertEquals(budgetRetainedBytes, budget.getRetainedBytes());
+
+    // Responses registered after dispose are not retained anymore
+    history.registerResponse(3L, new JSONObject(), 3L);
+    assertEquals(0, history.size());
+    assertEquals(budgetRetainedBytes, budget.getRetainedBytes());
+  }
+
+  @Test
+  public void testGetResponsesAfter() {
+    ResponseHistory history = new ResponseHistory();
+    assertTrue(history.getResponsesAfter(0L).isEmpty());
+
+    JSONObject resp1 = new JSONObject().put("id", 1);
+    JSONObject resp2 = new JSONObject().put("id", 2);
+    JSONObject resp3 = new JSONObject().put("id", 3);
+    history.registerResponse(4L, resp1, 1L);
+    history.registerResponse(5L, resp2, 2L);
+    history.registerResponse(6L, resp3, 3L);
+
+    List<JSONObject> responses = history.getResponsesAfter(4L);
+    assertEquals(2, responses.size());
+    assertEquals(resp2.toString(), responses.get(0).toString());
+    assertEquals(resp3.toString(), responses.get(1).toString());
+    assertEquals(3, history.getResponsesAfter(0L).size());
+    assertTrue(history.getResponsesAfter(6L).isEmpty());
+
+    history.confirmResponseProcessed(5L);
+    assertEquals(1, history.getResponsesAfter(0L).size());
   }
 
   @Test
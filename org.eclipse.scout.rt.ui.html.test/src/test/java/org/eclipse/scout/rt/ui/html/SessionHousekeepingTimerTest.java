@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.SessionHousekeepingTimer.Timeout;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class SessionHousekeepingTimerTest {
+
+  private SessionHousekeepingTimer m_timer;
+
+  @Before
+  public void before() {
+    m_timer = new SessionHousekeepingTimer();
+  }
+
+  @After
+  public void after() {
+    m_timer.destroy();
+  }
+
+  @Test
+  public void testSchedule() {
+    AtomicReference<Timeout> current = new AtomicReference<>();
+    Timeout timeout = m_timer.schedule(() -> current.set(SessionHousekeepingTimer.CURRENT.get()), 1, TimeUnit.SECONDS);
+    assertEquals(1, m_timer.getScheduledCount());
+    assertFalse(timeout.isDone());
+
+    JobTestUtil.waitForCondition(timeout::isDone);
+    assertSame(timeout, current.get());
+    assertEquals(0, m_timer.getScheduledCount());
+    assertFalse(timeout.cancel());
+    assertNull(SessionHousekeepingTimer.CURRENT.get());
+  }
+
+  @Test
+  public void testCancel() {
+    AtomicBoolean cancelledRun = new AtomicBoolean();
+    Timeout cancelled = m_timer.schedule(() -> cancelledRun.set(true), 1, TimeUnit.SECONDS);
+    Timeout other = m_timer.schedule(() -> {
+    }, 2, TimeUnit.SECONDS);
+    assertEquals(2, m_timer.getScheduledCount());
+
+    assertTrue(cancelled.cancel());
+    assertFalse(cancelled.cancel());
+    assertTrue(cancelled.isCancelled());
+    assertEquals(1, m_timer.getScheduledCount());
+
+    JobTestUtil.waitForCondition(other::isDone);
+    assertFalse(cancelledRun.get());
+    assertFalse(cancelled.isDone());
+    assertEquals(0, m_timer.getScheduledCount());
+  }
+
+  @Test
+  public void testFailingTask() {
+    Timeout failing = m_timer.schedule(() -> {
+      throw new IllegalStateException("expected");
+    }, 0, TimeUnit.SECONDS);
+    Timeout other = m_timer.schedule(() -> {
+    }, 0, TimeUnit.SECONDS);
+
+    JobTestUtil.waitForCondition(() -> failing.isDone() && other.isDone());
+    assertEquals(0, m_timer.getScheduledCount());
+  }
+
+  @Test
+  public void testBlockingTask() {
+    CountDownLatch release = new CountDownLatch(1);
+    Timeout blocking = m_timer.schedule(() -> {
+      try {
+        release.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, 0, TimeUnit.SECONDS);
+    Timeout other = m_timer.schedule(() -> {
+    }, 1, TimeUnit.SECONDS);
+    try {
+      // The blocked task neither delays the other task nor the timer
+      JobTestUtil.waitForCondition(other::isDone);
+      assertFalse(blocking.isDone());
+      assertEquals(1, m_timer.getScheduledCount());
+    }
+    finally {
+      release.countDown();
+    }
+    JobTestUtil.waitForCondition(blocking::isDone);
+    assertEquals(0, m_timer.getScheduledCount());
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpSession;
+
+import org.eclipse.scout.rt.client.IClientSession;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Simulates the reconnect storm after a node restart: many UI sessions of many users register, disconnect and
+ * reconnect concurrently.
+ */
+@RunWith(PlatformTestRunner.class)
+public class SessionStoreTest {
+
+  private static final int THREADS = 32;
+  private static final int USERS_PER_THREAD = 50;
+
+  @Test
+  public void testReconnectStorm() throws Exception {
+    // one store per user and one store shared by all users (worst case for contention)
+    SessionStore sharedStore = new SessionStore(mockHttpSession("shared"));
+    List<SessionStore> stores = new ArrayList<>();
+    List<IClientSession> clientSessions = new ArrayList<>();
+    for (int i = 0; i < THREADS * USERS_PER_THREAD; i++) {
+      stores.add(new SessionStore(mockHttpSession("http-" + i)));
+      clientSessions.add(mockClientSession("client-" + i));
+    }
+    int housekeepingCountBefore = BEANS.get(SessionHousekeepingTimer.class).getScheduledCount();
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        int firstUser = t * USERS_PER_THREAD;
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = firstUser; i < firstUser + USERS_PER_THREAD; i++) {
+            IClientSession clientSession = clientSessions.get(i);
+            for (SessionStore store : new SessionStore[]{stores.get(i), sharedStore}) {
+              // initial login
+              IUiSession uiSession = mockUiSession("ui-" + i, clientSession);
+              assertNull(store.preregisterUiSession(uiSession, null));
+              store.registerUiSession(uiSession);
+              assertSame(uiSession, store.getUiSession("ui-" + i));
+
+              // disconnect (schedules housekeeping)
+              store.unregisterUiSession(uiSession);
+              assertNull(store.getUiSession("ui-" + i));
+
+              // reconnect (cancels housekeeping and re-uses the client session)
+              IUiSession reconnectedUiSession = mockUiSession("ui-" + i + "-reconnected", clientSession);
+              assertSame(clientSession, store.preregisterUiSession(reconnectedUiSession, clientSession.getId()));
+              store.registerUiSession(reconnectedUiSession);
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(1, TimeUnit.MINUTES);
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(housekeepingCountBefore, BEANS.get(SessionHousekeepingTimer.class).getScheduledCount());
+    assertEquals(THREADS * USERS_PER_THREAD, sharedStore.countUiSessions());
+    assertEquals(THREADS * USERS_PER_THREAD, sharedStore.countClientSessions());
+    assertEquals(THREADS * USERS_PER_THREAD, sharedStore.getUiSessionsByClientSession().size());
+    assertTrue(sharedStore.m_preregisteredUiSessionMap.isEmpty());
+    assertTrue(sharedStore.m_preregisteredUiSessionsByClientSession.isEmpty());
+    assertTrue(sharedStore.m_housekeepingTimeouts.isEmpty());
+    for (int i = 0; i < stores.size(); i++) {
+      SessionStore store = stores.get(i);
+      assertEquals(1, store.countUiSessions());
+      assertNotNull(store.getUiSession("ui-" + i + "-reconnected"));
+      assertSame(clientSessions.get(i), store.getClientSessionMap().get("client-" + i));
+      assertTrue(store.m_housekeepingTimeouts.isEmpty());
+    }
+  }
+
+  protected HttpSession mockHttpSession(String id) {
+    HttpSession httpSession = mock(HttpSession.class);
+    when(httpSession.getId()).thenReturn(id);
+    return httpSession;
+  }
+
+  protected IClientSession mockClientSession(String id) {
+    IClientSession clientSession = mock(IClientSession.class);
+    when(clientSession.getId()).thenReturn(id);
+    when(clientSession.isActive()).thenReturn(true);
+    return clientSession;
+  }
+
+  protected IUiSession mockUiSession(String id, IClientSession clientSession) {
+    IUiSession uiSession = mock(IUiSession.class);
+    when(uiSession.getUiSessionId()).thenReturn(id);
+    when(uiSession.getClientSession()).thenReturn(clientSession);
+    when(uiSession.getClientSessionId()).thenReturn(clientSession.getId());
+    return uiSession;
+  }
+}
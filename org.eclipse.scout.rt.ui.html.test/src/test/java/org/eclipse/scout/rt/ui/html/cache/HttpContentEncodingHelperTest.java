@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.cache;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpContentEncodingHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class HttpContentEncodingHelperTest {
+
+  private HttpContentEncodingHelper m_helper;
+  private boolean m_oldDevMode;
+
+  @Before
+  public void before() {
+    m_oldDevMode = BEANS.get(PlatformDevModeProperty.class).getValue();
+    BEANS.get(PlatformDevModeProperty.class).setValue(false);
+    m_helper = BEANS.get(HttpContentEncodingHelper.class);
+  }
+
+  @After
+  public void after() {
+    BEANS.get(PlatformDevModeProperty.class).setValue(m_oldDevMode);
+  }
+
+  @Test
+  public void testPrecompress() throws Exception {
+    String content = StringUtility.repeat("function foo() { return 'bar'; }\n", 100);
+    HttpCacheObject obj = createCacheObject("a.js", content);
+    m_helper.precompress(obj);
+
+    BinaryResource gzipped = obj.getEncodedResource(HttpContentEncodingHelper.GZIP);
+    assertNotNull(gzipped);
+    assertTrue(gzipped.getContentLength() < obj.getResource().getContentLength());
+    assertEquals(obj.getResource().getContentType(), gzipped.getContentType());
+    assertEquals(content, new String(IOUtility.uncompressGzip(gzipped.getContent()), StandardCharsets.UTF_8));
+    assertEquals(obj.getResource().getContentLength() + gzipped.getContentLength(), obj.getSize());
+  }
+
+  @Test
+  public void testPrecompressNotWorthIt() {
+    HttpCacheObject small = createCacheObject("a.js", "var a;");
+    m_helper.precompress(small);
+    assertFalse(small.hasEncodedResources());
+
+    HttpCacheObject image = createCacheObject("a.png", StringUtility.repeat("x", 1000));
+    m_helper.precompress(image);
+    assertFalse(image.hasEncodedResources());
+  }
+
+  @Test
+  public void testNegotiateContentEncoding() {
+    HttpCacheObject obj = createCacheObject("a.js", StringUtility.repeat("var a = 1;\n", 100));
+    assertNull(negotiate(obj, "gzip, deflate, br"));
+
+    m_helper.precompress(obj);
+    assertEquals(HttpContentEncodingHelper.GZIP, negotiate(obj, "gzip, deflate, br"));
+    assertEquals(HttpContentEncodingHelper.GZIP, negotiate(obj, "*"));
+    assertNull(negotiate(obj, null));
+    assertNull(negotiate(obj, "deflate"));
+    assertNull(negotiate(obj, "gzip;q=0, br"));
+    assertNull(negotiate(obj, "*, gzip;q=0"));
+
+    obj.putEncodedResource(HttpContentEncodingHelper.BROTLI, m_helper.createEncodedResource(obj.getResource(), new byte[]{1, 2, 3}));
+    assertEquals(HttpContentEncodingHelper.BROTLI, negotiate(obj, "gzip, deflate, br"));
+    assertEquals(HttpContentEncodingHelper.GZIP, negotiate(obj, "gzip, deflate, br;q=0"));
+  }
+
+  @Test
+  public void testStrongETag() {
+    HttpCacheObject obj = createCacheObject("a.js", "var a = 1;");
+    String etag = obj.createStrongETag(null);
+    String gzipETag = obj.createStrongETag(HttpContentEncodingHelper.GZIP);
+    assertTrue(etag.startsWith("\""));
+    assertTrue(etag.endsWith("\""));
+    assertNotEquals(etag, gzipETag);
+    assertFalse(gzipETag.contains(etag));
+    assertEquals(etag, createCacheObject("b.js", "var a = 1;").createStrongETag(null));
+    assertNotEquals(etag, createCacheObject("a.js", "var a = 2;").createStrongETag(null));
+  }
+
+  protected String negotiate(HttpCacheObject obj, String acceptEncoding) {
+    HttpServletRequest req = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(req.getHeader(HttpContentEncodingHelper.ACCEPT_ENCODING)).thenReturn(acceptEncoding);
+    return m_helper.negotiateContentEncoding(req, obj);
+  }
+
+  protected HttpCacheObject createCacheObject(String filename, String content) {
+    BinaryResource res = BinaryResources.create()
+        .withFilename(filename)
+        .withContent(content.getBytes(StandardCharsets.UTF_8))
+        .withCachingAllowed(true)
+        .build();
+    return new HttpCacheObject(new HttpCacheKey("/" + filename), res);
+  }
+}
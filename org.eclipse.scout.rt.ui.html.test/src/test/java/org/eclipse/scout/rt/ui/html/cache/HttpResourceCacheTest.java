@@ -10,6 +10,8 @@
  */
 package org.eclipse.scout.rt.ui.html.cache;
 
+import java.nio.charset.StandardCharsets;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
@@ -92,4 +94,39 @@ public class HttpResourceCacheTest {
     Assert.assertNull(obj2);
   }
 
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    rc = new HttpResourceCache() {
+      @Override
+      protected long getMaxSize() {
+        return 30;
+      }
+    };
+    Assert.assertTrue(rc.put(createCacheObject("/a", "<html></html>")));
+    Assert.assertTrue(rc.put(createCacheObject("/b", "<html></html>")));
+    Assert.assertEquals(26, rc.getSize());
+    Assert.assertNotNull(rc.get(new HttpCacheKey("/a")));
+
+    Assert.assertTrue(rc.put(createCacheObject("/c", "<html></html>")));
+    Assert.assertEquals(26, rc.getSize());
+    Assert.assertNotNull(rc.get(new HttpCacheKey("/a")));
+    Assert.assertNull(rc.get(new HttpCacheKey("/b")));
+    Assert.assertNotNull(rc.get(new HttpCacheKey("/c")));
+
+    // too large for the cache
+    Assert.assertFalse(rc.put(createCacheObject("/d", "<html><body>too large</body></html>")));
+    Assert.assertNull(rc.get(new HttpCacheKey("/d")));
+
+    rc.clear();
+    Assert.assertEquals(0, rc.getSize());
+  }
+
+  protected HttpCacheObject createCacheObject(String path, String content) {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.html")
+        .withContent(content.getBytes(StandardCharsets.UTF_8))
+        .withCachingAllowed(true)
+        .build();
+    return new HttpCacheObject(new HttpCacheKey(path), res);
+  }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.form.fields.GridData;
+import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
+import org.eclipse.scout.rt.client.ui.form.fields.groupbox.AbstractGroupBox;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.json.fixtures.JsonAdapterMock;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.eclipse.scout.rt.ui.html.json.form.fields.JsonFormField;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class AdapterDefinitionCacheTest {
+
+  private AdapterDefinitionCache m_cache;
+
+  @Before
+  public void before() {
+    m_cache = BEANS.get(AdapterDefinitionCache.class);
+    m_cache.clear();
+  }
+
+  @Test
+  public void testSharedAmongSessions() {
+    JSONObject json1 = createAdapter(new UiSessionMock(), new GridData(1, 2, 3, 4, 1, 0)).toJson();
+    JSONObject json2 = createAdapter(new UiSessionMock(), new GridData(1, 2, 3, 4, 1, 0)).toJson();
+
+    assertEquals(1, m_cache.size());
+    assertSame(json1.get("gridData"), json2.get("gridData"));
+    assertEquals(3, json2.getJSONObject("gridData").getInt("w"));
+  }
+
+  @Test
+  public void testDifferentModelValue() {
+    IUiSession session = new UiSessionMock();
+    JSONObject json1 = createAdapter(session, new GridData(1, 2, 3, 4, 1, 0)).toJson();
+    JSONObject json2 = createAdapter(session, new GridData(1, 2, 5, 4, 1, 0)).toJson();
+
+    assertNotSame(json1.get("gridData"), json2.get("gridData"));
+    assertEquals(3, json1.getJSONObject("gridData").getInt("w"));
+    assertEquals(5, json2.getJSONObject("gridData").getInt("w"));
+  }
+
+  @Test
+  public void testModelValueModifiedAfterToJson() {
+    IUiSession session = new UiSessionMock();
+    GridData gridData = new GridData(1, 2, 3, 4, 1, 0);
+    P_JsonGroupBox adapter = createAdapter(session, gridData);
+    JSONObject json1 = adapter.toJson();
+
+    // the grid data instance of the model is changed in place, the cached value must not be affected
+    adapter.getModel().getGridData().w = 7;
+    JSONObject json2 = adapter.toJson();
+
+    assertEquals(3, json1.getJSONObject("gridData").getInt("w"));
+    assertEquals(7, json2.getJSONObject("gridData").getInt("w"));
+  }
+
+  protected P_JsonGroupBox createAdapter(IUiSession session, GridData gridData) {
+    P_GroupBox model = new P_GroupBox();
+    model.setGridDataInternal(gridData);
+    P_JsonGroupBox adapter = new P_JsonGroupBox(model, session, session.createUniqueId(), new JsonAdapterMock());
+    adapter.init();
+    return adapter;
+  }
+
+  private static class P_GroupBox extends AbstractGroupBox {
+  }
+
+  private static class P_JsonGroupBox extends JsonFormField<IFormField> {
+
+    P_JsonGroupBox(IFormField model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
+      super(model, uiSession, id, parent);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.json.table.JsonTable;
+import org.eclipse.scout.rt.ui.html.json.tree.JsonTree;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class JsonEventCoalescerTest {
+
+  private final JsonEventCoalescer m_coalescer = BEANS.get(JsonEventCoalescer.class);
+
+  @Test
+  public void testInsertedAndUpdatedRows() {
+    JsonEventCoalescingStatistics stats = new JsonEventCoalescingStatistics();
+    List<JsonEvent> events = m_coalescer.coalesce(Arrays.asList(
+        rowsEvent("t1", JsonTable.EVENT_ROWS_INSERTED, row("r1", "a"), row("r2", "b")),
+        rowsEvent("t1", JsonTable.EVENT_ROWS_UPDATED, row("r1", "c")),
+        rowsEvent("t1", JsonTable.EVENT_ROWS_UPDATED, row("r2", "d"))), stats);
+
+    assertEquals(1, events.size());
+    JSONArray rows = events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(2, rows.length());
+    assertEquals("c", rows.getJSONObject(0).getString("text"));
+    assertEquals("d", rows.getJSONObject(1).getString("text"));
+    assertEquals(3, stats.getRowEvents());
+    assertEquals(2, stats.getMergedRowEvents());
+  }
+
+  @Test
+  public void testUpdatedRowsOfPreviousResponse() {
+    JsonEventCoalescingStatistics stats = new JsonEventCoalescingStatistics();
+    List<JsonEvent> events = m_coalescer.coalesce(Arrays.asList(
+        rowsEvent("t1", JsonTable.EVENT_ROWS_INSERTED, row("r2", "b")),
+        rowsEvent("t1", JsonTable.EVENT_ROWS_UPDATED, row("r1", "c"), row("r2", "d"))), stats);
+
+    assertEquals(2, events.size());
+    assertEquals("d", events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).getJSONObject(0).getString("text"));
+    JSONArray updatedRows = events.get(1).getData().getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(1, updatedRows.length());
+    assertEquals("r1", updatedRows.getJSONObject(0).getString("id"));
+  }
+
+  @Test
+  public void testInsertedAndDeletedRows() {
+    JsonEventCoalescingStatistics stats = new JsonEventCoalescingStatistics();
+    List<JsonEvent> events = m_coalescer.coalesce(Arrays.asList(
+        rowsEvent("t1", JsonTable.EVENT_ROWS_INSERTED, row("r1", "a")),
+        rowIdsEvent("t1", JsonTable.EVENT_ROWS_DELETED, "r1")), stats);
+
+    assertEquals(0, events.size());
+    assertEquals(2, stats.getMergedRowEvents());
+    assertEquals(1, stats.getEliminatedRows());
+
+    events = m_coalescer.coalesce(Arrays.asList(
+        rowsEvent("t1", JsonTable.EVENT_ROWS_INSERTED, row("r1", "a"), row("r2", "b")),
+        rowIdsEvent("t1", JsonTable.EVENT_ROWS_DELETED, "r1", "r0")), new JsonEventCoalescingStatistics());
+
+    assertEquals(2, events.size());
+    assertEquals("r2", events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).getJSONObject(0).getString("id"));
+    assertEquals(new JSONArray().put("r0").toString(), events.get(1).getData().getJSONArray(JsonTable.PROP_ROW_IDS).toString());
+  }
+
+  @Test
+  public void testDifferentTargetsAndProtectedEvents() {
+    JsonEvent event1 = rowsEvent("t1", JsonTable.EVENT_ROWS_UPDATED, row("r1", "a"));
+    JsonEvent event2 = rowsEvent("t2", JsonTable.EVENT_ROWS_UPDATED, row("r1", "b"));
+    JsonEvent event3 = rowsEvent("t2", JsonTable.EVENT_ROWS_UPDATED, row("r1", "c"));
+    event3.protect();
+    List<JsonEvent> events = m_coalescer.coalesce(Arrays.asList(event1, event2, event3), new JsonEventCoalescingStatistics());
+
+    assertEquals(Arrays.asList(event1, event2, event3), events);
+  }
+
+  @Test
+  public void testNodesWithDifferentParents() {
+    JsonEvent event1 = new JsonEvent("t1", JsonTree.EVENT_NODES_DELETED, new JSONObject()
+        .put(JsonTree.PROP_COMMON_PARENT_NODE_ID, "n1")
+        .put(JsonTree.PROP_NODE_IDS, new JSONArray().put("n2")));
+    JsonEvent event2 = new JsonEvent("t1", JsonTree.EVENT_NODES_DELETED, new JSONObject()
+        .put(JsonTree.PROP_COMMON_PARENT_NODE_ID, "n1")
+        .put(JsonTree.PROP_NODE_IDS, new JSONArray().put("n3")));
+    JsonEvent event3 = new JsonEvent("t1", JsonTree.EVENT_NODES_DELETED, new JSONObject()
+        .put(JsonTree.PROP_COMMON_PARENT_NODE_ID, "n4")
+        .put(JsonTree.PROP_NODE_IDS, new JSONArray().put("n5")));
+    List<JsonEvent> events = m_coalescer.coalesce(Arrays.asList(event1, event2, event3), new JsonEventCoalescingStatistics());
+
+    assertEquals(2, events.size());
+    assertSame(event1, events.get(0));
+    assertEquals(2, event1.getData().getJSONArray(JsonTree.PROP_NODE_IDS).length());
+    assertSame(event3, events.get(1));
+  }
+
+  @Test
+  public void testPropertyChangeStatistics() {
+    JsonResponse response = new JsonResponse(1L);
+    response.addPropertyChangeEvent("a1", "text", "a");
+    response.addPropertyChangeEvent("a1", "text", "b");
+    response.addPropertyChangeEvent("a1", "enabled", false);
+    JSONObject json = response.toJson();
+
+    JSONObject properties = json.getJSONArray(JsonResponse.PROP_EVENTS).getJSONObject(0).getJSONObject("properties");
+    assertEquals("b", properties.getString("text"));
+    assertEquals(3, response.getCoalescingStatistics().getPropertyChanges());
+    assertEquals(1, response.getCoalescingStatistics().getCoalescedPropertyChanges());
+  }
+
+  protected static JSONObject row(String id, String text) {
+    return new JSONObject().put("id", id).put("text", text);
+  }
+
+  protected static JsonEvent rowsEvent(String target, String type, JSONObject... rows) {
+    return new JsonEvent(target, type, new JSONObject().put(JsonTable.PROP_ROWS, new JSONArray(Arrays.asList(rows))));
+  }
+
+  protected static JsonEvent rowIdsEvent(String target, String type, String... rowIds) {
+    return new JsonEvent(target, type, new JSONObject().put(JsonTable.PROP_ROW_IDS, new JSONArray(Arrays.asList(rowIds))));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class JsonRequestHelperTest {
+
+  @Test
+  public void testWriteResponse() throws Exception {
+    JSONObject json = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 2000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", "row" + i);
+      row.put("cells", new JSONArray().put("Zürich € " + i).put(i));
+      rows.put(row);
+    }
+    json.put("rows", rows);
+
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse resp = JsonTestUtility.createHttpServletResponse(out);
+    BEANS.get(JsonRequestHelper.class).writeResponse(resp, json);
+
+    assertEquals("application/json", resp.getContentType());
+    assertEquals(StandardCharsets.UTF_8.name(), resp.getCharacterEncoding());
+    assertEquals(json.toString(), new String(out.getContent(), StandardCharsets.UTF_8));
+  }
+}
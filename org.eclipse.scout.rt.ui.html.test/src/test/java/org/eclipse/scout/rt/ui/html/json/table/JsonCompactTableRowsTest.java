@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json.table;
+
+import static org.junit.Assert.*;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class JsonCompactTableRowsTest {
+
+  @Test
+  public void testEmpty() {
+    JsonCompactTableRows rows = new JsonCompactTableRows();
+    assertTrue(rows.isEmpty());
+    JSONObject json = rows.toJson();
+    assertEquals(0, json.getJSONArray(JsonCompactTableRows.PROP_IDS).length());
+    assertEquals(0, json.getJSONArray(JsonCompactTableRows.PROP_COLUMNS).length());
+    assertFalse(json.has(JsonCompactTableRows.PROP_PARENT_ROWS));
+    assertFalse(json.has(JsonCompactTableRows.PROP_ROW_PROPERTIES));
+    assertFalse(json.has(JsonCompactTableRows.PROP_CHANGED_COLUMNS));
+  }
+
+  @Test
+  public void testColumnsAndDictionary() {
+    JsonCompactTableRows rows = new JsonCompactTableRows();
+    rows.addRow(createRow("r1", "Zurich", new JSONObject().put("value", 1).put("text", "one").put("cssClass", "bold")));
+    rows.addRow(createRow("r2", "Zurich", "bold"));
+    assertEquals(2, rows.getRowCount());
+
+    JSONObject json = rows.toJson();
+    JSONArray strings = json.getJSONArray(JsonCompactTableRows.PROP_STRINGS);
+    assertEquals(2, strings.length());
+    assertEquals("Zurich", strings.getString(0));
+    assertEquals("bold", strings.getString(1));
+    assertEquals("r1", json.getJSONArray(JsonCompactTableRows.PROP_IDS).getString(0));
+    assertEquals("r2", json.getJSONArray(JsonCompactTableRows.PROP_IDS).getString(1));
+
+    JSONArray columns = json.getJSONArray(JsonCompactTableRows.PROP_COLUMNS);
+    assertEquals(2, columns.length());
+    assertEquals(0, columns.getJSONArray(0).getInt(0));
+    assertEquals(0, columns.getJSONArray(0).getInt(1));
+    JSONObject cell = columns.getJSONArray(1).getJSONObject(0);
+    assertEquals(1, cell.getInt("value"));
+    assertEquals("one", cell.getString("text"));
+    assertEquals(1, cell.getInt("cssClass"));
+    assertEquals(1, columns.getJSONArray(1).getInt(1));
+
+    assertFalse(json.has(JsonCompactTableRows.PROP_PARENT_ROWS));
+    assertFalse(json.has(JsonCompactTableRows.PROP_ROW_PROPERTIES));
+    assertFalse(json.has(JsonCompactTableRows.PROP_CHANGED_COLUMNS));
+  }
+
+  @Test
+  public void testParentRowsAndRowProperties() {
+    JsonCompactTableRows rows = new JsonCompactTableRows();
+    rows.addRow(createRow("r1", "a"));
+    rows.addRow(createRow("r2", "b").put("parentRow", "r1").put("checked", true));
+
+    JSONObject json = rows.toJson();
+    JSONArray parentRows = json.getJSONArray(JsonCompactTableRows.PROP_PARENT_ROWS);
+    assertTrue(parentRows.isNull(0));
+    assertEquals("r1", parentRows.getString(1));
+    JSONArray rowProperties = json.getJSONArray(JsonCompactTableRows.PROP_ROW_PROPERTIES);
+    assertTrue(rowProperties.isNull(0));
+    JSONObject properties = rowProperties.getJSONObject(1);
+    assertEquals(1, properties.length());
+    assertTrue(properties.getBoolean("checked"));
+  }
+
+  @Test
+  public void testChangedColumns() {
+    JsonCompactTableRows rows = new JsonCompactTableRows();
+    rows.addRow(createRow("r1", "a", "b", "c"), new int[]{2, 0});
+    rows.addRow(createRow("r2", "d", "e", "f"));
+
+    JSONObject json = rows.toJson();
+    JSONArray columns = json.getJSONArray(JsonCompactTableRows.PROP_COLUMNS);
+    assertEquals("a", columns.getJSONArray(0).getString(0));
+    assertTrue(columns.getJSONArray(1).isNull(0));
+    assertEquals("c", columns.getJSONArray(2).getString(0));
+    assertEquals("e", columns.getJSONArray(1).getString(1));
+
+    JSONArray changedColumns = json.getJSONArray(JsonCompactTableRows.PROP_CHANGED_COLUMNS);
+    assertEquals(0, changedColumns.getJSONArray(0).getInt(0));
+    assertEquals(2, changedColumns.getJSONArray(0).getInt(1));
+    assertTrue(changedColumns.isNull(1));
+  }
+
+  @Test
+  public void testUnchangedCellsNotInDictionary() {
+    JsonCompactTableRows rows = new JsonCompactTableRows();
+    rows.addRow(createRow("r1", "x", "x"), new int[]{0});
+
+    JSONObject json = rows.toJson();
+    assertEquals(0, json.getJSONArray(JsonCompactTableRows.PROP_STRINGS).length());
+    assertEquals("x", json.getJSONArray(JsonCompactTableRows.PROP_COLUMNS).getJSONArray(0).getString(0));
+  }
+
+  protected JSONObject createRow(String id, Object... cells) {
+    JSONArray jsonCells = new JSONArray();
+    for (Object cell : cells) {
+      jsonCells.put(cell);
+    }
+    return new JSONObject()
+        .put("id", id)
+        .put("cells", jsonCells);
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json.table;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TableTextUserFilterState;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.json.JsonEvent;
+import org.eclipse.scout.rt.ui.html.json.JsonPropertyChangeEvent;
+import org.eclipse.scout.rt.ui.html.json.fixtures.JsonAdapterMock;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.eclipse.scout.rt.ui.html.json.table.fixtures.TableWith3Cols;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class JsonTableRowWindowTest {
+  private UiSessionMock m_uiSession;
+
+  @Before
+  public void setUp() {
+    m_uiSession = new UiSessionMock();
+  }
+
+  @Test
+  public void testToJson() {
+    TableWith3Cols table = createTable(5, 2);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+
+    JSONArray rows = json.getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(2, rows.length());
+    assertEquals(jsonTable.getTableRowId(table.getRow(0)), rows.getJSONObject(0).getString("id"));
+    assertEquals(jsonTable.getTableRowId(table.getRow(1)), rows.getJSONObject(1).getString("id"));
+    assertNull(jsonTable.getTableRowId(table.getRow(2)));
+    assertEquals(5, json.getInt(JsonTable.PROP_AVAILABLE_ROW_COUNT));
+    assertEquals(0, json.getInt(JsonTable.PROP_ROW_WINDOW_START));
+    assertFalse(json.getBoolean(ITable.PROP_UI_SORT_POSSIBLE));
+  }
+
+  @Test
+  public void testToJsonWithoutRowWindow() {
+    TableWith3Cols table = createTable(5, 0);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+
+    assertEquals(5, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertFalse(json.has(JsonTable.PROP_AVAILABLE_ROW_COUNT));
+  }
+
+  @Test
+  public void testLoadRows() {
+    TableWith3Cols table = createTable(10, 2);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // row 1 at the top of the viewport -> window [0, 5)
+    jsonTable.handleUiEvent(createLoadRowsEvent(jsonTable, table.getRow(1)));
+    List<JsonEvent> events = m_uiSession.currentJsonResponse().getEventList();
+    JsonEvent inserted = findEvent(events, JsonTable.EVENT_ROWS_INSERTED);
+    JSONArray rows = inserted.getData().getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(3, rows.length());
+    assertEquals(jsonTable.getTableRowId(table.getRow(2)), rows.getJSONObject(0).getString("id"));
+    assertEquals(jsonTable.getTableRowId(table.getRow(4)), rows.getJSONObject(2).getString("id"));
+    assertNull(jsonTable.getTableRowId(table.getRow(5)));
+    assertNull(findEvent(events, JsonTable.EVENT_ROWS_DELETED));
+    assertNull(findEvent(events, "rowOrderChanged"));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // Same request again (e.g. sent twice while scrolling) -> nothing to do
+    jsonTable.handleUiEvent(createLoadRowsEvent(jsonTable, table.getRow(1)));
+    assertNull(findEvent(m_uiSession.currentJsonResponse().getEventList(), JsonTable.EVENT_ROWS_INSERTED));
+  }
+
+  @Test
+  public void testLoadRowsRemovesRowsBehindViewport() {
+    TableWith3Cols table = createTable(10, 2);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    jsonTable.handleUiEvent(createLoadRowsEvent(jsonTable, table.getRow(1)));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // row 4 at the top of the viewport -> window [2, 8)
+    jsonTable.handleUiEvent(createLoadRowsEvent(jsonTable, table.getRow(4)));
+    List<JsonEvent> events = m_uiSession.currentJsonResponse().getEventList();
+    assertEquals(2, findEvent(events, JsonTable.EVENT_ROWS_DELETED).getData().getJSONArray(JsonTable.PROP_ROW_IDS).length());
+    assertEquals(3, findEvent(events, JsonTable.EVENT_ROWS_INSERTED).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertNull(jsonTable.getTableRowId(table.getRow(1)));
+    assertNotNull(jsonTable.getTableRowId(table.getRow(2)));
+    assertNotNull(jsonTable.getTableRowId(table.getRow(7)));
+    assertNull(jsonTable.getTableRowId(table.getRow(8)));
+    assertEquals(2, findPropertyChangeEvent(jsonTable).getProperties().get(JsonTable.PROP_ROW_WINDOW_START));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // back to the top -> window [0, 6)
+    jsonTable.handleUiEvent(createLoadRowsEvent(jsonTable, table.getRow(2)));
+    assertNotNull(jsonTable.getTableRowId(table.getRow(0)));
+    assertNull(jsonTable.getTableRowId(table.getRow(6)));
+    assertEquals(0, findPropertyChangeEvent(jsonTable).getProperties().get(JsonTable.PROP_ROW_WINDOW_START));
+  }
+
+  @Test
+  public void testRowOrderChanged() {
+    TableWith3Cols table = createTable(5, 2);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+    ITableRow row0 = table.getRow(0);
+    ITableRow row1 = table.getRow(1);
+    ITableRow row4 = table.getRow(4);
+    String row1Id = jsonTable.getTableRowId(row1);
+
+    table.moveRow(4, 0);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    List<JsonEvent> events = m_uiSession.currentJsonResponse().getEventList();
+    JSONArray deletedRowIds = findEvent(events, JsonTable.EVENT_ROWS_DELETED).getData().getJSONArray(JsonTable.PROP_ROW_IDS);
+    assertEquals(1, deletedRowIds.length());
+    assertEquals(row1Id, deletedRowIds.getString(0));
+    assertNull(jsonTable.getTableRowId(row1));
+
+    JSONArray insertedRows = findEvent(events, JsonTable.EVENT_ROWS_INSERTED).getData().getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(1, insertedRows.length());
+    assertEquals(jsonTable.getTableRowId(row4), insertedRows.getJSONObject(0).getString("id"));
+
+    JSONArray rowIds = findEvent(events, "rowOrderChanged").getData().getJSONArray(JsonTable.PROP_ROW_IDS);
+    assertEquals(2, rowIds.length());
+    assertEquals(jsonTable.getTableRowId(row4), rowIds.getString(0));
+    assertEquals(jsonTable.getTableRowId(row0), rowIds.getString(1));
+  }
+
+  @Test
+  public void testRowFilter() {
+    TableWith3Cols table = createTable(5, 2);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+    ITableRow row0 = table.getRow(0);
+    ITableRow row2 = table.getRow(2);
+
+    table.addRowFilter(row -> row != row0);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    assertNull(jsonTable.getTableRowId(row0));
+    assertNotNull(jsonTable.getTableRowId(row2));
+    assertEquals(4, table.getFilteredRowCount());
+    assertEquals(1, table.getFilteredRowIndex(row2));
+    JsonPropertyChangeEvent propertyChangeEvent = findPropertyChangeEvent(jsonTable);
+    assertNotNull(propertyChangeEvent);
+    assertEquals(4, propertyChangeEvent.getProperties().get(JsonTable.PROP_AVAILABLE_ROW_COUNT));
+  }
+
+  @Test
+  public void testUiFilter() {
+    TableWith3Cols table = createTable(12, 2);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+    ITableRow row0 = table.getRow(0);
+    ITableRow row1 = table.getRow(1);
+    ITableRow row10 = table.getRow(10);
+    ITableRow row11 = table.getRow(11);
+
+    // The UI only knows the rows of the row window, the filter is applied on the server over all rows
+    jsonTable.handleUiEvent(createTextFilterEvent(jsonTable, JsonTable.EVENT_FILTER_ADDED, "row1"));
+    jsonTable.handleUiEvent(createFilterEvent(jsonTable, row1));
+    assertEquals(Arrays.asList(row1, row10, row11), table.getFilteredRows());
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    // the row window is filled with the accepted rows
+    assertNull(jsonTable.getTableRowId(row0));
+    assertNotNull(jsonTable.getTableRowId(row1));
+    assertNotNull(jsonTable.getTableRowId(row10));
+    assertNull(jsonTable.getTableRowId(row11));
+    assertNull(jsonTable.getTableRowId(table.getRow(2)));
+    assertEquals(3, findPropertyChangeEvent(jsonTable).getProperties().get(JsonTable.PROP_AVAILABLE_ROW_COUNT));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    jsonTable.handleUiEvent(createTextFilterEvent(jsonTable, JsonTable.EVENT_FILTER_REMOVED, "row1"));
+    JSONObject data = new JSONObject();
+    data.put("remove", true);
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FILTER, data));
+    assertEquals(12, table.getFilteredRowCount());
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    assertNotNull(jsonTable.getTableRowId(row0));
+    assertNull(jsonTable.getTableRowId(row10));
+  }
+
+  @Test
+  public void testRowsUpdatedOutsideOfRowWindow() {
+    TableWith3Cols table = createTable(5, 2);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    table.getColumnSet().getColumnByClass(TableWith3Cols.Col0Column.class).setValue(table.getRow(3), "changed");
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    assertNull(findEvent(m_uiSession.currentJsonResponse().getEventList(), JsonTable.EVENT_ROWS_UPDATED));
+    assertNull(jsonTable.getTableRowId(table.getRow(3)));
+  }
+
+  protected TableWith3Cols createTable(int rowCount, int rowWindowSize) {
+    TableWith3Cols table = new TableWith3Cols();
+    table.init();
+    table.fill(rowCount, false);
+    table.setRowWindowSize(rowWindowSize);
+    return table;
+  }
+
+  protected JsonEvent createLoadRowsEvent(JsonTable<ITable> jsonTable, ITableRow row) {
+    JSONObject data = new JSONObject();
+    data.put(JsonTable.PROP_ROW_ID, jsonTable.getTableRowId(row));
+    return new JsonEvent(jsonTable.getId(), JsonTable.EVENT_LOAD_ROWS, data);
+  }
+
+  protected JsonEvent createTextFilterEvent(JsonTable<ITable> jsonTable, String type, String text) {
+    JSONObject data = new JSONObject();
+    data.put("filterType", TableTextUserFilterState.TYPE);
+    data.put("text", text);
+    return new JsonEvent(jsonTable.getId(), type, data);
+  }
+
+  protected JsonEvent createFilterEvent(JsonTable<ITable> jsonTable, ITableRow... rows) {
+    JSONArray rowIds = new JSONArray();
+    for (ITableRow row : rows) {
+      rowIds.put(jsonTable.getTableRowId(row));
+    }
+    JSONObject data = new JSONObject();
+    data.put(JsonTable.PROP_ROW_IDS, rowIds);
+    return new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FILTER, data);
+  }
+
+  protected JsonPropertyChangeEvent findPropertyChangeEvent(JsonTable<ITable> jsonTable) {
+    return m_uiSession.currentJsonResponse().getEventList().stream()
+        .filter(event -> event instanceof JsonPropertyChangeEvent && jsonTable.getId().equals(event.getTarget()))
+        .map(event -> (JsonPropertyChangeEvent) event)
+        .findFirst()
+        .orElse(null);
+  }
+
+  protected JsonEvent findEvent(List<JsonEvent> events, String type) {
+    List<JsonEvent> matches = events.stream()
+        .filter(event -> type.equals(event.getType()))
+        .collect(Collectors.toList());
+    return matches.isEmpty() ? null : matches.get(0);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.res.loader;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class WebResourceLoaderTest {
+
+  private Path m_dir;
+  private WebResourceLoader m_loader;
+
+  @Before
+  public void before() throws IOException {
+    m_dir = Files.createTempDirectory("WebResourceLoaderTest");
+    m_loader = new WebResourceLoader(false, true, null);
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_dir.toFile());
+  }
+
+  @Test
+  public void testGetStreamableFile() throws IOException {
+    File image = createFile("large.png", 2 * 1024 * 1024);
+    assertEquals(image, m_loader.getStreamableFile(image.toURI().toURL()));
+
+    File smallImage = createFile("small.png", 1024);
+    assertNull(m_loader.getStreamableFile(smallImage.toURI().toURL()));
+
+    // compressible resources are loaded to be compressed or served from their precompressed variants
+    File script = createFile("large.js", 2 * 1024 * 1024);
+    assertNull(m_loader.getStreamableFile(script.toURI().toURL()));
+    File stylesheet = createFile("large.css", 2 * 1024 * 1024);
+    assertNull(m_loader.getStreamableFile(stylesheet.toURI().toURL()));
+  }
+
+  @Test
+  public void testIsCompressedContentType() {
+    assertTrue(m_loader.isCompressedContentType("image/png"));
+    assertTrue(m_loader.isCompressedContentType("video/mp4"));
+    assertTrue(m_loader.isCompressedContentType("application/zip"));
+    assertTrue(m_loader.isCompressedContentType("font/woff2"));
+    assertFalse(m_loader.isCompressedContentType("image/svg+xml"));
+    assertFalse(m_loader.isCompressedContentType("application/javascript"));
+    assertFalse(m_loader.isCompressedContentType("text/css"));
+    assertFalse(m_loader.isCompressedContentType(null));
+  }
+
+  protected File createFile(String name, long length) throws IOException {
+    File file = m_dir.resolve(name).toFile();
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(length);
+    }
+    return file;
+  }
+}
@@ -29,6 +29,7 @@ import org.eclipse.scout.rt.ui.html.json.JsonMessageRequestHandler;
 import org.eclipse.scout.rt.ui.html.json.JsonRequest;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.eclipse.scout.rt.ui.html.json.JsonStartupRequest;
+import org.eclipse.scout.rt.ui.html.json.ServerPushChannel;
 import org.eclipse.scout.rt.ui.html.res.IUploadable;
 import org.json.JSONObject;
 
@@ -206,6 +207,24 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Attaches a server push channel which is signaled whenever UI data produced by background jobs is available (instead
+   * of waking up a waiting poll request). A previously attached channel is closed.
+   *
+   * @see ServerPushChannel
+   */
+  void attachServerPushChannel(ServerPushChannel channel);
+
+  /**
+   * Detaches the given server push channel if it is still attached.
+   */
+  void detachServerPushChannel(ServerPushChannel channel);
+
+  /**
+   * @return the responses with a sequence number greater than the given one which are still in the response history
+   */
+  List<JSONObject> getResponsesAfter(long responseSequenceNo);
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
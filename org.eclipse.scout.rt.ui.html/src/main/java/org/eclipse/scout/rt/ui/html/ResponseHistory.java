@@ -10,16 +10,34 @@
  */
 package org.eclipse.scout.rt.ui.html;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiResponseHistoryCompressionProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiResponseHistoryMaxSessionBytesProperty;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -30,6 +48,12 @@ import org.slf4j.LoggerFactory;
  * Collects JSON responses and their corresponding <i>request sequence number</i> and <i>response sequence number</i>
  * until they are acknowledged by the client. A maximum of 10 responses is stored in the history.
  * <p>
+ * The responses are not retained as JSON objects but serialized (and compressed, see
+ * {@link UiResponseHistoryCompressionProperty}). The number of retained bytes is limited per UI session (see
+ * {@link UiResponseHistoryMaxSessionBytesProperty}) and for all UI sessions together (see
+ * {@link ResponseHistoryBudget}). If a limit is reached, the oldest responses are dropped. The limit for all UI sessions
+ * never drops the most recent response of a UI session because the client needs it if the response got lost.
+ * <p>
  * This class is thread-safe.
  */
 @Bean
@@ -42,7 +66,13 @@ public class ResponseHistory {
 
   private final Map<Long, Long> m_requestToResponseMap = new HashMap<>(); // RequestSequenceNo -> ResponseSequenceNo
   private final Map<Long, Long> m_responseToRequestMap = new HashMap<>(); // ResponseSequenceNo -> RequestSequenceNo
-  private final SortedMap<Long, JSONObject> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
+  private final SortedMap<Long, RetainedResponse> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
+  private long m_retainedBytes;
+  private boolean m_disposed;
+
+  private final ResponseHistoryBudget m_budget = BEANS.get(ResponseHistoryBudget.class);
+  private final boolean m_compression = CONFIG.getPropertyValue(UiResponseHistoryCompressionProperty.class);
+  private final long m_maxSessionBytes = CONFIG.getPropertyValue(UiResponseHistoryMaxSessionBytesProperty.class);
 
   private UiSession m_uiSession;
 
@@ -64,7 +94,9 @@ public class ResponseHistory {
    * <u>request</u> sequence number is provided, a mapping between those sequence numbers is stored as well. This allows
    * to retrieve the response by request sequence number.
    * <p>
-   * If the history is already full, the oldest entry is discarded.
+   * If the history is already full, the oldest entries are discarded. If the response itself exceeds the limit per UI
+   * session, it is not retained at all. The mapping between the sequence numbers is only stored if the response is
+   * retained.
    *
    * @param responseSequenceNo
    *          The sequence number of the <u>response</u> to remember <i>(mandatory)</i>
@@ -79,6 +111,8 @@ public class ResponseHistory {
     Assertions.assertNotNull(responseSequenceNo);
     Assertions.assertNotNull(response);
 
+    // Serialize outside of the lock
+    RetainedResponse retainedResponse = createRetainedResponse(response);
     synchronized (m_mutex) {
       Assertions.assertFalse(m_responses.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       if (requestSequenceNo != null) { // optional
@@ -86,19 +120,72 @@ public class ResponseHistory {
         Assertions.assertFalse(m_responseToRequestMap.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       }
 
-      m_responses.put(responseSequenceNo, response);
-      if (requestSequenceNo != null) { // optional
+      if (retain(responseSequenceNo, retainedResponse) && requestSequenceNo != null) { // optional
         m_requestToResponseMap.put(requestSequenceNo, responseSequenceNo);
         m_responseToRequestMap.put(responseSequenceNo, requestSequenceNo);
       }
+      LOG.debug("Added response #{} to history {} for UI session {}", responseSequenceNo, m_responses.keySet(), getUiSessionId());
+    }
+  }
 
-      if (m_responses.size() > MAX_RESPONSE_HISTORY_SIZE) {
-        // Remove oldest entry to free up memory (protection against malicious clients that send no or wrong #ACKs)
-        Long oldestSeqNo = m_responses.firstKey();
-        LOG.warn("Max. response history size exceeded for UI session {}, dropping oldest response #{}", getUiSessionId(), oldestSeqNo);
-        m_responses.remove(oldestSeqNo);
+  /**
+   * Adds the response to {@link #m_responses}. Older responses are dropped to free up memory if a limit is reached
+   * (protection against malicious clients that send no or wrong #ACKs and against memory shortage). Must be called
+   * while holding {@link #m_mutex}.
+   * <p>
+   * The limit for all UI sessions never drops the given response: it is the most recent response and therefore the one
+   * the client has not acknowledged yet. If dropping the older responses of this UI session does not free enough
+   * memory, it is retained anyway.
+   *
+   * @return <code>true</code> if the response was retained
+   */
+  protected boolean retain(Long responseSequenceNo, RetainedResponse retainedResponse) {
+    if (m_disposed) {
+      return false;
+    }
+    int size = retainedResponse.size();
+    if (m_maxSessionBytes > 0 && size > m_maxSessionBytes) {
+      LOG.warn("Response #{} of UI session {} exceeds the max. response history size ({} bytes), response is not retained", responseSequenceNo, getUiSessionId(), size);
+      m_budget.recordDropped();
+      return false;
+    }
+    while (!m_responses.isEmpty() && (m_responses.size() >= MAX_RESPONSE_HISTORY_SIZE || (m_maxSessionBytes > 0 && m_retainedBytes + size > m_maxSessionBytes))) {
+      Long oldestSeqNo = m_responses.firstKey();
+      LOG.warn("Max. response history size exceeded for UI session {}, dropping oldest response #{}", getUiSessionId(), oldestSeqNo);
+      dropResponse(oldestSeqNo);
+    }
+    while (!m_budget.tryReserve(size)) {
+      if (m_responses.isEmpty()) {
+        LOG.warn("Max. total response history size exceeded, response #{} of UI session {} is retained anyway because it is the most recent one", responseSequenceNo, getUiSessionId());
+        m_budget.reserve(size);
+        break;
       }
-      LOG.debug("Added response #{} to history {} for UI session {}", responseSequenceNo, m_responses.keySet(), getUiSessionId());
+      Long oldestSeqNo = m_responses.firstKey();
+      LOG.warn("Max. total response history size exceeded, dropping oldest response #{} of UI session {}", oldestSeqNo, getUiSessionId());
+      dropResponse(oldestSeqNo);
+    }
+    m_responses.put(responseSequenceNo, retainedResponse);
+    m_retainedBytes += size;
+    return true;
+  }
+
+  protected void dropResponse(Long responseSequenceNo) {
+    removeResponse(responseSequenceNo);
+    m_budget.recordDropped();
+  }
+
+  /**
+   * Removes the response and its "response - request" mapping. Must be called while holding {@link #m_mutex}.
+   */
+  protected void removeResponse(Long responseSequenceNo) {
+    RetainedResponse response = m_responses.remove(responseSequenceNo);
+    if (response != null) {
+      m_retainedBytes -= response.size();
+      m_budget.release(response.size());
+    }
+    Long requestSequenceNo = m_responseToRequestMap.remove(responseSequenceNo);
+    if (requestSequenceNo != null) {
+      m_requestToResponseMap.remove(requestSequenceNo);
     }
   }
 
@@ -121,7 +208,10 @@ public class ResponseHistory {
           Long requestSequenceNo = m_responseToRequestMap.get(responseSequenceNo);
           m_requestToResponseMap.remove(requestSequenceNo);
           m_responseToRequestMap.remove(responseSequenceNo);
+          RetainedResponse response = m_responses.get(responseSequenceNo);
           it.remove();
+          m_retainedBytes -= response.size();
+          m_budget.release(response.size());
           removeCount++;
         }
       }
@@ -129,44 +219,67 @@ public class ResponseHistory {
     }
   }
 
+  /**
+   * Removes all responses from the history and releases their memory. Called when the UI session is disposed, responses
+   * registered afterwards are not retained anymore.
+   */
+  public void dispose() {
+    synchronized (m_mutex) {
+      m_disposed = true;
+      for (RetainedResponse response : m_responses.values()) {
+        m_budget.release(response.size());
+      }
+      m_responses.clear();
+      m_retainedBytes = 0;
+      m_requestToResponseMap.clear();
+      m_responseToRequestMap.clear();
+    }
+  }
+
   /**
    * Combines all responses currently contained in the history into one new JSON object.
    */
   public JSONObject toSyncResponse() {
+    List<RetainedResponse> responses;
+    Long lastSentSequenceNo;
     synchronized (m_mutex) {
       LOG.debug("Synchronize response queue {} for UI session {}", m_responses.keySet(), getUiSessionId());
       if (m_responses.isEmpty()) {
         return null;
       }
+      responses = new ArrayList<>(m_responses.values());
+      lastSentSequenceNo = m_responses.lastKey();
+    }
 
-      Long lastSentSequenceNo = m_responses.lastKey();
-      JSONObject combinedAdapterData = new JSONObject();
-      JSONArray combinedEvents = new JSONArray();
-      for (JSONObject response : m_responses.values()) {
-        // combine adapterData
-        JSONObject adapterData = response.optJSONObject(JsonResponse.PROP_ADAPTER_DATA);
-        if (adapterData != null) {
-          for (String key : adapterData.keySet()) {
-            combinedAdapterData.put(key, adapterData.get(key));
-          }
-        }
+    // Deserialize outside of the lock
+    JSONObject combinedAdapterData = new JSONObject();
+    JSONArray combinedEvents = new JSONArray();
+    for (RetainedResponse retainedResponse : responses) {
+      JSONObject response = toJson(retainedResponse);
 
-        // combine events
-        JSONArray events = response.optJSONArray(JsonResponse.PROP_EVENTS);
-        if (events != null) {
-          for (int i = 0; i < events.length(); i++) {
-            combinedEvents.put(events.get(i));
-          }
+      // combine adapterData
+      JSONObject adapterData = response.optJSONObject(JsonResponse.PROP_ADAPTER_DATA);
+      if (adapterData != null) {
+        for (String key : adapterData.keySet()) {
+          combinedAdapterData.put(key, adapterData.get(key));
         }
       }
 
-      JSONObject combinedResponse = new JSONObject();
-      combinedResponse.put(JsonResponse.PROP_SEQUENCE_NO, lastSentSequenceNo);
-      combinedResponse.put(JsonResponse.PROP_COMBINED, true);
-      combinedResponse.put(JsonResponse.PROP_ADAPTER_DATA, (combinedAdapterData.length() == 0 ? null : combinedAdapterData));
-      combinedResponse.put(JsonResponse.PROP_EVENTS, (combinedEvents.length() == 0 ? null : combinedEvents));
-      return combinedResponse;
+      // combine events
+      JSONArray events = response.optJSONArray(JsonResponse.PROP_EVENTS);
+      if (events != null) {
+        for (int i = 0; i < events.length(); i++) {
+          combinedEvents.put(events.get(i));
+        }
+      }
     }
+
+    JSONObject combinedResponse = new JSONObject();
+    combinedResponse.put(JsonResponse.PROP_SEQUENCE_NO, lastSentSequenceNo);
+    combinedResponse.put(JsonResponse.PROP_COMBINED, true);
+    combinedResponse.put(JsonResponse.PROP_ADAPTER_DATA, (combinedAdapterData.length() == 0 ? null : combinedAdapterData));
+    combinedResponse.put(JsonResponse.PROP_EVENTS, (combinedEvents.length() == 0 ? null : combinedEvents));
+    return combinedResponse;
   }
 
   /**
@@ -203,9 +316,27 @@ public class ResponseHistory {
     if (responseSequenceNo == null) {
       return null;
     }
+    RetainedResponse response;
     synchronized (m_mutex) {
-      return m_responses.get(responseSequenceNo);
+      response = m_responses.get(responseSequenceNo);
     }
+    return response == null ? null : toJson(response);
+  }
+
+  /**
+   * @return the responses with a <i>response sequence number</i> greater than the given one, ordered by sequence
+   *         number. Used to resend responses which might have been lost when a server push connection was interrupted.
+   */
+  public List<JSONObject> getResponsesAfter(long responseSequenceNo) {
+    List<RetainedResponse> responses;
+    synchronized (m_mutex) {
+      responses = new ArrayList<>(m_responses.tailMap(responseSequenceNo + 1).values());
+    }
+    List<JSONObject> result = new ArrayList<>(responses.size());
+    for (RetainedResponse response : responses) {
+      result.add(toJson(response));
+    }
+    return result;
   }
 
   /**
@@ -213,9 +344,7 @@ public class ResponseHistory {
    *         <code>null</code> if no response for this request exists in the history)
    */
   public JSONObject getResponseForRequest(Long requestSequenceNo) {
-    synchronized (m_mutex) {
-      return getResponse(getResponseSequenceNo(requestSequenceNo));
-    }
+    return getResponse(getResponseSequenceNo(requestSequenceNo));
   }
 
   /**
@@ -227,8 +356,72 @@ public class ResponseHistory {
     }
   }
 
+  /**
+   * @return the number of bytes retained by the responses in the history
+   */
+  public long getRetainedBytes() {
+    synchronized (m_mutex) {
+      return m_retainedBytes;
+    }
+  }
+
+  protected RetainedResponse createRetainedResponse(JSONObject response) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Deflater deflater = m_compression ? new Deflater(Deflater.BEST_SPEED) : null;
+    try {
+      OutputStream out = deflater == null ? bytes : new DeflaterOutputStream(bytes, deflater);
+      try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+        response.write(writer);
+      }
+    }
+    catch (IOException e) {
+      throw new UiException("Failed to serialize response", e);
+    }
+    finally {
+      if (deflater != null) {
+        deflater.end();
+      }
+    }
+    return new RetainedResponse(bytes.toByteArray(), deflater != null);
+  }
+
+  protected JSONObject toJson(RetainedResponse response) {
+    InputStream bytes = new ByteArrayInputStream(response.getData());
+    try (InputStream in = response.isCompressed() ? new InflaterInputStream(bytes) : bytes) {
+      return new JSONObject(IOUtility.readStringUTF8(in));
+    }
+    catch (IOException e) {
+      throw new UiException("Failed to deserialize response", e);
+    }
+  }
+
   @Override
   public String toString() {
     return "[" + CollectionUtility.format(m_responses.keySet()) + "]";
   }
+
+  /**
+   * A response serialized as UTF-8 encoded JSON, optionally deflated.
+   */
+  protected static class RetainedResponse {
+    private final byte[] m_data;
+    private final boolean m_compressed;
+
+    public RetainedResponse(byte[] data, boolean compressed) {
+      m_data = data;
+      m_compressed = compressed;
+    }
+
+    public byte[] getData() {
+      return m_data;
+    }
+
+    public boolean isCompressed() {
+      return m_compressed;
+    }
+
+    public int size() {
+      return m_data.length;
+    }
+  }
 }
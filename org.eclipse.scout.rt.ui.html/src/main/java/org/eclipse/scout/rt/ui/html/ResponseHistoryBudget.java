@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiResponseHistoryMaxTotalBytesProperty;
+
+/**
+ * Limits the number of bytes retained by the {@link ResponseHistory} of all UI sessions of this node (see
+ * {@link UiResponseHistoryMaxTotalBytesProperty}) and collects the corresponding statistics.
+ * <p>
+ * This class is thread-safe.
+ */
+@ApplicationScoped
+public class ResponseHistoryBudget {
+
+  private final long m_maxTotalBytes;
+  private final AtomicLong m_retainedBytes = new AtomicLong();
+  private final AtomicLong m_retainedResponses = new AtomicLong();
+  private final AtomicLong m_droppedResponses = new AtomicLong();
+
+  public ResponseHistoryBudget() {
+    m_maxTotalBytes = CONFIG.getPropertyValue(UiResponseHistoryMaxTotalBytesProperty.class);
+  }
+
+  /**
+   * @return maximum number of bytes all response histories may retain, 0 means no limit
+   */
+  public long getMaxTotalBytes() {
+    return m_maxTotalBytes;
+  }
+
+  /**
+   * Reserves the given number of bytes for a response to retain.
+   *
+   * @return <code>true</code> if the bytes were reserved, <code>false</code> if the budget is exhausted
+   */
+  public boolean tryReserve(long bytes) {
+    long maxTotalBytes = getMaxTotalBytes();
+    while (true) {
+      long retainedBytes = m_retainedBytes.get();
+      if (maxTotalBytes > 0 && retainedBytes + bytes > maxTotalBytes) {
+        return false;
+      }
+      if (m_retainedBytes.compareAndSet(retainedBytes, retainedBytes + bytes)) {
+        m_retainedResponses.incrementAndGet();
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Reserves the given number of bytes even if the budget is exhausted. Used for responses which must not be dropped.
+   */
+  public void reserve(long bytes) {
+    m_retainedBytes.addAndGet(bytes);
+    m_retainedResponses.incrementAndGet();
+  }
+
+  /**
+   * Releases the bytes reserved by {@link #tryReserve(long)} or {@link #reserve(long)} for a response which is no
+   * longer retained.
+   */
+  public void release(long bytes) {
+    m_retainedBytes.addAndGet(-bytes);
+    m_retainedResponses.decrementAndGet();
+  }
+
+  /**
+   * Counts a response which was dropped before the UI confirmed it.
+   */
+  public void recordDropped() {
+    m_droppedResponses.incrementAndGet();
+  }
+
+  public long getRetainedBytes() {
+    return m_retainedBytes.get();
+  }
+
+  public long getRetainedResponses() {
+    return m_retainedResponses.get();
+  }
+
+  public long getDroppedResponses() {
+    return m_droppedResponses.get();
+  }
+}
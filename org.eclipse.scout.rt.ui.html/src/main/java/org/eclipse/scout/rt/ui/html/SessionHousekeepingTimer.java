@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timer wheel executing the session housekeeping of all {@link SessionStore}s of this node.
+ * <p>
+ * Instead of scheduling a delayed job per unregistered UI session, a single job advances the wheel once per second and
+ * starts a job for each expired task. Scheduling and cancelling a task does not lock and does not touch the job
+ * manager, which is the common case because most sessions are used again before their housekeeping is due. The timer
+ * job is started when the first task is scheduled and stops itself as soon as no tasks are left.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 10.0
+ */
+@ApplicationScoped
+public class SessionHousekeepingTimer {
+  private static final Logger LOG = LoggerFactory.getLogger(SessionHousekeepingTimer.class);
+
+  /**
+   * The {@link Timeout} whose task is currently executed.
+   */
+  public static final ThreadLocal<Timeout> CURRENT = new ThreadLocal<>();
+
+  protected static final String JOB_NAME = "Session housekeeping timer";
+  protected static final String TASK_JOB_NAME = "Session housekeeping";
+  protected static final long TICK_MILLIS = 1000L;
+  protected static final int WHEEL_SIZE = 512; // must be a power of two
+
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+
+  private static final int STATE_PENDING = 0;
+  private static final int STATE_RUNNING = 1;
+  private static final int STATE_DONE = 2;
+  private static final int STATE_CANCELLED = 3;
+
+  private final long m_startNanos = System.nanoTime();
+  private final Queue<Timeout> m_newTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_scheduledCount = new AtomicInteger();
+
+  // only accessed by the timer job
+  private final List<List<Timeout>> m_wheel;
+  private long m_nextTick;
+
+  private final Object m_jobLock = new Object();
+  private IFuture<?> m_job; // guarded by m_jobLock
+  private boolean m_destroyed; // guarded by m_jobLock
+
+  public SessionHousekeepingTimer() {
+    m_wheel = new ArrayList<>(WHEEL_SIZE);
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      m_wheel.add(new ArrayList<>());
+    }
+  }
+
+  /**
+   * Schedules the given task to be run once after the given delay. The resolution of the delay is one second.
+   *
+   * @return the {@link Timeout} which can be used to cancel the task
+   */
+  public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    Assertions.assertNotNull(task);
+    Assertions.assertNotNull(unit);
+    long deadlineNanos = System.nanoTime() - m_startNanos + unit.toNanos(Math.max(0, delay));
+    Timeout timeout = new Timeout(task, (deadlineNanos + TICK_NANOS - 1) / TICK_NANOS);
+    m_scheduledCount.incrementAndGet();
+    m_newTimeouts.add(timeout);
+    ensureJobRunning();
+    return timeout;
+  }
+
+  /**
+   * @return number of scheduled tasks which were neither run nor cancelled yet
+   */
+  public int getScheduledCount() {
+    return m_scheduledCount.get();
+  }
+
+  protected void ensureJobRunning() {
+    synchronized (m_jobLock) {
+      if (m_job != null || m_destroyed) {
+        return;
+      }
+      m_job = Jobs.schedule(this::advance, Jobs.newInput()
+          .withName(JOB_NAME)
+          .withExecutionTrigger(Jobs.newExecutionTrigger()
+              .withStartIn(TICK_MILLIS, TimeUnit.MILLISECONDS)
+              .withSchedule(FixedDelayScheduleBuilder.repeatForever(TICK_MILLIS, TimeUnit.MILLISECONDS))));
+    }
+  }
+
+  /**
+   * Starts all tasks whose deadline has passed. Called by the timer job only.
+   */
+  protected void advance() {
+    long currentTick = (System.nanoTime() - m_startNanos) / TICK_NANOS;
+    for (Timeout timeout = m_newTimeouts.poll(); timeout != null; timeout = m_newTimeouts.poll()) {
+      if (timeout.isPending()) {
+        m_wheel.get(slotIndex(Math.max(timeout.m_deadlineTick, m_nextTick))).add(timeout);
+      }
+    }
+
+    // If the job was delayed for more than a full round, every slot is visited once
+    long ticks = Math.min(currentTick - m_nextTick + 1, WHEEL_SIZE);
+    for (long i = 0; i < ticks; i++) {
+      expireTimeouts(m_wheel.get(slotIndex(m_nextTick + i)), currentTick);
+    }
+    m_nextTick = Math.max(m_nextTick, currentTick + 1);
+
+    stopJobIfIdle();
+  }
+
+  protected void expireTimeouts(List<Timeout> slot, long currentTick) {
+    List<Timeout> expired = null;
+    for (Iterator<Timeout> it = slot.iterator(); it.hasNext();) {
+      Timeout timeout = it.next();
+      if (!timeout.isPending()) {
+        it.remove();
+      }
+      else if (timeout.m_deadlineTick <= currentTick) {
+        it.remove();
+        if (expired == null) {
+          expired = new ArrayList<>();
+        }
+        expired.add(timeout);
+      }
+    }
+    if (expired != null) {
+      for (Timeout timeout : expired) {
+        runExpired(timeout);
+      }
+    }
+  }
+
+  /**
+   * Runs the task of the expired timeout in a job of its own. A task may block (e.g. on the lock of its
+   * {@link SessionStore}), which must neither delay the tasks of other sessions nor the timer.
+   */
+  protected void runExpired(Timeout timeout) {
+    if (!timeout.start()) {
+      return;
+    }
+    Jobs.schedule(timeout::run, Jobs.newInput()
+        .withName(TASK_JOB_NAME));
+  }
+
+  protected void stopJobIfIdle() {
+    synchronized (m_jobLock) {
+      // schedule() increments the counter before it acquires the lock, a new timeout is therefore never missed
+      if (m_scheduledCount.get() > 0 || m_job == null) {
+        return;
+      }
+      LOG.debug("No session housekeeping scheduled, stopping timer job");
+      m_job.cancel(false);
+      m_job = null;
+      m_wheel.forEach(List::clear); // contains cancelled timeouts only
+    }
+  }
+
+  @PreDestroy
+  protected void destroy() {
+    synchronized (m_jobLock) {
+      m_destroyed = true;
+      if (m_job != null) {
+        m_job.cancel(false);
+        m_job = null;
+      }
+    }
+  }
+
+  protected int slotIndex(long tick) {
+    return (int) (tick & (WHEEL_SIZE - 1));
+  }
+
+  /**
+   * Handle of a task scheduled by {@link SessionHousekeepingTimer#schedule(Runnable, long, TimeUnit)}.
+   */
+  public final class Timeout {
+    private final Runnable m_task;
+    private final long m_deadlineTick;
+    private final AtomicInteger m_state = new AtomicInteger(STATE_PENDING);
+
+    private Timeout(Runnable task, long deadlineTick) {
+      m_task = task;
+      m_deadlineTick = deadlineTick;
+    }
+
+    /**
+     * Cancels the task. If the task is currently running, it can check {@link #isCancelled()} of
+     * {@link SessionHousekeepingTimer#CURRENT}.
+     *
+     * @return <code>true</code> if the task was cancelled, <code>false</code> if it was already done or cancelled
+     */
+    public boolean cancel() {
+      if (m_state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+        m_scheduledCount.decrementAndGet();
+        return true;
+      }
+      return m_state.compareAndSet(STATE_RUNNING, STATE_CANCELLED);
+    }
+
+    public boolean isCancelled() {
+      return m_state.get() == STATE_CANCELLED;
+    }
+
+    public boolean isDone() {
+      return m_state.get() == STATE_DONE;
+    }
+
+    boolean isPending() {
+      return m_state.get() == STATE_PENDING;
+    }
+
+    boolean start() {
+      return m_state.compareAndSet(STATE_PENDING, STATE_RUNNING);
+    }
+
+    void run() {
+      CURRENT.set(this);
+      try {
+        m_task.run();
+      }
+      catch (RuntimeException | PlatformError e) {
+        LOG.error("Session housekeeping failed", e);
+      }
+      finally {
+        CURRENT.remove();
+        m_state.compareAndSet(STATE_RUNNING, STATE_DONE);
+        m_scheduledCount.decrementAndGet();
+      }
+    }
+  }
+}
@@ -17,9 +17,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 
 import javax.servlet.http.HttpSession;
@@ -30,9 +30,8 @@ import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.client.session.ClientSessionStopHelper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.config.CONFIG;
-import org.eclipse.scout.rt.platform.job.IFuture;
-import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.ui.html.SessionHousekeepingTimer.Timeout;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.SessionStoreHousekeepingDelayProperty;
 import org.eclipse.scout.rt.ui.html.management.SessionMonitorMBean;
 import org.slf4j.Logger;
@@ -44,6 +43,10 @@ import org.slf4j.LoggerFactory;
  * It serves also as a listener for HTTP session invalidation. If it detects an invalid HTTP session, it tries to clean
  * up all associated client and UI sessions. See {@link #valueUnbound(HttpSessionBindingEvent)}.
  * <p>
+ * All maps are concurrent, read access does not lock. Modifications which have to keep several maps consistent are
+ * guarded by a write lock (per HTTP session). The housekeeping of client sessions is scheduled on the node-wide
+ * {@link SessionHousekeepingTimer}.
+ * <p>
  * Instances can be obtained using the bean {@link HttpSessionHelper#getSessionStore(HttpSession)}.
  *
  * @since 5.2
@@ -58,26 +61,26 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
   /**
    * key = clientSessionId
    */
-  protected final Map<String, IClientSession> m_clientSessionMap = new HashMap<>();
+  protected final Map<String, IClientSession> m_clientSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = uiSessionId
    */
-  protected final Map<String, IUiSession> m_uiSessionMap = new HashMap<>();
+  protected final Map<String, IUiSession> m_uiSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = uiSessionId
    * <p>
    * The preregistered sessions of {@link #preregisterUiSession(IUiSession, String)}
    */
-  protected final Map<String, IUiSession> m_preregisteredUiSessionMap = new HashMap<>();
+  protected final Map<String, IUiSession> m_preregisteredUiSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = clientSession (<i>not</i> clientSessionId!)<br>
    * value = set of UI sessions (technically there can be multiple UI sessions by client session, although usually there
    * is only one or none).
    */
-  protected final Map<IClientSession, Set<IUiSession>> m_uiSessionsByClientSession = new HashMap<>();
+  protected final Map<IClientSession, Set<IUiSession>> m_uiSessionsByClientSession = new ConcurrentHashMap<>();
 
   /**
    * key = clientSession (<i>not</i> clientSessionId!)<br>
@@ -87,15 +90,18 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
    * The preregistered sessions of {@link #preregisterUiSession(IUiSession, String)} that are planning to re-use a
    * currently active {@link IClientSession}
    */
-  protected final Map<IClientSession, Set<IUiSession>> m_preregisteredUiSessionsByClientSession = new HashMap<>();
+  protected final Map<IClientSession, Set<IUiSession>> m_preregisteredUiSessionsByClientSession = new ConcurrentHashMap<>();
 
   /**
-   * Map of scheduled housekeeping jobs (key = clientSessionId). Using this map, scheduled but not yet executed
-   * housekeepings can be cancelled again when the client session is still to be used.
+   * Map of scheduled housekeepings (key = clientSessionId). Using this map, scheduled but not yet executed housekeepings
+   * can be cancelled again when the client session is still to be used.
    */
-  protected final Map<String, IFuture<?>> m_housekeepingFutures = new HashMap<>();
+  protected final Map<String, Timeout> m_housekeepingTimeouts = new ConcurrentHashMap<>();
 
-  protected final ReadLock m_readLock;
+  /**
+   * Serializes modifications spanning several maps (e.g. registering a UI session together with its client session).
+   * Reads access the concurrent maps directly and are not locked.
+   */
   protected final WriteLock m_writeLock;
 
   /**
@@ -106,9 +112,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     m_httpSession = httpSession;
     m_httpSessionId = httpSession.getId();
 
-    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    m_readLock = lock.readLock();
-    m_writeLock = lock.writeLock();
+    m_writeLock = new ReentrantReadWriteLock().writeLock();
     BEANS.get(SessionMonitorMBean.class).weakRegister(httpSession);
   }
 
@@ -137,72 +141,36 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
 
   @Override
   public Map<String, IClientSession> getClientSessionMap() {
-    m_readLock.lock();
-    try {
-      return new HashMap<>(m_clientSessionMap);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return new HashMap<>(m_clientSessionMap);
   }
 
   @Override
   public Map<String, IUiSession> getUiSessionMap() {
-    m_readLock.lock();
-    try {
-      return new HashMap<>(m_uiSessionMap);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return new HashMap<>(m_uiSessionMap);
   }
 
   @Override
   public Map<IClientSession, Set<IUiSession>> getUiSessionsByClientSession() {
-    m_readLock.lock();
-    try {
-      Map<IClientSession, Set<IUiSession>> copy = new HashMap<>();
-      for (Entry<IClientSession, Set<IUiSession>> entry : m_uiSessionsByClientSession.entrySet()) {
-        copy.put(entry.getKey(), (entry.getValue() == null ? null : new HashSet<>(entry.getValue())));
-      }
-      return copy;
-    }
-    finally {
-      m_readLock.unlock();
+    Map<IClientSession, Set<IUiSession>> copy = new HashMap<>();
+    for (Entry<IClientSession, Set<IUiSession>> entry : m_uiSessionsByClientSession.entrySet()) {
+      copy.put(entry.getKey(), new HashSet<>(entry.getValue()));
     }
+    return copy;
   }
 
   @Override
   public int countUiSessions() {
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.size();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.size();
   }
 
   @Override
   public int countClientSessions() {
-    m_readLock.lock();
-    try {
-      return m_clientSessionMap.size();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_clientSessionMap.size();
   }
 
   @Override
   public boolean isEmpty() {
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.isEmpty() && m_preregisteredUiSessionMap.isEmpty() && m_clientSessionMap.isEmpty() && m_uiSessionsByClientSession.isEmpty();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.isEmpty() && m_preregisteredUiSessionMap.isEmpty() && m_clientSessionMap.isEmpty() && m_uiSessionsByClientSession.isEmpty();
   }
 
   @Override
@@ -210,13 +178,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     if (uiSessionId == null) {
       return null;
     }
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.get(uiSessionId);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.get(uiSessionId);
   }
 
   @Override
@@ -235,13 +197,12 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       }
 
       // If housekeeping is scheduled for this session, cancel it (session will be used again, so no cleanup necessary)
-      IFuture<?> future = m_housekeepingFutures.get(clientSessionId);
-      if (future != null) {
+      Timeout timeout = m_housekeepingTimeouts.remove(clientSessionId);
+      if (timeout != null) {
         if (LOG.isDebugEnabled()) {
           LOG.debug("Client session with ID {} reserved for use - session housekeeping cancelled!", clientSessionId);
         }
-        future.cancel(false);
-        m_housekeepingFutures.remove(clientSessionId);
+        timeout.cancel();
       }
 
       IClientSession clientSession = m_clientSessionMap.get(clientSessionId);
@@ -251,7 +212,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       }
       // Link preregistered ui sessions to existing client session
       m_preregisteredUiSessionsByClientSession
-          .computeIfAbsent(clientSession, k -> new HashSet<>())
+          .computeIfAbsent(clientSession, k -> ConcurrentHashMap.newKeySet())
           .add(uiSession);
       return clientSession;
     }
@@ -286,7 +247,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
 
       // Link to client session
       m_uiSessionsByClientSession
-          .computeIfAbsent(clientSession, k -> new HashSet<>())
+          .computeIfAbsent(clientSession, k -> ConcurrentHashMap.newKeySet())
           .add(uiSession);
     }
     finally {
@@ -344,9 +305,10 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
   }
 
   /**
-   * If the given client session is still active, schedule a job that checks whether it is still in use after some time
-   * (see {@link SessionStoreHousekeepingDelayProperty}). If not, it will be stopped and removed from the store. If the
-   * session is inactive from the beginning, it is just removed from the store.
+   * If the given client session is still active, schedule a housekeeping on the {@link SessionHousekeepingTimer} that
+   * checks whether it is still in use after some time (see {@link SessionStoreHousekeepingDelayProperty}). If not, it
+   * will be stopped and removed from the store. If the session is inactive from the beginning, it is just removed from
+   * the store.
    * <p>
    * <b>Important:</b>: This method must be called from within a lock!
    */
@@ -357,14 +319,12 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     }
 
     // Check if client session is still used after a few moments
-    LOG.debug("Session housekeeping: Schedule job for client session with ID {}", clientSession.getId());
-    final IFuture<Void> future = Jobs.schedule(() -> doHousekeepingOutsideWriteLock(clientSession), Jobs.newInput()
-        .withName("Performing session housekeeping for client session with ID {}", clientSession.getId())
-        .withExecutionTrigger(Jobs.newExecutionTrigger()
-            .withStartIn(CONFIG.getPropertyValue(SessionStoreHousekeepingDelayProperty.class), TimeUnit.SECONDS)));
-
-    // Put the future in a list, so we can cancel it if the session is requested again
-    m_housekeepingFutures.put(clientSession.getId(), future);
+    LOG.debug("Session housekeeping: Schedule housekeeping for client session with ID {}", clientSession.getId());
+    final Timeout timeout = BEANS.get(SessionHousekeepingTimer.class).schedule(() -> doHousekeepingOutsideWriteLock(clientSession),
+        CONFIG.getPropertyValue(SessionStoreHousekeepingDelayProperty.class), TimeUnit.SECONDS);
+
+    // Put the timeout in a map, so we can cancel it if the session is requested again
+    m_housekeepingTimeouts.put(clientSession.getId(), timeout);
   }
 
   /**
@@ -373,12 +333,13 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
   protected void doHousekeepingOutsideWriteLock(final IClientSession clientSession) {
     m_writeLock.lock();
     try {
-      if (IFuture.CURRENT.get() != null && IFuture.CURRENT.get().isCancelled()) {
+      Timeout currentTimeout = SessionHousekeepingTimer.CURRENT.get();
+      if (currentTimeout != null && currentTimeout.isCancelled()) {
         return;
       }
-      IFuture<?> otherFuture = m_housekeepingFutures.remove(clientSession.getId());
-      if (otherFuture != null) {
-        otherFuture.cancel(false);
+      Timeout otherTimeout = m_housekeepingTimeouts.remove(clientSession.getId());
+      if (otherTimeout != null) {
+        otherTimeout.cancel();
       }
 
       if (!clientSession.isActive() || clientSession.isStopping()) {
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
@@ -155,4 +156,143 @@ public final class UiHtmlConfigProperties {
       return 30;
     }
   }
+
+  public static class UiCompactTableRowsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.compactTableRows";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if table rows are sent to the browser in the compact format: column-oriented cell arrays, a dictionary for repeated texts and icons and only the changed cells for updated rows.\n"
+          + "Reduces the payload size and the parse time for large tables.\n"
+          + "By default this property is set to false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class UiResponseHistoryCompressionProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistory.compression";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the responses kept in the response history of a UI session (to resend them if the browser did not receive them) are stored compressed.\n"
+          + "By default this property is set to true.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.TRUE;
+    }
+  }
+
+  public static class UiResponseHistoryMaxSessionBytesProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistory.maxSessionBytes";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of bytes the response history of one UI session may retain. If the limit is reached, the oldest responses are dropped. 0 means no limit.\n"
+          + "By default this property is set to 4 MB.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 4L * 1024 * 1024;
+    }
+  }
+
+  public static class UiResponseHistoryMaxTotalBytesProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistory.maxTotalBytes";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of bytes the response histories of all UI sessions of this node may retain together. If the limit is reached, a UI session drops its oldest responses to retain a new one. The most recent response of a UI session is always retained, even if this exceeds the limit. 0 means no limit.\n"
+          + "By default this property is set to 256 MB.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 256L * 1024 * 1024;
+    }
+  }
+
+  public static class UiResourceFileStreamingThresholdProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.resourceFileStreamingThreshold";
+    }
+
+    @Override
+    public String description() {
+      return "Web resources located in the file system with at least this number of bytes are not loaded into memory but streamed from the file. "
+          + "Only applies to resources which are compressed by themselves (e.g. images, videos, archives). These resources support range requests but are not compressed for the transfer. "
+          + "0 means all such file system resources are streamed.\n"
+          + "By default this property is set to 1 MB.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 1024L * 1024;
+    }
+  }
+
+  public static class UiServerPushProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.serverPush";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if UI data produced by background jobs is pushed to the browser using server-sent events instead of being fetched by long polling requests.\n"
+          + "A push connection does not occupy a container thread while waiting. It requires the UiServlet and all filters in front of it to support asynchronous processing (async-supported=true). "
+          + "If this is not the case or the browser does not support server-sent events, the UI falls back to long polling.\n"
+          + "By default this property is set to false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class UiAdapterDefinitionCacheMaxSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.ui.adapterDefinitionCacheMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of adapter definitions (combination of adapter class, model class and locale) whose immutable JSON property values are shared among all UI sessions of this node. "
+          + "0 disables the cache.\n"
+          + "By default this property is set to 10000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 10000;
+    }
+  }
 }
@@ -21,6 +21,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
@@ -74,6 +75,7 @@ import org.eclipse.scout.rt.shared.ui.UiSystem;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiServerPushProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonAdapterRegistry;
@@ -86,6 +88,7 @@ import org.eclipse.scout.rt.ui.html.json.JsonRequestHelper;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.eclipse.scout.rt.ui.html.json.JsonStartupRequest;
 import org.eclipse.scout.rt.ui.html.json.MainJsonObjectFactory;
+import org.eclipse.scout.rt.ui.html.json.ServerPushChannel;
 import org.eclipse.scout.rt.ui.html.management.SessionMonitorMBean;
 import org.eclipse.scout.rt.ui.html.res.IBinaryResourceConsumer;
 import org.eclipse.scout.rt.ui.html.res.IBinaryResourceUploader;
@@ -127,6 +130,7 @@ public class UiSession implements IUiSession {
   private final Object m_notificationToken = new Object();
   private final IHttpResourceCache m_httpResourceCache = BEANS.get(HttpResourceCache.class);
   private final UiSessionListeners m_listeners = new UiSessionListeners();
+  private final AtomicReference<ServerPushChannel> m_serverPushChannel = new AtomicReference<>();
 
   private volatile boolean m_initialized;
   private volatile ISessionStore m_sessionStore;
@@ -489,6 +493,7 @@ public class UiSession implements IUiSession {
     startupData.put("clientSessionId", m_clientSession.getId()); // Send back clientSessionId to allow the browser to attach to the same client session on page reload
     startupData.put("clientSession", clientSessionAdapterId);
     startupData.put("pollingInterval", CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class));
+    startupData.put("serverPush", CONFIG.getPropertyValue(UiServerPushProperty.class));
     startupData.put("persistent", isPersistent());
     putLocaleData(startupData, BEANS.get(UiJobs.class).awaitAndGet(future));
   }
@@ -606,11 +611,12 @@ public class UiSession implements IUiSession {
     sessionStore().unregisterUiSession(this); // also stops and removes client session if necessary
 
     uninstallUiDataAvailableListener();
-    signalPoller(); // Notify waiting requests - should not delay web-container shutdown
+    signalPoller(); // Notify waiting requests and the push channel - should not delay web-container shutdown
 
     m_jsonAdapterRegistry.disposeAdapters();
     m_httpContext.clear();
     m_currentJsonResponse = null;
+    m_responseHistory.dispose();
   }
 
   @Override
@@ -1211,6 +1217,28 @@ public class UiSession implements IUiSession {
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   protected void signalPoller() {
     m_pollerQueue.offer(m_notificationToken);
+    ServerPushChannel serverPushChannel = m_serverPushChannel.get();
+    if (serverPushChannel != null) {
+      serverPushChannel.signal();
+    }
+  }
+
+  @Override
+  public void attachServerPushChannel(ServerPushChannel channel) {
+    ServerPushChannel previousChannel = m_serverPushChannel.getAndSet(channel);
+    if (previousChannel != null && previousChannel != channel) {
+      previousChannel.close();
+    }
+  }
+
+  @Override
+  public void detachServerPushChannel(ServerPushChannel channel) {
+    m_serverPushChannel.compareAndSet(channel, null);
+  }
+
+  @Override
+  public List<JSONObject> getResponsesAfter(long responseSequenceNo) {
+    return m_responseHistory.getResponsesAfter(responseSequenceNo);
   }
 
   @Override
@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.scout.rt.client.job.ModelJobs;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.reflect.IPropertyObserver;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.json.JSONObject;
@@ -120,9 +121,10 @@ public abstract class AbstractJsonPropertyObserver<T extends IPropertyObserver>
   @Override
   public JSONObject toJson() {
     JSONObject json = super.toJson();
+    AdapterDefinitionCache definitionCache = BEANS.get(AdapterDefinitionCache.class);
     for (JsonProperty<?> jsonProperty : m_jsonProperties.values()) {
       if (jsonProperty.accept()) {
-        putProperty(json, jsonProperty.jsonPropertyName(), jsonProperty.valueToJson());
+        definitionCache.putProperty(this, json, jsonProperty);
         jsonProperty.setValueSent(true);
       }
     }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiAdapterDefinitionCacheMaxSizeProperty;
+import org.json.JSONObject;
+
+/**
+ * Node-wide cache of JSON property values which only depend on the model value and the locale (see
+ * {@link JsonProperty#isCacheable()}).
+ * <p>
+ * Values are cached per adapter definition, which is the combination of adapter class, model class, object type and
+ * locale. For each property, the last model value and its JSON value are kept. If the next adapter of the same
+ * definition has an equal model value (e.g. the same form opened by another user), the JSON value is reused instead
+ * of being created again. Cached values are already stripped of their default values (see
+ * {@link IDefaultValuesFilterService}), filtering them again does not modify them. They may therefore be shared by
+ * multiple responses and must never be modified.
+ *
+ * @since 10.0
+ */
+@ApplicationScoped
+public class AdapterDefinitionCache {
+
+  /**
+   * Marker for values which are completely removed by the default values filter.
+   */
+  protected static final Object FILTERED = new Object();
+
+  private final int m_maxSize = CONFIG.getPropertyValue(UiAdapterDefinitionCacheMaxSizeProperty.class);
+  private final Map<DefinitionKey, Map<String, CachedValue>> m_definitions = new ConcurrentHashMap<>();
+  private final LongAdder m_hits = new LongAdder();
+  private final LongAdder m_misses = new LongAdder();
+
+  public boolean isEnabled() {
+    return m_maxSize > 0;
+  }
+
+  /**
+   * Puts the JSON value of the given property into the given JSON object of the adapter. If the property is not
+   * cacheable, the value is created by {@link JsonProperty#valueToJson()}.
+   */
+  public void putProperty(AbstractJsonAdapter<?> adapter, JSONObject json, JsonProperty<?> jsonProperty) {
+    if (!isEnabled() || !jsonProperty.isCacheable()) {
+      json.put(jsonProperty.jsonPropertyName(), jsonProperty.valueToJson());
+      return;
+    }
+
+    Object modelValue = jsonProperty.modelValue();
+    Map<String, CachedValue> definition = getDefinition(adapter);
+    CachedValue cachedValue = definition == null ? null : definition.get(jsonProperty.jsonPropertyName());
+    Object value;
+    if (cachedValue != null && ObjectUtility.equals(cachedValue.getModelValue(), modelValue)) {
+      m_hits.increment();
+      value = cachedValue.getJsonValue();
+    }
+    else {
+      m_misses.increment();
+      value = filterDefaultValues(adapter, jsonProperty.jsonPropertyName(), jsonProperty.prepareValueForToJson(modelValue));
+      Object cacheKey = jsonProperty.cacheKey(modelValue);
+      if (definition != null && cacheKey != null) {
+        definition.put(jsonProperty.jsonPropertyName(), new CachedValue(cacheKey, value));
+      }
+    }
+    if (value != FILTERED) {
+      json.put(jsonProperty.jsonPropertyName(), value);
+    }
+  }
+
+  /**
+   * @return the cached values of the definition of the given adapter or <code>null</code> if the cache is full
+   */
+  protected Map<String, CachedValue> getDefinition(AbstractJsonAdapter<?> adapter) {
+    DefinitionKey key = new DefinitionKey(adapter.getClass(), adapter.getModel().getClass(), adapter.getObjectTypeVariant(), NlsLocale.get());
+    Map<String, CachedValue> definition = m_definitions.get(key);
+    if (definition != null || m_definitions.size() >= m_maxSize) {
+      return definition;
+    }
+    return m_definitions.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Applies the default values filter to a single property value.
+   *
+   * @return the filtered value or {@link #FILTERED} if the value is equal to the default value
+   */
+  protected Object filterDefaultValues(AbstractJsonAdapter<?> adapter, String propertyName, Object value) {
+    JSONObject json = new JSONObject();
+    json.put(propertyName, value);
+    JsonObjectUtility.filterDefaultValues(json, adapter.getObjectTypeVariant());
+    return json.has(propertyName) ? json.opt(propertyName) : FILTERED;
+  }
+
+  public void clear() {
+    m_definitions.clear();
+  }
+
+  public int size() {
+    return m_definitions.size();
+  }
+
+  public long getHits() {
+    return m_hits.sum();
+  }
+
+  public long getMisses() {
+    return m_misses.sum();
+  }
+
+  protected static class CachedValue {
+    private final Object m_modelValue;
+    private final Object m_jsonValue;
+
+    public CachedValue(Object modelValue, Object jsonValue) {
+      m_modelValue = modelValue;
+      m_jsonValue = jsonValue;
+    }
+
+    public Object getModelValue() {
+      return m_modelValue;
+    }
+
+    public Object getJsonValue() {
+      return m_jsonValue;
+    }
+  }
+
+  protected static class DefinitionKey {
+    private final Class<?> m_adapterClass;
+    private final Class<?> m_modelClass;
+    private final String m_objectType;
+    private final Locale m_locale;
+    private final int m_hashCode;
+
+    public DefinitionKey(Class<?> adapterClass, Class<?> modelClass, String objectType, Locale locale) {
+      m_adapterClass = adapterClass;
+      m_modelClass = modelClass;
+      m_objectType = objectType;
+      m_locale = locale;
+      m_hashCode = Objects.hash(adapterClass, modelClass, objectType, locale);
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      DefinitionKey other = (DefinitionKey) obj;
+      return m_adapterClass == other.m_adapterClass
+          && m_modelClass == other.m_modelClass
+          && ObjectUtility.equals(m_objectType, other.m_objectType)
+          && ObjectUtility.equals(m_locale, other.m_locale);
+    }
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.ui.html.json.table.JsonTable;
+import org.eclipse.scout.rt.ui.html.json.tree.JsonTree;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Merges consecutive row events of tables and node events of trees before a {@link JsonResponse} is sent to the UI.
+ * <p>
+ * Two events are merged if they directly follow each other in the response and have the same target. Rows which are
+ * inserted and updated are sent once with their final state, rows which are inserted and deleted are not sent at all.
+ * Events in the compact row format, protected events and events with a reference are never merged.
+ * <p>
+ * The number of coalesced property changes and merged events of all responses is collected and published by the
+ * session monitor MBean.
+ *
+ * @since 10.0
+ */
+@ApplicationScoped
+public class JsonEventCoalescer {
+
+  protected static final String PROP_ID = "id";
+
+  private final LongAdder m_propertyChanges = new LongAdder();
+  private final LongAdder m_coalescedPropertyChanges = new LongAdder();
+  private final LongAdder m_rowEvents = new LongAdder();
+  private final LongAdder m_mergedRowEvents = new LongAdder();
+  private final LongAdder m_eliminatedRows = new LongAdder();
+
+  /**
+   * Merges consecutive row and node events of the given list.
+   *
+   * @return the coalesced events (the given events may have been modified)
+   */
+  public List<JsonEvent> coalesce(List<JsonEvent> events, JsonEventCoalescingStatistics stats) {
+    List<JsonEvent> result = new ArrayList<>(events.size());
+    for (JsonEvent event : events) {
+      if (!isRowEvent(event)) {
+        result.add(event);
+        continue;
+      }
+      stats.m_rowEvents++;
+      JsonEvent previous = result.isEmpty() ? null : result.get(result.size() - 1);
+      if (previous == null || !isRowEvent(previous) || !ObjectUtility.equals(previous.getTarget(), event.getTarget())) {
+        result.add(event);
+        continue;
+      }
+      boolean keepEvent = merge(previous, event, stats);
+      if (isEmptyRowEvent(previous)) {
+        result.remove(result.size() - 1);
+        stats.m_mergedRowEvents++;
+      }
+      if (keepEvent && !isEmptyRowEvent(event)) {
+        result.add(event);
+      }
+      else {
+        stats.m_mergedRowEvents++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Publishes the statistics of one response.
+   */
+  public void record(JsonEventCoalescingStatistics stats) {
+    m_propertyChanges.add(stats.m_propertyChanges);
+    m_coalescedPropertyChanges.add(stats.m_coalescedPropertyChanges);
+    m_rowEvents.add(stats.m_rowEvents);
+    m_mergedRowEvents.add(stats.m_mergedRowEvents);
+    m_eliminatedRows.add(stats.m_eliminatedRows);
+  }
+
+  protected boolean isRowEvent(JsonEvent event) {
+    if (event.isProtected() || event.getReference() != null || event.getData() == null) {
+      return false;
+    }
+    switch (event.getType()) {
+      case JsonTable.EVENT_ROWS_INSERTED:
+      case JsonTable.EVENT_ROWS_UPDATED:
+        return event.getData().optJSONArray(JsonTable.PROP_ROWS) != null;
+      case JsonTable.EVENT_ROWS_DELETED:
+        return event.getData().optJSONArray(JsonTable.PROP_ROW_IDS) != null;
+      case JsonTree.EVENT_NODES_INSERTED:
+      case JsonTree.EVENT_NODES_UPDATED:
+        return event.getData().optJSONArray(JsonTree.PROP_NODES) != null;
+      case JsonTree.EVENT_NODES_DELETED:
+        return event.getData().optJSONArray(JsonTree.PROP_NODE_IDS) != null;
+      default:
+        return false;
+    }
+  }
+
+  protected boolean isEmptyRowEvent(JsonEvent event) {
+    JSONObject data = event.getData();
+    JSONArray array = data.optJSONArray(JsonTable.PROP_ROWS);
+    if (array == null) {
+      array = data.optJSONArray(JsonTable.PROP_ROW_IDS);
+    }
+    if (array == null) {
+      array = data.optJSONArray(JsonTree.PROP_NODES);
+    }
+    if (array == null) {
+      array = data.optJSONArray(JsonTree.PROP_NODE_IDS);
+    }
+    return array == null || array.length() == 0;
+  }
+
+  /**
+   * Merges the given event into the previous event with the same target.
+   *
+   * @return <code>false</code> if the event was merged completely into the previous event and must not be sent anymore
+   */
+  protected boolean merge(JsonEvent previous, JsonEvent event, JsonEventCoalescingStatistics stats) {
+    JSONObject prevData = previous.getData();
+    JSONObject data = event.getData();
+    String pair = previous.getType() + "+" + event.getType();
+    switch (pair) {
+      case JsonTable.EVENT_ROWS_INSERTED + "+" + JsonTable.EVENT_ROWS_INSERTED:
+        appendRows(prevData, data, JsonTable.PROP_ROWS);
+        return false;
+      case JsonTable.EVENT_ROWS_UPDATED + "+" + JsonTable.EVENT_ROWS_UPDATED:
+        // updated rows contain the complete state of the row, replace the previous state
+        stats.m_eliminatedRows += replaceRows(prevData, data, JsonTable.PROP_ROWS);
+        appendRows(prevData, data, JsonTable.PROP_ROWS);
+        return false;
+      case JsonTable.EVENT_ROWS_INSERTED + "+" + JsonTable.EVENT_ROWS_UPDATED:
+        stats.m_eliminatedRows += replaceRows(prevData, data, JsonTable.PROP_ROWS);
+        return true;
+      case JsonTable.EVENT_ROWS_DELETED + "+" + JsonTable.EVENT_ROWS_DELETED:
+        appendRows(prevData, data, JsonTable.PROP_ROW_IDS);
+        return false;
+      case JsonTable.EVENT_ROWS_INSERTED + "+" + JsonTable.EVENT_ROWS_DELETED: {
+        // rows inserted and deleted in the same response are never sent
+        Set<String> removed = removeRows(prevData, JsonTable.PROP_ROWS, toIdSet(data.getJSONArray(JsonTable.PROP_ROW_IDS)));
+        removeIds(data, JsonTable.PROP_ROW_IDS, removed);
+        stats.m_eliminatedRows += removed.size();
+        return true;
+      }
+      case JsonTable.EVENT_ROWS_UPDATED + "+" + JsonTable.EVENT_ROWS_DELETED:
+        stats.m_eliminatedRows += removeRows(prevData, JsonTable.PROP_ROWS, toIdSet(data.getJSONArray(JsonTable.PROP_ROW_IDS))).size();
+        return true;
+      default:
+        return mergeNodes(pair, prevData, data, stats);
+    }
+  }
+
+  /**
+   * Nodes are only merged if they have the same parent. Inserted nodes are never merged with updated or deleted
+   * nodes, because they may contain child nodes.
+   */
+  protected boolean mergeNodes(String pair, JSONObject prevData, JSONObject data, JsonEventCoalescingStatistics stats) {
+    if (ObjectUtility.notEquals(prevData.optString(JsonTree.PROP_COMMON_PARENT_NODE_ID, null), data.optString(JsonTree.PROP_COMMON_PARENT_NODE_ID, null))) {
+      return true;
+    }
+    switch (pair) {
+      case JsonTree.EVENT_NODES_INSERTED + "+" + JsonTree.EVENT_NODES_INSERTED:
+        appendRows(prevData, data, JsonTree.PROP_NODES);
+        return false;
+      case JsonTree.EVENT_NODES_UPDATED + "+" + JsonTree.EVENT_NODES_UPDATED:
+        stats.m_eliminatedRows += replaceRows(prevData, data, JsonTree.PROP_NODES);
+        appendRows(prevData, data, JsonTree.PROP_NODES);
+        return false;
+      case JsonTree.EVENT_NODES_DELETED + "+" + JsonTree.EVENT_NODES_DELETED:
+        appendRows(prevData, data, JsonTree.PROP_NODE_IDS);
+        return false;
+      case JsonTree.EVENT_NODES_UPDATED + "+" + JsonTree.EVENT_NODES_DELETED:
+        stats.m_eliminatedRows += removeRows(prevData, JsonTree.PROP_NODES, toIdSet(data.getJSONArray(JsonTree.PROP_NODE_IDS))).size();
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  protected void appendRows(JSONObject target, JSONObject source, String property) {
+    JSONArray targetArray = target.getJSONArray(property);
+    JSONArray sourceArray = source.getJSONArray(property);
+    for (int i = 0; i < sourceArray.length(); i++) {
+      targetArray.put(sourceArray.get(i));
+    }
+    source.put(property, new JSONArray());
+  }
+
+  /**
+   * Replaces the rows of the target by the rows of the source with the same id. The replaced rows are removed from the
+   * source.
+   *
+   * @return number of replaced rows
+   */
+  protected int replaceRows(JSONObject target, JSONObject source, String property) {
+    Map<String, JSONObject> sourceRows = new LinkedHashMap<>();
+    JSONArray sourceArray = source.getJSONArray(property);
+    for (int i = 0; i < sourceArray.length(); i++) {
+      JSONObject row = sourceArray.getJSONObject(i);
+      sourceRows.put(row.optString(PROP_ID, null), row);
+    }
+    JSONArray targetArray = target.getJSONArray(property);
+    int replaced = 0;
+    for (int i = 0; i < targetArray.length(); i++) {
+      JSONObject row = sourceRows.remove(targetArray.getJSONObject(i).optString(PROP_ID, null));
+      if (row != null) {
+        targetArray.put(i, row);
+        replaced++;
+      }
+    }
+    if (replaced > 0) {
+      source.put(property, new JSONArray(sourceRows.values()));
+    }
+    return replaced;
+  }
+
+  /**
+   * Removes the rows with the given ids from the target.
+   *
+   * @return ids of the removed rows
+   */
+  protected Set<String> removeRows(JSONObject target, String property, Set<String> ids) {
+    Set<String> removed = new HashSet<>();
+    JSONArray targetArray = target.getJSONArray(property);
+    JSONArray remaining = new JSONArray();
+    for (int i = 0; i < targetArray.length(); i++) {
+      JSONObject row = targetArray.getJSONObject(i);
+      String id = row.optString(PROP_ID, null);
+      if (ids.contains(id)) {
+        removed.add(id);
+      }
+      else {
+        remaining.put(row);
+      }
+    }
+    if (!removed.isEmpty()) {
+      target.put(property, remaining);
+    }
+    return removed;
+  }
+
+  protected void removeIds(JSONObject target, String property, Set<String> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    JSONArray targetArray = target.getJSONArray(property);
+    JSONArray remaining = new JSONArray();
+    for (int i = 0; i < targetArray.length(); i++) {
+      if (!ids.contains(targetArray.optString(i, null))) {
+        remaining.put(targetArray.get(i));
+      }
+    }
+    target.put(property, remaining);
+  }
+
+  protected Set<String> toIdSet(JSONArray ids) {
+    Set<String> set = new HashSet<>(ids.length());
+    for (int i = 0; i < ids.length(); i++) {
+      set.add(ids.optString(i, null));
+    }
+    return set;
+  }
+
+  /**
+   * @return number of property changes added to all responses
+   */
+  public long getPropertyChanges() {
+    return m_propertyChanges.sum();
+  }
+
+  /**
+   * @return number of property changes which replaced the value of a previous change of the same response
+   */
+  public long getCoalescedPropertyChanges() {
+    return m_coalescedPropertyChanges.sum();
+  }
+
+  /**
+   * @return number of table row and tree node events of all responses
+   */
+  public long getRowEvents() {
+    return m_rowEvents.sum();
+  }
+
+  /**
+   * @return number of table row and tree node events which were merged into other events
+   */
+  public long getMergedRowEvents() {
+    return m_mergedRowEvents.sum();
+  }
+
+  /**
+   * @return number of rows and nodes which were not sent because they were replaced or deleted by a later event
+   */
+  public long getEliminatedRows() {
+    return m_eliminatedRows.sum();
+  }
+}
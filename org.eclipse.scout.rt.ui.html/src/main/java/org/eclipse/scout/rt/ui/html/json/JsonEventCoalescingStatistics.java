@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+/**
+ * Coalescing statistics of a single {@link JsonResponse}. Not thread-safe, a response is only written by the model
+ * thread.
+ *
+ * @see JsonEventCoalescer
+ * @since 10.0
+ */
+public class JsonEventCoalescingStatistics {
+
+  int m_propertyChanges;
+  int m_coalescedPropertyChanges;
+  int m_rowEvents;
+  int m_mergedRowEvents;
+  int m_eliminatedRows;
+
+  public int getPropertyChanges() {
+    return m_propertyChanges;
+  }
+
+  public int getCoalescedPropertyChanges() {
+    return m_coalescedPropertyChanges;
+  }
+
+  public int getRowEvents() {
+    return m_rowEvents;
+  }
+
+  public int getMergedRowEvents() {
+    return m_mergedRowEvents;
+  }
+
+  public int getEliminatedRows() {
+    return m_eliminatedRows;
+  }
+
+  public boolean isEmpty() {
+    return m_coalescedPropertyChanges == 0 && m_mergedRowEvents == 0 && m_eliminatedRows == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "propertyChanges: " + m_propertyChanges + " (coalesced: " + m_coalescedPropertyChanges + "), "
+        + "rowEvents: " + m_rowEvents + " (merged: " + m_mergedRowEvents + "), "
+        + "eliminatedRows: " + m_eliminatedRows;
+  }
+}
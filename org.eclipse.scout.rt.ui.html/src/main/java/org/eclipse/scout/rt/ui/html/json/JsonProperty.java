@@ -111,6 +111,28 @@ public abstract class JsonProperty<MODEL_ELEMENT> {
     return prepareValueForToJson(modelValue());
   }
 
+  /**
+   * Controls whether the JSON value of this property may be shared among all adapters with the same definition (see
+   * {@link AdapterDefinitionCache}). This is only allowed if the JSON value depends on nothing but the model value and
+   * the locale, and the model value implements {@link Object#equals(Object)}. Such properties must not override
+   * {@link #valueToJson()}.
+   *
+   * @return <code>false</code> by default
+   */
+  public boolean isCacheable() {
+    return false;
+  }
+
+  /**
+   * Returns the model value stored in the {@link AdapterDefinitionCache} to detect if a JSON value can be reused.
+   * Mutable model values must be copied. The default implementation returns the given value.
+   *
+   * @return the value to store or <code>null</code> if the JSON value of the given model value must not be cached
+   */
+  public Object cacheKey(Object modelValue) {
+    return modelValue;
+  }
+
   /**
    * This method is called when the property value changes. Subclasses of JsonProperty may do something in that case.
    * The default implementation does nothing. Note: this method must be always executed, even when the event itself is
@@ -12,7 +12,9 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -131,11 +133,14 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON text is encoded directly into the servlet's output stream in small chunks, neither the whole JSON string
+   * nor its UTF-8 representation are held in memory. Because the length is not known in advance, no content length is
+   * set (unless the container buffers the whole response, chunked transfer encoding is used). If the response is
+   * compressed by the GzipServletFilter, responses larger than its streaming threshold are compressed while they are
+   * written, smaller ones are buffered.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -145,15 +150,14 @@ public class JsonRequestHelper {
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
     try {
-      servletResponse.getOutputStream().write(data);
+      Writer writer = new OutputStreamWriter(servletResponse.getOutputStream(), StandardCharsets.UTF_8);
+      jsonResponse.write(writer);
+      writer.flush();
     }
     catch (final EOFException e) { // NOSONAR
       final StringBuilder sb = new StringBuilder("EOF - Client disconnected, cannot write response");
       if (LOG.isDebugEnabled()) {
-        sb.append(": ").append(jsonText);
-      }
-      else {
-        sb.append(" (").append(data.length).append(" bytes)");
+        sb.append(": ").append(jsonResponse);
       }
       LOG.warn(sb.toString());
       return;
@@ -162,7 +166,7 @@ public class JsonRequestHelper {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
@@ -52,6 +53,7 @@ public class JsonResponse {
   private final List<JsonEvent> m_eventList;
   private final Map<String/*adapterId*/, JsonPropertyChangeEvent> m_idToPropertyChangeEventMap; // helper map to ensure max. 1 event per adapter
   private final Set<IJsonAdapter<?>> m_bufferedEventsAdapters;
+  private final JsonEventCoalescingStatistics m_coalescingStatistics = new JsonEventCoalescingStatistics();
   private volatile JSONObject m_startupData = null;
   private volatile boolean m_error;
   private volatile int m_errorCode;
@@ -110,7 +112,11 @@ public class JsonResponse {
       m_idToPropertyChangeEventMap.put(id, event);
     }
 
-    // put property
+    // put property (only the final value is sent)
+    m_coalescingStatistics.m_propertyChanges++;
+    if (event.getProperties().containsKey(propertyName)) {
+      m_coalescingStatistics.m_coalescedPropertyChanges++;
+    }
     event.getProperties().put(propertyName, newValue);
     return event;
   }
@@ -313,12 +319,16 @@ public class JsonResponse {
     }
 
     // Prepare "events"
-    JSONArray eventArray = new JSONArray();
+    List<JsonEvent> events = new ArrayList<>(m_eventList.size());
     for (JsonEvent event : m_eventList) {
       if (doAddEvent(event)) {
-        eventArray.put(event.toJson());
+        events.add(event);
       }
     }
+    JSONArray eventArray = new JSONArray();
+    for (JsonEvent event : coalesceEvents(events)) {
+      eventArray.put(event.toJson());
+    }
 
     // Build resulting JSON
     JSONObject json = new JSONObject();
@@ -337,6 +347,27 @@ public class JsonResponse {
     return json;
   }
 
+  /**
+   * Merges consecutive table row and tree node events (see {@link JsonEventCoalescer}) and records the coalescing
+   * statistics of this response.
+   */
+  protected List<JsonEvent> coalesceEvents(List<JsonEvent> events) {
+    JsonEventCoalescer coalescer = BEANS.get(JsonEventCoalescer.class);
+    List<JsonEvent> result = coalescer.coalesce(events, m_coalescingStatistics);
+    coalescer.record(m_coalescingStatistics);
+    if (LOG.isDebugEnabled() && !m_coalescingStatistics.isEmpty()) {
+      LOG.debug("Coalesced events of response #{}: {}", m_sequenceNo, m_coalescingStatistics);
+    }
+    return result;
+  }
+
+  /**
+   * @return number of coalesced property changes and merged events of this response
+   */
+  public JsonEventCoalescingStatistics getCoalescingStatistics() {
+    return m_coalescingStatistics;
+  }
+
   /**
    * Causes all registered {@link IJsonAdapter}s to process their buffered events. This may add some events and adapters
    * to this response. This method is called automatically during {@link #toJson()}.
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiServerPushProperty;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server-sent events connection of a browser window, used instead of poll requests if {@link UiServerPushProperty} is
+ * enabled.
+ * <p>
+ * The channel holds an asynchronous servlet request, therefore no container thread is blocked while no UI data is
+ * available. When signaled by the UI session, a job processes a poll request and writes the JSON response as event.
+ * The id of the event is the sequence number of the response. When reconnecting, the browser sends the id of the last
+ * received event, all later responses still in the response history are sent again.
+ * <p>
+ * The channel is closed after the polling interval. The browser reconnects immediately, which keeps the HTTP session
+ * alive and allows the server to check the max. idle time of the UI session, like for poll requests.
+ *
+ * @see ServerPushRequestHandler
+ * @since 10.0
+ */
+public class ServerPushChannel {
+  private static final Logger LOG = LoggerFactory.getLogger(ServerPushChannel.class);
+
+  public static final String CONTENT_TYPE = "text/event-stream";
+
+  /**
+   * Delay before UI data is pushed, to send the results of jobs completing at almost the same time in one event.
+   */
+  protected static final long PUSH_DELAY_MILLIS = 100L;
+
+  private final IUiSession m_uiSession;
+  private final AsyncContext m_asyncContext;
+  private final RunContext m_runContext;
+  private final AtomicBoolean m_pushScheduled = new AtomicBoolean();
+  private final AtomicBoolean m_closed = new AtomicBoolean();
+  private final Object m_writeLock = new Object();
+
+  /**
+   * @param runContext
+   *          context to run the push jobs in, must contain the {@link IUiSession#CURRENT UI session}
+   */
+  public ServerPushChannel(IUiSession uiSession, AsyncContext asyncContext, RunContext runContext) {
+    m_uiSession = Assertions.assertNotNull(uiSession);
+    m_asyncContext = Assertions.assertNotNull(asyncContext);
+    m_runContext = Assertions.assertNotNull(runContext);
+  }
+
+  public IUiSession getUiSession() {
+    return m_uiSession;
+  }
+
+  public boolean isClosed() {
+    return m_closed.get();
+  }
+
+  /**
+   * Sends the responses the browser has not received yet and attaches this channel to the UI session.
+   *
+   * @param lastEventId
+   *          id of the last event received by the browser or <code>null</code> for a new connection
+   */
+  public void open(Long lastEventId) {
+    m_asyncContext.addListener(new P_AsyncListener());
+    ServletResponse resp = m_asyncContext.getResponse();
+    resp.setContentType(CONTENT_TYPE);
+    resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+    if (lastEventId != null) {
+      m_uiSession.confirmResponseProcessed(lastEventId);
+      for (JSONObject response : m_uiSession.getResponsesAfter(lastEventId)) {
+        send(response);
+      }
+    }
+    // comment line to flush the headers, the browser does not consider the connection open otherwise
+    writeEvent(":\n");
+    m_uiSession.attachServerPushChannel(this);
+    // push the UI data which became available while the browser was not connected
+    signal();
+  }
+
+  /**
+   * Schedules a job pushing the currently available UI data. This method does not block.
+   */
+  public void signal() {
+    if (isClosed() || !m_pushScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    Jobs.schedule(this::push, Jobs.newInput()
+        .withName("Pushing UI data [uiSessionId={}]", m_uiSession.getUiSessionId())
+        .withRunContext(m_runContext.copy())
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(PUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS)));
+  }
+
+  protected void push() {
+    m_pushScheduled.set(false);
+    if (isClosed()) {
+      return;
+    }
+    if (m_uiSession.isDisposed()) {
+      handleUiSessionDisposed();
+      return;
+    }
+
+    // Like poll requests, only *try* to acquire the lock. The thread holding the lock will send the UI data.
+    ReentrantLock uiSessionLock = m_uiSession.uiSessionLock();
+    if (!uiSessionLock.tryLock()) {
+      return;
+    }
+    try {
+      if (m_uiSession.isDisposed()) {
+        handleUiSessionDisposed();
+        return;
+      }
+      JsonRequest jsonRequest = createPollRequest();
+      JSONObject response = m_runContext.copy()
+          .withThreadLocal(JsonRequest.CURRENT, jsonRequest)
+          .call(() -> m_uiSession.processJsonRequest((HttpServletRequest) m_asyncContext.getRequest(), (HttpServletResponse) m_asyncContext.getResponse(), jsonRequest));
+      if (response != null) {
+        send(response);
+      }
+    }
+    finally {
+      uiSessionLock.unlock();
+    }
+  }
+
+  protected JsonRequest createPollRequest() {
+    JSONObject request = new JSONObject();
+    request.put(JsonRequest.PROP_UI_SESSION_ID, m_uiSession.getUiSessionId());
+    request.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(request);
+  }
+
+  /**
+   * @see JsonMessageRequestHandler#handleUiSessionDisposed(HttpServletResponse, IUiSession, JsonRequest)
+   */
+  protected void handleUiSessionDisposed() {
+    JsonRequestHelper jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+    boolean platformValid = (Platform.get() != null && Platform.get().getState() == State.PlatformStarted);
+    if (platformValid) {
+      send(jsonRequestHelper.createSessionTerminatedResponse(m_uiSession.getLogoutRedirectUrl()));
+    }
+    else {
+      send(jsonRequestHelper.createSessionTimeoutResponse());
+    }
+    close();
+  }
+
+  /**
+   * Sends the given JSON response as event. The id of the event is the sequence number of the response (if any).
+   */
+  public void send(JSONObject response) {
+    StringBuilder event = new StringBuilder();
+    Long sequenceNo = JsonObjectUtility.optLong(response, JsonResponse.PROP_SEQUENCE_NO);
+    if (sequenceNo != null) {
+      event.append("id: ").append(sequenceNo).append('\n');
+    }
+    // JSONObject.toString() does not contain line breaks, split anyway to keep the event stream valid
+    for (String line : response.toString().split("\n")) {
+      event.append("data: ").append(line).append('\n');
+    }
+    writeEvent(event.toString());
+  }
+
+  protected void writeEvent(String event) {
+    synchronized (m_writeLock) {
+      if (isClosed()) {
+        return;
+      }
+      // Clear the current thread's interruption status, the stream gets corrupted otherwise (see JsonRequestHelper)
+      IRestorer interruption = ThreadInterruption.clear();
+      try {
+        ServletOutputStream out = m_asyncContext.getResponse().getOutputStream();
+        out.write((event + '\n').getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        m_asyncContext.getResponse().flushBuffer();
+      }
+      catch (IOException | IllegalStateException e) {
+        LOG.debug("Server push channel of UI session {} closed by client", m_uiSession.getUiSessionId(), e);
+        close();
+      }
+      finally {
+        interruption.restore();
+      }
+    }
+  }
+
+  /**
+   * Completes the asynchronous request and detaches this channel from the UI session. The browser reconnects.
+   */
+  public void close() {
+    if (!m_closed.compareAndSet(false, true)) {
+      return;
+    }
+    m_uiSession.detachServerPushChannel(this);
+    try {
+      m_asyncContext.complete();
+    }
+    catch (IllegalStateException e) { // NOSONAR
+      // already completed by the container (timeout or error)
+    }
+  }
+
+  protected class P_AsyncListener implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      LOG.debug("Recycling server push channel of UI session {}", m_uiSession.getUiSessionId());
+      close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      LOG.debug("Server push channel of UI session {} failed", m_uiSession.getUiSessionId(), event.getThrowable());
+      close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // nop
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiServerPushProperty;
+import org.eclipse.scout.rt.ui.html.UiSession;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles "/push/<uiSessionId>" requests which open a {@link ServerPushChannel} (server-sent events). If server push is
+ * disabled or the servlet does not support asynchronous processing, the request is rejected with status 501 and the UI
+ * falls back to poll requests.
+ *
+ * @see Session.js
+ * @since 10.0
+ */
+@Order(4510)
+public class ServerPushRequestHandler extends AbstractUiServletRequestHandler {
+  private static final Logger LOG = LoggerFactory.getLogger(ServerPushRequestHandler.class);
+
+  public static final Pattern PUSH_PATH_PATTERN = Pattern.compile("^/push/(.+)$");
+  public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+  public static final String LAST_EVENT_ID_PARAM = "lastEventId";
+
+  private final boolean m_serverPush = CONFIG.getPropertyValue(UiServerPushProperty.class);
+  private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
+  private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
+
+  private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final JsonRequestHelper m_jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+
+  @Override
+  public boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    final String pathInfo = req.getPathInfo();
+    if (pathInfo == null) {
+      return false;
+    }
+    final Matcher matcher = PUSH_PATH_PATTERN.matcher(pathInfo);
+    if (!matcher.matches()) {
+      return false;
+    }
+
+    if (!m_serverPush || !req.isAsyncSupported()) {
+      LOG.debug("Server push not available [enabled={}, asyncSupported={}]", m_serverPush, req.isAsyncSupported());
+      resp.sendError(HttpServletResponse.SC_NOT_IMPLEMENTED);
+      return true;
+    }
+
+    // disable caching
+    m_httpCacheControl.checkAndSetCacheHeaders(req, resp, null);
+
+    final String uiSessionId = matcher.group(1);
+    IUiSession uiSession = UiSession.get(req, uiSessionId);
+    if (uiSession == null) {
+      LOG.info("Server push channel cannot be opened due to UI session timeout [id={}]", uiSessionId);
+      writeEvent(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
+      return true;
+    }
+
+    int idleSeconds = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    if (idleSeconds > m_maxUserIdleTime) {
+      handleMaxIdleTimeout(resp, uiSession, idleSeconds);
+      return true;
+    }
+
+    uiSession.verifySubject(req);
+    openChannel(req, uiSession, Math.max(Math.min(m_maxUserIdleTime - idleSeconds, m_pollingInterval), 3));
+    return true;
+  }
+
+  /**
+   * Starts asynchronous processing of the request. Like a poll request, the channel is closed after the given number of
+   * seconds.
+   */
+  protected void openChannel(HttpServletRequest req, IUiSession uiSession, int channelTimeoutSeconds) {
+    LOG.debug("Opening server push channel for {} seconds", channelTimeoutSeconds);
+    AsyncContext asyncContext = req.startAsync();
+    asyncContext.setTimeout(channelTimeoutSeconds * 1000L);
+    ServerPushChannel channel = new ServerPushChannel(uiSession, asyncContext, RunContexts.copyCurrent()
+        .withThreadLocal(IUiSession.CURRENT, uiSession));
+    channel.open(getLastEventId(req));
+  }
+
+  /**
+   * @return the id of the last event received by the browser, sent as header by the browser itself or as parameter by
+   *         Session.js
+   */
+  protected Long getLastEventId(HttpServletRequest req) {
+    String lastEventId = ObjectUtility.nvl(req.getHeader(LAST_EVENT_ID_HEADER), req.getParameter(LAST_EVENT_ID_PARAM));
+    if (!StringUtility.hasText(lastEventId)) {
+      return null;
+    }
+    try {
+      return Long.valueOf(lastEventId.trim());
+    }
+    catch (NumberFormatException e) {
+      LOG.info("Ignoring invalid last event id '{}'", lastEventId, e);
+      return null;
+    }
+  }
+
+  protected void handleMaxIdleTimeout(HttpServletResponse resp, IUiSession uiSession, int idleSeconds) throws IOException {
+    LOG.info("Detected idle timeout for UI session {} after {} seconds (maxIdleSeconds={})", uiSession.getUiSessionId(), idleSeconds, m_maxUserIdleTime);
+    final ReentrantLock uiSessionLock = uiSession.uiSessionLock();
+    uiSessionLock.lock();
+    try {
+      uiSession.dispose();
+    }
+    finally {
+      uiSessionLock.unlock();
+    }
+    writeEvent(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
+  }
+
+  /**
+   * Writes a single event and completes the response (the browser does not reconnect because Session.js closes the
+   * connection when it receives an error or session termination).
+   */
+  protected void writeEvent(HttpServletResponse resp, JSONObject response) throws IOException {
+    resp.setContentType(ServerPushChannel.CONTENT_TYPE);
+    resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    resp.getOutputStream().write(("data: " + response + "\n\n").getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -185,6 +185,16 @@ public abstract class JsonFormField<FORM_FIELD extends IFormField> extends Abstr
       public Object prepareValueForToJson(Object value) {
         return JsonGridData.toJson((GridData) value);
       }
+
+      @Override
+      public boolean isCacheable() {
+        return true;
+      }
+
+      @Override
+      public Object cacheKey(Object modelValue) {
+        return modelValue == null ? null : new GridData((GridData) modelValue);
+      }
     });
     putJsonProperty(new JsonProperty<FORM_FIELD>(IFormField.PROP_LOADING, model) {
       @Override
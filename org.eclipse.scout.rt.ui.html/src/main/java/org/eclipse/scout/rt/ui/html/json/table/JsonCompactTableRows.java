@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Encodes table rows as created by {@link JsonTable#tableRowToJson(ITableRow)} into a compact, column-oriented format:
+ *
+ * <pre>
+ * {
+ *   "strings": ["Zurich", "font-bold"],           // dictionary of texts used more than once
+ *   "ids": ["r1", "r2", "r3"],
+ *   "parentRows": [null, "r1", "r1"],              // only if at least one row has a parent row
+ *   "columns": [                                  // one array per cell position (see JsonTable#tableRowToJson)
+ *     [0, 0, "Bern"],                             // number: index into "strings", string: text only cell
+ *     [{"value": 1, "cssClass": 1}, null, null]   // cell object, string properties may be dictionary indexes
+ *   ],
+ *   "rowProperties": [null, {"checked": true}, null], // remaining row properties, only if at least one row has some
+ *   "changedColumns": [null, [1], null]           // only for updates: cell positions sent for the row, null = all
+ * }
+ * </pre>
+ *
+ * The decoder is implemented in <code>TableAdapter.js</code>.
+ *
+ * @since 10.0
+ */
+public class JsonCompactTableRows {
+
+  public static final String PROP_STRINGS = "strings";
+  public static final String PROP_IDS = "ids";
+  public static final String PROP_PARENT_ROWS = "parentRows";
+  public static final String PROP_COLUMNS = "columns";
+  public static final String PROP_ROW_PROPERTIES = "rowProperties";
+  public static final String PROP_CHANGED_COLUMNS = "changedColumns";
+
+  protected static final String PROP_ROW_ID = "id";
+  protected static final String PROP_ROW_PARENT_ROW = "parentRow";
+  protected static final String PROP_ROW_CELLS = "cells";
+
+  /**
+   * String properties of cells and rows which are replaced by an index into the dictionary if they are used more than
+   * once.
+   */
+  protected static final Set<String> DICTIONARY_PROPERTIES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+      "text", "iconId", "tooltipText", "cssClass", "foregroundColor", "backgroundColor", "font")));
+
+  private final List<JSONObject> m_rows = new ArrayList<>();
+  private final List<int[]> m_changedColumns = new ArrayList<>();
+  private boolean m_partialRows;
+
+  /**
+   * Adds a row with all its cells. The given row is modified by {@link #toJson()}.
+   */
+  public void addRow(JSONObject jsonRow) {
+    addRow(jsonRow, null);
+  }
+
+  /**
+   * Adds a row but only sends the cells at the given positions.
+   *
+   * @param changedColumns
+   *          positions of the cells to send, <code>null</code> to send all cells
+   */
+  public void addRow(JSONObject jsonRow, int[] changedColumns) {
+    int[] sortedChangedColumns = null;
+    if (changedColumns != null) {
+      sortedChangedColumns = Arrays.copyOf(changedColumns, changedColumns.length);
+      Arrays.sort(sortedChangedColumns);
+    }
+    m_rows.add(jsonRow);
+    m_changedColumns.add(sortedChangedColumns);
+    m_partialRows = m_partialRows || changedColumns != null;
+  }
+
+  public boolean isEmpty() {
+    return m_rows.isEmpty();
+  }
+
+  public int getRowCount() {
+    return m_rows.size();
+  }
+
+  public JSONObject toJson() {
+    Map<String, Integer> dictionary = createDictionary();
+    JSONArray strings = new JSONArray();
+    for (String s : dictionary.keySet()) {
+      strings.put(s);
+    }
+
+    int columnCount = 0;
+    for (JSONObject jsonRow : m_rows) {
+      JSONArray cells = jsonRow.optJSONArray(PROP_ROW_CELLS);
+      columnCount = Math.max(columnCount, cells == null ? 0 : cells.length());
+    }
+    List<JSONArray> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(new JSONArray());
+    }
+
+    JSONArray ids = new JSONArray();
+    JSONArray parentRows = new JSONArray();
+    JSONArray rowProperties = new JSONArray();
+    JSONArray changedColumns = new JSONArray();
+    boolean hasParentRows = false;
+    boolean hasRowProperties = false;
+    for (int r = 0; r < m_rows.size(); r++) {
+      JSONObject jsonRow = m_rows.get(r);
+      int[] changed = m_changedColumns.get(r);
+      ids.put(jsonRow.opt(PROP_ROW_ID));
+      Object parentRow = jsonRow.opt(PROP_ROW_PARENT_ROW);
+      hasParentRows = hasParentRows || parentRow != null;
+      parentRows.put(parentRow == null ? JSONObject.NULL : parentRow);
+
+      JSONArray cells = jsonRow.optJSONArray(PROP_ROW_CELLS);
+      for (int c = 0; c < columnCount; c++) {
+        Object cell = (cells == null || (changed != null && Arrays.binarySearch(changed, c) < 0)) ? null : cells.opt(c);
+        columns.get(c).put(encodeCell(cell, dictionary));
+      }
+
+      JSONObject properties = encodeRowProperties(jsonRow, dictionary);
+      hasRowProperties = hasRowProperties || properties != null;
+      rowProperties.put(properties == null ? JSONObject.NULL : properties);
+
+      changedColumns.put(changed == null ? JSONObject.NULL : new JSONArray(changed));
+    }
+
+    JSONObject json = new JSONObject();
+    json.put(PROP_STRINGS, strings);
+    json.put(PROP_IDS, ids);
+    if (hasParentRows) {
+      json.put(PROP_PARENT_ROWS, parentRows);
+    }
+    json.put(PROP_COLUMNS, new JSONArray(columns));
+    if (hasRowProperties) {
+      json.put(PROP_ROW_PROPERTIES, rowProperties);
+    }
+    if (m_partialRows) {
+      json.put(PROP_CHANGED_COLUMNS, changedColumns);
+    }
+    return json;
+  }
+
+  /**
+   * @return all dictionary candidates used more than once mapped to their index, in order of their first occurrence
+   */
+  protected Map<String, Integer> createDictionary() {
+    Map<String, int[]> counts = new HashMap<>();
+    List<String> candidates = new ArrayList<>();
+    for (int r = 0; r < m_rows.size(); r++) {
+      JSONObject jsonRow = m_rows.get(r);
+      int[] changed = m_changedColumns.get(r);
+      JSONArray cells = jsonRow.optJSONArray(PROP_ROW_CELLS);
+      if (cells != null) {
+        for (int c = 0; c < cells.length(); c++) {
+          if (changed != null && Arrays.binarySearch(changed, c) < 0) {
+            continue;
+          }
+          Object cell = cells.opt(c);
+          if (cell instanceof String) {
+            countCandidate((String) cell, counts, candidates);
+          }
+          else if (cell instanceof JSONObject) {
+            countDictionaryProperties((JSONObject) cell, counts, candidates);
+          }
+        }
+      }
+      countDictionaryProperties(jsonRow, counts, candidates);
+    }
+
+    Map<String, Integer> dictionary = new LinkedHashMap<>();
+    for (String candidate : candidates) {
+      if (counts.get(candidate)[0] > 1) {
+        dictionary.put(candidate, dictionary.size());
+      }
+    }
+    return dictionary;
+  }
+
+  protected void countDictionaryProperties(JSONObject json, Map<String, int[]> counts, List<String> candidates) {
+    for (String name : DICTIONARY_PROPERTIES) {
+      Object value = json.opt(name);
+      if (value instanceof String) {
+        countCandidate((String) value, counts, candidates);
+      }
+    }
+  }
+
+  protected void countCandidate(String s, Map<String, int[]> counts, List<String> candidates) {
+    int[] count = counts.get(s);
+    if (count == null) {
+      count = new int[1];
+      counts.put(s, count);
+      candidates.add(s);
+    }
+    count[0]++;
+  }
+
+  protected Object encodeCell(Object cell, Map<String, Integer> dictionary) {
+    if (cell == null) {
+      return JSONObject.NULL;
+    }
+    if (cell instanceof String) {
+      Integer index = dictionary.get(cell);
+      return index == null ? cell : index;
+    }
+    if (cell instanceof JSONObject) {
+      return encodeDictionaryProperties((JSONObject) cell, dictionary);
+    }
+    return cell;
+  }
+
+  /**
+   * @return all row properties except the id, the parent row and the cells or <code>null</code> if there are no such
+   *         properties
+   */
+  protected JSONObject encodeRowProperties(JSONObject jsonRow, Map<String, Integer> dictionary) {
+    JSONObject properties = null;
+    for (Iterator<String> it = jsonRow.keys(); it.hasNext();) {
+      String name = it.next();
+      if (PROP_ROW_ID.equals(name) || PROP_ROW_PARENT_ROW.equals(name) || PROP_ROW_CELLS.equals(name)) {
+        continue;
+      }
+      if (properties == null) {
+        properties = new JSONObject();
+      }
+      properties.put(name, jsonRow.opt(name));
+    }
+    return properties == null ? null : encodeDictionaryProperties(properties, dictionary);
+  }
+
+  protected JSONObject encodeDictionaryProperties(JSONObject json, Map<String, Integer> dictionary) {
+    for (String name : DICTIONARY_PROPERTIES) {
+      Object value = json.opt(name);
+      if (value instanceof String) {
+        Integer index = dictionary.get(value);
+        if (index != null) {
+          json.put(name, index);
+        }
+      }
+    }
+    return json;
+  }
+}
@@ -10,13 +10,16 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table;
 
+import java.beans.PropertyChangeEvent;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -43,6 +46,7 @@ import org.eclipse.scout.rt.client.ui.basic.table.TableListener;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.controls.ITableControl;
+import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TableUserFilterManager;
 import org.eclipse.scout.rt.client.ui.basic.userfilter.IUserFilterState;
 import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IReloadReason;
 import org.eclipse.scout.rt.client.ui.dnd.IDNDSupport;
@@ -51,6 +55,7 @@ import org.eclipse.scout.rt.client.ui.dnd.TextTransferObject;
 import org.eclipse.scout.rt.client.ui.dnd.TransferObject;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.status.IStatus;
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -61,6 +66,7 @@ import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.security.CopyToClipboardPermission;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiCompactTableRowsProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonWidget;
 import org.eclipse.scout.rt.ui.html.json.FilteredJsonAdapterIds;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -128,8 +134,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_LOAD_ROWS = "loadRows";
 
   public static final String PROP_ROWS = "rows";
+  public static final String PROP_COMPACT_ROWS = "compactRows";
   public static final String PROP_ROW_IDS = "rowIds";
   public static final String PROP_ROW_ID = "rowId";
   public static final String PROP_EXPANDED = "expanded";
@@ -140,6 +148,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_AVAILABLE_ROW_COUNT = "availableRowCount";
+  public static final String PROP_ROW_WINDOW_START = "rowWindowStart";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -151,6 +161,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  private boolean m_rowWindowEnabled;
+  private int m_rowWindowStart;
+  private int m_rowWindowEnd;
+  private int m_availableRowCount;
+  private final List<ITableRow> m_rowWindow = new ArrayList<>();
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -321,7 +336,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_UI_SORT_POSSIBLE, model) {
       @Override
       protected Boolean modelValue() {
-        return getModel().isUiSortPossible();
+        // The UI cannot sort if it only knows a part of the rows
+        return getModel().isUiSortPossible() && !isRowWindowEnabled();
       }
     });
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_LOADING, model) {
@@ -443,6 +459,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void attachRows() {
+    m_rowWindowEnabled = computeRowWindowEnabled();
+    if (m_rowWindowEnabled) {
+      attachRowWindow();
+      return;
+    }
     List<ITableRow> rows = getModel().getRows();
     for (ITableRow row : rows) {
       if (isRowAccepted(row)) {
@@ -451,6 +472,18 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  protected void attachRowWindow() {
+    List<ITableRow> acceptedRows = getAcceptedRows();
+    m_rowWindowStart = 0;
+    m_rowWindowEnd = getModel().getRowWindowSize();
+    m_availableRowCount = acceptedRows.size();
+    m_rowWindow.clear();
+    m_rowWindow.addAll(acceptedRows.subList(0, Math.min(m_rowWindowEnd, acceptedRows.size())));
+    for (ITableRow row : m_rowWindow) {
+      getOrCreateRowId(row);
+    }
+  }
+
   protected void attachColumns() {
     int offset = 0;
     for (IColumn<?> column : getModel().getColumns()) {
@@ -498,6 +531,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void disposeAllRows() {
     m_tableRowIds.clear();
     m_tableRows.clear();
+    m_rowWindow.clear();
   }
 
   protected void disposeRow(ITableRow row) {
@@ -531,6 +565,17 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     super.disposeChildAdapters();
   }
 
+  @Override
+  protected void handleModelPropertyChange(PropertyChangeEvent event) {
+    super.handleModelPropertyChange(event);
+    if (ITable.PROP_ROW_WINDOW_SIZE.equals(event.getPropertyName()) || ITable.PROP_TILE_MODE.equals(event.getPropertyName())) {
+      updateRowWindowEnabled();
+      if (!m_eventBuffer.isEmpty()) {
+        registerAsBufferedEventsAdapter();
+      }
+    }
+  }
+
   @Override
   protected void attachModel() {
     super.attachModel();
@@ -556,7 +601,18 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    List<ITableRow> rows = getModel().getRows();
+    if (isRowWindowEnabled()) {
+      rows = new ArrayList<>(m_rowWindow);
+      json.put(PROP_AVAILABLE_ROW_COUNT, m_availableRowCount);
+      json.put(PROP_ROW_WINDOW_START, m_rowWindowStart);
+    }
+    if (isCompactRows()) {
+      json.put(PROP_COMPACT_ROWS, tableRowsToCompactJson(rows, new HashSet<>(), null).toJson());
+    }
+    else {
+      json.put(PROP_ROWS, tableRowsToJson(rows));
+    }
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
@@ -581,6 +637,119 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonRows;
   }
 
+  /**
+   * @return <code>true</code> if rows are sent in the compact format (see {@link JsonCompactTableRows}). Default is
+   *         defined by {@link UiCompactTableRowsProperty}.
+   */
+  protected boolean isCompactRows() {
+    return CONFIG.getPropertyValue(UiCompactTableRowsProperty.class);
+  }
+
+  /**
+   * Encodes the accepted rows in the compact format.
+   *
+   * @param updatedColumns
+   *          if not <code>null</code>, only the cells of the updated columns are sent for rows with known updated
+   *          columns (see {@link TableEvent#getUpdatedColumns()}). Rows which were not sent to the UI yet are always
+   *          sent completely because the UI cannot complete them.
+   */
+  protected JsonCompactTableRows tableRowsToCompactJson(Collection<ITableRow> rows, Set<ITableRow> acceptedRows, Map<ITableRow, Set<IColumn<?>>> updatedColumns) {
+    JsonCompactTableRows compactRows = new JsonCompactTableRows();
+    Map<IColumn<?>, Integer> cellPositions = updatedColumns == null ? null : getCellPositions();
+    for (ITableRow row : rows) {
+      if (isRowAccepted(row)) {
+        boolean knownByUi = getTableRowId(row) != null; // tableRowToJson assigns an id to new rows
+        int[] changedCells = updatedColumns == null || !knownByUi ? null : toCellPositions(updatedColumns.get(row), cellPositions);
+        compactRows.addRow(tableRowToJson(row), changedCells);
+        acceptedRows.add(row);
+      }
+    }
+    return compactRows;
+  }
+
+  /**
+   * @return position of the cell of each visible column in {@link #tableRowToJson(ITableRow)}
+   */
+  protected Map<IColumn<?>, Integer> getCellPositions() {
+    Map<IColumn<?>, Integer> positions = new HashMap<>();
+    for (IColumn<?> column : getModel().getColumnSet().getColumns()) {
+      if (column.isVisible()) {
+        positions.put(column, positions.size());
+      }
+    }
+    return positions;
+  }
+
+  /**
+   * @return positions of the cells of the given columns, <code>null</code> if the columns are unknown (all cells)
+   */
+  protected int[] toCellPositions(Set<IColumn<?>> columns, Map<IColumn<?>, Integer> cellPositions) {
+    if (CollectionUtility.isEmpty(columns)) {
+      return null;
+    }
+    return columns.stream()
+        .map(cellPositions::get)
+        .filter(Objects::nonNull)
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  /**
+   * @return <code>true</code> if only a window of the rows is sent to the UI (see {@link ITable#getRowWindowSize()})
+   */
+  protected boolean isRowWindowEnabled() {
+    return m_rowWindowEnabled;
+  }
+
+  /**
+   * @return <code>true</code> if the model requests a row window. Hierarchical tables and the tile mode need all rows
+   *         in the UI and therefore always send all rows.
+   */
+  protected boolean computeRowWindowEnabled() {
+    return getModel().getRowWindowSize() > 0 && !getModel().isHierarchical() && !getModel().isTileMode();
+  }
+
+  /**
+   * @return all rows the UI would show if the row window was disabled, in the order of the model. The user filters are
+   *         evaluated on the server because the UI only knows the rows of the row window.
+   */
+  protected List<ITableRow> getAcceptedRows() {
+    List<JsonTableUserFilter<?>> userFilters = createUserFilters();
+    List<ITableRow> acceptedRows = new ArrayList<>();
+    for (ITableRow row : getModel().getRows()) {
+      if (isRowAccepted(row) && isRowAcceptedByUserFilters(row, userFilters)) {
+        acceptedRows.add(row);
+      }
+    }
+    return acceptedRows;
+  }
+
+  /**
+   * @return the user filters of the model which can be evaluated on the server (see {@link JsonTableUserFilter#accept})
+   */
+  protected List<JsonTableUserFilter<?>> createUserFilters() {
+    TableUserFilterManager userFilterManager = getModel().getUserFilterManager();
+    if (userFilterManager == null) {
+      return Collections.emptyList();
+    }
+    List<JsonTableUserFilter<?>> userFilters = new ArrayList<>();
+    for (IUserFilterState filterState : userFilterManager.getFilters()) {
+      JsonTableUserFilter<?> userFilter = (JsonTableUserFilter<?>) MainJsonObjectFactory.get().createJsonObject(filterState);
+      userFilter.setJsonTable(this);
+      userFilters.add(userFilter);
+    }
+    return userFilters;
+  }
+
+  protected boolean isRowAcceptedByUserFilters(ITableRow row, List<JsonTableUserFilter<?>> userFilters) {
+    for (JsonTableUserFilter<?> userFilter : userFilters) {
+      if (!userFilter.accept(row)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public void handleUiEvent(JsonEvent event) {
     if (EVENT_ROW_CLICK.equals(event.getType())) {
@@ -649,6 +818,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_LOAD_ROWS.equals(event.getType())) {
+      handleUiLoadRows(event);
+    }
     else {
       super.handleUiEvent(event);
     }
@@ -686,6 +858,31 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * Moves the row window to the row at the top of the viewport of the UI: the window contains up to
+   * {@link ITable#getRowWindowSize()} rows before that row and twice as many rows from that row on. Rows further away
+   * are removed from the UI, so the number of rows in the UI stays bounded while scrolling.
+   */
+  protected void handleUiLoadRows(JsonEvent event) {
+    if (!isRowWindowEnabled()) {
+      return;
+    }
+    ITableRow row = getTableRow(event.getData().optString(PROP_ROW_ID, null));
+    List<ITableRow> acceptedRows = getAcceptedRows();
+    int rowIndex = row == null ? -1 : acceptedRows.indexOf(row);
+    if (rowIndex < 0) {
+      LOG.info("Requested table-row is not in the row window anymore. Skip loadRows event");
+      return;
+    }
+    int rowWindowSize = getModel().getRowWindowSize();
+    int rowWindowStart = Math.max(0, rowIndex - rowWindowSize);
+    int rowWindowEnd = rowIndex + 2 * rowWindowSize;
+    if (rowWindowStart == m_rowWindowStart && rowWindowEnd == m_rowWindowEnd) {
+      return; // already requested
+    }
+    updateRowWindow(rowWindowStart, rowWindowEnd);
+  }
+
   protected void handleUiRowClick(JsonEvent event) {
     ITableRow tableRow = extractTableRow(event.getData());
     if (tableRow == null) {
@@ -889,6 +1086,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (row == null || !isRowAccepted(row)) {
       return;
     }
+    if (isRowWindowEnabled() && getTableRowId(row) == null) {
+      return;
+    }
     if (field == null) {
       // Cell is not editable, simply ignore the request for editing it.
       // This may happen if the JSON request contained other events that
@@ -991,15 +1191,35 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleUiFilter(JsonEvent event) {
+    if (isRowWindowEnabled()) {
+      handleUiFilterInRowWindow();
+      return;
+    }
     if (event.getData().optBoolean("remove")) {
       getModel().getUIFacade().removeFilteredRowsFromUI();
     }
     else {
-      List<ITableRow> tableRows = extractTableRows(event.getData());
-      getModel().getUIFacade().setFilteredRowsFromUI(tableRows);
+      getModel().getUIFacade().setFilteredRowsFromUI(extractTableRows(event.getData()));
     }
   }
 
+  /**
+   * The UI only knows the rows of the row window and can therefore not decide which rows are accepted by its filters.
+   * Instead, the user filters are evaluated on the server over all rows (see {@link JsonTableUserFilter#accept}). The
+   * row window is then filled with the accepted rows.
+   */
+  protected void handleUiFilterInRowWindow() {
+    List<JsonTableUserFilter<?>> userFilters = createUserFilters();
+    if (userFilters.isEmpty()) {
+      getModel().getUIFacade().removeFilteredRowsFromUI();
+      return;
+    }
+    List<ITableRow> acceptedRows = getModel().getRows().stream()
+        .filter(row -> isRowAcceptedByUserFilters(row, userFilters))
+        .collect(Collectors.toList());
+    getModel().getUIFacade().setFilteredRowsFromUI(acceptedRows);
+  }
+
   protected JSONObject tableRowToJson(ITableRow row) {
     JSONArray jsonCells = new JSONArray();
     for (IColumn<?> column : getModel().getColumnSet().getColumns()) {
@@ -1327,6 +1547,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (m_eventBuffer.isEmpty()) {
       return;
     }
+    updateRowWindowEnabled();
+    if (isRowWindowEnabled()) {
+      processBufferedEventsInRowWindow();
+      return;
+    }
     preprocessBufferedEvents();
     List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
     for (TableEvent event : coalescedEvents) {
@@ -1334,13 +1559,129 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * Events changing the rows or their order are not sent one by one if the row window is enabled. Instead, the rows in
+   * the UI are synchronized with the current row window once (see {@link #handleModelRowWindowChanged()}).
+   */
+  protected void processBufferedEventsInRowWindow() {
+    List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
+    boolean rowWindowChanged = false;
+    for (TableEvent event : coalescedEvents) {
+      if (isRowWindowEvent(event)) {
+        if (event.getType() == TableEvent.TYPE_ALL_ROWS_DELETED) {
+          // Rows have to be resent (e.g. because the column structure changed)
+          handleModelAllRowsDeleted();
+        }
+        rowWindowChanged = true;
+        continue;
+      }
+      if (rowWindowChanged) {
+        // Subsequent events may refer to rows which are not in the UI yet
+        handleModelRowWindowChanged();
+        rowWindowChanged = false;
+      }
+      processEvent(event);
+    }
+    if (rowWindowChanged) {
+      handleModelRowWindowChanged();
+    }
+  }
+
+  protected boolean isRowWindowEvent(TableEvent event) {
+    switch (event.getType()) {
+      case TableEvent.TYPE_ROWS_INSERTED:
+      case TableEvent.TYPE_ROWS_DELETED:
+      case TableEvent.TYPE_ALL_ROWS_DELETED:
+      case TableEvent.TYPE_ROW_ORDER_CHANGED:
+      case TableEvent.TYPE_ROW_FILTER_CHANGED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Checks whether the row window has to be enabled or disabled (e.g. because the table became hierarchical) and
+   * resends all rows if so.
+   */
+  protected void updateRowWindowEnabled() {
+    boolean rowWindowEnabled = computeRowWindowEnabled();
+    if (rowWindowEnabled == m_rowWindowEnabled) {
+      return;
+    }
+    m_rowWindowEnabled = rowWindowEnabled;
+    m_rowWindowStart = 0;
+    m_rowWindowEnd = getModel().getRowWindowSize();
+    m_availableRowCount = -1;
+    if (!rowWindowEnabled) {
+      addPropertyChangeEvent(PROP_AVAILABLE_ROW_COUNT, null);
+      addPropertyChangeEvent(PROP_ROW_WINDOW_START, null);
+    }
+    addPropertyChangeEvent(ITable.PROP_UI_SORT_POSSIBLE, getModel().isUiSortPossible() && !rowWindowEnabled);
+    m_eventBuffer.add(new TableEvent(getModel(), TableEvent.TYPE_ALL_ROWS_DELETED));
+    m_eventBuffer.add(new TableEvent(getModel(), TableEvent.TYPE_ROWS_INSERTED, getModel().getRows()));
+    if (getModel().getSelectedRowCount() > 0) {
+      m_eventBuffer.add(new TableEvent(getModel(), TableEvent.TYPE_ROWS_SELECTED, getModel().getSelectedRows()));
+    }
+  }
+
+  protected void handleModelRowWindowChanged() {
+    updateRowWindow(m_rowWindowStart, m_rowWindowEnd);
+  }
+
+  /**
+   * Synchronizes the rows in the UI with the accepted rows of the model in the row window [start, end): rows which left
+   * the window are deleted, rows which entered the window are inserted and the order is updated if necessary. If there
+   * are not enough accepted rows anymore, the window is moved towards the first row so that it stays filled.
+   */
+  protected void updateRowWindow(int start, int end) {
+    List<ITableRow> acceptedRows = getAcceptedRows();
+    int size = end - start;
+    int rowWindowStart = Math.max(0, Math.min(start, acceptedRows.size() - size));
+    List<ITableRow> rowWindow = acceptedRows.subList(rowWindowStart, Math.min(rowWindowStart + size, acceptedRows.size()));
+    if (rowWindow.isEmpty()) {
+      handleModelAllRowsDeleted();
+    }
+    else {
+      Set<ITableRow> rowWindowSet = new HashSet<>(rowWindow);
+      List<ITableRow> deletedRows = m_rowWindow.stream()
+          .filter(row -> !rowWindowSet.contains(row))
+          .collect(Collectors.toList());
+      List<ITableRow> insertedRows = rowWindow.stream()
+          .filter(row -> getTableRowId(row) == null)
+          .collect(Collectors.toList());
+      if (!deletedRows.isEmpty()) {
+        handleModelRowsDeleted(deletedRows);
+        m_rowWindow.removeIf(row -> !rowWindowSet.contains(row));
+      }
+      if (!insertedRows.isEmpty()) {
+        handleModelRowsInserted(insertedRows);
+        m_rowWindow.addAll(insertedRows);
+      }
+      if (!m_rowWindow.equals(rowWindow)) {
+        handleModelRowOrderChanged(rowWindow);
+        m_rowWindow.clear();
+        m_rowWindow.addAll(rowWindow);
+      }
+    }
+    if (m_availableRowCount != acceptedRows.size()) {
+      m_availableRowCount = acceptedRows.size();
+      addPropertyChangeEvent(PROP_AVAILABLE_ROW_COUNT, m_availableRowCount);
+    }
+    m_rowWindowEnd = rowWindowStart + size;
+    if (m_rowWindowStart != rowWindowStart) {
+      m_rowWindowStart = rowWindowStart;
+      addPropertyChangeEvent(PROP_ROW_WINDOW_START, m_rowWindowStart);
+    }
+  }
+
   protected void processEvent(TableEvent event) {
     switch (event.getType()) {
       case TableEvent.TYPE_ROWS_INSERTED:
         handleModelRowsInserted(event.getRows());
         break;
       case TableEvent.TYPE_ROWS_UPDATED:
-        handleModelRowsUpdated(event.getRows());
+        handleModelRowsUpdated(event.getRows(), event.getUpdatedColumns());
         break;
       case TableEvent.TYPE_ROWS_DELETED:
         handleModelRowsDeleted(event.getRows());
@@ -1404,23 +1745,56 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
     Set<ITableRow> acceptedRows = new HashSet<>();
-    JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
-    if (jsonRows.length() == 0) {
-      return;
-    }
     JSONObject jsonEvent = new JSONObject();
-    putProperty(jsonEvent, PROP_ROWS, jsonRows);
+    if (isCompactRows()) {
+      JsonCompactTableRows compactRows = tableRowsToCompactJson(modelRows, acceptedRows, null);
+      if (compactRows.isEmpty()) {
+        return;
+      }
+      putProperty(jsonEvent, PROP_COMPACT_ROWS, compactRows.toJson());
+    }
+    else {
+      JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
+      if (jsonRows.length() == 0) {
+        return;
+      }
+      putProperty(jsonEvent, PROP_ROWS, jsonRows);
+    }
     addActionEvent(EVENT_ROWS_INSERTED, jsonEvent);
     m_listeners.fireEvent(new JsonTableEvent(this, JsonTreeEvent.TYPE_NODES_INSERTED, acceptedRows));
   }
 
   protected void handleModelRowsUpdated(Collection<ITableRow> modelRows) {
-    JSONArray jsonRows = tableRowsToJson(modelRows);
-    if (jsonRows.length() == 0) {
-      return;
+    handleModelRowsUpdated(modelRows, null);
+  }
+
+  /**
+   * @param updatedColumns
+   *          updated columns per row (see {@link TableEvent#getUpdatedColumns()}), used to send only the changed cells
+   *          if rows are sent in the compact format. May be <code>null</code>.
+   */
+  protected void handleModelRowsUpdated(Collection<ITableRow> modelRows, Map<ITableRow, Set<IColumn<?>>> updatedColumns) {
+    if (isRowWindowEnabled()) {
+      // Ignore rows that are not in the row window, they will be sent as soon as they enter it
+      modelRows = modelRows.stream()
+          .filter(row -> getTableRowId(row) != null)
+          .collect(Collectors.toList());
     }
     JSONObject jsonEvent = new JSONObject();
-    putProperty(jsonEvent, PROP_ROWS, jsonRows);
+    if (isCompactRows()) {
+      JsonCompactTableRows compactRows = tableRowsToCompactJson(modelRows, new HashSet<>(), updatedColumns);
+      if (compactRows.isEmpty()) {
+        return;
+      }
+      putProperty(jsonEvent, PROP_COMPACT_ROWS, compactRows.toJson());
+    }
+    else {
+      JSONArray jsonRows = tableRowsToJson(modelRows);
+      if (jsonRows.length() == 0) {
+        return;
+      }
+      putProperty(jsonEvent, PROP_ROWS, jsonRows);
+    }
     addActionEvent(EVENT_ROWS_UPDATED, jsonEvent);
   }
 
@@ -1478,6 +1852,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
     m_tableRows.clear();
     m_tableRowIds.clear();
+    m_rowWindow.clear();
     addActionEvent(EVENT_ALL_ROWS_DELETED);
     m_listeners.fireEvent(new JsonTableEvent(this, JsonTableEvent.TYPE_ROWS_DELETED, disposedRows));
   }
@@ -1491,7 +1866,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsChecked(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = new JSONArray();
     for (ITableRow row : modelRows) {
-      if (!isRowAccepted(row)) {
+      if (!isRowAccepted(row) || getTableRowId(row) == null) {
         continue;
       }
       JSONObject jsonRow = new JSONObject();
@@ -1510,6 +1885,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsExpanded(List<ITableRow> rows) {
     JSONArray jsonRows = new JSONArray();
     rows.stream().filter(this::isRowAccepted)
+        .filter(row -> getTableRowId(row) != null)
         .map(row -> {
           JSONObject jsonRow = new JSONObject();
           putProperty(jsonRow, "id", getTableRowId(row));
@@ -1638,6 +2014,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (row == null || !isRowAccepted(row)) {
       return;
     }
+    if (isRowWindowEnabled() && getTableRowId(row) == null) {
+      return;
+    }
 
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_ROW_ID, getOrCreateRowId(row));
@@ -10,11 +10,17 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table.userfilter;
 
+import java.math.BigDecimal;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IBooleanColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.ColumnUserFilterState;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -60,6 +66,70 @@ public class JsonColumnUserFilter<T extends ColumnUserFilterState> extends JsonT
     return selectedValues;
   }
 
+  /**
+   * Accepts the row if its key is one of the selected values and if it is accepted by the filter fields (see
+   * ColumnUserFilter.js).
+   */
+  @Override
+  public boolean accept(ITableRow row) {
+    Set<Object> selectedValues = getFilterState().getSelectedValues();
+    if (selectedValues != null && !selectedValues.isEmpty()) {
+      Object key = normalizeKey(getKey(row));
+      if (selectedValues.stream().noneMatch(value -> ObjectUtility.equals(normalizeKey(value), key))) {
+        return false;
+      }
+    }
+    return acceptByFields(row);
+  }
+
+  /**
+   * @return the key the UI uses to group the rows of the column and which is sent as selected value (see
+   *         TableMatrix.js)
+   */
+  protected Object getKey(ITableRow row) {
+    IColumn<?> column = getFilterState().getColumn();
+    Object value = column.getValue(row);
+    if (column instanceof IBooleanColumn) {
+      if (value == null && ((IBooleanColumn) column).isTriStateEnabled()) {
+        return -1;
+      }
+      return Boolean.TRUE.equals(value) ? 1 : 0;
+    }
+    if (value instanceof Number || value instanceof Date) {
+      return value;
+    }
+    return getTextKey(row);
+  }
+
+  /**
+   * @return the trimmed plain text of the cell without new lines or <code>null</code> if it is empty
+   */
+  protected String getTextKey(ITableRow row) {
+    String text = StringUtility.trim(StringUtility.removeNewLines(row.getCell(getFilterState().getColumn()).toPlainText()));
+    return StringUtility.isNullOrEmpty(text) ? null : text;
+  }
+
+  /**
+   * Numbers and dates are compared by their numeric value because their type in the JSON data is arbitrary.
+   */
+  protected Object normalizeKey(Object key) {
+    if (key instanceof Date) {
+      return BigDecimal.valueOf(((Date) key).getTime());
+    }
+    if (key instanceof Number) {
+      return new BigDecimal(key.toString()).stripTrailingZeros();
+    }
+    return key;
+  }
+
+  /**
+   * @return <code>true</code> if the row is accepted by the filter fields of the column type. The default has no
+   *         filter fields and accepts every row.
+   */
+  protected boolean acceptByFields(ITableRow row) {
+    return true;
+  }
+
   @Override
   public JSONObject toJson() {
     JSONObject json = super.toJson();
@@ -10,11 +10,15 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table.userfilter;
 
+import java.util.Calendar;
 import java.util.Date;
 
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IDateColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.ColumnUserFilterState;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.DateColumnUserFilterState;
+import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.eclipse.scout.rt.ui.html.json.JsonDate;
 import org.json.JSONObject;
 
@@ -46,6 +50,46 @@ public class JsonDateColumnUserFilter extends JsonColumnUserFilter<DateColumnUse
     return filterState;
   }
 
+  /**
+   * The UI groups date columns by year and time columns by their exact value (see DateColumnUserFilter.js).
+   */
+  @Override
+  protected Object getKey(ITableRow row) {
+    Object value = getFilterState().getColumn().getValue(row);
+    if (!(value instanceof Date)) {
+      return null;
+    }
+    if (isHasDate()) {
+      Calendar calendar = Calendar.getInstance();
+      calendar.setTime((Date) value);
+      return calendar.get(Calendar.YEAR);
+    }
+    return value;
+  }
+
+  protected boolean isHasDate() {
+    IColumn<?> column = getFilterState().getColumn();
+    return !(column instanceof IDateColumn) || ((IDateColumn) column).isHasDate();
+  }
+
+  /**
+   * Accepts the dates between the from and the end of the to day.
+   */
+  @Override
+  protected boolean acceptByFields(ITableRow row) {
+    Date dateFrom = getFilterState().getDateFrom();
+    Date dateTo = getFilterState().getDateTo();
+    if (dateFrom == null && dateTo == null) {
+      return true;
+    }
+    Object value = getFilterState().getColumn().getValue(row);
+    if (!(value instanceof Date)) {
+      return false;
+    }
+    Date date = (Date) value;
+    return (dateFrom == null || !date.before(dateFrom)) && (dateTo == null || date.before(DateUtility.addDays(dateTo, 1)));
+  }
+
   @Override
   public JSONObject toJson() {
     JSONObject json = super.toJson();
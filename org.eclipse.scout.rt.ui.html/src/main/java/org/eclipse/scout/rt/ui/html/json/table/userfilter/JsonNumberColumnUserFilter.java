@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.ui.html.json.table.userfilter;
 
 import java.math.BigDecimal;
 
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.ColumnUserFilterState;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.NumberColumnUserFilterState;
@@ -52,6 +53,21 @@ public class JsonNumberColumnUserFilter extends JsonColumnUserFilter<NumberColum
     return filterState;
   }
 
+  @Override
+  protected boolean acceptByFields(ITableRow row) {
+    BigDecimal numberFrom = getFilterState().getNumberFrom();
+    BigDecimal numberTo = getFilterState().getNumberTo();
+    if (numberFrom == null && numberTo == null) {
+      return true;
+    }
+    Object value = getFilterState().getColumn().getValue(row);
+    if (!(value instanceof Number)) {
+      return false;
+    }
+    BigDecimal number = new BigDecimal(value.toString());
+    return (numberFrom == null || number.compareTo(numberFrom) >= 0) && (numberTo == null || number.compareTo(numberTo) <= 0);
+  }
+
   @Override
   public JSONObject toJson() {
     JSONObject json = super.toJson();
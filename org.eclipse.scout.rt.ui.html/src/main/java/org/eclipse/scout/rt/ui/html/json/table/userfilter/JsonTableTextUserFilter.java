@@ -10,7 +10,10 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table.userfilter;
 
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TableTextUserFilterState;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.json.JSONObject;
 
 public class JsonTableTextUserFilter<T extends TableTextUserFilterState> extends JsonTableUserFilter<T> {
@@ -24,6 +27,22 @@ public class JsonTableTextUserFilter<T extends TableTextUserFilterState> extends
     return "TableTextUserFilter";
   }
 
+  /**
+   * Accepts the row if the texts of its visible cells contain the filter text (see TableTextUserFilter.js).
+   */
+  @Override
+  public boolean accept(ITableRow row) {
+    String text = StringUtility.lowercase(getFilterState().getText());
+    if (StringUtility.isNullOrEmpty(text)) {
+      return true;
+    }
+    StringBuilder rowText = new StringBuilder();
+    for (IColumn<?> column : row.getTable().getColumnSet().getVisibleColumns()) {
+      rowText.append(StringUtility.emptyIfNull(row.getCell(column).toPlainText())).append(' ');
+    }
+    return StringUtility.lowercase(rowText.toString().trim()).contains(text);
+  }
+
   @Override
   public JSONObject toJson() {
     JSONObject json = super.toJson();
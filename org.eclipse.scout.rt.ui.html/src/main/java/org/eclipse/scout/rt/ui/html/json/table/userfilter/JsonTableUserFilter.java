@@ -10,6 +10,8 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table.userfilter;
 
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.userfilter.IUserFilterState;
 import org.eclipse.scout.rt.ui.html.json.IJsonObject;
 import org.eclipse.scout.rt.ui.html.json.table.JsonTable;
@@ -42,6 +44,16 @@ public abstract class JsonTableUserFilter<T extends IUserFilterState> implements
 
   public abstract String getObjectType();
 
+  /**
+   * Evaluates the filter on the server. The UI evaluates its filters itself, this is only necessary if the UI does not
+   * know all rows (see {@link ITable#getRowWindowSize()}). The evaluation has to match the one of the UI.
+   *
+   * @return <code>true</code> if the row is accepted by this filter. The default accepts every row.
+   */
+  public boolean accept(ITableRow row) {
+    return true;
+  }
+
   @Override
   public JSONObject toJson() {
     JSONObject json = new JSONObject();
@@ -10,9 +10,11 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table.userfilter;
 
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.ColumnUserFilterState;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TextColumnUserFilterState;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.json.JSONObject;
 
 public class JsonTextColumnUserFilter extends JsonColumnUserFilter<TextColumnUserFilterState> {
@@ -34,6 +36,21 @@ public class JsonTextColumnUserFilter extends JsonColumnUserFilter<TextColumnUse
     return filterState;
   }
 
+  @Override
+  protected Object getKey(ITableRow row) {
+    return getTextKey(row);
+  }
+
+  @Override
+  protected boolean acceptByFields(ITableRow row) {
+    String freeText = StringUtility.lowercase(getFilterState().getFreeText());
+    if (StringUtility.isNullOrEmpty(freeText)) {
+      return true;
+    }
+    String text = StringUtility.lowercase(StringUtility.emptyIfNull(row.getCell(getFilterState().getColumn()).toPlainText()));
+    return text.contains(freeText);
+  }
+
   @Override
   public JSONObject toJson() {
     JSONObject json = super.toJson();
@@ -70,6 +70,11 @@ public class JsonTile<T extends ITile> extends AbstractJsonWidget<T> {
       public Object prepareValueForToJson(Object value) {
         return JsonGridData.toJson((GridData) value);
       }
+
+      @Override
+      public boolean isCacheable() {
+        return true; // the model returns a copy
+      }
     });
   }
 
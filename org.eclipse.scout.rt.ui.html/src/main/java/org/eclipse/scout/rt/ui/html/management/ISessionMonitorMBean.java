@@ -32,6 +32,56 @@ public interface ISessionMonitorMBean {
 
   int getNumClientSessions();
 
+  /**
+   * @return number of bytes currently retained by the response histories of all UI sessions
+   * @since 10.0
+   */
+  long getResponseHistoryRetainedBytes();
+
+  /**
+   * @return number of responses currently retained by the response histories of all UI sessions
+   * @since 10.0
+   */
+  long getResponseHistoryRetainedResponses();
+
+  /**
+   * @return number of responses that could not be retained (or were evicted) because a memory budget was exceeded
+   * @since 10.0
+   */
+  long getResponseHistoryDroppedResponses();
+
+  /**
+   * @return number of property changes added to JSON responses
+   * @since 10.0
+   */
+  long getJsonPropertyChanges();
+
+  /**
+   * @return number of property changes which were coalesced with a previous change of the same property in the same
+   *         response
+   * @since 10.0
+   */
+  long getJsonCoalescedPropertyChanges();
+
+  /**
+   * @return number of table row and tree node events added to JSON responses
+   * @since 10.0
+   */
+  long getJsonRowEvents();
+
+  /**
+   * @return number of table row and tree node events which were merged into other events of the same response
+   * @since 10.0
+   */
+  long getJsonMergedRowEvents();
+
+  /**
+   * @return number of rows and nodes which were not sent because a later event of the same response replaced or
+   *         deleted them
+   * @since 10.0
+   */
+  long getJsonEliminatedRows();
+
   /**
    * @return all session details ordered by uiState, clientState, uiSessionId
    */
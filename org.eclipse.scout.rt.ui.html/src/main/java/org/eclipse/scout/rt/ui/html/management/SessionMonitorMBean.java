@@ -28,12 +28,15 @@ import javax.servlet.http.HttpSession;
 
 import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.CreateImmediately;
 import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
 import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.shared.ISession;
 import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.ResponseHistoryBudget;
+import org.eclipse.scout.rt.ui.html.json.JsonEventCoalescer;
 
 @ApplicationScoped
 @CreateImmediately
@@ -111,6 +114,46 @@ public class SessionMonitorMBean implements ISessionMonitorMBean {
         .count();
   }
 
+  @Override
+  public long getResponseHistoryRetainedBytes() {
+    return BEANS.get(ResponseHistoryBudget.class).getRetainedBytes();
+  }
+
+  @Override
+  public long getResponseHistoryRetainedResponses() {
+    return BEANS.get(ResponseHistoryBudget.class).getRetainedResponses();
+  }
+
+  @Override
+  public long getResponseHistoryDroppedResponses() {
+    return BEANS.get(ResponseHistoryBudget.class).getDroppedResponses();
+  }
+
+  @Override
+  public long getJsonPropertyChanges() {
+    return BEANS.get(JsonEventCoalescer.class).getPropertyChanges();
+  }
+
+  @Override
+  public long getJsonCoalescedPropertyChanges() {
+    return BEANS.get(JsonEventCoalescer.class).getCoalescedPropertyChanges();
+  }
+
+  @Override
+  public long getJsonRowEvents() {
+    return BEANS.get(JsonEventCoalescer.class).getRowEvents();
+  }
+
+  @Override
+  public long getJsonMergedRowEvents() {
+    return BEANS.get(JsonEventCoalescer.class).getMergedRowEvents();
+  }
+
+  @Override
+  public long getJsonEliminatedRows() {
+    return BEANS.get(JsonEventCoalescer.class).getEliminatedRows();
+  }
+
   @Override
   public List<String> getSessionTable() {
     List<SessionDetail> details = getSessionDetails();
@@ -10,6 +10,7 @@
  */
 package org.eclipse.scout.rt.ui.html.res;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -22,11 +23,14 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.commons.servlet.HttpRangeHelper;
 import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
 import org.eclipse.scout.rt.server.commons.servlet.cache.GlobalHttpResourceCache;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpContentEncodingHelper;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
@@ -50,6 +54,8 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
   // Remember bean instances to save lookups on each GET request
   private final List<ResourceLoaders> m_resourceLoaders = Collections.unmodifiableList(BEANS.all(ResourceLoaders.class));
   private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final HttpContentEncodingHelper m_contentEncodingHelper = BEANS.get(HttpContentEncodingHelper.class);
+  private final HttpRangeHelper m_rangeHelper = BEANS.get(HttpRangeHelper.class);
 
   @Override
   public boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
@@ -68,8 +74,11 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
       return false; // not valid
     }
 
+    // use a precompressed variant if the client accepts it
+    String contentEncoding = m_contentEncodingHelper.negotiateContentEncoding(req, cachedObject);
+
     // cached in browser? -> returns 304 if the resource has not been modified
-    if (m_httpCacheControl.checkAndSetCacheHeaders(req, resp, cachedObject)) {
+    if (m_httpCacheControl.checkAndSetCacheHeaders(req, resp, cachedObject, contentEncoding)) {
       return true;
     }
 
@@ -78,8 +87,32 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     return true;
   }
 
+  /**
+   * Writes the variant of the resource whose content encoding is accepted by the request (see
+   * {@link HttpContentEncodingHelper#negotiateContentEncoding(HttpServletRequest, HttpCacheObject)}).
+   */
   protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) throws IOException {
+    writeResourceToResponse(req, resp, cachedObject, m_contentEncodingHelper.negotiateContentEncoding(req, cachedObject));
+  }
+
+  /**
+   * @param contentEncoding
+   *          content encoding of the variant to send (see {@link HttpCacheObject#getEncodedResource(String)}),
+   *          <code>null</code> to send the unencoded resource
+   */
+  protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject, String contentEncoding) throws IOException {
+    File file = cachedObject.getFile();
+    if (file != null) {
+      writeFileToResponse(req, resp, cachedObject, file);
+      return;
+    }
+
     BinaryResource binaryResource = cachedObject.getResource();
+    BinaryResource encodedResource = cachedObject.getEncodedResource(contentEncoding);
+    if (encodedResource != null) {
+      binaryResource = encodedResource;
+      resp.setHeader(HttpContentEncodingHelper.CONTENT_ENCODING, contentEncoding);
+    }
     setHttpResponseHeaders(resp, binaryResource);
 
     // Apply response interceptors
@@ -90,6 +123,20 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     }
   }
 
+  /**
+   * Streams the content of a file-backed resource from the file without loading it into memory. Range requests are
+   * supported (see {@link HttpRangeHelper}).
+   */
+  protected void writeFileToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject, File file) throws IOException {
+    setHttpResponseHeaders(resp, cachedObject.getResource());
+
+    // Apply response interceptors
+    cachedObject.applyHttpResponseInterceptors(req, resp);
+
+    m_rangeHelper.write(req, resp, file.length(), cachedObject.createStrongETag(null), file.lastModified(),
+        (out, offset, length) -> IOUtility.writeFromFile(out, file, offset, length));
+  }
+
   /**
    * Clear global cache (only allowed in development mode). This allows to work with ?cache=true and clears the cache
    * only when required --> rebuilds script/less files.
@@ -138,6 +185,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
         cacheResultMsg = "Resource is not cached (cache miss), could not load resource (not added to the cache)";
       }
       else {
+        m_contentEncodingHelper.precompress(resource);
         resourceCache.put(resource);
         cacheResultMsg = "Resource is not cached (cache miss), resource loaded and added to the cache";
       }
@@ -155,8 +203,10 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
    * Sets HTTP response header fields: content-length, content-type (incl. optional charset).
    */
   protected void setHttpResponseHeaders(HttpServletResponse resp, BinaryResource resource) {
-    // content-length
-    resp.setContentLength(resource.getContentLength());
+    // content-length (unknown for file-backed resources, set when the content is written)
+    if (resource.getContentLength() >= 0) {
+      resp.setContentLength(resource.getContentLength());
+    }
 
     // charset
     String charset = resource.getCharset();
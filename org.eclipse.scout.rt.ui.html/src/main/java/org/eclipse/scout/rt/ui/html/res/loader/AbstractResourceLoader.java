@@ -44,7 +44,7 @@ public abstract class AbstractResourceLoader implements IResourceLoader {
     // ignore resources without content, to prevent invalid "content-length" header and NPE in write() method
     return cachedObject != null
         && cachedObject.getResource() != null
-        && cachedObject.getResource().getContent() != null;
+        && (cachedObject.getResource().getContent() != null || cachedObject.getFile() != null);
   }
 
   @Override
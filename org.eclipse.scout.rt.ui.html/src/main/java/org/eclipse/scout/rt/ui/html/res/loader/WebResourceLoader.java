@@ -1,22 +1,37 @@
 package org.eclipse.scout.rt.ui.html.res.loader;
 
+import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.Set;
 
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.FileUtility;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ImmutablePair;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpContentEncodingHelper;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResources;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiResourceFileStreamingThresholdProperty;
 
 public class WebResourceLoader extends AbstractResourceLoader {
 
+  private static final Set<String> COMPRESSED_CONTENT_TYPES = CollectionUtility.hashSet(
+      "application/zip", "application/gzip", "application/x-gzip", "application/x-7z-compressed", "application/x-bzip2",
+      "font/woff", "font/woff2", "application/font-woff");
+
   private final boolean m_minify;
   private final boolean m_cacheEnabled;
   private final String m_theme;
@@ -27,6 +42,97 @@ public class WebResourceLoader extends AbstractResourceLoader {
     m_theme = theme;
   }
 
+  @Override
+  public HttpCacheObject loadResource(HttpCacheKey cacheKey) {
+    String pathInfo = cacheKey.getResourcePath();
+    return lookupResource(pathInfo)
+        .map(res -> {
+          File file = getStreamableFile(res.getLeft().getUrl());
+          if (file != null) {
+            return new HttpCacheObject(cacheKey, toFileBinaryResource(res, file).withFilename(pathInfo).build(), file);
+          }
+          BinaryResource resource = toBinaryResources(res).withFilename(pathInfo).build();
+          HttpCacheObject obj = new HttpCacheObject(cacheKey, resource);
+          if (resource.isCachingAllowed()) {
+            addPrecompressedResource(obj, res.getLeft().getUrl(), HttpContentEncodingHelper.BROTLI, ".br");
+            addPrecompressedResource(obj, res.getLeft().getUrl(), HttpContentEncodingHelper.GZIP, ".gz");
+          }
+          return obj;
+        })
+        .orElse(null);
+  }
+
+  /**
+   * @return the file of the given URL if it is located in the file system, already compressed (see
+   *         {@link #isCompressedContentType(String)}) and large enough to be streamed instead of being loaded into
+   *         memory (see {@link UiResourceFileStreamingThresholdProperty}), <code>null</code> otherwise
+   */
+  protected File getStreamableFile(URL url) {
+    if (!"file".equals(url.getProtocol())) {
+      return null;
+    }
+    File file;
+    try {
+      file = new File(url.toURI());
+    }
+    catch (URISyntaxException | IllegalArgumentException e) { // NOSONAR
+      return null;
+    }
+    if (!file.isFile() || file.length() < CONFIG.getPropertyValue(UiResourceFileStreamingThresholdProperty.class)) {
+      return null;
+    }
+    // Streamed files are neither compressed nor served from their precompressed variants
+    if (!isCompressedContentType(FileUtility.getMimeType(file.getName()))) {
+      return null;
+    }
+    return file;
+  }
+
+  /**
+   * @return <code>true</code> if content of the given type is compressed by itself (e.g. images, videos or archives)
+   *         and therefore does not benefit from being compressed for the transfer
+   */
+  protected boolean isCompressedContentType(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    if (contentType.startsWith("image/")) {
+      return !contentType.startsWith("image/svg");
+    }
+    return contentType.startsWith("video/") || contentType.startsWith("audio/") || COMPRESSED_CONTENT_TYPES.contains(contentType);
+  }
+
+  /**
+   * @return the meta data of a file-backed resource, without content
+   */
+  protected BinaryResources toFileBinaryResource(ImmutablePair<WebResourceDescriptor, Integer> res, File file) {
+    return BinaryResources.create()
+        .withCharset(StandardCharsets.UTF_8)
+        .withLastModified(file.lastModified())
+        .withCachingAllowed(m_cacheEnabled)
+        .withCacheMaxAge(res.getRight());
+  }
+
+  /**
+   * Adds the variant precompressed by the build (a file next to the resource with the given additional extension, e.g.
+   * <code>index.js.br</code>). Variants older than the resource are ignored.
+   */
+  protected void addPrecompressedResource(HttpCacheObject obj, URL url, String contentEncoding, String extension) {
+    byte[] content;
+    try {
+      URL variantUrl = new URL(url.toExternalForm() + extension);
+      URLConnection connection = variantUrl.openConnection();
+      if (connection.getLastModified() < obj.getResource().getLastModified()) {
+        return;
+      }
+      content = IOUtility.readFromUrl(variantUrl);
+    }
+    catch (IOException e) { // NOSONAR
+      return; // no precompressed variant available
+    }
+    obj.putEncodedResource(contentEncoding, BEANS.get(HttpContentEncodingHelper.class).createEncodedResource(obj.getResource(), content));
+  }
+
   @Override
   public BinaryResource loadResource(String pathInfo) {
     return lookupResource(pathInfo)